@@ -0,0 +1,88 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.ai.highlevel;
+
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import jsettlers.common.landscape.EResourceType;
+import jsettlers.logic.constants.MatchConstants;
+import jsettlers.logic.map.grid.MainGrid;
+import jsettlers.logic.map.grid.landscape.LandscapeGrid;
+import jsettlers.logic.map.loading.MapLoadException;
+import jsettlers.network.synchronic.timer.NetworkTimer;
+import jsettlers.testutils.map.MapUtils;
+
+/**
+ * Measures {@link AiStatistics#updateStatistics()} for an unchanged map and for a map with changes at a few random positions between the updates.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class AiStatisticsBenchmark {
+	private static final int CHANGES_PER_UPDATE = 16;
+
+	private MainGrid grid;
+	private ExecutorService threadPool;
+	private AiStatistics statistics;
+	private final Random random = new Random(1);
+	private byte resourceAmount;
+
+	@Setup
+	public void setUp() throws MapLoadException {
+		MatchConstants.init(new NetworkTimer(true), 0);
+		grid = MapUtils.getSpezialSumpf().loadMainGrid(null).getMainGrid();
+		threadPool = Executors.newWorkStealingPool();
+
+		statistics = new AiStatistics(grid, threadPool);
+		statistics.updateStatistics();
+	}
+
+	@TearDown
+	public void tearDown() {
+		threadPool.shutdown();
+	}
+
+	@Benchmark
+	public AiStatistics updateUnchangedMap() {
+		statistics.updateStatistics();
+		return statistics;
+	}
+
+	@Benchmark
+	public AiStatistics updateChangedMap() {
+		LandscapeGrid landscapeGrid = grid.getLandscapeGrid();
+		resourceAmount = (byte) (resourceAmount % 10 + 1);
+		for (int i = 0; i < CHANGES_PER_UPDATE; i++) {
+			short x = (short) random.nextInt(grid.getWidth());
+			short y = (short) random.nextInt(grid.getHeight());
+			landscapeGrid.setResourceAt(x, y, EResourceType.FISH, resourceAmount);
+		}
+
+		statistics.updateStatistics();
+		return statistics;
+	}
+}
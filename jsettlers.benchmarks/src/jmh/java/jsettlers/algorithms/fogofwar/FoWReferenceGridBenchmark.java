@@ -0,0 +1,203 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.algorithms.fogofwar;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import jsettlers.common.CommonConstants;
+import jsettlers.logic.map.loading.MapLoadException;
+import jsettlers.logic.map.loading.newmap.MapFileHeader;
+import jsettlers.testutils.map.MapUtils;
+
+/**
+ * Compares the flat {@link FoWReferenceGrid} with the former layout of one short array per tile on the map of the {@link FogOfWarBenchmark}. Moving
+ * a view circle by one tile measures the reference updates, reading the sight of all tiles measures the lookups of the dim pass.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FoWReferenceGridBenchmark {
+	private static final int MOVABLES = 2048; // must be a power of two
+
+	@Param({ "flat", "jagged" })
+	public String layout;
+
+	private int width;
+	private int height;
+	private IReferences references;
+
+	private final Random random = new Random(1);
+	private final CachedViewCircle[] movableCircles = new CachedViewCircle[MOVABLES];
+	private final int[] positionsX = new int[MOVABLES];
+	private final int[] positionsY = new int[MOVABLES];
+	private int nextMovable;
+
+	@Setup
+	public void setUp() throws MapLoadException {
+		MapFileHeader header = MapUtils.getSpezialSumpf().getFileHeader();
+		width = header.getWidth();
+		height = header.getHeight();
+		references = "flat".equals(layout) ? new FlatReferences(width, height) : new JaggedReferences(width, height);
+
+		CachedViewCircle[] circles = new CachedViewCircle[21];
+		for (int i = 0; i < MOVABLES; i++) {
+			int viewDistance = 5 + random.nextInt(16);
+			if (circles[viewDistance] == null) {
+				circles[viewDistance] = new CachedViewCircle(viewDistance);
+			}
+			movableCircles[i] = circles[viewDistance];
+			positionsX[i] = random.nextInt(width);
+			positionsY[i] = random.nextInt(height);
+			draw(movableCircles[i], positionsX[i], positionsY[i], true);
+		}
+	}
+
+	@Benchmark
+	public void moveViewCircle() {
+		int movable = nextMovable++ & (MOVABLES - 1);
+		int oldX = positionsX[movable];
+		int oldY = positionsY[movable];
+		int newX = Math.max(0, Math.min(width - 1, oldX + random.nextInt(3) - 1));
+		int newY = Math.max(0, Math.min(height - 1, oldY + random.nextInt(3) - 1));
+
+		draw(movableCircles[movable], newX, newY, true);
+		draw(movableCircles[movable], oldX, oldY, false);
+		positionsX[movable] = newX;
+		positionsY[movable] = newY;
+	}
+
+	@Benchmark
+	public int readSightOfAllTiles() {
+		int sum = 0;
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width; x++) {
+				sum += references.getReferencedSight(x, y);
+			}
+		}
+		return sum;
+	}
+
+	private void draw(CachedViewCircle circle, int centerX, int centerY, boolean add) {
+		for (int i = 0; i < circle.size; i++) {
+			int x = circle.x[i] + centerX;
+			int y = circle.y[i] + centerY;
+			if (x >= 0 && x < width && y > 0 && y < height) {
+				if (add) {
+					references.add(x, y, circle.refIndex[i]);
+				} else {
+					references.remove(x, y, circle.refIndex[i]);
+				}
+			}
+		}
+	}
+
+	private interface IReferences {
+		void add(int x, int y, byte band);
+
+		void remove(int x, int y, byte band);
+
+		byte getReferencedSight(int x, int y);
+	}
+
+	private static class FlatReferences implements IReferences {
+		private final int width;
+		private final FoWReferenceGrid grid;
+
+		FlatReferences(int width, int height) {
+			this.width = width;
+			this.grid = new FoWReferenceGrid(width * height);
+		}
+
+		@Override
+		public void add(int x, int y, byte band) {
+			grid.addReference(x + y * width, band);
+		}
+
+		@Override
+		public void remove(int x, int y, byte band) {
+			grid.removeReference(x + y * width, band);
+		}
+
+		@Override
+		public byte getReferencedSight(int x, int y) {
+			return grid.getReferencedSight(x + y * width);
+		}
+	}
+
+	/**
+	 * The former layout: one array per tile that grows and shrinks with the outermost referenced band.
+	 */
+	private static class JaggedReferences implements IReferences {
+		private final short[][][] refs;
+
+		JaggedReferences(int width, int height) {
+			refs = new short[width][height][0];
+		}
+
+		@Override
+		public void add(int x, int y, byte band) {
+			if (refs[x][y].length <= band) {
+				short[] old = refs[x][y];
+				refs[x][y] = new short[band + 1];
+				System.arraycopy(old, 0, refs[x][y], 0, old.length);
+			}
+			refs[x][y][band]++;
+		}
+
+		@Override
+		public void remove(int x, int y, byte band) {
+			refs[x][y][band]--;
+			if (refs[x][y][band] == 0 && refs[x][y].length == band + 1) {
+				int newLength = 0;
+				for (int i = band; i >= 0; i--) {
+					if (refs[x][y][i] > 0) {
+						newLength = i + 1;
+						break;
+					}
+				}
+				short[] old = refs[x][y];
+				refs[x][y] = new short[newLength];
+				System.arraycopy(old, 0, refs[x][y], 0, newLength);
+			}
+		}
+
+		@Override
+		public byte getReferencedSight(int x, int y) {
+			short[] tileRefs = refs[x][y];
+			if (tileRefs.length == 0) {
+				return 0;
+			}
+
+			byte value = CommonConstants.FOG_OF_WAR_VISIBLE;
+			for (int i = 0; i != tileRefs.length; i++) {
+				if (tileRefs[i] > 0) {
+					break;
+				}
+				value -= 10;
+			}
+			return value;
+		}
+	}
+}
@@ -0,0 +1,75 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.algorithms.fogofwar;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import jsettlers.common.position.ShortPoint2D;
+import jsettlers.logic.constants.MatchConstants;
+import jsettlers.logic.map.grid.MainGrid;
+import jsettlers.logic.map.loading.MapLoadException;
+import jsettlers.network.synchronic.timer.NetworkTimer;
+import jsettlers.testutils.map.MapUtils;
+
+/**
+ * Measures the drawing of the view circles of movables to the {@link FogOfWar}. Every benchmark call adds and removes the view circle of a movable at
+ * a random position, as the {@link FogOfWar.FoWRefThread} does for a movable that moved.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FogOfWarBenchmark {
+	private static final int NUMBER_OF_CIRCLES = 1024; // must be a power of two
+
+	private FogOfWar fogOfWar;
+	private final ShortPoint2D[] positions = new ShortPoint2D[NUMBER_OF_CIRCLES];
+	private final int[] viewDistances = new int[NUMBER_OF_CIRCLES];
+	private int nextCircle;
+
+	@Setup
+	public void setUp() throws MapLoadException {
+		MatchConstants.init(new NetworkTimer(true), 0);
+		MainGrid grid = MapUtils.getSpezialSumpf().loadMainGrid(null).getMainGrid();
+		fogOfWar = new FogOfWar(grid, (byte) 0);
+
+		Random random = new Random(1);
+		for (int i = 0; i < NUMBER_OF_CIRCLES; i++) {
+			positions[i] = new ShortPoint2D(random.nextInt(grid.getWidth()), random.nextInt(grid.getHeight()));
+			viewDistances[i] = 5 + random.nextInt(16);
+		}
+	}
+
+	@TearDown
+	public void tearDown() {
+		fogOfWar.cancel();
+	}
+
+	@Benchmark
+	public void drawViewCircle() {
+		int circle = nextCircle++ & (NUMBER_OF_CIRCLES - 1);
+		fogOfWar.circleDrawer.drawCircleToBuffer(positions[circle], viewDistances[circle], FogOfWar.CIRCLE_ADD | FogOfWar.CIRCLE_DIM, this);
+		fogOfWar.circleDrawer.drawCircleToBuffer(positions[circle], viewDistances[circle], FogOfWar.CIRCLE_REMOVE | FogOfWar.CIRCLE_DIM, this);
+	}
+}
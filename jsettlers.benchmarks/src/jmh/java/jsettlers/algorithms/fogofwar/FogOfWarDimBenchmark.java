@@ -0,0 +1,264 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.algorithms.fogofwar;
+
+import java.util.BitSet;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import jsettlers.common.CommonConstants;
+import jsettlers.common.map.IGraphicsBackgroundListener;
+import jsettlers.common.position.ShortPoint2D;
+import jsettlers.logic.constants.MatchConstants;
+import jsettlers.logic.map.grid.MainGrid;
+import jsettlers.logic.map.loading.MapLoadException;
+import jsettlers.network.synchronic.timer.NetworkTimer;
+import jsettlers.testutils.map.MapUtils;
+
+/**
+ * Measures one dim pass of the {@link FogOfWar.FowDimThread} with one and with several workers. Before every pass, a part of the movables walks one
+ * step, as between two frames of the dim thread. As baseline, the former dim pass is measured, which kept the marked tiles in a single
+ * {@link BitSet} of the whole map.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FogOfWarDimBenchmark {
+	private static final int MOVABLES = 1500;
+	private static final int MOVES_PER_FRAME = 300;
+
+	/**
+	 * "baseline" or the number of workers of the dim thread.
+	 */
+	@Param({ "baseline", "1", "4" })
+	public String dimPass;
+
+	private int width;
+	private int height;
+	private FogOfWar fogOfWar;
+	private BaselineDimPass baselineDimPass;
+
+	private final Random random = new Random(1);
+	private final BenchmarkMovable[] movables = new BenchmarkMovable[MOVABLES];
+	private final int[] positionsX = new int[MOVABLES];
+	private final int[] positionsY = new int[MOVABLES];
+
+	@Setup
+	public void setUp() throws MapLoadException {
+		MatchConstants.init(new NetworkTimer(true), 0);
+		MainGrid grid = MapUtils.getSpezialSumpf().loadMainGrid(null).getMainGrid();
+		width = grid.getWidth();
+		height = grid.getHeight();
+
+		fogOfWar = new FogOfWar(grid, (byte) 0);
+		fogOfWar.enabled = true;
+		if ("baseline".equals(dimPass)) {
+			baselineDimPass = new BaselineDimPass(fogOfWar, width, height, new MainGrid.NullBackgroundListener());
+		} else {
+			fogOfWar.dimThread.setWorkers(Integer.parseInt(dimPass));
+		}
+
+		for (int i = 0; i < MOVABLES; i++) {
+			positionsX[i] = random.nextInt(width);
+			positionsY[i] = random.nextInt(height);
+			movables[i] = new BenchmarkMovable(5 + random.nextInt(16), new ShortPoint2D(positionsX[i], positionsY[i]));
+			fogOfWar.refThread.runTask(movables[i]);
+		}
+	}
+
+	@TearDown
+	public void tearDown() {
+		fogOfWar.cancel();
+	}
+
+	@Setup(Level.Invocation)
+	public void moveMovables() {
+		for (int i = 0; i < MOVES_PER_FRAME; i++) {
+			int movable = random.nextInt(MOVABLES);
+			positionsX[movable] = Math.max(0, Math.min(width - 1, positionsX[movable] + random.nextInt(3) - 1));
+			positionsY[movable] = Math.max(0, Math.min(height - 1, positionsY[movable] + random.nextInt(3) - 1));
+			movables[movable].position = new ShortPoint2D(positionsX[movable], positionsY[movable]);
+			fogOfWar.refThread.runTask(movables[movable]);
+		}
+
+		if (baselineDimPass != null) {
+			baselineDimPass.takeMarks(fogOfWar.dimThread.nextUpdate); // the former view circles marked the bit set directly, so this isn't measured
+		}
+	}
+
+	@Benchmark
+	public void dim() {
+		if (baselineDimPass != null) {
+			baselineDimPass.run();
+		} else {
+			fogOfWar.dimThread.taskProcessor();
+		}
+	}
+
+	private static class BenchmarkMovable implements MovableFoWTask {
+		private final int viewDistance;
+		private ShortPoint2D position;
+		private ShortPoint2D oldPosition;
+
+		BenchmarkMovable(int viewDistance, ShortPoint2D position) {
+			this.viewDistance = viewDistance;
+			this.position = position;
+		}
+
+		@Override
+		public int getViewDistance() {
+			return viewDistance;
+		}
+
+		@Override
+		public ShortPoint2D getFoWPosition() {
+			return position;
+		}
+
+		@Override
+		public ShortPoint2D getOldFoWPosition() {
+			return oldPosition;
+		}
+
+		@Override
+		public void setOldFoWPosition(ShortPoint2D position) {
+			this.oldPosition = position;
+		}
+
+		@Override
+		public boolean continueFoW() {
+			return true;
+		}
+	}
+
+	/**
+	 * The dim pass of the {@link FogOfWar} before the {@link FoWUpdateMask}. It scans a bit set of the whole map for runs of marked tiles and
+	 * dims every tile from the start to the end of a run, also in the rows between.
+	 */
+	private static class BaselineDimPass {
+		private final FogOfWar fogOfWar;
+		private final int width;
+		private final int size;
+		private final IGraphicsBackgroundListener listener;
+		private final BitSet update;
+		private final FoWUpdateMask marks;
+		private final byte dim;
+
+		BaselineDimPass(FogOfWar fogOfWar, int width, int height, IGraphicsBackgroundListener listener) {
+			this.fogOfWar = fogOfWar;
+			this.width = width;
+			this.size = width * height;
+			this.listener = listener;
+			this.update = new BitSet(size);
+			this.marks = new FoWUpdateMask(width, height);
+			this.dim = (byte) Math.round(1.0 / CommonConstants.FOG_OF_WAR_DIM_FRAMERATE * CommonConstants.FOG_OF_WAR_DIM
+					* MatchConstants.clock().getGameSpeed()); // like the dim thread without a measured frame rate
+		}
+
+		void takeMarks(FoWUpdateMask nextUpdate) {
+			nextUpdate.moveTo(marks);
+			for (int y = 0; y < size / width; y++) {
+				if (!marks.isRowDirty(y)) {
+					continue;
+				}
+				for (int word = 0; word < marks.getWordsPerRow(); word++) {
+					long bits = marks.getWord(y, word);
+					while (bits != 0) {
+						update.set(y * width + (word << 6) + Long.numberOfTrailingZeros(bits));
+						bits &= bits - 1;
+					}
+					marks.setWord(y, word, 0);
+				}
+				marks.setRowDirty(y, false);
+			}
+		}
+
+		void run() {
+			byte[] sight = fogOfWar.getVisibleStatusArray();
+
+			int last = 0;
+			do {
+				int first = update.nextSetBit(last);
+				if (first == -1) {
+					break;
+				}
+				last = update.nextClearBit(first);
+
+				int beginX = first % width;
+				int beginY = first / width;
+				int endX = last % width;
+				int endY = last / width;
+
+				for (int y = beginY; y <= endY; y++) {
+					int firstUpdate = -1;
+					int lastUpdate = -1;
+
+					int x = y == beginY ? beginX : 0;
+					int x2 = y == endY ? endX : width;
+					for (; x < x2; x++) {
+						int index = y * width + x;
+						byte refSight = fogOfWar.getReferencedSight(x, y);
+						byte oldSight = sight[index];
+						byte dimTo = FogOfWar.targetSight(oldSight, refSight);
+						byte newSight = FogOfWar.dim(oldSight, dimTo, dim);
+
+						if (oldSight <= CommonConstants.FOG_OF_WAR_EXPLORED && newSight > CommonConstants.FOG_OF_WAR_EXPLORED) {
+							fogOfWar.clearHidden(index);
+						} else if ((oldSight > CommonConstants.FOG_OF_WAR_EXPLORED && newSight <= CommonConstants.FOG_OF_WAR_EXPLORED)
+								|| (oldSight <= CommonConstants.FOG_OF_WAR_EXPLORED && refSight < oldSight)) {
+							fogOfWar.recordHidden(index, x, y);
+						}
+
+						sight[index] = newSight;
+
+						if (dimTo != oldSight) {
+							if (lastUpdate + 1 != x) {
+								if (firstUpdate != -1) {
+									listener.backgroundLineChangedAt(firstUpdate, y, lastUpdate - firstUpdate);
+								}
+								firstUpdate = lastUpdate = x;
+							} else {
+								if (firstUpdate == -1) {
+									firstUpdate = x;
+								}
+								lastUpdate = x;
+							}
+
+							if (newSight == dimTo) {
+								update.clear(index);
+							}
+						} else {
+							update.clear(index);
+						}
+					}
+					if (firstUpdate != -1) {
+						listener.backgroundLineChangedAt(firstUpdate, y, lastUpdate - firstUpdate);
+					}
+				}
+			} while (last < size);
+		}
+	}
+}
@@ -0,0 +1,58 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.algorithms.path;
+
+import jsettlers.common.player.IPlayer;
+import jsettlers.common.position.ShortPoint2D;
+
+/**
+ * A {@link IPathCalculatable} that can be placed at any position. It is used by the path finding benchmarks to request paths.
+ */
+public class BenchmarkPathRequester implements IPathCalculatable {
+	private static final long serialVersionUID = 1L;
+
+	private final IPlayer player;
+	private final boolean needsPlayersGround;
+	private ShortPoint2D position;
+
+	public BenchmarkPathRequester(IPlayer player, boolean needsPlayersGround) {
+		this.player = player;
+		this.needsPlayersGround = needsPlayersGround;
+	}
+
+	public void setPosition(ShortPoint2D position) {
+		this.position = position;
+	}
+
+	@Override
+	public ShortPoint2D getPosition() {
+		return position;
+	}
+
+	@Override
+	public IPlayer getPlayer() {
+		return player;
+	}
+
+	@Override
+	public boolean needsPlayersGround() {
+		return needsPlayersGround;
+	}
+
+	@Override
+	public boolean isShip() {
+		return false;
+	}
+}
@@ -0,0 +1,85 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.algorithms.path.astar;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import jsettlers.algorithms.path.BenchmarkPathRequester;
+import jsettlers.algorithms.path.Path;
+import jsettlers.common.position.ShortPoint2D;
+import jsettlers.logic.constants.MatchConstants;
+import jsettlers.logic.map.grid.MainGrid;
+import jsettlers.logic.map.grid.MainGridDataAccessor;
+import jsettlers.logic.map.loading.MapLoadException;
+import jsettlers.network.synchronic.timer.NetworkTimer;
+import jsettlers.testutils.map.MapUtils;
+
+/**
+ * Measures {@link BucketQueueAStar#findPath(jsettlers.algorithms.path.IPathCalculatable, short, short, short, short)} for random paths on a big map.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BucketQueueAStarBenchmark {
+	private static final int NUMBER_OF_PATHS = 256; // must be a power of two
+	private static final int MAX_PATH_DISTANCE = 150;
+
+	private BucketQueueAStar aStar;
+	private BenchmarkPathRequester requester;
+	private final ShortPoint2D[] starts = new ShortPoint2D[NUMBER_OF_PATHS];
+	private final ShortPoint2D[] targets = new ShortPoint2D[NUMBER_OF_PATHS];
+	private int nextPath;
+
+	@Setup
+	public void setUp() throws MapLoadException {
+		MatchConstants.init(new NetworkTimer(true), 0);
+		MainGrid grid = MapUtils.getSpezialSumpf().loadMainGrid(null).getMainGrid();
+		IAStarPathMap map = new MainGridDataAccessor(grid).getAStarPathMap();
+
+		aStar = new BucketQueueAStar(map, grid.getWidth(), grid.getHeight());
+		requester = new BenchmarkPathRequester(grid.getPartitionsGrid().getPlayer(0), false);
+
+		Random random = new Random(1);
+		for (int i = 0; i < NUMBER_OF_PATHS; ) {
+			ShortPoint2D start = new ShortPoint2D(random.nextInt(grid.getWidth()), random.nextInt(grid.getHeight()));
+			ShortPoint2D target = new ShortPoint2D(start.x + random.nextInt(2 * MAX_PATH_DISTANCE) - MAX_PATH_DISTANCE,
+					start.y + random.nextInt(2 * MAX_PATH_DISTANCE) - MAX_PATH_DISTANCE);
+
+			requester.setPosition(start);
+			if (grid.isInBounds(target.x, target.y) && !map.isBlocked(requester, start.x, start.y) && !map.isBlocked(requester, target.x, target.y)
+					&& map.isReachable(start.x, start.y, target.x, target.y, false)) {
+				starts[i] = start;
+				targets[i] = target;
+				i++;
+			}
+		}
+	}
+
+	@Benchmark
+	public Path findPath() {
+		int path = nextPath++ & (NUMBER_OF_PATHS - 1);
+		requester.setPosition(starts[path]);
+		return aStar.findPath(requester, starts[path].x, starts[path].y, targets[path].x, targets[path].y);
+	}
+}
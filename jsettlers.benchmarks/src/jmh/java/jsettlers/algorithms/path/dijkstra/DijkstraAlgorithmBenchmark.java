@@ -0,0 +1,88 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.algorithms.path.dijkstra;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import jsettlers.algorithms.path.BenchmarkPathRequester;
+import jsettlers.algorithms.path.Path;
+import jsettlers.algorithms.path.astar.BucketQueueAStar;
+import jsettlers.common.material.ESearchType;
+import jsettlers.common.position.ShortPoint2D;
+import jsettlers.logic.constants.MatchConstants;
+import jsettlers.logic.map.grid.MainGrid;
+import jsettlers.logic.map.grid.MainGridDataAccessor;
+import jsettlers.logic.map.grid.partition.PartitionsGrid;
+import jsettlers.logic.map.loading.MapLoadException;
+import jsettlers.network.synchronic.timer.NetworkTimer;
+import jsettlers.testutils.map.MapUtils;
+
+/**
+ * Measures the searches of workers with {@link DijkstraAlgorithm#find(jsettlers.algorithms.path.IPathCalculatable, short, short, short, short, ESearchType)}.
+ * The searches start at random positions of the land of the first player.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DijkstraAlgorithmBenchmark {
+	private static final int NUMBER_OF_SEARCHES = 256; // must be a power of two
+	private static final short SEARCH_RADIUS = 30;
+
+	@Param({ "CUTTABLE_TREE", "CUTTABLE_STONE", "PLANTABLE_TREE" })
+	public ESearchType searchType;
+
+	private DijkstraAlgorithm dijkstra;
+	private BenchmarkPathRequester requester;
+	private final ShortPoint2D[] centers = new ShortPoint2D[NUMBER_OF_SEARCHES];
+	private int nextSearch;
+
+	@Setup
+	public void setUp() throws MapLoadException {
+		MatchConstants.init(new NetworkTimer(true), 0);
+		MainGrid grid = MapUtils.getSpezialSumpf().loadMainGrid(null).getMainGrid();
+		MainGridDataAccessor accessor = new MainGridDataAccessor(grid);
+		PartitionsGrid partitionsGrid = grid.getPartitionsGrid();
+
+		BucketQueueAStar aStar = new BucketQueueAStar(accessor.getAStarPathMap(), grid.getWidth(), grid.getHeight());
+		dijkstra = new DijkstraAlgorithm(accessor.getDijkstraPathMap(), aStar, grid.getWidth(), grid.getHeight());
+		requester = new BenchmarkPathRequester(partitionsGrid.getPlayer(0), true);
+
+		Random random = new Random(1);
+		for (int i = 0; i < NUMBER_OF_SEARCHES; ) {
+			int x = random.nextInt(grid.getWidth());
+			int y = random.nextInt(grid.getHeight());
+			if (partitionsGrid.getPlayerIdAt(x, y) == 0 && !grid.getFlagsGrid().isBlocked(x, y)) {
+				centers[i++] = new ShortPoint2D(x, y);
+			}
+		}
+	}
+
+	@Benchmark
+	public Path find() {
+		ShortPoint2D center = centers[nextSearch++ & (NUMBER_OF_SEARCHES - 1)];
+		requester.setPosition(center);
+		return dijkstra.find(requester, center.x, center.y, (short) 0, SEARCH_RADIUS, searchType);
+	}
+}
@@ -0,0 +1,107 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.algorithms.simplebehaviortree;
+
+import static jsettlers.algorithms.simplebehaviortree.BehaviorTreeHelper.*;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import jsettlers.logic.constants.MatchConstants;
+import jsettlers.network.synchronic.timer.NetworkTimer;
+
+/**
+ * Measures the ticks per second of a behaviour tree shaped like the trees of the building workers: a guard selector choosing between a job and
+ * idling, with sequences, selectors, loops, waits and sleeps below it. Every target has its own {@link Tick} of the shared {@link Root}, like the
+ * movables have.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class BehaviourTreeBenchmark {
+	private static final int NUMBER_OF_TARGETS = 1024;
+
+	private final Tick<?>[] ticks = new Tick<?>[NUMBER_OF_TARGETS];
+
+	@Setup
+	public void setUp() {
+		MatchConstants.init(new NetworkTimer(true), 0);
+
+		Root<BenchmarkTarget> root = createTree();
+		for (int i = 0; i < NUMBER_OF_TARGETS; i++) {
+			ticks[i] = new Tick<>(new BenchmarkTarget(i), root);
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(NUMBER_OF_TARGETS)
+	public int tick() {
+		int running = 0;
+		for (Tick<?> tick : ticks) {
+			if (tick.tick() == NodeStatus.RUNNING) {
+				running++;
+			}
+		}
+		return running;
+	}
+
+	static Root<BenchmarkTarget> createTree() {
+		return new Root<>(
+				guardSelector(
+						guard(target -> target.hasJob(),
+								sequence(
+										selector(
+												condition(target -> target.counter % 3 == 0),
+												action(target -> target.counter++)
+										),
+										repeatLoop(2, action(target -> target.counter++)),
+										waitFor(condition(target -> target.counter++ % 4 == 0)),
+										sleep(target -> 0),
+										ignoreFailure(condition(target -> target.counter % 5 == 0)),
+										action(target -> target.jobs++)
+								)
+						),
+						guard(target -> true,
+								sequence(
+										action(target -> target.counter++),
+										waitFor(condition(target -> target.counter++ % 2 == 0)),
+										sleep(0)
+								)
+						)
+				)
+		);
+	}
+
+	static class BenchmarkTarget {
+		private int counter;
+		private int jobs;
+
+		BenchmarkTarget(int counter) {
+			this.counter = counter;
+		}
+
+		boolean hasJob() {
+			return counter % 7 != 0;
+		}
+	}
+}
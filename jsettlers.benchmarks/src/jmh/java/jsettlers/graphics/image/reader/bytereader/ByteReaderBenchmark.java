@@ -0,0 +1,109 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.graphics.image.reader.bytereader;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Measures the {@link ByteReader} on files with the sizes of the original graphics and sound files. The files are filled with random data, as
+ * the original files can't be shipped.
+ * <p>
+ * {@link #readSamplesOneByOne()} and {@link #readSamplesBulk()} read the whole file like a sound file is read, {@link #readSequenceHeaders()}
+ * jumps to random positions like the reading of the sequence headers of a dat file does.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ByteReaderBenchmark {
+	private static final int RANDOM_READS = 100000;
+
+	/**
+	 * The size of the file in MiB. The graphics files have a few MiB up to a few dozen MiB, the sound file has about 60 MiB.
+	 */
+	@Param({ "4", "32", "64" })
+	public int fileSize;
+
+	private File file;
+	private ByteReader reader;
+	private int[] positions;
+
+	@Setup(Level.Trial)
+	public void setUp() throws IOException {
+		Random random = new Random(42);
+		byte[] data = new byte[fileSize << 20];
+		random.nextBytes(data);
+
+		file = File.createTempFile("bytereader-benchmark", ".dat");
+		Files.write(file.toPath(), data);
+		reader = new ByteReader(file);
+
+		positions = new int[RANDOM_READS];
+		for (int i = 0; i < RANDOM_READS; i++) {
+			positions[i] = random.nextInt(data.length - 4);
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws IOException {
+		reader.close();
+		file.delete();
+	}
+
+	@Benchmark
+	public long readSamplesOneByOne() throws IOException {
+		ByteReader samples = reader.createReader(0);
+		int count = (fileSize << 20) / 2;
+
+		long sum = 0;
+		for (int i = 0; i < count; i++) {
+			sum += samples.read16signed();
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public short[] readSamplesBulk() throws IOException {
+		short[] samples = new short[(fileSize << 20) / 2];
+		reader.createReader(0).readShorts(samples.length).get(samples);
+		return samples;
+	}
+
+	@Benchmark
+	public long readSequenceHeaders() throws IOException {
+		ByteReader headers = reader.createReader(0);
+
+		long sum = 0;
+		for (int position : positions) {
+			headers.skipTo(position);
+			sum += headers.read32();
+		}
+		return sum;
+	}
+}
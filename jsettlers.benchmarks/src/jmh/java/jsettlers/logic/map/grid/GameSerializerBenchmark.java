@@ -0,0 +1,85 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.logic.map.grid;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import jsettlers.logic.constants.MatchConstants;
+import jsettlers.logic.map.loading.MapLoadException;
+import jsettlers.logic.map.loading.savegame.SavegameObjectOutputStream;
+import jsettlers.logic.map.loading.savegame.SavegameSnapshot;
+import jsettlers.network.synchronic.timer.NetworkTimer;
+import jsettlers.testutils.map.MapUtils;
+
+/**
+ * Measures the serialization and deserialization of the game state with the {@link GameSerializer}, as it is done for a savegame. The streams are
+ * kept in memory, so the compression and the file access of a savegame are not measured.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class GameSerializerBenchmark {
+	private final GameSerializer serializer = new GameSerializer();
+	private MainGrid grid;
+	private byte[] savegame;
+
+	@Setup
+	public void setUp() throws MapLoadException, IOException {
+		MatchConstants.init(new NetworkTimer(true), 0);
+		grid = MapUtils.getSpezialSumpf().loadMainGrid(null).getMainGrid();
+		savegame = save();
+	}
+
+	@Benchmark
+	public byte[] save() throws IOException {
+		ByteArrayOutputStream buffer = new ByteArrayOutputStream(savegame == null ? 1 << 20 : savegame.length);
+		try (ObjectOutputStream oos = new ObjectOutputStream(buffer)) {
+			serializer.save(grid, oos);
+		}
+		return buffer.toByteArray();
+	}
+
+	/**
+	 * The part of a save that pauses the game when the savegame is written from a {@link SavegameSnapshot}. The primitive grids are only copied.
+	 */
+	@Benchmark
+	public SavegameObjectOutputStream captureSnapshot() throws IOException {
+		ByteArrayOutputStream buffer = new ByteArrayOutputStream(savegame.length);
+		try (SavegameObjectOutputStream oos = new SavegameObjectOutputStream(buffer)) {
+			serializer.save(grid, oos);
+			return oos;
+		}
+	}
+
+	@Benchmark
+	public MainGrid load() throws IOException, MapLoadException {
+		try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(savegame))) {
+			return serializer.load(ois);
+		}
+	}
+}
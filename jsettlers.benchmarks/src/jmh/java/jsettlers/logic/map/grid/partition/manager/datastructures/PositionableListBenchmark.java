@@ -0,0 +1,80 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.logic.map.grid.partition.manager.datastructures;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import jsettlers.common.position.ILocatable;
+import jsettlers.common.position.ShortPoint2D;
+
+/**
+ * Measures the nearest object queries of the {@link PositionableList} as they are done for the offers and jobless of a partition. Every removed object is
+ * inserted again, so the size of the list stays the same.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PositionableListBenchmark {
+	private static final int MAP_SIZE = 768;
+	private static final int NUMBER_OF_QUERIES = 1024; // must be a power of two
+
+	@Param({ "10", "100", "1000", "10000" })
+	public int size;
+
+	private final PositionableList<Locatable> list = new PositionableList<>();
+	private final ShortPoint2D[] queries = new ShortPoint2D[NUMBER_OF_QUERIES];
+	private int nextQuery;
+
+	@Setup
+	public void setUp() {
+		Random random = new Random(1);
+		for (int i = 0; i < size; i++) {
+			list.insert(new Locatable(new ShortPoint2D(random.nextInt(MAP_SIZE), random.nextInt(MAP_SIZE))));
+		}
+		for (int i = 0; i < NUMBER_OF_QUERIES; i++) {
+			queries[i] = new ShortPoint2D(random.nextInt(MAP_SIZE), random.nextInt(MAP_SIZE));
+		}
+	}
+
+	@Benchmark
+	public Locatable removeObjectNextTo() {
+		Locatable object = list.removeObjectNextTo(queries[nextQuery++ & (NUMBER_OF_QUERIES - 1)]);
+		list.insert(object);
+		return object;
+	}
+
+	private static class Locatable implements ILocatable {
+		private final ShortPoint2D position;
+
+		Locatable(ShortPoint2D position) {
+			this.position = position;
+		}
+
+		@Override
+		public ShortPoint2D getPosition() {
+			return position;
+		}
+	}
+}
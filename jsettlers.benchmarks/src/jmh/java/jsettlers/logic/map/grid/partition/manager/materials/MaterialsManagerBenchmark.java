@@ -0,0 +1,174 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.logic.map.grid.partition.manager.materials;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import jsettlers.common.buildings.EBuildingType;
+import jsettlers.common.material.EMaterialType;
+import jsettlers.common.player.ECivilisation;
+import jsettlers.common.position.ShortPoint2D;
+import jsettlers.logic.constants.Constants;
+import jsettlers.logic.constants.MatchConstants;
+import jsettlers.logic.map.grid.partition.manager.datastructures.PositionableList;
+import jsettlers.logic.map.grid.partition.manager.materials.interfaces.IJoblessSupplier;
+import jsettlers.logic.map.grid.partition.manager.materials.interfaces.IManagerBearer;
+import jsettlers.logic.map.grid.partition.manager.materials.interfaces.IMaterialOffer;
+import jsettlers.logic.map.grid.partition.manager.materials.interfaces.IMaterialRequest;
+import jsettlers.logic.map.grid.partition.manager.materials.offers.EOfferPriority;
+import jsettlers.logic.map.grid.partition.manager.materials.offers.OffersList;
+import jsettlers.logic.map.grid.partition.manager.materials.requests.MaterialRequestObject;
+import jsettlers.logic.map.grid.partition.manager.settings.PartitionManagerSettings;
+import jsettlers.network.synchronic.timer.NetworkTimer;
+
+/**
+ * Measures {@link MaterialsManager#distributeJobs()} for a big partition with many offers, requests and jobless bearers of several materials.
+ * <p />
+ * The bearers deliver the materials immediately. Afterwards the material is offered again at the same position and the bearer is jobless again, so
+ * every call of {@link MaterialsManager#distributeJobs()} works on the same amount of offers, requests and bearers.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MaterialsManagerBenchmark {
+	private static final int PARTITION_SIZE = 256;
+	private static final EMaterialType[] MATERIALS = { EMaterialType.PLANK, EMaterialType.STONE, EMaterialType.TRUNK, EMaterialType.FLOUR,
+			EMaterialType.GOLD, EMaterialType.IRONORE, EMaterialType.PIG, EMaterialType.SAW };
+	private static final int OFFERS_PER_MATERIAL = 50;
+	private static final int REQUESTS_PER_MATERIAL = 20;
+	private static final int BEARERS = 300;
+
+	private final OffersList offersList = new OffersList(null);
+	private final BenchmarkJoblessSupplier joblessSupplier = new BenchmarkJoblessSupplier();
+	private MaterialsManager manager;
+
+	@Setup
+	public void setUp() {
+		MatchConstants.init(new NetworkTimer(true), 0);
+		manager = new MaterialsManager(joblessSupplier, offersList, new PartitionManagerSettings(ECivilisation.ROMAN));
+
+		Random random = new Random(1);
+		for (EMaterialType material : MATERIALS) {
+			for (int i = 0; i < OFFERS_PER_MATERIAL; i++) {
+				offersList.addOffer(randomPosition(random), material, EOfferPriority.OFFER_TO_ALL);
+			}
+			for (int i = 0; i < REQUESTS_PER_MATERIAL; i++) {
+				manager.addRequestObject(material, new BenchmarkMaterialRequest(randomPosition(random)));
+			}
+		}
+		for (int i = 0; i < BEARERS; i++) {
+			joblessSupplier.jobless.insert(new BenchmarkBearer(randomPosition(random)));
+		}
+	}
+
+	private static ShortPoint2D randomPosition(Random random) {
+		return new ShortPoint2D(random.nextInt(PARTITION_SIZE), random.nextInt(PARTITION_SIZE));
+	}
+
+	@Benchmark
+	public void distributeJobs() {
+		manager.distributeJobs();
+	}
+
+	private class BenchmarkJoblessSupplier implements IJoblessSupplier {
+		private static final long serialVersionUID = 1L;
+
+		private final PositionableList<IManagerBearer> jobless = new PositionableList<>();
+
+		@Override
+		public boolean isEmpty() {
+			return jobless.isEmpty();
+		}
+
+		@Override
+		public IManagerBearer removeJoblessCloseTo(ShortPoint2D position) {
+			return jobless.removeObjectNextTo(position);
+		}
+	}
+
+	private class BenchmarkBearer implements IManagerBearer {
+		private static final long serialVersionUID = 1L;
+
+		private final ShortPoint2D position;
+
+		BenchmarkBearer(ShortPoint2D position) {
+			this.position = position;
+		}
+
+		@Override
+		public ShortPoint2D getPosition() {
+			return position;
+		}
+
+		@Override
+		public void deliver(EMaterialType materialType, IMaterialOffer offer, IMaterialRequest request) {
+			offer.distributionAccepted();
+			offer.offerTaken();
+			request.deliveryAccepted();
+			request.deliveryFulfilled();
+
+			offersList.addOffer(offer.getPosition(), materialType, EOfferPriority.OFFER_TO_ALL);
+			joblessSupplier.jobless.insert(this);
+		}
+	}
+
+	private static class BenchmarkMaterialRequest extends MaterialRequestObject {
+		private static final long serialVersionUID = 1L;
+
+		private final ShortPoint2D position;
+
+		BenchmarkMaterialRequest(ShortPoint2D position) {
+			this.position = position;
+		}
+
+		@Override
+		public ShortPoint2D getPosition() {
+			return position;
+		}
+
+		@Override
+		protected short getStillNeeded() {
+			return Constants.STACK_SIZE;
+		}
+
+		@Override
+		protected int getInDeliveryable() {
+			return Constants.STACK_SIZE;
+		}
+
+		@Override
+		protected void materialDelivered() {
+		}
+
+		@Override
+		protected boolean isRoundRobinRequest() {
+			return false;
+		}
+
+		@Override
+		protected EBuildingType getBuildingType() {
+			return null;
+		}
+	}
+}
@@ -42,6 +42,16 @@ public abstract class CommonConstants {
 
 	public static final int FOG_OF_WAR_DIM_NO_CLOCK_FRAMERATE = 10;
 
+	/**
+	 * Number of threads the rows of a dim pass are split across if many rows have to be updated.
+	 */
+	public static final int FOG_OF_WAR_DIM_WORKERS = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() / 2));
+
+	/**
+	 * Number of threads drawing the view circles of different map regions if many circles have to be updated.
+	 */
+	public static final int FOG_OF_WAR_REF_UPDATE_WORKERS = FOG_OF_WAR_DIM_WORKERS;
+
 	/**
 	 * Radius of the area occupied by towers.
 	 */
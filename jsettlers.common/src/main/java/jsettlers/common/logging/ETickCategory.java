@@ -0,0 +1,52 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.common.logging;
+
+import java.util.Locale;
+
+/**
+ * The parts of the game a {@link TickProfiler} measures separately.
+ */
+public enum ETickCategory {
+	/**
+	 * The parallel preparation of the timerables of a tick.
+	 */
+	PREPARATION,
+	MOVABLES,
+	BUILDINGS,
+	PARTITIONS,
+	MAP_OBJECTS,
+	TRADING,
+	LANDSCAPE,
+	WIN_LOSE,
+	/**
+	 * Scheduled timerables that do not belong to any other category.
+	 */
+	OTHER,
+	/**
+	 * The execution of the tasks sent by the players and the AI.
+	 */
+	TASKS,
+	AI;
+
+	public static final ETickCategory[] VALUES = values();
+	public static final int NUMBER_OF_CATEGORIES = VALUES.length;
+
+	private final String displayName = name().toLowerCase(Locale.ENGLISH).replace('_', ' ');
+
+	public String getDisplayName() {
+		return displayName;
+	}
+}
@@ -0,0 +1,200 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.common.logging;
+
+import java.io.PrintStream;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Measures how the time of the game ticks is spent in the {@link ETickCategory}s.
+ * <p />
+ * The measured durations are summed up per category until {@link #endTick(int)} is called. Then the sums are recorded in the
+ * {@link TimeHistogram}s of the categories and the sum of all categories in the histogram of the whole tick. Time measured between two ticks,
+ * like the execution of tasks and the AI, is added to the following tick.
+ * <p />
+ * A tick that takes longer than its budget is flagged. The last flagged ticks are kept together with the time of every category, so they can be
+ * analyzed in the {@link #dump(PrintStream)}.
+ * <p />
+ * The profiler is written by the game thread only. Other threads, like the UI, may read it without synchronization. The values they see are
+ * approximate: they could be of different ticks or miss the latest updates.
+ */
+public final class TickProfiler {
+	private static final int KEPT_EXCEEDED_TICKS = 16;
+
+	private final long tickBudgetNanos;
+	private final long[] categoryBudgetNanos = new long[ETickCategory.NUMBER_OF_CATEGORIES];
+
+	private final TimeHistogram tickHistogram = new TimeHistogram();
+	private final TimeHistogram[] categoryHistograms = new TimeHistogram[ETickCategory.NUMBER_OF_CATEGORIES];
+	private final long[] categoryCalls = new long[ETickCategory.NUMBER_OF_CATEGORIES];
+	private final int[] categoryExceededTicks = new int[ETickCategory.NUMBER_OF_CATEGORIES];
+
+	private final long[] currentTickNanos = new long[ETickCategory.NUMBER_OF_CATEGORIES];
+	private final long[] lastTickNanos = new long[ETickCategory.NUMBER_OF_CATEGORIES];
+
+	private final int[] exceededTickTimes = new int[KEPT_EXCEEDED_TICKS];
+	private final long[][] exceededTickNanos = new long[KEPT_EXCEEDED_TICKS][ETickCategory.NUMBER_OF_CATEGORIES];
+	private int exceededTicks;
+
+	/**
+	 * @param tickBudgetNanos
+	 *            The time a whole tick may take. This is also used as budget of every category, until another one is set with
+	 *            {@link #setBudget(ETickCategory, long)}.
+	 */
+	public TickProfiler(long tickBudgetNanos) {
+		this.tickBudgetNanos = tickBudgetNanos;
+		Arrays.fill(categoryBudgetNanos, tickBudgetNanos);
+		for (int i = 0; i < categoryHistograms.length; i++) {
+			categoryHistograms[i] = new TimeHistogram();
+		}
+	}
+
+	public void setBudget(ETickCategory category, long budgetNanos) {
+		categoryBudgetNanos[category.ordinal()] = budgetNanos;
+	}
+
+	/**
+	 * Adds the time since the given start to the current tick.
+	 *
+	 * @param category
+	 *            The category the time has been spent in.
+	 * @param startNanos
+	 *            The start of the measurement as returned by {@link System#nanoTime()}.
+	 */
+	public void addSince(ETickCategory category, long startNanos) {
+		add(category, System.nanoTime() - startNanos);
+	}
+
+	public void add(ETickCategory category, long nanos) {
+		currentTickNanos[category.ordinal()] += nanos;
+		categoryCalls[category.ordinal()]++;
+	}
+
+	/**
+	 * Records the time of the current tick and starts the next one.
+	 *
+	 * @param gameTime
+	 *            The game time of the finished tick. It is kept if the tick exceeded its budget.
+	 */
+	public void endTick(int gameTime) {
+		long tickNanos = 0;
+		boolean exceeded = false;
+
+		for (int i = 0; i < currentTickNanos.length; i++) {
+			long nanos = currentTickNanos[i];
+			if (nanos > 0) {
+				categoryHistograms[i].record(nanos);
+				if (nanos > categoryBudgetNanos[i]) {
+					categoryExceededTicks[i]++;
+					exceeded = true;
+				}
+			}
+			tickNanos += nanos;
+		}
+		tickHistogram.record(tickNanos);
+
+		if (exceeded || tickNanos > tickBudgetNanos) {
+			int index = exceededTicks % KEPT_EXCEEDED_TICKS;
+			exceededTickTimes[index] = gameTime;
+			System.arraycopy(currentTickNanos, 0, exceededTickNanos[index], 0, currentTickNanos.length);
+			exceededTicks++;
+		}
+
+		System.arraycopy(currentTickNanos, 0, lastTickNanos, 0, currentTickNanos.length);
+		Arrays.fill(currentTickNanos, 0);
+	}
+
+	public TimeHistogram getTickHistogram() {
+		return tickHistogram;
+	}
+
+	public TimeHistogram getHistogram(ETickCategory category) {
+		return categoryHistograms[category.ordinal()];
+	}
+
+	/**
+	 * @return The number of measurements added to the category. For the scheduled timerables this is the number of their executions.
+	 */
+	public long getCalls(ETickCategory category) {
+		return categoryCalls[category.ordinal()];
+	}
+
+	/**
+	 * @return The time spent in the category during the last finished tick.
+	 */
+	public long getLastTickNanos(ETickCategory category) {
+		return lastTickNanos[category.ordinal()];
+	}
+
+	/**
+	 * @return The number of ticks the category took longer than its budget.
+	 */
+	public int getExceededTicks(ETickCategory category) {
+		return categoryExceededTicks[category.ordinal()];
+	}
+
+	/**
+	 * @return The number of ticks exceeding the tick budget or the budget of a category.
+	 */
+	public int getExceededTicks() {
+		return exceededTicks;
+	}
+
+	/**
+	 * Prints the statistics of the whole tick and all categories, followed by the last ticks that exceeded their budget.
+	 *
+	 * @param out
+	 *            The stream to print to.
+	 */
+	public void dump(PrintStream out) {
+		out.println(String.format(Locale.ENGLISH, "ticks: %d, budget: %.1f ms, exceeded: %d", tickHistogram.getCount(), tickBudgetNanos / 1e6,
+				exceededTicks));
+		out.println(formatHistogram("tick", tickHistogram, tickHistogram.getCount()));
+
+		for (ETickCategory category : ETickCategory.VALUES) {
+			TimeHistogram histogram = getHistogram(category);
+			if (histogram.getCount() > 0) {
+				out.println(formatHistogram(category.getDisplayName(), histogram, getCalls(category))
+						+ String.format(Locale.ENGLISH, ", budget: %.1f ms, exceeded: %d", categoryBudgetNanos[category.ordinal()] / 1e6,
+								getExceededTicks(category)));
+			}
+		}
+
+		int keptTicks = Math.min(exceededTicks, KEPT_EXCEEDED_TICKS);
+		if (keptTicks > 0) {
+			out.println("last " + keptTicks + " ticks exceeding their budget:");
+		}
+		for (int i = exceededTicks - keptTicks; i < exceededTicks; i++) {
+			int index = i % KEPT_EXCEEDED_TICKS;
+			StringBuilder line = new StringBuilder("  game time " + exceededTickTimes[index] + " ms:");
+			for (ETickCategory category : ETickCategory.VALUES) {
+				long nanos = exceededTickNanos[index][category.ordinal()];
+				if (nanos > 0) {
+					line.append(String.format(Locale.ENGLISH, " %s %.2f ms", category.getDisplayName(), nanos / 1e6));
+				}
+			}
+			out.println(line);
+		}
+	}
+
+	/**
+	 * @return A single line describing the histogram in milliseconds.
+	 */
+	public static String formatHistogram(String name, TimeHistogram histogram, long calls) {
+		return String.format(Locale.ENGLISH, "%s: calls: %d, average: %.3f ms, p99: %.3f ms, max: %.3f ms", name, calls,
+				histogram.getAverageNanos() / 1e6, histogram.getPercentile(0.99) / 1e6, histogram.getMaxNanos() / 1e6);
+	}
+}
@@ -9,7 +9,10 @@ public interface IDirectGridProvider {
 	IMapObject[] getObjectArray();
 	IGraphicsMovable[] getMovableArray();
 	BitSet getBorderArray();
-	byte[][] getVisibleStatusArray();
+	/**
+	 * @return The visible status of all tiles, indexed with x + y * width.
+	 */
+	byte[] getVisibleStatusArray();
 	byte[][] getHeightArray();
 	boolean isFoWEnabled();
 }
@@ -14,6 +14,8 @@
  *******************************************************************************/
 package jsettlers.common.statistics;
 
+import jsettlers.common.logging.TickProfiler;
+
 /**
  * This interface supplies game time information to the UI.
  * 
@@ -58,4 +60,13 @@ public interface IGameTimeProvider {
 	 * @return true if the game is pausing, false if not.
 	 */
 	boolean isGamePausing();
+
+	/**
+	 * Gets the profiler measuring the ticks of the game.
+	 *
+	 * @return The profiler or null if the ticks are not profiled.
+	 */
+	default TickProfiler getTickProfiler() {
+		return null;
+	}
 }
\ No newline at end of file
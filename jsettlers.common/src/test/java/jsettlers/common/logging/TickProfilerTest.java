@@ -0,0 +1,103 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.common.logging;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+
+import org.junit.Test;
+
+/**
+ * Tests for the classes {@link TickProfiler} and {@link TimeHistogram}.
+ */
+public class TickProfilerTest {
+	private static final long MILLIS = 1000 * 1000;
+
+	@Test
+	public void testHistogramBucketsContainTheirValues() {
+		for (long nanos = 0; nanos < 100000; nanos++) {
+			int bucket = TimeHistogram.getBucket(nanos);
+			assertTrue(nanos <= TimeHistogram.getBucketUpperBound(bucket));
+			assertTrue(bucket == 0 || nanos > TimeHistogram.getBucketUpperBound(bucket - 1));
+		}
+		assertEquals(Long.MAX_VALUE, TimeHistogram.getBucketUpperBound(TimeHistogram.getBucket(Long.MAX_VALUE)));
+	}
+
+	@Test
+	public void testHistogramPercentiles() {
+		TimeHistogram histogram = new TimeHistogram();
+		for (int i = 1; i <= 100; i++) {
+			histogram.record(i * MILLIS);
+		}
+
+		assertEquals(100, histogram.getCount());
+		assertEquals(100 * MILLIS, histogram.getMaxNanos());
+		assertEquals(5050 * MILLIS / 100, histogram.getAverageNanos());
+		long median = histogram.getPercentile(0.5);
+		assertTrue(median >= 50 * MILLIS && median <= 50 * MILLIS * 5 / 4);
+		assertEquals(100 * MILLIS, histogram.getPercentile(1));
+	}
+
+	@Test
+	public void testTicksAreSummedPerCategory() {
+		TickProfiler profiler = new TickProfiler(10 * MILLIS);
+
+		profiler.add(ETickCategory.MOVABLES, 1 * MILLIS);
+		profiler.add(ETickCategory.MOVABLES, 2 * MILLIS);
+		profiler.add(ETickCategory.BUILDINGS, 4 * MILLIS);
+		profiler.endTick(25);
+
+		assertEquals(2, profiler.getCalls(ETickCategory.MOVABLES));
+		assertEquals(3 * MILLIS, profiler.getLastTickNanos(ETickCategory.MOVABLES));
+		assertEquals(1, profiler.getHistogram(ETickCategory.MOVABLES).getCount());
+		assertEquals(3 * MILLIS, profiler.getHistogram(ETickCategory.MOVABLES).getTotalNanos());
+		assertEquals(7 * MILLIS, profiler.getTickHistogram().getMaxNanos());
+		assertEquals(0, profiler.getHistogram(ETickCategory.AI).getCount());
+		assertEquals(0, profiler.getExceededTicks());
+
+		profiler.endTick(50);
+		assertEquals(0, profiler.getLastTickNanos(ETickCategory.MOVABLES));
+		assertEquals(1, profiler.getHistogram(ETickCategory.MOVABLES).getCount());
+		assertEquals(2, profiler.getTickHistogram().getCount());
+	}
+
+	@Test
+	public void testExceededBudgetsAreFlagged() {
+		TickProfiler profiler = new TickProfiler(10 * MILLIS);
+		profiler.setBudget(ETickCategory.AI, 2 * MILLIS);
+
+		profiler.add(ETickCategory.MOVABLES, 6 * MILLIS);
+		profiler.add(ETickCategory.PARTITIONS, 6 * MILLIS);
+		profiler.endTick(25);
+		profiler.add(ETickCategory.AI, 3 * MILLIS);
+		profiler.endTick(50);
+		profiler.add(ETickCategory.AI, 1 * MILLIS);
+		profiler.endTick(75);
+
+		assertEquals(2, profiler.getExceededTicks());
+		assertEquals(0, profiler.getExceededTicks(ETickCategory.MOVABLES));
+		assertEquals(1, profiler.getExceededTicks(ETickCategory.AI));
+
+		ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+		profiler.dump(new PrintStream(buffer));
+		String dump = buffer.toString();
+		assertTrue(dump, dump.contains("ticks: 3, budget: 10.0 ms, exceeded: 2"));
+		assertTrue(dump, dump.contains("game time 25 ms: movables 6.00 ms partitions 6.00 ms"));
+		assertTrue(dump, dump.contains("game time 50 ms: ai 3.00 ms"));
+	}
+}
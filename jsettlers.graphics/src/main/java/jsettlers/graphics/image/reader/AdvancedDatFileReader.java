@@ -16,7 +16,6 @@ package jsettlers.graphics.image.reader;
 
 import java.io.File;
 import java.io.IOException;
-import java.io.RandomAccessFile;
 
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -198,6 +197,10 @@ public class AdvancedDatFileReader implements DatFileReader {
 	private       ByteReader reader = null;
 	private final File       file;
 
+	private volatile boolean initialized = false;
+
+	private DatImageCache imageCache = null;
+
 	/**
 	 * This is a list of file positions where the settler sequences start.
 	 */
@@ -261,6 +264,75 @@ public class AdvancedDatFileReader implements DatFileReader {
 		guiTranslator = new GuiTranslator(type);
 	}
 
+	/**
+	 * Sets the cache to take the decoded images from. Images that are not in the cache are read from the dat file.
+	 *
+	 * @param imageCache
+	 * 		The cache of this dat file or <code>null</code>.
+	 */
+	public void setImageCache(DatImageCache imageCache) {
+		this.imageCache = imageCache;
+	}
+
+	/**
+	 * Decodes all images of the dat file and writes them to the given cache file.
+	 *
+	 * @param cacheFile
+	 * 		The cache file to write.
+	 * @throws IOException
+	 * 		If the dat file can't be read or the cache file can't be written.
+	 */
+	public synchronized void writeImageCache(File cacheFile) throws IOException {
+		initializeIfNeeded();
+		if (reader == null) {
+			throw new IOException("Could not read dat file " + file);
+		}
+
+		DatImageCache.Writer writer = new DatImageCache.Writer(this);
+		for (int settlerStart : settlerStarts) {
+			addSequenceToCache(writer, settlerTranslator, settlerStart);
+		}
+		for (int torsoStart : torsoStarts) {
+			addSequenceToCache(writer, torsoTranslator, torsoStart);
+		}
+		for (int shadowStart : shadowStarts) {
+			addSequenceToCache(writer, shadowTranslator, shadowStart);
+		}
+		for (int landscapeStart : landscapeStarts) {
+			writer.add(landscapeTranslator, landscapeStart);
+		}
+		for (int guiStart : guiStarts) {
+			writer.add(guiTranslator, guiStart);
+		}
+		writer.write(cacheFile, file);
+	}
+
+	/**
+	 * Closes the dat file. It is opened again when the next image is read.
+	 */
+	public synchronized void close() throws IOException {
+		if (reader != null) {
+			reader.close();
+			reader = null;
+			settlerSequences = null;
+			initialized = false;
+		}
+	}
+
+	private <T extends Image> void addSequenceToCache(DatImageCache.Writer writer, DatBitmapTranslator<T> translator, int position) {
+		if (position < 0) {
+			return;
+		}
+
+		try {
+			for (long framePosition : readSequenceHeader(position)) {
+				writer.add(translator, framePosition);
+			}
+		} catch (IOException e) {
+			// the sequence is read from the dat file
+		}
+	}
+
 	public Hashes getSettlersHashes() {
 		SequenceList<Image> settlers = getSettlers();
 
@@ -288,7 +360,7 @@ public class AdvancedDatFileReader implements DatFileReader {
 	@SuppressWarnings("unchecked")
 	public void initialize() {
 		try {
-			reader = new ByteReader(new RandomAccessFile(file, "r"));
+			reader = new ByteReader(file);
 			initFromReader(file, reader);
 
 		} catch (IOException e) {
@@ -473,8 +545,13 @@ public class AdvancedDatFileReader implements DatFileReader {
 	}
 
 	private void initializeIfNeeded() {
-		if (settlerSequences == null) {
-			initialize();
+		if (!initialized) {
+			synchronized (this) {
+				if (!initialized) {
+					initialize();
+					initialized = true;
+				}
+			}
 		}
 	}
 
@@ -508,23 +585,34 @@ public class AdvancedDatFileReader implements DatFileReader {
 	}
 
 	@Override
-	public synchronized <T extends Image> long readImageHeader(DatBitmapTranslator<T> translator,
-															   ImageMetadata metadata,
-															   long offset) throws IOException {
-		initializeIfNeeded();
-		reader.skipTo(offset);
-		DatBitmapReader.readImageHeader(reader, translator, metadata);
-		return reader.getReadBytes();
+	public <T extends Image> long readImageHeader(DatBitmapTranslator<T> translator,
+												 ImageMetadata metadata,
+												 long offset) throws IOException {
+		ByteReader imageReader = createImageReader(offset);
+		DatBitmapReader.readImageHeader(imageReader, translator, metadata);
+		return imageReader.getReadBytes();
 	}
 
 	@Override
-	public synchronized <T extends Image> void readCompressedData(DatBitmapTranslator<T> translator,
-																  ImageMetadata metadata,
-																  ImageArrayProvider array,
-																  long offset) throws IOException {
+	public <T extends Image> void readCompressedData(DatBitmapTranslator<T> translator,
+													 ImageMetadata metadata,
+													 ImageArrayProvider array,
+													 long offset) throws IOException {
+		ByteReader imageReader = createImageReader(offset);
+		DatBitmapReader.readCompressedData(imageReader, translator, metadata.width, metadata.height, array);
+	}
+
+	/**
+	 * Creates a reader starting at the given position. All image readers share the mapping of the dat file, so different images of the file can be
+	 * decoded concurrently.
+	 */
+	private ByteReader createImageReader(long position) throws IOException {
 		initializeIfNeeded();
-		reader.skipTo(offset);
-		DatBitmapReader.readCompressedData(reader, translator, metadata.width, metadata.height, array);
+		ByteReader reader = this.reader;
+		if (reader == null) {
+			throw new IOException("Could not read dat file " + file);
+		}
+		return reader.createReader(position);
 	}
 
 	private synchronized void loadSettlers(int goldIndex, String name) throws IOException {
@@ -538,14 +626,14 @@ public class AdvancedDatFileReader implements DatFileReader {
 
 		SettlerImage[] images = new SettlerImage[framePositions.length];
 		for (int i = 0; i < framePositions.length; i++) {
-			images[i] = DatBitmapReader.getImage(settlerTranslator, this, framePositions[i], name + "-S" + goldIndex + ":" + i);
+			images[i] = getImage(settlerTranslator, framePositions[i], name + "-S" + goldIndex + ":" + i);
 		}
 
 		int torsoPosition = torsoStarts[realSettlerIndex];
 		if (torsoPosition >= 0) {
 			long[] torsoPositions = readSequenceHeader(torsoPosition);
 			for (int i = 0; i < torsoPositions.length && i < framePositions.length; i++) {
-				SingleImage torso = DatBitmapReader.getImage(torsoTranslator, this, torsoPositions[i], name + "-T" + goldIndex + ":" + i);
+				SingleImage torso = getImage(torsoTranslator, torsoPositions[i], name + "-T" + goldIndex + ":" + i);
 				images[i].setTorso(torso);
 			}
 		}
@@ -555,7 +643,7 @@ public class AdvancedDatFileReader implements DatFileReader {
 			long[] shadowPositions = readSequenceHeader(shadowPosition);
 			for (int i = 0; i < shadowPositions.length
 				&& i < framePositions.length; i++) {
-				SingleImage shadow = DatBitmapReader.getImage(shadowTranslator, this, shadowPositions[i], name + "-SH" + goldIndex + ":" + i);
+				SingleImage shadow = getImage(shadowTranslator, shadowPositions[i], name + "-SH" + goldIndex + ":" + i);
 				images[i].setShadow(shadow);
 			}
 		}
@@ -563,6 +651,16 @@ public class AdvancedDatFileReader implements DatFileReader {
 		settlerSequences[goldIndex] = new ArraySequence<>(images);
 	}
 
+	private <T extends Image> T getImage(DatBitmapTranslator<T> translator, long position, String name) throws IOException {
+		if (imageCache != null) {
+			T image = imageCache.getImage(translator, position, name);
+			if (image != null) {
+				return image;
+			}
+		}
+		return DatBitmapReader.getImage(translator, this, position, name);
+	}
+
 	private long[] readSequenceHeader(int position) throws IOException {
 		reader.skipTo(position);
 
@@ -639,7 +737,7 @@ public class AdvancedDatFileReader implements DatFileReader {
 		initializeIfNeeded();
 
 		try {
-			SingleImage image = DatBitmapReader.getImage(landscapeTranslator, this, landscapeStarts[index], name);
+			SingleImage image = getImage(landscapeTranslator, landscapeStarts[index], name);
 			landscapeImages[index] = image;
 		} catch (IOException e) {
 			landscapeImages[index] = NullImage.getForLandscape();
@@ -692,7 +790,7 @@ public class AdvancedDatFileReader implements DatFileReader {
 		initializeIfNeeded();
 		try {
 			int theseGraphicsFilesIndex = mapping.mapGuiImage(goldIndex);
-			SingleImage image = DatBitmapReader.getImage(guiTranslator, this, guiStarts[theseGraphicsFilesIndex], name);
+			SingleImage image = getImage(guiTranslator, guiStarts[theseGraphicsFilesIndex], name);
 			guiImages[goldIndex] = image;
 		} catch (IOException | ArrayIndexOutOfBoundsException e) {
 			guiImages[goldIndex] = NullImage.getForGui();
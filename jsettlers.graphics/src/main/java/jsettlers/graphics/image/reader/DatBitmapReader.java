@@ -147,11 +147,8 @@ public final class DatBitmapReader<T extends Image> {
 					x++;
 				}
 
-				int readPartEnd = x + sequenceLength;
-				while (x < readPartEnd) {
-					lineBuffer[x] = translator.readUntransparentColor(reader);
-					x++;
-				}
+				translator.readUntransparentColors(reader, lineBuffer, x, sequenceLength);
+				x += sequenceLength;
 			}
 
 			array.writeLine(lineBuffer, x);
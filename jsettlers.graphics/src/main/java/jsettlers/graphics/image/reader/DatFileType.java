@@ -16,6 +16,7 @@
 package jsettlers.graphics.image.reader;
 
 import java.io.File;
+import java.nio.ShortBuffer;
 
 import jsettlers.common.Color;
 
@@ -63,6 +64,29 @@ public enum DatFileType {
 		return color;
 	}
 
+	/**
+	 * Converts all colors of the buffer in the current format to RGBA8 colors.
+	 *
+	 * @param colors
+	 * 		The colors to convert, from position 0 to the limit of the buffer.
+	 * @param target
+	 * 		The array to write the converted colors to.
+	 * @param offset
+	 * 		The index of the first converted color in the target array.
+	 */
+	public void convertTo8888(ShortBuffer colors, int[] target, int offset) {
+		int length = colors.limit();
+		if (this == RGB555) {
+			for (int i = 0; i < length; i++) {
+				target[offset + i] = Color.convert555to8888(colors.get(i) & 0xffff);
+			}
+		} else {
+			for (int i = 0; i < length; i++) {
+				target[offset + i] = Color.convert565to8888(colors.get(i) & 0xffff);
+			}
+		}
+	}
+
 	public static DatFileType getForPath(File path) {
 		return stream(values()).filter(v -> path.getName().endsWith(v.fileSuffix)).findFirst()
 							   .orElseThrow(() -> new IllegalArgumentException("Could not determine type of " + path.getName()));
@@ -0,0 +1,338 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.graphics.image.reader;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import go.graphics.ImageData;
+import jsettlers.graphics.image.Image;
+import jsettlers.graphics.image.reader.translator.DatBitmapTranslator;
+
+/**
+ * A cache file with the decoded images of a dat file.
+ * <p />
+ * Decoding the images of a dat file is slow, so all images of the file are decoded once and written to a cache file. Later starts memory map the
+ * cache file and copy the decoded pixels of an image when it is needed. The images are found by their position in the dat file, so the cache works
+ * with every mapping of the sequences. The cache stores the length and the modification time of the dat file and is ignored as soon as the dat
+ * file changes. Opening the cache doesn't need to read the dat file, so it is cheap enough to be done on the render thread.
+ * <p />
+ * The format of a cache file is (all values in native byte order):
+ * <ul>
+ * <li>magic, version, byte order, dat file length, dat file modification time and the number of images</li>
+ * <li>a table of all decoded images sorted by their dat file position: position, width, height, offset x, offset y and position of the pixels.
+ * Images that couldn't be decoded are not in the table.</li>
+ * <li>the ARGB pixels of all images</li>
+ * </ul>
+ */
+public final class DatImageCache {
+	private static final int MAGIC = 0x4A534943;
+	private static final int VERSION = 2;
+	private static final int NATIVE_ORDER = ByteOrder.nativeOrder() == ByteOrder.LITTLE_ENDIAN ? 1 : 2;
+
+	private static final int HEADER_SIZE = 32;
+	private static final int ENTRY_SIZE = 32;
+
+	private final ByteBuffer buffer;
+	private final int imageCount;
+
+	private DatImageCache(ByteBuffer buffer, int imageCount) {
+		this.buffer = buffer;
+		this.imageCount = imageCount;
+	}
+
+	/**
+	 * Opens the cache file of the given dat file.
+	 *
+	 * @param cacheFile
+	 *            The cache file.
+	 * @param datFile
+	 *            The dat file the cache has been created from.
+	 * @return The cache or <code>null</code> if the cache file doesn't exist, is damaged or belongs to another version of the dat file.
+	 */
+	public static DatImageCache open(File cacheFile, File datFile) {
+		if (!cacheFile.isFile()) {
+			return null;
+		}
+
+		try (FileChannel channel = FileChannel.open(cacheFile.toPath(), StandardOpenOption.READ)) {
+			if (channel.size() < HEADER_SIZE) {
+				return null;
+			}
+
+			// the header is checked before mapping, as a mapped outdated cache couldn't be replaced on some systems
+			ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.nativeOrder());
+			while (header.hasRemaining()) {
+				if (channel.read(header, header.position()) < 0) {
+					return null;
+				}
+			}
+			if (header.getInt(0) != MAGIC || header.getInt(4) != VERSION || header.getInt(8) != NATIVE_ORDER
+					|| header.getLong(12) != datFile.length() || header.getLong(20) != datFile.lastModified()) {
+				return null;
+			}
+
+			ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()).order(ByteOrder.nativeOrder());
+			int imageCount = header.getInt(28);
+			if (!isTableValid(buffer, imageCount)) {
+				System.err.println("Ignoring damaged image cache " + cacheFile);
+				return null;
+			}
+			return new DatImageCache(buffer, imageCount);
+		} catch (IOException e) {
+			System.err.println("Could not open image cache " + cacheFile + ": " + e.getMessage());
+			return null;
+		}
+	}
+
+	/**
+	 * Checks that the table is sorted for the binary search and that the pixels of all images are inside of the file.
+	 */
+	private static boolean isTableValid(ByteBuffer buffer, int imageCount) {
+		long tableEnd = HEADER_SIZE + (long) imageCount * ENTRY_SIZE;
+		if (imageCount < 0 || tableEnd > buffer.capacity()) {
+			return false;
+		}
+
+		long previousPosition = -1;
+		for (int i = 0; i < imageCount; i++) {
+			int entry = HEADER_SIZE + i * ENTRY_SIZE;
+			long position = buffer.getLong(entry);
+			int width = buffer.getInt(entry + 8);
+			int height = buffer.getInt(entry + 12);
+			long dataPosition = buffer.getLong(entry + 24);
+
+			if (position <= previousPosition || width < 0 || height < 0 || dataPosition < tableEnd
+					|| dataPosition + (long) width * height * 4 > buffer.capacity()) {
+				return false;
+			}
+			previousPosition = position;
+		}
+		return true;
+	}
+
+	/**
+	 * Creates the image at the given dat file position from the cached pixels.
+	 *
+	 * @param translator
+	 *            The translator that creates the image.
+	 * @param position
+	 *            The position of the image in the dat file.
+	 * @param name
+	 *            The name of the image.
+	 * @return The image or <code>null</code> if the image is not in the cache.
+	 */
+	public <T extends Image> T getImage(DatBitmapTranslator<T> translator, long position, String name) {
+		int entry = findEntry(position);
+		if (entry < 0) {
+			return null;
+		}
+
+		ImageMetadata metadata = new ImageMetadata();
+		metadata.width = buffer.getInt(entry + 8);
+		metadata.height = buffer.getInt(entry + 12);
+		metadata.offsetX = buffer.getInt(entry + 16);
+		metadata.offsetY = buffer.getInt(entry + 20);
+		int dataPosition = (int) buffer.getLong(entry + 24);
+		int size = metadata.width * metadata.height;
+
+		return translator.createImage(metadata, () -> {
+			ByteBuffer pixels = buffer.duplicate();
+			pixels.position(dataPosition);
+			pixels.limit(dataPosition + size * 4);
+
+			// copied like the decoded data, as the users may change the image data
+			ByteBuffer data = ByteBuffer.allocateDirect(size * 4).order(ByteOrder.nativeOrder());
+			data.put(pixels).flip();
+			return ImageData.of(data.asIntBuffer(), metadata.width, metadata.height);
+		}, name);
+	}
+
+	private int findEntry(long position) {
+		int low = 0;
+		int high = imageCount - 1;
+		while (low <= high) {
+			int middle = (low + high) >>> 1;
+			int entry = HEADER_SIZE + middle * ENTRY_SIZE;
+			long middlePosition = buffer.getLong(entry);
+
+			if (middlePosition < position) {
+				low = middle + 1;
+			} else if (middlePosition > position) {
+				high = middle - 1;
+			} else {
+				return entry;
+			}
+		}
+		return -1;
+	}
+
+	public int getImageCount() {
+		return imageCount;
+	}
+
+	/**
+	 * Collects the images of a dat file and writes them to a cache file.
+	 */
+	static final class Writer {
+		private final DatFileReader reader;
+		private final List<CachedImage> images = new ArrayList<>();
+		private final Set<Long> positions = new HashSet<>();
+
+		Writer(DatFileReader reader) {
+			this.reader = reader;
+		}
+
+		/**
+		 * Adds the image at the given position. Images that can't be read are left out, so they are read from the dat file again.
+		 */
+		<T extends Image> void add(DatBitmapTranslator<T> translator, long position) {
+			if (!positions.add(position)) {
+				return;
+			}
+
+			ImageMetadata metadata = new ImageMetadata();
+			try {
+				long dataPosition = reader.readImageHeader(translator, metadata, position);
+				images.add(new CachedImage(translator, position, metadata, dataPosition));
+			} catch (IOException e) {
+				positions.remove(position);
+			}
+		}
+
+		/**
+		 * Decodes all added images and writes the cache file. The file is written to a temporary file first, so an incomplete cache file is never
+		 * opened. Images that can't be decoded are left out, so they are read from the dat file again.
+		 */
+		void write(File cacheFile, File datFile) throws IOException {
+			images.sort(Comparator.comparingLong(image -> image.position));
+
+			// the table is written after the pixels, so it only contains the decoded images. Its space is reserved for all of them.
+			ByteBuffer table = ByteBuffer.allocate(HEADER_SIZE + images.size() * ENTRY_SIZE).order(ByteOrder.nativeOrder());
+			table.position(HEADER_SIZE);
+
+			File tempFile = new File(cacheFile.getPath() + ".tmp");
+			try (FileChannel channel = FileChannel.open(tempFile.toPath(), StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+					StandardOpenOption.WRITE)) {
+				long dataPosition = table.capacity();
+				channel.position(dataPosition);
+
+				int imageCount = 0;
+				PixelWriter pixels = new PixelWriter();
+				for (CachedImage image : images) {
+					if (!pixels.decode(reader, image)) {
+						continue;
+					}
+					writeFully(channel, pixels.buffer);
+
+					table.putLong(image.position);
+					table.putInt(image.metadata.width).putInt(image.metadata.height);
+					table.putInt(image.metadata.offsetX).putInt(image.metadata.offsetY);
+					table.putLong(dataPosition);
+					dataPosition += image.metadata.width * image.metadata.height * 4L;
+					imageCount++;
+				}
+
+				table.flip();
+				table.putInt(MAGIC).putInt(VERSION).putInt(NATIVE_ORDER).putLong(datFile.length()).putLong(datFile.lastModified()).putInt(imageCount);
+				table.position(0);
+				while (table.hasRemaining()) {
+					channel.write(table, table.position());
+				}
+			}
+			Files.move(tempFile.toPath(), cacheFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		}
+
+		private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+			while (buffer.hasRemaining()) {
+				channel.write(buffer);
+			}
+		}
+	}
+
+	private static final class CachedImage {
+		private final DatBitmapTranslator<?> translator;
+		private final long position;
+		private final ImageMetadata metadata;
+		private final long dataPosition;
+
+		CachedImage(DatBitmapTranslator<?> translator, long position, ImageMetadata metadata, long dataPosition) {
+			this.translator = translator;
+			this.position = position;
+			this.metadata = metadata;
+			this.dataPosition = dataPosition;
+		}
+	}
+
+	/**
+	 * Decodes an image into a reused buffer. Like the {@link IntArrayWriter}, the rest of every line is transparent.
+	 */
+	private static final class PixelWriter implements ImageArrayProvider {
+		private ByteBuffer buffer = ByteBuffer.allocate(0);
+		private int width;
+		private int line;
+
+		/**
+		 * @return <code>true</code> if the image has been decoded, <code>false</code> if it can't be read.
+		 */
+		boolean decode(DatFileReader reader, CachedImage image) {
+			int size = image.metadata.width * image.metadata.height * 4;
+			if (buffer.capacity() < size) {
+				buffer = ByteBuffer.allocate(size).order(ByteOrder.nativeOrder());
+			}
+			buffer.clear();
+			Arrays.fill(buffer.array(), 0, size, (byte) 0);
+			width = image.metadata.width;
+			line = 0;
+
+			try {
+				reader.readCompressedData(image.translator, image.metadata, this, image.dataPosition);
+			} catch (IOException | RuntimeException e) {
+				System.err.println("Could not decode image at " + image.position + ": " + e.getMessage());
+				return false;
+			}
+			buffer.position(0);
+			buffer.limit(size);
+			return true;
+		}
+
+		@Override
+		public void startImage(int width, int height) {
+			this.width = width;
+			this.line = 0;
+		}
+
+		@Override
+		public void writeLine(int[] data, int length) {
+			int offset = line * width * 4;
+			for (int i = 0; i < length; i++) {
+				buffer.putInt(offset + i * 4, data[i]);
+			}
+			line++;
+		}
+	}
+}
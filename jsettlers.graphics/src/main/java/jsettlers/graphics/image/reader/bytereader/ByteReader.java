@@ -14,43 +14,38 @@
  */
 package jsettlers.graphics.image.reader.bytereader;
 
+import java.io.File;
 import java.io.IOException;
 import java.io.RandomAccessFile;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.ShortBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.StandardOpenOption;
 
 /**
  * This class provides a little endian wrapper of a reader.
+ * <p>
+ * The whole file is mapped to memory, so reading does not need a system call or a copy of the data. Every reader has its own position. Readers
+ * created by {@link #createReader(long)} share the mapping of the file and can be used concurrently by different threads.
  *
  * @author michael
  */
 public class ByteReader {
 
-	private static final int CACHE_SIZE = 10000;
+	private final FileChannel channel;
 
 	/**
-	 * The position the input stram is currently at.
+	 * The mapping of the whole file. Its position is never changed, so it can be shared between readers.
 	 */
-	private long inputStreamPosition = 0;
-	/**
-	 * The current cache position the user is reading from next.
-	 * <p>
-	 * It may never be greater than CACHE_SIZE.
-	 *
-	 * @see ByteReader#assertCacheHolds(int);
-	 */
-	private int cachePosition;
-	/**
-	 * The start of the cache in the file.
-	 * <p>
-	 * Initialize so that jump does good work.
-	 */
-	private long cacheStart = -2 * CACHE_SIZE;
+	private final ByteBuffer mapping;
 
 	/**
-	 * The data cache
+	 * The view of the mapping this reader reads from.
 	 */
-	private byte[] cache = new byte[CACHE_SIZE];
-
-	private final RandomAccessFile in;
+	private final ByteBuffer buffer;
 
 	/**
 	 * Creates a new reader.
@@ -61,78 +56,76 @@ public class ByteReader {
 	 *             It an IO error occured.
 	 */
 	public ByteReader(RandomAccessFile in) throws IOException {
-		this.in = in;
-		jumpCachePosition(0);
+		this(in.getChannel());
 	}
 
 	/**
-	 * Reads a 16 bit int.
+	 * Creates a new reader for the given file.
 	 *
-	 * @return The int.
+	 * @param file
+	 *            The file to read.
 	 * @throws IOException
-	 *             If an io error occured.
+	 *             It an IO error occured.
 	 */
-	public int read16() throws IOException {
-		assertCacheHolds(2);
-
-		int c = this.cachePosition;
-		int byte0 = this.cache[c];
-		int byte1 = this.cache[c + 1];
-		this.cachePosition = c + 2;
-
-		return (0xff & byte0) | ((0xff & byte1) << 8);
+	public ByteReader(File file) throws IOException {
+		this(FileChannel.open(file.toPath(), StandardOpenOption.READ));
 	}
 
 	/**
-	 * Sets the cache position pointer and the cache so that the pointer is on the given position in the file.
+	 * Creates a new reader that maps the file of the given channel to memory.
 	 *
-	 * @param newCachePosition
-	 *            A file position
+	 * @param in
+	 *            The channel to read from.
 	 * @throws IOException
+	 *             It an IO error occured.
 	 */
-	private void jumpCachePosition(long newCachePosition) throws IOException {
-		long positionInCache = newCachePosition - this.cacheStart;
-		if (positionInCache >= 0 && positionInCache < CACHE_SIZE) {
-			this.cachePosition = (int) positionInCache;
-		} else {
-			// we have to reload...
-			this.in.seek(newCachePosition);
-			this.inputStreamPosition = newCachePosition;
-			this.cacheStart = this.inputStreamPosition;
+	public ByteReader(FileChannel in) throws IOException {
+		this(in, map(in));
+	}
+
+	private ByteReader(FileChannel channel, ByteBuffer mapping) {
+		this.channel = channel;
+		this.mapping = mapping;
+		this.buffer = mapping.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+	}
 
-			this.inputStreamPosition += this.in.read(this.cache, 0, CACHE_SIZE);
-			this.cachePosition = 0;
+	private static ByteBuffer map(FileChannel channel) throws IOException {
+		long size = channel.size();
+		if (size > Integer.MAX_VALUE) {
+			channel.close();
+			throw new IOException("The file is too big to be mapped: " + size + " bytes");
 		}
+		return channel.map(MapMode.READ_ONLY, 0, size);
 	}
 
 	/**
-	 * Asserts that the cache hold bytecount valid bytes.
-	 * <p>
-	 * if the rest of the cache is not long enough
+	 * Creates a new reader that shares the mapped file with this reader, but has its own position. Closing any of the readers closes the file for
+	 * all of them.
 	 *
-	 * @param bytecount
+	 * @param position
+	 *            The position in the file to start reading at.
+	 * @return The new reader.
 	 * @throws IOException
+	 *             If the position is not in the file.
 	 */
-	private void assertCacheHolds(int bytecount) throws IOException {
-
-		if (bytecount >= CACHE_SIZE) {
-			throw new IllegalArgumentException(
-					"Cache buffer to small to read that many bytes");
-		}
-
-		int remaining = CACHE_SIZE - this.cachePosition;
-		if (remaining < bytecount) {
-			// refill buffer
-			for (int i = 0; i < remaining; i++) {
-				this.cache[i] = this.cache[this.cachePosition + i];
-			}
+	public ByteReader createReader(long position) throws IOException {
+		ByteReader reader = new ByteReader(channel, mapping);
+		reader.skipTo(position);
+		return reader;
+	}
 
-			// todo: save until where cache is valid, if file to long.
-			int length = (int) Math.min(CACHE_SIZE - remaining, this.in.length() - this.in.getFilePointer());
-			this.inputStreamPosition += this.in.read(this.cache, remaining, length);
-			// TODO: store how long buffer is valid
-			this.cacheStart += this.cachePosition;
-			this.cachePosition = 0;
+	/**
+	 * Reads a 16 bit int.
+	 *
+	 * @return The int.
+	 * @throws IOException
+	 *             If an io error occured.
+	 */
+	public int read16() throws IOException {
+		try {
+			return buffer.getShort() & 0xffff;
+		} catch (BufferUnderflowException e) {
+			throw createEndOfFileException();
 		}
 	}
 
@@ -144,18 +137,11 @@ public class ByteReader {
 	 *             If an IO error occured.
 	 */
 	public int read32() throws IOException {
-		assertCacheHolds(4);
-
-		byte byte0 = this.cache[this.cachePosition++];
-		byte byte1 = this.cache[this.cachePosition++];
-		byte byte2 = this.cache[this.cachePosition++];
-		byte byte3 = this.cache[this.cachePosition++];
-
-		int value =
-				(0xff & byte0) | ((0xff & byte1) << 8)
-						| ((0xff & byte2) << 16)
-						| ((0xff & byte3) << 24);
-		return value;
+		try {
+			return buffer.getInt();
+		} catch (BufferUnderflowException e) {
+			throw createEndOfFileException();
+		}
 	}
 
 	/**
@@ -167,10 +153,8 @@ public class ByteReader {
 	 *             If the read data does not match the given data.
 	 */
 	public void assumeToRead(byte[] toRead) throws IOException {
-		assertCacheHolds(toRead.length);
-
 		for (int i = 0; i < toRead.length; i++) {
-			byte read = this.cache[this.cachePosition++];
+			byte read = (byte) read8();
 			if (read != toRead[i]) {
 				throw new IOException("IO error: expected to read " + toRead[i]
 						+ " but got " + read + " (i=" + i + ")");
@@ -186,11 +170,10 @@ public class ByteReader {
 	 *             If an IO error occured.
 	 */
 	public int read16signed() throws IOException {
-		int read = read16();
-		if (read < 0x8000) {
-			return read;
-		} else {
-			return read - 0x10000;
+		try {
+			return buffer.getShort();
+		} catch (BufferUnderflowException e) {
+			throw createEndOfFileException();
 		}
 	}
 
@@ -202,14 +185,15 @@ public class ByteReader {
 	 *             If an io error occured.
 	 */
 	public int read8() throws IOException {
-		assertCacheHolds(1);
-		return 0xff & this.cache[this.cachePosition++];
+		try {
+			return buffer.get() & 0xff;
+		} catch (BufferUnderflowException e) {
+			throw createEndOfFileException();
+		}
 	}
 
 	/**
 	 * Reads a byte stream from the stream.
-	 * <p>
-	 * Warning: this is not guaranteed to work for long arrays.
 	 *
 	 * @param b
 	 *            The byte array to read to.
@@ -222,12 +206,34 @@ public class ByteReader {
 	 *             If an io error occurred.
 	 */
 	public int read(byte[] b, int off, int len) throws IOException {
-		assertCacheHolds(len);
+		try {
+			buffer.get(b, off, len);
+			return len;
+		} catch (BufferUnderflowException e) {
+			throw createEndOfFileException();
+		}
+	}
 
-		for (int i = 0; i < len; i++) {
-			b[off + i] = this.cache[this.cachePosition++];
+	/**
+	 * Reads the given number of 16 bit values at once. The returned buffer is a view of the mapped file, so the values are not copied until they
+	 * are read from the buffer.
+	 *
+	 * @param count
+	 *            The number of values to read.
+	 * @return A buffer with the values at its positions 0 to count - 1.
+	 * @throws IOException
+	 *             If the file ends before all values have been read.
+	 */
+	public ShortBuffer readShorts(int count) throws IOException {
+		int bytes = count * 2;
+		if (count < 0 || bytes > buffer.remaining()) {
+			throw createEndOfFileException();
 		}
-		return len;
+
+		ByteBuffer values = buffer.slice().order(ByteOrder.LITTLE_ENDIAN);
+		values.limit(bytes);
+		buffer.position(buffer.position() + bytes);
+		return values.asShortBuffer();
 	}
 
 	/**
@@ -240,8 +246,11 @@ public class ByteReader {
 	 *             If an IO error occured.
 	 */
 	public long skipTo(long pos) throws IOException {
-		jumpCachePosition(pos);
-		return this.cacheStart + this.cachePosition;
+		if (pos < 0) {
+			throw new IOException("Negative position: " + pos);
+		}
+		buffer.position((int) Math.min(pos, buffer.limit()));
+		return buffer.position();
 	}
 
 	/**
@@ -251,7 +260,7 @@ public class ByteReader {
 	 * @return The number.
 	 */
 	public long getReadBytes() {
-		return this.cacheStart + this.cachePosition;
+		return buffer.position();
 	}
 
 	/**
@@ -261,6 +270,10 @@ public class ByteReader {
 	 *             If the close failed.
 	 */
 	public void close() throws IOException {
-		this.in.close();
+		channel.close();
+	}
+
+	private IOException createEndOfFileException() {
+		return new IOException("IO error: unexpected end of file at position " + buffer.position());
 	}
 }
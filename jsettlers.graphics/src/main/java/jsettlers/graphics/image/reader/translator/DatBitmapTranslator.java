@@ -45,6 +45,21 @@ public interface DatBitmapTranslator<T extends Image> {
 	 */
 	int readUntransparentColor(ByteReader reader) throws IOException;
 
+	/**
+	 * Reads a run of colors from the reader and progresses the reader so that it stands after the last color.
+	 *
+	 * @param reader The reader to read from
+	 * @param colors The array to write the colors to, e.g. in RGBA8 format.
+	 * @param offset The index of the first color in the array.
+	 * @param length The number of colors to read.
+	 * @throws IOException If an error occurred.
+	 */
+	default void readUntransparentColors(ByteReader reader, int[] colors, int offset, int length) throws IOException {
+		for (int i = offset; i < offset + length; i++) {
+			colors[i] = readUntransparentColor(reader);
+		}
+	}
+
 	/**
 	 * gets the color that is used as transparent.
 	 *
@@ -50,6 +50,11 @@ public class GuiTranslator implements DatBitmapTranslator<SingleImage> {
 		return type.convertTo8888(reader.read16());
 	}
 
+	@Override
+	public void readUntransparentColors(ByteReader reader, int[] colors, int offset, int length) throws IOException {
+		type.convertTo8888(reader.readShorts(length), colors, offset);
+	}
+
 	@Override
 	public HeaderType getHeaderType() {
 		return HeaderType.GUI;
@@ -51,6 +51,11 @@ public class LandscapeTranslator implements DatBitmapTranslator<SingleImage> {
 		return type.convertTo8888(reader.read16());
 	}
 
+	@Override
+	public void readUntransparentColors(ByteReader reader, int[] colors, int offset, int length) throws IOException {
+		type.convertTo8888(reader.readShorts(length), colors, offset);
+	}
+
 	@Override
 	public HeaderType getHeaderType() {
 		return HeaderType.LANDSCAPE;
@@ -61,4 +61,9 @@ public class SettlerTranslator implements DatBitmapTranslator<SettlerImage> {
 		return type.convertTo8888(reader.read16());
 	}
 
+	@Override
+	public void readUntransparentColors(ByteReader reader, int[] colors, int offset, int length) throws IOException {
+		type.convertTo8888(reader.readShorts(length), colors, offset);
+	}
+
 }
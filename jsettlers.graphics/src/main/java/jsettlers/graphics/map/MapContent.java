@@ -16,7 +16,10 @@ package jsettlers.graphics.map;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.util.ArrayList;
 import java.util.BitSet;
+import java.util.List;
+import java.util.Locale;
 
 import go.graphics.EPrimitiveType;
 import java.util.Optional;
@@ -56,6 +59,9 @@ import jsettlers.common.images.AnimationSequence;
 import jsettlers.common.images.EImageLinkType;
 import jsettlers.common.images.ImageLink;
 import jsettlers.common.images.OriginalImageLink;
+import jsettlers.common.logging.ETickCategory;
+import jsettlers.common.logging.TickProfiler;
+import jsettlers.common.logging.TimeHistogram;
 import jsettlers.common.map.EDebugColorModes;
 import jsettlers.common.map.IGraphicsGrid;
 import jsettlers.common.map.IDirectGridProvider;
@@ -170,7 +176,7 @@ public final class MapContent implements RegionContent, IMapInterfaceListener, A
 	private final IGraphicsMovable[] movableGrid;
 	private final BitSet borderGrid;
 	private final byte[][] heightGrid;
-	private final byte[][] visibleGrid;
+	private final byte[] visibleGrid;
 	private final short width, height;
 	private final boolean isVisibleGridAvailable;
 
@@ -312,6 +318,7 @@ public final class MapContent implements RegionContent, IMapInterfaceListener, A
 		try {
 			framerate.nextFrame();
 			gamespeedCalculator.tick();
+			ImageProvider.getInstance().runPreloadTasks(gl);
 
 			// TODO: Do only check once.
 			if (textDrawer.getTextDrawer(gl, EFontSize.NORMAL).getWidth("a") == 0) {
@@ -559,6 +566,38 @@ public final class MapContent implements RegionContent, IMapInterfaceListener, A
 			x -= fps.length() * letterWidth;
 			drawer.drawString(x, yFirstLine, fps);
 		}
+
+		TickProfiler tickProfiler = gameTimeProvider.getTickProfiler();
+		if (tickProfiler != null) {
+			drawTickProfile(drawer, tickProfiler, windowHeight - 4.5f * textLineHeight, textLineHeight, letterWidth, sideXOffset);
+		}
+	}
+
+	/**
+	 * Draws one line for the whole tick and one for every category that has been measured. The lines show the time of the last tick followed by
+	 * the statistics of all ticks.
+	 * <p />
+	 * The profiler is read without synchronization while the game thread updates it, so the shown values are approximate. They may be of different
+	 * ticks or miss the last update.
+	 */
+	private void drawTickProfile(TextDrawer drawer, TickProfiler tickProfiler, float y, float textLineHeight, float letterWidth, float sideXOffset) {
+		List<String> lines = new ArrayList<>();
+		lines.add(String.format(Locale.ENGLISH, "ticks over budget: %d", tickProfiler.getExceededTicks()));
+		lines.add(TickProfiler.formatHistogram("tick", tickProfiler.getTickHistogram(), tickProfiler.getTickHistogram().getCount()));
+		for (ETickCategory category : ETickCategory.VALUES) {
+			TimeHistogram histogram = tickProfiler.getHistogram(category);
+			if (histogram.getCount() > 0) {
+				lines.add(String.format(Locale.ENGLISH, "%.3f ms last, ", tickProfiler.getLastTickNanos(category) / 1e6)
+						+ TickProfiler.formatHistogram(category.getDisplayName(), histogram, tickProfiler.getCalls(category))
+						+ ", over budget: " + tickProfiler.getExceededTicks(category));
+			}
+		}
+
+		for (String line : lines) {
+			float x = textDrawPosition == ETextDrawPosition.MOBILE ? sideXOffset : windowWidth - sideXOffset - line.length() * letterWidth;
+			drawer.drawString(x, y, line);
+			y -= 1.5f * textLineHeight;
+		}
 	}
 
 	private float getLetterWidth(TextDrawer drawer) {
@@ -635,7 +674,7 @@ public final class MapContent implements RegionContent, IMapInterfaceListener, A
 	private void drawTile(int x, int y) {
 		int tileIndex = x+y*width;
 
-		byte fow = visibleGrid != null && ((IDirectGridProvider)map).isFoWEnabled() ? visibleGrid[x][y] : map.getVisibleStatus(x, y);
+		byte fow = visibleGrid != null && ((IDirectGridProvider)map).isFoWEnabled() ? visibleGrid[tileIndex] : map.getVisibleStatus(x, y);
 		boolean fogClear = fow > CommonConstants.FOG_OF_WAR_EXPLORED;
 
 		IMapObject object = objectsGrid != null && fogClear ? objectsGrid[tileIndex] : map.getVisibleMapObjectsAt(x, y);
@@ -17,11 +17,17 @@ package jsettlers.graphics.map.draw;
 import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.nio.IntBuffer;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 
 import go.graphics.AdvancedUpdateBufferCache;
 import go.graphics.BackgroundDrawHandle;
@@ -854,6 +860,7 @@ public class Background implements IGraphicsBackgroundListener {
 	private final int bufferHeight; // in map points.
 
 	private static Map<Boolean, TextureHandle> textures = new HashMap<>();
+	private static final Map<Boolean, CompletableFuture<ImageData>> preloadedTextureData = new ConcurrentHashMap<>();
 
 	private BackgroundDrawHandle backgroundHandle = null;
 
@@ -926,7 +933,7 @@ public class Background implements IGraphicsBackgroundListener {
 
 		if (texture == null || !texture.isValid()) {
 			long startTime = System.currentTimeMillis();
-			ImageData data = getTextureData(original);
+			ImageData data = getPreloadedTextureData(original);
 			texture = context.generateTexture(data, "background-" + (original?"original":"custom"));
 			textures.put(original, texture);
 
@@ -940,6 +947,46 @@ public class Background implements IGraphicsBackgroundListener {
 		return getTextureData(context, DrawConstants.FORCE_ORIGINAL);
 	}
 
+	/**
+	 * Decodes the original texture on the preloading threads. When it is decoded, the texture is generated by a {@link GLPreloadTask}, so the first
+	 * frame does not need to decode it.
+	 * <p>
+	 * The custom texture needs the alternative background image and is therefore still created by the first frame using it.
+	 *
+	 * @return A future that is completed when the texture data has been decoded.
+	 */
+	static CompletableFuture<?> preloadTexture() {
+		if (!DrawConstants.FORCE_ORIGINAL) {
+			return CompletableFuture.completedFuture(null);
+		}
+
+		CompletableFuture<ImageData> data = ImageProvider.getInstance().decode(() -> getTextureData(true));
+		preloadedTextureData.put(true, data);
+		return data.thenRun(() -> ImageProvider.getInstance().addPreloadTask(gl -> {
+			if (DrawConstants.FORCE_ORIGINAL) {
+				getTextureData(gl, true);
+			}
+		}));
+	}
+
+	/**
+	 * Takes the texture data from the preloading or decodes it if it has not been preloaded. Waits for the preloading if it is still running.
+	 */
+	private static ImageData getPreloadedTextureData(boolean original) {
+		CompletableFuture<ImageData> preloaded = preloadedTextureData.remove(original);
+		if (preloaded != null) {
+			try {
+				return preloaded.join();
+			} catch (CompletionException e) {
+				e.printStackTrace();
+			}
+		}
+		return getTextureData(original);
+	}
+
+	/**
+	 * Writes the lines of an image to a cell and repeats them to fill the width of the cell.
+	 */
 	private static class ImageWriter implements ImageArrayProvider {
 		int arrayOffset;
 		int cellSize;
@@ -957,13 +1004,16 @@ public class Background implements IGraphicsBackgroundListener {
 				for (int i = 0; i < cellSize; i++) {
 					this.data[arrayOffset + i] = data[i % length];
 				}
-				arrayOffset += TEXTURE_SIZE;
+				arrayOffset += cellSize;
 			}
 		}
 	}
 
 	/**
 	 * Generates the texture data.
+	 * <p>
+	 * The cells are decoded concurrently while preloading. They are copied to the texture in the order of their index, so overlapping cells give
+	 * the same texture as decoding them one after the other.
 	 *
 	 * @param data
 	 *            The texture data buffer.
@@ -975,37 +1025,66 @@ public class Background implements IGraphicsBackgroundListener {
 		if (reader == null) {
 			throw new IOException("Could not get a file reader for the file.");
 		}
-		ImageWriter imageWriter = new ImageWriter();
-		imageWriter.data = data;
-
-		ImageMetadata meta = new ImageMetadata();
-
 		DatBitmapTranslator<SingleImage> translator = reader.getLandscapeTranslator();
 
+		List<CompletableFuture<int[]>> cells = new ArrayList<>(TEXTURE_POSITIONS.length);
+		for (int index = 0; index < TEXTURE_POSITIONS.length; index++) {
+			int cellIndex = index;
+			cells.add(ImageProvider.getInstance().decode(() -> decodeCell(reader, translator, cellIndex)));
+		}
+
 		for (int index = 0; index < TEXTURE_POSITIONS.length; index++) {
 			int[] position = TEXTURE_POSITIONS[index];
 			int x = position[0] * TEXTURE_GRID;
 			int y = position[1] * TEXTURE_GRID;
 			int start = y * TEXTURE_SIZE + x;
 			int cellSize = position[2] * TEXTURE_GRID;
-			int end = (y + cellSize) * TEXTURE_SIZE + x;
-			imageWriter.arrayOffset = start;
-			imageWriter.cellSize = cellSize;
-			imageWriter.maxOffset = end;
 
-			long dataPos = reader.readImageHeader(translator, meta, reader.getOffsetForLandscape(index));
-			reader.readCompressedData(translator, meta, imageWriter, dataPos);
+			int[] cell;
+			try {
+				cell = cells.get(index).join();
+			} catch (CompletionException e) {
+				if (e.getCause() instanceof UncheckedIOException) {
+					throw ((UncheckedIOException) e.getCause()).getCause();
+				}
+				throw e;
+			}
 
-			// freaky stuff
-			int arrayOffset = imageWriter.arrayOffset;
-			int l = arrayOffset - start;
-			while (arrayOffset < end) {
-				System.arraycopy(data, arrayOffset - l, data, arrayOffset, cellSize);
-				arrayOffset += TEXTURE_SIZE;
+			for (int line = 0; line < cellSize; line++) {
+				System.arraycopy(cell, line * cellSize, data, start + line * TEXTURE_SIZE, cellSize);
 			}
 		}
 	}
 
+	private static int[] decodeCell(DatFileReader reader, DatBitmapTranslator<SingleImage> translator, int index) {
+		int cellSize = TEXTURE_POSITIONS[index][2] * TEXTURE_GRID;
+		int end = cellSize * cellSize;
+
+		ImageWriter imageWriter = new ImageWriter();
+		imageWriter.data = new int[end];
+		imageWriter.cellSize = cellSize;
+		imageWriter.maxOffset = end;
+
+		ImageMetadata meta = new ImageMetadata();
+		try {
+			long dataPos = reader.readImageHeader(translator, meta, reader.getOffsetForLandscape(index));
+			reader.readCompressedData(translator, meta, imageWriter, dataPos);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		ImageProvider.getInstance().countDecodedImage(meta.width, meta.height);
+
+		// freaky stuff
+		int[] data = imageWriter.data;
+		int arrayOffset = imageWriter.arrayOffset;
+		int l = arrayOffset;
+		while (arrayOffset < end) {
+			System.arraycopy(data, arrayOffset - l, data, arrayOffset, cellSize);
+			arrayOffset += cellSize;
+		}
+		return data;
+	}
+
 	private static class TextureIntersections {
 		public final ELandscapeType type1;
 		public final ELandscapeType type1alt;
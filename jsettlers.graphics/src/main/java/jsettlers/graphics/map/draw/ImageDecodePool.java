@@ -0,0 +1,103 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.graphics.map.draw;
+
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * The bounded thread pool the preloading decodes the images on.
+ * <p>
+ * The preloading submits one task per dat file, so different dat files are read concurrently. Tasks may split their work into further tasks for
+ * independent images of the same file and wait for them, the work stealing of the pool keeps the waiting threads busy.
+ */
+final class ImageDecodePool {
+	private static final int MAX_THREADS = 4;
+
+	private final ForkJoinPool pool;
+	private final long startTime = System.nanoTime();
+	private volatile long decodeStartTime = startTime;
+
+	private final AtomicInteger readFiles = new AtomicInteger();
+	private final AtomicInteger decodedImages = new AtomicInteger();
+	private final AtomicLong decodedPixels = new AtomicLong();
+
+	ImageDecodePool() {
+		pool = new ForkJoinPool(getThreadCount(), currentPool -> {
+			ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(currentPool);
+			thread.setName("image decoder " + thread.getPoolIndex());
+			return thread;
+		}, null, false);
+	}
+
+	/**
+	 * @return The number of threads used to decode the images. One thread per core, but not more than {@value #MAX_THREADS}.
+	 */
+	static int getThreadCount() {
+		return Math.max(1, Math.min(Runtime.getRuntime().availableProcessors(), MAX_THREADS));
+	}
+
+	<T> CompletableFuture<T> submit(Supplier<T> task) {
+		return CompletableFuture.supplyAsync(task, pool);
+	}
+
+	/**
+	 * Marks the end of the image cache creation. The decode throughput is measured from here, as writing the caches takes most of the time but
+	 * its images are not counted.
+	 */
+	void imageCachesCreated() {
+		decodeStartTime = System.nanoTime();
+	}
+
+	/**
+	 * Counts a dat file whose index has been read by one of the tasks for the throughput report.
+	 */
+	void countReadFile() {
+		readFiles.incrementAndGet();
+	}
+
+	/**
+	 * Counts an image decoded by one of the tasks for the throughput report.
+	 */
+	void countDecodedImage(int width, int height) {
+		decodedImages.incrementAndGet();
+		decodedPixels.addAndGet((long) width * height);
+	}
+
+	/**
+	 * Stops the threads of the pool. Tasks submitted before are still executed.
+	 *
+	 * @return A report of the time needed to create the image caches and of the decode throughput afterwards.
+	 */
+	String shutdown() {
+		pool.shutdown();
+
+		long now = System.nanoTime();
+		long duration = TimeUnit.NANOSECONDS.toMillis(now - startTime);
+		long cacheDuration = TimeUnit.NANOSECONDS.toMillis(decodeStartTime - startTime);
+		long decodeDuration = Math.max(1, TimeUnit.NANOSECONDS.toMillis(now - decodeStartTime));
+		long pixels = decodedPixels.get();
+		return String.format(Locale.ENGLISH,
+				"Preloaded images in %dms on %d threads: image caches created in %dms, "
+						+ "then %d dat files read and %d images with %.1f MPixel decoded in %dms (%.1f MPixel/s)",
+				duration, pool.getParallelism(), cacheDuration, readFiles.get(), decodedImages.get(), pixels / 1e6, decodeDuration, pixels / 1e3 / decodeDuration);
+	}
+}
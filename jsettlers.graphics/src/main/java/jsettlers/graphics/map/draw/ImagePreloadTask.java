@@ -14,11 +14,40 @@
  *******************************************************************************/
 package jsettlers.graphics.map.draw;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
 import jsettlers.graphics.map.draw.settlerimages.SettlerImageMap;
 
+/**
+ * Preloads the images on the {@link ImageDecodePool} of the {@link ImageProvider}.
+ * <p>
+ * The image caches are created first, so the readers opened afterwards can use them. Then the settler image map is read, the indexes of all dat
+ * files are read and the background texture is decoded concurrently. The decoded texture is handed to the OpenGl thread as a {@link GLPreloadTask}.
+ */
 public class ImagePreloadTask implements Runnable {
 	@Override
 	public void run() {
-		SettlerImageMap.getInstance();
+		ImageProvider imageProvider = ImageProvider.getInstance();
+		try {
+			waitFor(imageProvider.createImageCaches());
+			imageProvider.imageCachesCreated();
+
+			List<CompletableFuture<?>> tasks = new ArrayList<>();
+			tasks.add(imageProvider.decode(SettlerImageMap::getInstance));
+			tasks.addAll(imageProvider.readFileIndexes());
+			tasks.add(Background.preloadTexture());
+			waitFor(tasks);
+		} catch (CompletionException e) {
+			e.printStackTrace();
+		} finally {
+			imageProvider.finishPreloading();
+		}
+	}
+
+	private static void waitFor(List<CompletableFuture<?>> tasks) {
+		CompletableFuture.allOf(tasks.toArray(CompletableFuture<?>[]::new)).join();
 	}
 }
@@ -15,6 +15,9 @@
 package jsettlers.graphics.map.draw;
 
 import java.util.function.Supplier;
+
+import go.graphics.GLDrawContext;
+import jsettlers.common.CommonConstants;
 import jsettlers.common.images.DirectImageLink;
 import jsettlers.common.images.EImageLinkType;
 import jsettlers.common.images.ImageLink;
@@ -29,6 +32,7 @@ import jsettlers.graphics.image.reader.AdvancedDatFileReader;
 import jsettlers.graphics.image.reader.DatFileReader;
 import jsettlers.graphics.image.reader.DatFileSet;
 import jsettlers.graphics.image.reader.DatFileType;
+import jsettlers.graphics.image.reader.DatImageCache;
 import jsettlers.graphics.image.reader.EmptyDatFile;
 import jsettlers.graphics.image.reader.custom.graphics.CustomGraphicsInterceptor;
 import jsettlers.graphics.image.reader.shadowmap.IdentityShadowMapping;
@@ -42,12 +46,19 @@ import jsettlers.graphics.image.sequence.ArraySequence;
 import jsettlers.graphics.image.sequence.Sequence;
 
 import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Hashtable;
 import java.util.List;
 import java.util.Locale;
 import java.util.Queue;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 
 /**
  * This is the main image provider. It provides access to all images.
@@ -71,11 +82,21 @@ public final class ImageProvider {
 	private static final int LAST_SEQUENCE_NUMBER = 2;
 	private static final List<Integer> HIGHRES_IMAGE_FILE_NUMBERS = Arrays.asList(3, 14, 24, 34, 44);
 
+	/**
+	 * The time the preload tasks may take per frame.
+	 */
+	private static final long PRELOAD_TASKS_TIME_PER_FRAME = TimeUnit.MILLISECONDS.toNanos(4);
+
 	/**
 	 * The lookup path for the dat files.
 	 */
 	private static File lookupPath;
 
+	/**
+	 * The directory for the caches of the decoded dat files or <code>null</code> if the images are decoded on every start.
+	 */
+	private static File cacheDirectory;
+
 	public static final DatFileReader EMPTY_DAT_FILE = new EmptyDatFile();
 
 	private static ImageProvider instance;
@@ -86,6 +107,9 @@ public final class ImageProvider {
 	private GfxFolderMapping gfxFolderMapping = new DefaultGfxFolderMapping();
 
 	private Thread preloadingThread;
+	private volatile ImageDecodePool decodePool;
+	private long preloadingStartTime;
+	private boolean firstFrameDrawn = false;
 	private ImageIndexFile indexFile = null;
 
 	private ImageProvider() {
@@ -110,7 +134,22 @@ public final class ImageProvider {
 	 * 		The directory. It may not exist, but must not be null.
 	 */
 	public static void setLookupPath(File path, String settlersVersionId) {
+		setLookupPath(path, settlersVersionId, null);
+	}
+
+	/**
+	 * Sets the path to look for dat files and the directory for the image caches.
+	 * <p>
+	 * The preloading creates the missing caches of all dat files. Later starts take the decoded images from the caches.
+	 *
+	 * @param path
+	 * 		The directory. It may not exist, but must not be null.
+	 * @param cacheDirectory
+	 * 		The directory for the image caches or <code>null</code> to decode the dat files on every start.
+	 */
+	public static void setLookupPath(File path, String settlersVersionId, File cacheDirectory) {
 		ImageProvider.lookupPath = path;
+		ImageProvider.cacheDirectory = cacheDirectory;
 		getInstance().gfxFolderMapping = SettlersVersionMapping.getMappingForVersionId(settlersVersionId);
 		getInstance().startPreloading();
 	}
@@ -319,7 +358,11 @@ public final class ImageProvider {
 			ShadowMapping shadowMapping = ShadowMapping.getMappingFor(fileIndex);
 
 			if (file != null) {
-				reader = new AdvancedDatFileReader(file, type, gfxFolderMapping.getDatFileMapping(fileIndex), shadowMapping, "F" + fileIndex);
+				AdvancedDatFileReader datFileReader = new AdvancedDatFileReader(file, type, gfxFolderMapping.getDatFileMapping(fileIndex), shadowMapping, "F" + fileIndex);
+				if (cacheDirectory != null) {
+					datFileReader.setImageCache(DatImageCache.open(getCacheFile(file), file));
+				}
+				reader = datFileReader;
 				break;
 			}
 		}
@@ -327,6 +370,143 @@ public final class ImageProvider {
 		return CustomGraphicsInterceptor.prependCustomGraphics(fileIndex, reader, this);
 	}
 
+	private static File getCacheFile(File datFile) {
+		return new File(cacheDirectory, datFile.getName().toLowerCase(Locale.ENGLISH) + ".cache");
+	}
+
+	/**
+	 * Creates the image caches of all dat files that have no valid cache yet. This decodes all images of these files, so it should only be called
+	 * by the preloading.
+	 *
+	 * @return The tasks creating the caches, one per dat file.
+	 */
+	List<CompletableFuture<?>> createImageCaches() {
+		List<CompletableFuture<?>> tasks = new ArrayList<>();
+		if (cacheDirectory == null || lookupPath == null || !lookupPath.isDirectory()) {
+			return tasks;
+		}
+		cacheDirectory.mkdirs();
+
+		for (File file : lookupPath.listFiles()) {
+			String fileName = file.getName().toLowerCase(Locale.ENGLISH);
+			if (!file.isFile() || !fileName.startsWith(FILE_PREFIX)) {
+				continue;
+			}
+
+			for (DatFileType type : DatFileType.values()) {
+				if (fileName.endsWith(type.getFileSuffix())) {
+					tasks.add(decode(() -> {
+						createImageCache(file, type);
+						return null;
+					}));
+				}
+			}
+		}
+		return tasks;
+	}
+
+	/**
+	 * Reads the indexes of all dat files in the lookup path concurrently, so the first images of a file can be read without waiting for its index.
+	 */
+	List<CompletableFuture<?>> readFileIndexes() {
+		SortedSet<Integer> fileIndexes = new TreeSet<>();
+		if (lookupPath != null && lookupPath.isDirectory()) {
+			for (File file : lookupPath.listFiles()) {
+				String fileName = file.getName().toLowerCase(Locale.ENGLISH);
+				int numberEnd = FILE_PREFIX.length() + 2;
+				if (file.isFile() && fileName.startsWith(FILE_PREFIX) && fileName.length() > numberEnd) {
+					try {
+						fileIndexes.add(Integer.parseInt(fileName.substring(FILE_PREFIX.length(), numberEnd)));
+					} catch (NumberFormatException e) {
+						// not a graphics file
+					}
+				}
+			}
+		}
+
+		List<CompletableFuture<?>> tasks = new ArrayList<>();
+		for (int fileIndex : fileIndexes) {
+			tasks.add(decode(() -> {
+				getFileReader(fileIndex).getSettlers().size(); // the readers read their index on the first access
+				countReadFile();
+				return null;
+			}));
+		}
+		return tasks;
+	}
+
+	/**
+	 * Runs the given task on the threads of the preloading. After the preloading, the task is run on the calling thread.
+	 *
+	 * @param task
+	 * 		The task to run.
+	 * @return A future for the result of the task.
+	 */
+	<T> CompletableFuture<T> decode(Supplier<T> task) {
+		ImageDecodePool pool = decodePool;
+		if (pool != null) {
+			try {
+				return pool.submit(task);
+			} catch (RejectedExecutionException e) {
+				// the preloading has just finished
+			}
+		}
+		return CompletableFuture.completedFuture(task.get());
+	}
+
+	void imageCachesCreated() {
+		ImageDecodePool pool = decodePool;
+		if (pool != null) {
+			pool.imageCachesCreated();
+		}
+	}
+
+	void countReadFile() {
+		ImageDecodePool pool = decodePool;
+		if (pool != null) {
+			pool.countReadFile();
+		}
+	}
+
+	void countDecodedImage(int width, int height) {
+		ImageDecodePool pool = decodePool;
+		if (pool != null) {
+			pool.countDecodedImage(width, height);
+		}
+	}
+
+	/**
+	 * Stops the threads of the preloading. The decode throughput is reported if {@link CommonConstants#ENABLE_GRAPHICS_TIMES_DEBUG_OUTPUT} is set.
+	 */
+	void finishPreloading() {
+		ImageDecodePool pool = decodePool;
+		decodePool = null;
+		if (pool != null) {
+			String report = pool.shutdown();
+			if (CommonConstants.ENABLE_GRAPHICS_TIMES_DEBUG_OUTPUT) {
+				System.out.println(report);
+			}
+		}
+	}
+
+	private void createImageCache(File datFile, DatFileType type) {
+		File cacheFile = getCacheFile(datFile);
+		if (DatImageCache.open(cacheFile, datFile) != null) {
+			return;
+		}
+
+		AdvancedDatFileReader reader = new AdvancedDatFileReader(datFile, type, datFile.getName());
+		try {
+			reader.writeImageCache(cacheFile);
+		} catch (IOException e) {
+			System.err.println("Could not create image cache for " + datFile + ": " + e.getMessage());
+		} finally {
+			try {
+				reader.close();
+			} catch (IOException e) { /* nothing to do */ }
+		}
+	}
+
 	/**
 	 * Starts preloading the images, if lookup paths have been set.
 	 *
@@ -334,6 +514,8 @@ public final class ImageProvider {
 	 */
 	public void startPreloading() {
 		if (lookupPath != null && preloadingThread == null) {
+			preloadingStartTime = System.nanoTime();
+			decodePool = new ImageDecodePool();
 			preloadingThread = new Thread(new ImagePreloadTask(), "image preloader");
 			preloadingThread.start();
 		}
@@ -357,6 +539,29 @@ public final class ImageProvider {
 		tasks.add(task);
 	}
 
+	/**
+	 * Runs the waiting preload tasks. This needs to be called on the OpenGl thread at the beginning of every frame. The tasks that don't fit into
+	 * the time of this frame are run in the next frames.
+	 *
+	 * @param context
+	 * 		The context of the OpenGl thread.
+	 */
+	public void runPreloadTasks(GLDrawContext context) {
+		if (!firstFrameDrawn && preloadingThread != null) {
+			firstFrameDrawn = true;
+			if (CommonConstants.ENABLE_GRAPHICS_TIMES_DEBUG_OUTPUT) {
+				System.out.println("First frame drawn " + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - preloadingStartTime)
+						+ "ms after the image preloading started");
+			}
+		}
+
+		long end = System.nanoTime() + PRELOAD_TASKS_TIME_PER_FRAME;
+		GLPreloadTask task;
+		while (System.nanoTime() < end && (task = tasks.poll()) != null) {
+			task.run(context);
+		}
+	}
+
 	/**
 	 * lets make this class a real provider
 	 */
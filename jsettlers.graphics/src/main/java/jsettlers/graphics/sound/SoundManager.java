@@ -16,7 +16,6 @@ package jsettlers.graphics.sound;
 
 import java.io.File;
 import java.io.IOException;
-import java.io.RandomAccessFile;
 import java.util.Random;
 
 import go.graphics.sound.ISoundDataRetriever;
@@ -189,8 +188,7 @@ public class SoundManager {
 			throw new IOException("Sound file not found.");
 		}
 
-		RandomAccessFile randomAccessFile = new RandomAccessFile(sndFile, "r");
-		ByteReader reader = new ByteReader(randomAccessFile);
+		ByteReader reader = new ByteReader(sndFile);
 
 		reader.assumeToRead(SOUND_FILE_MAGIC);
 
@@ -329,7 +327,8 @@ public class SoundManager {
 	}
 
 	/**
-	 * This class wraps an open {@link ByteReader} to a {@link ISoundDataRetriever}.
+	 * This class wraps an open {@link ByteReader} to a {@link ISoundDataRetriever}. Every sound is read by its own reader, so sounds can be read
+	 * concurrently.
 	 *
 	 * @author Michael Zangl
 	 */
@@ -347,8 +346,8 @@ public class SoundManager {
 		}
 
 		@Override
-		public synchronized short[] getSoundData(int soundStart) throws IOException {
-			return SoundManager.getSoundData(reader, soundStart);
+		public short[] getSoundData(int soundStart) throws IOException {
+			return SoundManager.getSoundData(reader.createReader(soundStart), soundStart);
 		}
 	}
 
@@ -380,10 +379,7 @@ public class SoundManager {
 			return new short[0];
 		}
 		short[] data = new short[length];
-		for (int i = 0; i < length; i++) {
-			data[i] = (short) reader.read16signed();
-		}
-
+		reader.readShorts(length).get(data);
 		return data;
 	}
 
@@ -0,0 +1,109 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.graphics.image.reader;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.IntBuffer;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import jsettlers.graphics.image.SingleImage;
+
+/**
+ * Test for the class {@link AdvancedDatFileReader}. The images of a dat file are decoded from several threads at once and compared with the images
+ * decoded one after the other.
+ */
+public class AdvancedDatFileReaderTest {
+	private static final int THREADS = 4;
+	private static final int ROUNDS = 50;
+
+	private File datFile;
+	private ExecutorService executor;
+
+	@Before
+	public void setUp() throws IOException {
+		datFile = File.createTempFile("siedler3_98", DatFileType.RGB565.getFileSuffix());
+		Files.write(datFile.toPath(), DatImageCacheTest.createDatFile());
+		executor = Executors.newFixedThreadPool(THREADS);
+	}
+
+	@After
+	public void tearDown() {
+		executor.shutdownNow();
+		datFile.delete();
+	}
+
+	@Test
+	public void testConcurrentlyDecodedImagesEqualSequentiallyDecodedImages() throws Exception {
+		List<int[]> expected = new ArrayList<>();
+		for (SingleImage image : DatImageCacheTest.getAllImages(new AdvancedDatFileReader(datFile, DatFileType.RGB565, "F98"))) {
+			expected.add(DatImageCacheTest.getPixels(image));
+		}
+
+		List<SingleImage> images = DatImageCacheTest.getAllImages(new AdvancedDatFileReader(datFile, DatFileType.RGB565, "F98"));
+		List<Future<int[]>> decoded = new ArrayList<>();
+		for (int round = 0; round < ROUNDS; round++) {
+			for (SingleImage image : images) {
+				decoded.add(executor.submit(() -> DatImageCacheTest.getPixels(image)));
+			}
+		}
+
+		for (int i = 0; i < decoded.size(); i++) {
+			assertArrayEquals(expected.get(i % images.size()), decoded.get(i).get());
+		}
+	}
+
+	@Test
+	public void testConcurrentFirstAccessesDecodeTheSameImage() throws Exception {
+		for (int round = 0; round < ROUNDS; round++) {
+			AdvancedDatFileReader reader = new AdvancedDatFileReader(datFile, DatFileType.RGB565, "F98");
+
+			List<Callable<int[]>> tasks = new ArrayList<>();
+			for (int i = 0; i < THREADS; i++) {
+				tasks.add(() -> {
+					ImageMetadata metadata = new ImageMetadata();
+					long dataPosition = reader.readImageHeader(reader.getLandscapeTranslator(), metadata, reader.getOffsetForLandscape(0));
+					IntArrayWriter array = new IntArrayWriter();
+					reader.readCompressedData(reader.getLandscapeTranslator(), metadata, array, dataPosition);
+					IntBuffer pixels = array.getArray();
+					pixels.rewind();
+					int[] result = new int[pixels.remaining()];
+					pixels.get(result);
+					return result;
+				});
+			}
+
+			List<Future<int[]>> results = executor.invokeAll(tasks);
+			int[] first = results.get(0).get();
+			assertEquals(1, reader.getLandscapes().length());
+			for (Future<int[]> result : results) {
+				assertArrayEquals(first, result.get());
+			}
+		}
+	}
+}
@@ -0,0 +1,274 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.graphics.image.reader;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import jsettlers.graphics.image.Image;
+import jsettlers.graphics.image.SettlerImage;
+import jsettlers.graphics.image.SingleImage;
+import jsettlers.graphics.image.sequence.Sequence;
+
+/**
+ * Test for the class {@link DatImageCache}. The test writes a small dat file with all kinds of images and compares the images decoded by the
+ * {@link AdvancedDatFileReader} with the images of the cache.
+ */
+public class DatImageCacheTest {
+	private static final byte[] FILE_START1 = { 0x04, 0x13, 0x04, 0x00, 0x0c, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x54, 0x00, 0x00, 0x00, 0x20,
+			0x00, 0x00, 0x00, 0x40, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x10, 0x00, 0x00, 0x00, 0x00 };
+	private static final byte[] FILE_START2 = { 0x00, 0x00, 0x1f, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00 };
+	private static final byte[] FILE_HEADER_END = { 0x04, 0x19, 0x00, 0x00, 0x0c, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00 };
+	private static final byte[] SEQUENCE_START = { 0x02, 0x14, 0x00, 0x00, 0x08, 0x00, 0x00 };
+
+	private static final int[] SEQUENCE_TYPES = { 0x106, 0x3112, 0x2412, 0x5982, 0x11306, 0x7 };
+	private static final int SETTLERS = 0;
+	private static final int TORSOS = 1;
+	private static final int LANDSCAPES = 2;
+	private static final int SHADOWS = 3;
+	private static final int GUIS = 4;
+
+	private File datFile;
+	private File cacheFile;
+
+	@Before
+	public void setUp() throws IOException {
+		datFile = File.createTempFile("siedler3_99", DatFileType.RGB565.getFileSuffix());
+		cacheFile = new File(datFile.getPath() + ".cache");
+		Files.write(datFile.toPath(), createDatFile());
+	}
+
+	@After
+	public void tearDown() {
+		datFile.delete();
+		cacheFile.delete();
+	}
+
+	@Test
+	public void testCachedImagesEqualDecodedImages() throws IOException {
+		AdvancedDatFileReader cacheWriter = new AdvancedDatFileReader(datFile, DatFileType.RGB565, "F99");
+		cacheWriter.writeImageCache(cacheFile);
+		cacheWriter.close();
+
+		DatImageCache cache = DatImageCache.open(cacheFile, datFile);
+		assertNotNull(cache);
+		assertEquals(8, cache.getImageCount());
+
+		AdvancedDatFileReader decoding = new AdvancedDatFileReader(datFile, DatFileType.RGB565, "F99");
+		AdvancedDatFileReader cached = new AdvancedDatFileReader(datFile, DatFileType.RGB565, "F99");
+		cached.setImageCache(cache);
+
+		List<SingleImage> decodedImages = getAllImages(decoding);
+		List<SingleImage> cachedImages = getAllImages(cached);
+		assertEquals(8, decodedImages.size());
+		assertEquals(decodedImages.size(), cachedImages.size());
+
+		for (int i = 0; i < decodedImages.size(); i++) {
+			assertSameImage(decodedImages.get(i), cachedImages.get(i));
+		}
+	}
+
+	@Test
+	public void testCacheOfChangedDatFileIsIgnored() throws IOException {
+		AdvancedDatFileReader cacheWriter = new AdvancedDatFileReader(datFile, DatFileType.RGB565, "F99");
+		cacheWriter.writeImageCache(cacheFile);
+		cacheWriter.close();
+		assertNotNull(DatImageCache.open(cacheFile, datFile));
+
+		long lastModified = datFile.lastModified();
+		try (RandomAccessFile file = new RandomAccessFile(datFile, "rw")) {
+			file.seek(file.length() - 1);
+			file.write(0x55);
+		}
+		assertTrue(datFile.setLastModified(lastModified + 2000)); // the file system might not notice changes within the same second
+
+		assertNull(DatImageCache.open(cacheFile, datFile));
+		assertNull(DatImageCache.open(new File(datFile.getPath() + ".missing"), datFile));
+	}
+
+	@Test
+	public void testDamagedCacheIsIgnored() throws IOException {
+		AdvancedDatFileReader cacheWriter = new AdvancedDatFileReader(datFile, DatFileType.RGB565, "F99");
+		cacheWriter.writeImageCache(cacheFile);
+		cacheWriter.close();
+		assertNotNull(DatImageCache.open(cacheFile, datFile));
+
+		try (RandomAccessFile file = new RandomAccessFile(cacheFile, "rw")) {
+			file.seek(32 + 3 * 32 + 8); // width of the fourth image
+			file.writeInt(Integer.MAX_VALUE); // the cache uses the native byte order, this is huge in both orders
+		}
+
+		assertNull(DatImageCache.open(cacheFile, datFile));
+	}
+
+	@Test
+	public void testImagesThatCanNotBeDecodedAreNotCached() throws IOException {
+		byte[] datFile = createDatFile();
+		ByteBuffer buffer = ByteBuffer.wrap(datFile).order(ByteOrder.LITTLE_ENDIAN);
+		int sequenceIndexPosition = FILE_START1.length + DatFileType.RGB565.getFileStartMagic().length + FILE_START2.length + 8;
+		int guiImageStart = buffer.getInt(buffer.getInt(sequenceIndexPosition + GUIS * 4) + 8);
+		buffer.putShort(guiImageStart + 8, (short) (0x8000 | 16)); // the first line of the gui image is longer than the image
+		Files.write(this.datFile.toPath(), datFile);
+
+		AdvancedDatFileReader cacheWriter = new AdvancedDatFileReader(this.datFile, DatFileType.RGB565, "F99");
+		cacheWriter.writeImageCache(cacheFile);
+		cacheWriter.close();
+
+		DatImageCache cache = DatImageCache.open(cacheFile, this.datFile);
+		assertNotNull(cache);
+		assertEquals(7, cache.getImageCount());
+		assertNull(cache.getImage(cacheWriter.getLandscapeTranslator(), guiImageStart, "gui"));
+	}
+
+	static List<SingleImage> getAllImages(DatFileSet datFileSet) {
+		List<SingleImage> images = new ArrayList<>();
+
+		Sequence<Image> settlers = datFileSet.getSettlers().get(0);
+		for (int i = 0; i < settlers.length(); i++) {
+			SettlerImage settler = (SettlerImage) settlers.getImage(i, null);
+			images.add(settler);
+			images.add(settler.getTorso());
+			images.add(settler.getShadow());
+		}
+		images.add(datFileSet.getLandscapes().getImage(0, null));
+		images.add(datFileSet.getGuis().getImage(0, null));
+		return images;
+	}
+
+	private static void assertSameImage(SingleImage expected, SingleImage actual) {
+		assertEquals(expected.getWidth(), actual.getWidth());
+		assertEquals(expected.getHeight(), actual.getHeight());
+		assertEquals(expected.getOffsetX(), actual.getOffsetX());
+		assertEquals(expected.getOffsetY(), actual.getOffsetY());
+		assertArrayEquals(getPixels(expected), getPixels(actual));
+	}
+
+	static int[] getPixels(SingleImage image) {
+		IntBuffer data = image.getData().getReadData32().duplicate();
+		data.rewind();
+		int[] pixels = new int[data.remaining()];
+		data.get(pixels);
+		return pixels;
+	}
+
+	/**
+	 * Creates a dat file with one settler sequence of two frames with torsos and shadows, one landscape and one gui image.
+	 */
+	static byte[] createDatFile() {
+		ByteBuffer buffer = ByteBuffer.allocate(4096).order(ByteOrder.LITTLE_ENDIAN);
+		buffer.put(FILE_START1).put(DatFileType.RGB565.getFileStartMagic()).put(FILE_START2);
+		int fileSizePosition = buffer.position();
+		buffer.putInt(0).putInt(0);
+		int sequenceIndexPosition = buffer.position();
+		buffer.position(sequenceIndexPosition + SEQUENCE_TYPES.length * 4);
+		buffer.putInt(0).put(FILE_HEADER_END);
+
+		int[][] starts = new int[SEQUENCE_TYPES.length][];
+		starts[SETTLERS] = new int[] { putSequence(buffer, new int[] { 0x1234, 0x4321 }, 2, false) };
+		starts[TORSOS] = new int[] { putSequence(buffer, new int[] { 0x05, 0x1b }, 1, false) };
+		starts[SHADOWS] = new int[] { putSequence(buffer, new int[] { 0, 0 }, 0, true) };
+		starts[LANDSCAPES] = new int[] { putImage(buffer, 2, 0x0f0f, 2, false, false) };
+		starts[GUIS] = new int[] { putImage(buffer, 1, 0xf0f0, 2, false, true) };
+		starts[5] = new int[0];
+
+		for (int type = 0; type < SEQUENCE_TYPES.length; type++) {
+			align(buffer);
+			buffer.putInt(sequenceIndexPosition + type * 4, buffer.position());
+			buffer.putInt(SEQUENCE_TYPES[type]);
+			buffer.putShort((short) (starts[type].length * 4 + 8));
+			buffer.putShort((short) starts[type].length);
+			for (int start : starts[type]) {
+				buffer.putInt(start);
+			}
+		}
+
+		buffer.putInt(fileSizePosition, buffer.position());
+		return Arrays.copyOf(buffer.array(), buffer.position());
+	}
+
+	private static int putSequence(ByteBuffer buffer, int[] colors, int bytesPerColor, boolean shadow) {
+		align(buffer);
+		int sequenceStart = buffer.position();
+		buffer.put(SEQUENCE_START).put((byte) colors.length);
+		int framePointers = buffer.position();
+		buffer.position(framePointers + colors.length * 4);
+
+		for (int i = 0; i < colors.length; i++) {
+			int imageStart = putImage(buffer, 3 + i, colors[i], bytesPerColor, true, false);
+			buffer.putInt(framePointers + i * 4, imageStart - sequenceStart);
+		}
+		return sequenceStart;
+	}
+
+	/**
+	 * Puts an image with a transparent pixel at the start of the first line and a shorter last line.
+	 */
+	private static int putImage(ByteBuffer buffer, int width, int color, int bytesPerColor, boolean displaced, boolean gui) {
+		align(buffer);
+		int imageStart = buffer.position();
+		int height = 3;
+
+		if (displaced) {
+			buffer.putInt(0x0c);
+		}
+		buffer.putShort((short) width).putShort((short) height);
+		if (displaced) {
+			buffer.putShort((short) -2).putShort((short) 5);
+		} else if (gui) {
+			buffer.putShort((short) 0).putShort((short) 0);
+		} else {
+			buffer.putShort((short) 0);
+		}
+		align(buffer);
+
+		for (int line = 0; line < height; line++) {
+			int skip = line == 0 ? 1 : 0;
+			int length = line == height - 1 ? width - 1 : width - skip;
+			buffer.putShort((short) (0x8000 | skip << 8 | length));
+			for (int x = 0; x < length; x++) {
+				if (bytesPerColor == 2) {
+					buffer.putShort((short) (color + line * 7 + x));
+				} else if (bytesPerColor == 1) {
+					buffer.put((byte) (color + x));
+				}
+			}
+		}
+		return imageStart;
+	}
+
+	private static void align(ByteBuffer buffer) {
+		if (buffer.position() % 2 == 1) {
+			buffer.put((byte) 0);
+		}
+	}
+}
@@ -0,0 +1,105 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.graphics.image.reader.bytereader;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ShortBuffer;
+import java.nio.file.Files;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test for the class {@link ByteReader}.
+ */
+public class ByteReaderTest {
+	private static final byte[] DATA = { 0x01, 0x02, 0x03, 0x04, (byte) 0xfe, (byte) 0xff, 0x10, 0x20, 0x30 };
+
+	private File file;
+	private ByteReader reader;
+
+	@Before
+	public void setUp() throws IOException {
+		file = File.createTempFile("bytereader", ".dat");
+		Files.write(file.toPath(), DATA);
+		reader = new ByteReader(file);
+	}
+
+	@After
+	public void tearDown() throws IOException {
+		reader.close();
+		file.delete();
+	}
+
+	@Test
+	public void testReadsLittleEndian() throws IOException {
+		assertEquals(0x0201, reader.read16());
+		assertEquals(0x03, reader.read8());
+		assertEquals(0xfffe04, reader.read32() & 0xffffff);
+		assertEquals(7, reader.getReadBytes());
+
+		reader.skipTo(4);
+		assertEquals(-2, reader.read16signed());
+		assertEquals(0xfffe, reader.createReader(4).read16());
+	}
+
+	@Test
+	public void testReadersHaveTheirOwnPosition() throws IOException {
+		ByteReader first = reader.createReader(2);
+		ByteReader second = reader.createReader(6);
+
+		assertEquals(0x0403, first.read16());
+		assertEquals(0x2010, second.read16());
+		assertEquals(0xfffe, first.read16());
+		assertEquals(0, reader.getReadBytes());
+	}
+
+	@Test
+	public void testReadShorts() throws IOException {
+		reader.skipTo(2);
+		ShortBuffer values = reader.readShorts(3);
+
+		assertEquals(3, values.limit());
+		assertEquals(0x0403, values.get(0));
+		assertEquals(-2, values.get(1));
+		assertEquals(0x2010, values.get(2));
+		assertEquals(8, reader.getReadBytes());
+		assertEquals(0x30, reader.read8());
+	}
+
+	@Test
+	public void testEndOfFile() throws IOException {
+		assertEquals(DATA.length, reader.skipTo(100));
+
+		reader.skipTo(8);
+		try {
+			reader.read16();
+			fail("read behind the end of the file");
+		} catch (IOException e) {
+			assertEquals(8, reader.getReadBytes());
+		}
+		try {
+			reader.createReader(6).readShorts(2);
+			fail("read behind the end of the file");
+		} catch (IOException e) {
+			// expected
+		}
+	}
+}
@@ -20,7 +20,9 @@ import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 
+import jsettlers.common.logging.ETickCategory;
 import jsettlers.common.logging.StatisticsStopWatch;
+import jsettlers.common.logging.TickProfiler;
 import jsettlers.logic.constants.MatchConstants;
 import jsettlers.logic.map.grid.MainGrid;
 import jsettlers.logic.player.PlayerSetting;
@@ -84,6 +86,8 @@ public class AiExecutor implements INetworkTimerable {
 
 	@Override
 	public void timerEvent() {
+		long start = System.nanoTime();
+
 		// every second
 		applyLightRulesStopWatch.restart();
 		try {
@@ -107,6 +111,11 @@ public class AiExecutor implements INetworkTimerable {
 			}
 			applyHeavyRulesStopWatch.stop("computerplayer:applyHeavyRules()");
 		}
+
+		TickProfiler profiler = MatchConstants.tickProfiler();
+		if (profiler != null) {
+			profiler.addSince(ETickCategory.AI, start);
+		}
 	}
 
 	public StatisticsStopWatch getUpdateStatisticsStopWatch() {
@@ -17,4 +17,14 @@ public class AiPartitionResources {
 		stoneCount = 0;
 		usableSwampCount = 0;
 	}
+
+	void add(AiPartitionResources other) {
+		for (int i = 0; i < resourceCount.length; i++) {
+			resourceCount[i] += other.resourceCount[i];
+		}
+
+		grassCount += other.grassCount;
+		stoneCount += other.stoneCount;
+		usableSwampCount += other.usableSwampCount;
+	}
 }
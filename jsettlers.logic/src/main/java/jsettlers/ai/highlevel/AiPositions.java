@@ -173,7 +173,7 @@ public class AiPositions implements IMapArea {
 		return new PositionsIterator();
 	}
 
-	private void ensureSorted() {
+	void ensureSorted() {
 		if (!sorted) {
 			Arrays.sort(points, 0, size);
 			sorted = true;
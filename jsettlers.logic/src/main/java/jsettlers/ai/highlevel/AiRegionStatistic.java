@@ -0,0 +1,100 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.ai.highlevel;
+
+import jsettlers.common.landscape.EResourceType;
+
+/**
+ * The part of the map statistics of the {@link AiStatistics} that has been calculated from the positions of one region of the map.
+ * <p />
+ * The positions of the players' land are stored regardless of the partition they belong to. Partitions can be merged and divided without any
+ * position of the map being changed, so the positions are only filtered by the partition a player builds on when the regions are merged.
+ */
+final class AiRegionStatistic {
+	final AiPositions[] resources = new AiPositions[EResourceType.VALUES.length];
+	final AiPartitionResources defaultPartitionResources = new AiPartitionResources();
+	final AiPositions freeTrees = new AiPositions();
+	final AiPositions freeStones = new AiPositions();
+	final AiPositions freeRivers = new AiPositions();
+	private final PlayerRegionStatistic[] players;
+
+	AiRegionStatistic(int numberOfPlayers) {
+		for (int i = 0; i < resources.length; i++) {
+			resources[i] = new AiPositions();
+		}
+		players = new PlayerRegionStatistic[numberOfPlayers];
+	}
+
+	PlayerRegionStatistic getPlayer(int playerId) {
+		PlayerRegionStatistic player = players[playerId];
+		if (player == null) {
+			player = new PlayerRegionStatistic();
+			players[playerId] = player;
+		}
+		return player;
+	}
+
+	/**
+	 * @return The statistic of the given player or null if the player has no positions in this region.
+	 */
+	PlayerRegionStatistic getPlayerOrNull(int playerId) {
+		return players[playerId];
+	}
+
+	void clear() {
+		for (AiPositions positions : resources) {
+			positions.clear();
+		}
+		defaultPartitionResources.clear();
+		freeTrees.clear();
+		freeStones.clear();
+		freeRivers.clear();
+		for (PlayerRegionStatistic player : players) {
+			if (player != null) {
+				player.clear();
+			}
+		}
+	}
+
+	static final class PlayerRegionStatistic {
+		/**
+		 * The resources of the player's land that don't depend on the partition.
+		 */
+		final AiPartitionResources partitionResources = new AiPartitionResources();
+		final AiPositions land = new AiPositions();
+		final AiPositions stones = new AiPositions();
+		final AiPositions trees = new AiPositions();
+		final AiPositions stoneObjects = new AiPositions();
+		final AiPositions rivers = new AiPositions();
+		final AiPositions wine = new AiPositions();
+		final AiPositions borderIngestibleByPioneers = new AiPositions();
+		/**
+		 * Free stones close to the player's land. A stone is contained once for every direction the player's land has been found in.
+		 */
+		final AiPositions stonesNearByCandidates = new AiPositions();
+
+		private void clear() {
+			partitionResources.clear();
+			land.clear();
+			stones.clear();
+			trees.clear();
+			stoneObjects.clear();
+			rivers.clear();
+			wine.clear();
+			borderIngestibleByPioneers.clear();
+			stonesNearByCandidates.clear();
+		}
+	}
+}
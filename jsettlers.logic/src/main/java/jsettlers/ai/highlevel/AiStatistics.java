@@ -16,6 +16,7 @@ package jsettlers.ai.highlevel;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.EnumSet;
@@ -32,6 +33,7 @@ import java.util.Objects;
 import java.util.stream.Collectors;
 
 import jsettlers.ai.highlevel.AiPositions.AiPositionFilter;
+import jsettlers.ai.highlevel.AiRegionStatistic.PlayerRegionStatistic;
 import jsettlers.algorithms.construction.AbstractConstructionMarkableMap;
 import jsettlers.common.CommonConstants;
 import jsettlers.common.buildings.BuildingVariant;
@@ -49,6 +51,7 @@ import jsettlers.common.player.EWinState;
 import jsettlers.common.player.IPlayer;
 import jsettlers.common.position.RelativePoint;
 import jsettlers.common.position.ShortPoint2D;
+import jsettlers.common.utils.coordinates.CoordinateStream;
 import jsettlers.logic.buildings.Building;
 import jsettlers.logic.buildings.WorkAreaBuilding;
 import jsettlers.logic.map.grid.MainGrid;
@@ -58,6 +61,7 @@ import jsettlers.logic.map.grid.movable.MovableGrid;
 import jsettlers.logic.map.grid.objects.AbstractHexMapObject;
 import jsettlers.logic.map.grid.objects.ObjectsGrid;
 import jsettlers.logic.map.grid.partition.PartitionsGrid;
+import jsettlers.logic.movable.MovableManager;
 import jsettlers.logic.movable.interfaces.ILogicMovable;
 import jsettlers.logic.player.Player;
 
@@ -80,6 +84,9 @@ import static jsettlers.common.movable.EMovableType.SWORDSMAN_L3;
 /**
  * This class calculates statistics based on the grids which are used by highlevel and lowlevel KI. The statistics are calculated once and read multiple times within one AiExecutor step triggerd by
  * the game clock.
+ * <p />
+ * The statistics of the map are kept for regions of 32 x 32 positions. The {@link MainGrid} reports every change of the map, so a region is only scanned
+ * again if something close to it has changed since the last update.
  *
  * @author codingberlin
  */
@@ -95,6 +102,13 @@ public class AiStatistics {
 
 	private static final int NEAR_STONE_DISTANCE = 5;
 
+	private static final int REGION_BITS = 5; // 32 x 32 tiles per region
+	private static final int REGION_SIZE = 1 << REGION_BITS;
+	/**
+	 * The maximum distance between a position and the positions its statistics are calculated from.
+	 */
+	private static final int MAX_DEPENDENCY_DISTANCE = NEAR_STONE_DISTANCE;
+
 	private final MainGrid mainGrid;
 	private final Queue<Building> buildings;
 	private final PlayerStatistic[] playerStatistics;
@@ -112,7 +126,11 @@ public class AiStatistics {
 	private final List<Player> players;
 
 	private final ExecutorService statisticsUpdaterPool;
-	private final Set<Callable<Void>> parallelStatisticsUpdater;
+	private final int regionsPerRow;
+	private final AiRegionStatistic[] regions;
+	private final BitSet changedRegions;
+	private int lastUpdatedRegions;
+	private boolean verifyUpdates;
 
 	public AiStatistics(MainGrid mainGrid, ExecutorService threadPool) {
 		this.mainGrid = mainGrid;
@@ -138,7 +156,11 @@ public class AiStatistics {
 		players = Arrays.stream(partitionsGrid.getPlayers()).filter(Objects::nonNull).collect(Collectors.toList());
 
 		statisticsUpdaterPool = threadPool;
-		parallelStatisticsUpdater = Set.of(this::mainMapStatUpdater, this::freeLandMapStatUpdater, this::playerLandMapStatUpdater, this::movableMapStatUpdater, this::surfaceMapStatUpdater, this::pioneerMapStatUpdater);
+		regionsPerRow = (mainGrid.getWidth() + REGION_SIZE - 1) >> REGION_BITS;
+		regions = new AiRegionStatistic[regionsPerRow * ((mainGrid.getHeight() + REGION_SIZE - 1) >> REGION_BITS)];
+		changedRegions = new BitSet(regions.length);
+		changedRegions.set(0, regions.length);
+		mainGrid.addMapChangedListener(this::mapChangedAt);
 	}
 
 	public byte getFlatternEffortAtPositionForBuilding(final ShortPoint2D position, final BuildingVariant buildingType) {
@@ -149,7 +171,37 @@ public class AiStatistics {
 		return flattenEffort;
 	}
 
+	/**
+	 * Updates the statistics. The statistics of the map are only calculated again for the regions of the map that have changed since the last update.
+	 */
 	public void updateStatistics() {
+		calculateStatistics();
+
+		if (verifyUpdates) {
+			verifyStatistics();
+		}
+	}
+
+	/**
+	 * Enables or disables the verification of the statistics. If enabled, every update compares the incrementally updated statistics with the statistics
+	 * of a full scan of the map and throws an {@link IllegalStateException} if they differ. As this doubles the costs of an update, it should only be used
+	 * by tests.
+	 *
+	 * @param verifyUpdates
+	 *            true to verify every update.
+	 */
+	public void setVerifyUpdates(boolean verifyUpdates) {
+		this.verifyUpdates = verifyUpdates;
+	}
+
+	/**
+	 * @return The number of regions of the map that have been scanned during the last update.
+	 */
+	public int getLastUpdatedRegions() {
+		return lastUpdatedRegions;
+	}
+
+	private void calculateStatistics() {
 		for (PlayerStatistic playerStatistic : playerStatistics) {
 			playerStatistic.clearAll();
 		}
@@ -163,6 +215,37 @@ public class AiStatistics {
 
 		updateBuildingStatistics();
 		updateMapStatistics();
+		updateMovableStatistics();
+	}
+
+	private void verifyStatistics() {
+		String updatedStatistics = describeMapStatistics();
+		int updatedRegions = lastUpdatedRegions;
+
+		synchronized (changedRegions) {
+			changedRegions.set(0, regions.length);
+		}
+		calculateStatistics();
+
+		String scannedStatistics = describeMapStatistics();
+		lastUpdatedRegions = updatedRegions;
+		if (!updatedStatistics.equals(scannedStatistics)) {
+			throw new IllegalStateException("The updated statistics differ from a full scan of the map.\nupdated: " + updatedStatistics + "\nscanned: "
+					+ scannedStatistics);
+		}
+	}
+
+	private void mapChangedAt(int x, int y) {
+		int minRegionX = Math.max(0, x - MAX_DEPENDENCY_DISTANCE) >> REGION_BITS;
+		int maxRegionX = Math.min(mainGrid.getWidth() - 1, x + MAX_DEPENDENCY_DISTANCE) >> REGION_BITS;
+		int minRegionY = Math.max(0, y - MAX_DEPENDENCY_DISTANCE) >> REGION_BITS;
+		int maxRegionY = Math.min(mainGrid.getHeight() - 1, y + MAX_DEPENDENCY_DISTANCE) >> REGION_BITS;
+
+		synchronized (changedRegions) {
+			for (int regionY = minRegionY; regionY <= maxRegionY; regionY++) {
+				changedRegions.set(regionY * regionsPerRow + minRegionX, regionY * regionsPerRow + maxRegionX + 1);
+			}
+		}
 	}
 
 	private void updateBuildingStatistics() {
@@ -213,59 +296,191 @@ public class AiStatistics {
 		}
 	}
 
-	private Void mainMapStatUpdater() {
-		short width = mainGrid.getWidth();
-		short height = mainGrid.getHeight();
+	private void updateMapStatistics() {
+		updatePartitionIdsToBuildOn();
+		updateChangedRegions();
+		mergeRegions();
+	}
 
-		for (short x = 0; x < width; x++) {
-			for (short y = 0; y < height; y++) {
+	private void updateChangedRegions() {
+		BitSet regionsToUpdate;
+		synchronized (changedRegions) {
+			regionsToUpdate = (BitSet) changedRegions.clone();
+			changedRegions.clear();
+		}
 
+		List<Callable<Void>> regionUpdaters = new ArrayList<>(regionsToUpdate.cardinality());
+		for (int region = regionsToUpdate.nextSetBit(0); region >= 0; region = regionsToUpdate.nextSetBit(region + 1)) {
+			int regionIndex = region;
+			regionUpdaters.add(() -> {
+				updateRegion(regionIndex);
+				return null;
+			});
+		}
+		lastUpdatedRegions = regionUpdaters.size();
 
-				if (landscapeGrid.getResourceAmountAt(x, y) > 0) {
-					AiPartitionResources partition = getPartitionFor(x, y);
+		try {
+			statisticsUpdaterPool.invokeAll(regionUpdaters);
+		} catch (InterruptedException e) {
+			e.printStackTrace();
+			synchronized (changedRegions) {
+				changedRegions.or(regionsToUpdate);
+			}
+		}
+	}
 
-					EResourceType resourceType = landscapeGrid.getResourceTypeAt(x, y);
-					sortedResourceTypes[resourceType.ordinal].addNoCollission(x, y);
-					if (resourceType != EResourceType.FISH) {
-						partition.resourceCount[resourceType.ordinal]++;
-					} else if (landscapeGrid.getLandscapeTypeAt(x, y) == ELandscapeType.WATER1) {
-						AiPartitionResources fishPartition = partition;
+	private void updateRegion(int regionIndex) {
+		AiRegionStatistic region = regions[regionIndex];
+		if (region == null) {
+			region = new AiRegionStatistic(playerStatistics.length);
+			regions[regionIndex] = region;
+		}
+		region.clear();
 
-						for(RelativePoint pt : FISH_PARTITION_OFFSET) {
-							if(!defaultPartitionResources.equals(fishPartition)) break;
+		int minX = (regionIndex % regionsPerRow) << REGION_BITS;
+		int minY = (regionIndex / regionsPerRow) << REGION_BITS;
+		int maxX = Math.min(mainGrid.getWidth(), minX + REGION_SIZE);
+		int maxY = Math.min(mainGrid.getHeight(), minY + REGION_SIZE);
 
-							fishPartition = getPartitionFor(pt.calculateX(x), pt.calculateY(y));
-						}
+		try {
+			for (short x = (short) minX; x < maxX; x++) {
+				for (short y = (short) minY; y < maxY; y++) {
+					updateSurface(region, x, y);
 
-						fishPartition.resourceCount[resourceType.ordinal]++;
+					Player player = partitionsGrid.getPlayerAt(x, y);
+					if (player == null) {
+						updateFreeLand(region, x, y);
+					} else {
+						updatePlayerLand(region.getPlayer(player.playerId), x, y, player);
 					}
 				}
 			}
+		} catch (RuntimeException e) {
+			e.printStackTrace();
+			synchronized (changedRegions) {
+				changedRegions.set(regionIndex); // try again with the next update
+			}
 		}
-		return null;
 	}
 
-	private Void surfaceMapStatUpdater() {
-		short width = mainGrid.getWidth();
-		short height = mainGrid.getHeight();
+	private void updateSurface(AiRegionStatistic region, short x, short y) {
+		if (landscapeGrid.getResourceAmountAt(x, y) > 0) {
+			AiPartitionResources partition = getPartitionFor(region, x, y);
+
+			EResourceType resourceType = landscapeGrid.getResourceTypeAt(x, y);
+			region.resources[resourceType.ordinal].addNoCollission(x, y);
+			if (resourceType != EResourceType.FISH) {
+				partition.resourceCount[resourceType.ordinal]++;
+			} else if (landscapeGrid.getLandscapeTypeAt(x, y) == ELandscapeType.WATER1) {
+				AiPartitionResources fishPartition = partition;
 
-		for(short x = 0; x < width; x++) {
-			for(short y = 0; y < height; y++) {
-				ELandscapeType type = landscapeGrid.getLandscapeTypeAt(x, y);
+				for (RelativePoint pt : FISH_PARTITION_OFFSET) {
+					if (fishPartition != region.defaultPartitionResources) break;
 
-				if(type.isGrass()) {
-					getPartitionFor(x, y).grassCount++;
-				} else if(!type.isBlocking && type.isMoor()) {
-					getPartitionFor(x, y).usableSwampCount++;
+					fishPartition = getPartitionFor(region, pt.calculateX(x), pt.calculateY(y));
+				}
+
+				fishPartition.resourceCount[resourceType.ordinal]++;
+			}
+		}
+
+		ELandscapeType type = landscapeGrid.getLandscapeTypeAt(x, y);
+		if (type.isGrass()) {
+			getPartitionFor(region, x, y).grassCount++;
+		} else if (!type.isBlocking && type.isMoor()) {
+			getPartitionFor(region, x, y).usableSwampCount++;
+		}
+	}
+
+	private AiPartitionResources getPartitionFor(AiRegionStatistic region, int x, int y) {
+		if (!mainGrid.isInBounds(x, y)) {
+			return region.defaultPartitionResources;
+		}
+
+		byte playerId = partitionsGrid.getPlayerIdAt(x, y);
+		if (playerId == -1) {
+			return region.defaultPartitionResources;
+		}
+
+		return region.getPlayer(playerId).partitionResources;
+	}
+
+	private void mergeRegions() {
+		for (AiRegionStatistic region : regions) {
+			for (int i = 0; i < sortedResourceTypes.length; i++) {
+				sortedResourceTypes[i].addAllNoCollision(region.resources[i]);
+			}
+			defaultPartitionResources.add(region.defaultPartitionResources);
+			addCuttableObjectsInDefaultPartition(TREE_ADULT, region.freeTrees);
+			addCuttableObjectsInDefaultPartition(STONE, region.freeStones);
+			sortedRiversInDefaultPartition.addAllNoCollision(region.freeRivers);
+
+			for (byte playerId = 0; playerId < playerStatistics.length; playerId++) {
+				PlayerRegionStatistic playerRegion = region.getPlayerOrNull(playerId);
+				if (playerRegion != null) {
+					mergePlayerRegion(playerId, playerRegion);
 				}
 			}
 		}
-		return null;
+
+		// a full scan of the map added the positions column by column, so they have been sorted
+		for (AiPositions positions : sortedResourceTypes) {
+			positions.ensureSorted();
+		}
+		for (AiPositions positions : sortedCuttableObjectsInDefaultPartition.values()) {
+			positions.ensureSorted();
+		}
+		sortedRiversInDefaultPartition.ensureSorted();
+		for (PlayerStatistic playerStatistic : playerStatistics) {
+			playerStatistic.landToBuildOn.ensureSorted();
+			playerStatistic.borderIngestibleByPioneers.ensureSorted();
+			playerStatistic.otherPartitionBorder.ensureSorted();
+			playerStatistic.stones.ensureSorted();
+			playerStatistic.stonesNearBy.ensureSorted();
+			playerStatistic.trees.ensureSorted();
+			playerStatistic.rivers.ensureSorted();
+		}
+	}
+
+	private void addCuttableObjectsInDefaultPartition(EMapObjectType cuttableObject, AiPositions positions) {
+		if (!positions.isEmpty()) {
+			sortedCuttableObjectsInDefaultPartition.computeIfAbsent(cuttableObject, type -> new AiPositions()).addAllNoCollision(positions);
+		}
+	}
+
+	private void mergePlayerRegion(byte playerId, PlayerRegionStatistic region) {
+		PlayerStatistic playerStatistic = playerStatistics[playerId];
+		short partitionId = playerStatistic.partitionIdToBuildOn;
+
+		playerStatistic.partitionResources.add(region.partitionResources);
+		playerStatistic.partitionResources.stoneCount += getPositionsInPartition(region.stoneObjects, partitionId).count();
+		playerStatistic.wineCount += getPositionsInPartition(region.wine, partitionId).count();
+		getPositionsInPartition(region.land, partitionId).forEach(playerStatistic.landToBuildOn::addNoCollission);
+		getPositionsInPartition(region.stones, partitionId).forEach(playerStatistic.stones::addNoCollission);
+		getPositionsInPartition(region.trees, partitionId).forEach(playerStatistic.trees::addNoCollission);
+		getPositionsInPartition(region.rivers, partitionId).forEach(playerStatistic.rivers::addNoCollission);
+
+		region.borderIngestibleByPioneers.stream().forEach((x, y) -> {
+			if (partitionsGrid.getPartitionIdAt(x, y) == partitionId) {
+				playerStatistic.borderIngestibleByPioneers.addNoCollission(x, y);
+			} else {
+				playerStatistic.otherPartitionBorder.addNoCollission(x, y);
+			}
+		});
+
+		if (playerStatistic.referencePosition != null) {
+			region.stonesNearByCandidates.stream()
+					.filter((x, y) -> hasPlayersBlockedPartition(playerId, x, y))
+					.forEach(playerStatistic.stonesNearBy::addNoCollission);
+		}
 	}
 
-	private Void movableMapStatUpdater() {
-		for(ILogicMovable movable : movableGrid.getMovableArray()) {
-			if (movable == null) continue;
+	private CoordinateStream getPositionsInPartition(AiPositions positions, short partitionId) {
+		return positions.stream().filter((x, y) -> partitionsGrid.getPartitionIdAt(x, y) == partitionId);
+	}
+
+	private void updateMovableStatistics() {
+		for (ILogicMovable movable : getMovablesOnGrid()) {
 			ShortPoint2D movablePosition = movable.getPosition();
 			Player player = partitionsGrid.getPlayerAt(movablePosition.x, movablePosition.y);
 
@@ -282,84 +497,64 @@ public class AiStatistics {
 				playerStatistics[player.playerId].enemyTroopsInTown.addNoCollission(movablePosition.x, movablePosition.y);
 			}
 		}
-		return null;
-	}
-
-	private Void freeLandMapStatUpdater() {
-		short width = mainGrid.getWidth();
-		short height = mainGrid.getHeight();
-
-		for (short x = 0; x < width; x++) {
-			for (short y = 0; y < height; y++) {
-				Player player = partitionsGrid.getPlayerAt(x, y);
-
-				if (player == null) {
-					updateFreeLand(x, y);
-				}
-			}
-		}
-		return null;
 	}
 
-	private Void playerLandMapStatUpdater() {
+	/**
+	 * @return The movables standing on the grid in the order of their positions on the grid.
+	 */
+	private List<ILogicMovable> getMovablesOnGrid() {
 		short width = mainGrid.getWidth();
-		short height = mainGrid.getHeight();
-
-		for (short x = 0; x < width; x++) {
-			for (short y = 0; y < height; y++) {
-				Player player = partitionsGrid.getPlayerAt(x, y);
-				if(player == null) continue;
-
-				if (partitionsGrid.getPartitionIdAt(x, y) == playerStatistics[player.playerId].partitionIdToBuildOn) {
-					updatePlayerLand(x, y, player);
-				}
+		List<ILogicMovable> movables = new ArrayList<>();
+		for (ILogicMovable movable : MovableManager.getAllMovables()) {
+			ShortPoint2D position = movable.getPosition();
+			if (position != null && movableGrid.getMovableAt(position.x, position.y) == movable) {
+				movables.add(movable);
 			}
 		}
-		return null;
-	}
-
-	private Void pioneerMapStatUpdater() {
-		short width = mainGrid.getWidth();
-		short height = mainGrid.getHeight();
-
-		for (short x = 0; x < width; x++) {
-			for (short y = 0; y < height; y++) {
-				Player player = partitionsGrid.getPlayerAt(x, y);
-				if (player == null) continue;
-				if (hasNeighborIngestibleByPioneersOf(x, y, player)) {
-					if (partitionsGrid.getPartitionIdAt(x, y) == playerStatistics[player.playerId].partitionIdToBuildOn) {
-						playerStatistics[player.playerId].borderIngestibleByPioneers.add(x, y);
-					} else {
-						playerStatistics[player.playerId].otherPartitionBorder.add(x, y);
-					}
-
-				}
+		movables.sort(Comparator.comparingInt(movable -> movable.getPosition().x + movable.getPosition().y * width));
+		return movables;
+	}
+
+	private String describeMapStatistics() {
+		StringBuilder description = new StringBuilder();
+		for (EResourceType resourceType : EResourceType.VALUES) {
+			describe(description, resourceType.name(), sortedResourceTypes[resourceType.ordinal]);
+		}
+		describe(description, "default partition", defaultPartitionResources);
+		describe(description, "trees", sortedCuttableObjectsInDefaultPartition.get(TREE_ADULT));
+		describe(description, "stones", sortedCuttableObjectsInDefaultPartition.get(STONE));
+		describe(description, "rivers", sortedRiversInDefaultPartition);
+
+		for (int playerId = 0; playerId < playerStatistics.length; playerId++) {
+			PlayerStatistic playerStatistic = playerStatistics[playerId];
+			String player = "player " + playerId + " ";
+			describe(description, player + "partition", playerStatistic.partitionResources);
+			description.append('\n').append(player).append("wine: ").append(playerStatistic.wineCount);
+			describe(description, player + "land", playerStatistic.landToBuildOn);
+			describe(description, player + "border", playerStatistic.borderIngestibleByPioneers);
+			describe(description, player + "other border", playerStatistic.otherPartitionBorder);
+			describe(description, player + "stones", playerStatistic.stones);
+			describe(description, player + "stones near by", playerStatistic.stonesNearBy);
+			describe(description, player + "trees", playerStatistic.trees);
+			describe(description, player + "rivers", playerStatistic.rivers);
+		}
+		return description.toString();
+	}
+
+	private static void describe(StringBuilder description, String name, AiPositions positions) {
+		description.append('\n').append(name).append(':');
+		if (positions != null) {
+			for (ShortPoint2D position : positions) {
+				description.append(' ').append(position.x).append(',').append(position.y);
 			}
 		}
-		return null;
 	}
 
-	private void updateMapStatistics() {
-		updatePartitionIdsToBuildOn();
-
-		try {
-			statisticsUpdaterPool.invokeAll(parallelStatisticsUpdater);
-		} catch (InterruptedException e) {
-			e.printStackTrace();
-		}
-	}
-
-	private AiPartitionResources getPartitionFor(int x, int y) {
-		if (!mainGrid.isInBounds(x, y)) {
-			return defaultPartitionResources;
-		}
-
-		byte playerId = mainGrid.getPartitionsGrid().getPlayerIdAt(x, y);
-		if (playerId == -1) {
-			return defaultPartitionResources;
-		}
-
-		return playerStatistics[playerId].partitionResources;
+	private static void describe(StringBuilder description, String name, AiPartitionResources resources) {
+		description.append('\n').append(name).append(": ").append(Arrays.toString(resources.resourceCount))
+				.append(" grass=").append(resources.grassCount)
+				.append(" stones=").append(resources.stoneCount)
+				.append(" swamp=").append(resources.usableSwampCount);
 	}
 
 	private boolean hasNeighborIngestibleByPioneersOf(int x, int y, Player player) {
@@ -384,31 +579,32 @@ public class AiStatistics {
 				&& !partitionsGrid.isEnforcedByTower(x, y);
 	}
 
-	private void updatePlayerLand(short x, short y, Player player) {
-		byte playerId = player.playerId;
-		PlayerStatistic playerStatistic = playerStatistics[playerId];
-		if (mainGrid.getFlagsGrid().isProtected(x, y)) {
+	private void updatePlayerLand(PlayerRegionStatistic statistic, short x, short y, Player player) {
+		if (flagsGrid.isProtected(x, y)) {
 			AbstractHexMapObject o = objectsGrid.getObjectsAt(x, y);
 			if (o != null) {
 				if (o.hasCuttableObject(STONE) && isCuttableByPlayer(x, y, player.playerId)) {
-					playerStatistic.stones.addNoCollission(x, y);
+					statistic.stones.addNoCollission(x, y);
 				} else if (o.hasMapObjectTypes(TREE_GROWING, TREE_ADULT) && isCuttableByPlayer(x, y, player.playerId)) {
-					playerStatistic.trees.addNoCollission(x, y);
+					statistic.trees.addNoCollission(x, y);
 				}
 
 				if(o.hasMapObjectTypes(STONE, CUT_OFF_STONE)) {
-					playerStatistic.partitionResources.stoneCount++;
+					statistic.stoneObjects.addNoCollission(x, y);
 				}
 			}
 		} else {
-			playerStatistic.landToBuildOn.addNoCollission(x, y);
+			statistic.land.addNoCollission(x, y);
 		}
 		ELandscapeType landscape = landscapeGrid.getLandscapeTypeAt(x, y);
 		if (landscape.isRiver()) {
-			playerStatistic.rivers.addNoCollission(x, y);
+			statistic.rivers.addNoCollission(x, y);
 		}
 		if (objectsGrid.hasMapObjectType(x, y, EMapObjectType.WINE_GROWING, EMapObjectType.WINE_HARVESTABLE)) {
-			playerStatistic.wineCount++;
+			statistic.wine.addNoCollission(x, y);
+		}
+		if (hasNeighborIngestibleByPioneersOf(x, y, player)) {
+			statistic.borderIngestibleByPioneers.addNoCollission(x, y);
 		}
 	}
 
@@ -426,41 +622,31 @@ public class AiStatistics {
 		return true;
 	}
 
-	private void updateFreeLand(short x, short y) {
+	private void updateFreeLand(AiRegionStatistic region, short x, short y) {
 		if (objectsGrid.hasCuttableObject(x, y, TREE_ADULT)) {
-			AiPositions trees = sortedCuttableObjectsInDefaultPartition.get(TREE_ADULT);
-			if (trees == null) {
-				trees = new AiPositions();
-				sortedCuttableObjectsInDefaultPartition.put(TREE_ADULT, trees);
-			}
-			trees.addNoCollission(x, y);
+			region.freeTrees.addNoCollission(x, y);
 		}
 		if (objectsGrid.hasCuttableObject(x, y, STONE)) {
-			AiPositions stones = sortedCuttableObjectsInDefaultPartition.get(STONE);
-			if (stones == null) {
-				stones = new AiPositions();
-				sortedCuttableObjectsInDefaultPartition.put(STONE, stones);
-			}
-			stones.addNoCollission(x, y);
-			updateNearStones(x, y);
+			region.freeStones.addNoCollission(x, y);
+			updateNearStones(region, x, y);
 		}
 		if (objectsGrid.hasMapObjectType(x, y, STONE, CUT_OFF_STONE)) {
-			defaultPartitionResources.stoneCount++;
+			region.defaultPartitionResources.stoneCount++;
 		}
 		ELandscapeType landscape = landscapeGrid.getLandscapeTypeAt(x, y);
 		if (landscape.isRiver()) {
-			sortedRiversInDefaultPartition.addNoCollission(x, y);
+			region.freeRivers.addNoCollission(x, y);
 		}
 	}
 
-	private void updateNearStones(short x, short y) {
+	private void updateNearStones(AiRegionStatistic region, short x, short y) {
 		for (EDirection dir : EDirection.VALUES) {
 			int currX = dir.getNextTileX(x, NEAR_STONE_DISTANCE);
 			int currY = dir.getNextTileY(y, NEAR_STONE_DISTANCE);
 			if (mainGrid.isInBounds(currX, currY)) {
 				byte playerId = partitionsGrid.getPlayerIdAt(currX, currY);
-				if (playerId != -1 && hasPlayersBlockedPartition(playerId, x, y)) {
-					playerStatistics[playerId].stonesNearBy.addNoCollission(x, y);
+				if (playerId != -1) {
+					region.getPlayer(playerId).stonesNearByCandidates.addNoCollission(x, y);
 				}
 			}
 		}
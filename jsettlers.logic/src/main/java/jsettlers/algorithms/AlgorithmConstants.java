@@ -30,5 +30,10 @@ public abstract class AlgorithmConstants {
 	 * if the construction marks are currently activated and the user does not move the view, the markings will be updated after this time (ms).
 	 */
 	public static final int CONSTRUCT_MARKS_MAX_REFRESH_TIME = 1300;
+	/**
+	 * Between refreshes only the positions affected by changes of the map are recalculated. All positions on the screen are recalculated after
+	 * this time (ms), to catch changes that aren't reported, like merging partitions.
+	 */
+	public static final int CONSTRUCT_MARKS_FULL_REFRESH_TIME = 6500;
 
 }
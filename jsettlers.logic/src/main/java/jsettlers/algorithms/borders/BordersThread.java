@@ -14,33 +14,70 @@
  *******************************************************************************/
 package jsettlers.algorithms.borders;
 
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
 import jsettlers.common.movable.EDirection;
 import jsettlers.common.position.ShortPoint2D;
 
-import java.util.concurrent.LinkedBlockingQueue;
-
 /**
  * This thread calculates the positions that represent the border between the areas occupied by different players.
+ * <p />
+ * Changed positions are collected in a bit mask with one bit per tile, so overlapping requests are merged and no object is created per
+ * position. The thread takes all requests collected so far as one batch and recalculates every requested tile and its neighbors exactly once.
+ * Batches touching many rows are calculated in parallel, one range of rows per task.
  * 
  * @author Andreas Eberle
  * 
  */
 public class BordersThread implements Runnable {
+	private static final int MIN_PARALLEL_ROWS = 128;
+	private static final int MIN_ROWS_PER_TASK = 32;
+
+	private static ForkJoinPool pool;
 
 	private final IBordersThreadGrid grid;
-	private final LinkedBlockingQueue<ShortPoint2D> positionsQueue = new LinkedBlockingQueue<>();
 	private final Thread bordersThread;
+	private final int width;
+	private final int height;
+	private final int wordsPerRow;
 
-	private boolean canceled = false;
+	private long[] requestedTiles;
+	private boolean[] requestedRows;
+	private boolean requested = false;
+
+	private long[] batchTiles;
+	private boolean[] batchRows;
+	private final long[] calculatedTiles;
+	private final long[] borderTiles;
+
+	private volatile boolean canceled = false;
 
 	/**
 	 * This constructor creates a new instance of {@link BordersThread} and automatically launches a thread for it called "bordersThread".
 	 * 
 	 * @param grid
 	 *            the grid on that the {@link BordersThread} will be operating
+	 * @param width
+	 *            width of the grid
+	 * @param height
+	 *            height of the grid
 	 */
-	public BordersThread(IBordersThreadGrid grid) {
+	public BordersThread(IBordersThreadGrid grid, int width, int height) {
 		this.grid = grid;
+		this.width = width;
+		this.height = height;
+		this.wordsPerRow = (width + 63) >>> 6;
+
+		this.requestedTiles = new long[wordsPerRow * height];
+		this.requestedRows = new boolean[height];
+		this.batchTiles = new long[wordsPerRow * height];
+		this.batchRows = new boolean[height];
+		this.calculatedTiles = new long[wordsPerRow * height];
+		this.borderTiles = new long[wordsPerRow * height];
+
 		this.bordersThread = new Thread(this);
 		this.bordersThread.setName("BordersThread");
 		this.bordersThread.setDaemon(true);
@@ -49,77 +86,219 @@ public class BordersThread implements Runnable {
 	@Override
 	public void run() {
 		while (!canceled) {
-			ShortPoint2D position = null;
-			while (position == null && !canceled) {
-				try {
-					position = positionsQueue.take();
-				} catch (InterruptedException e) {
-				}
+			try {
+				waitForRequests();
+				calculateBatch();
+			} catch (InterruptedException e) {
+				// canceled
 			}
-			if (!canceled) {
-				calculateForPosition(position);
+		}
+	}
+
+	private synchronized void waitForRequests() throws InterruptedException {
+		while (!requested && !canceled) {
+			wait();
+		}
+	}
+
+	/**
+	 * Takes all positions requested so far and recalculates the borders of them and their neighbors.
+	 * 
+	 * @return false if there were no requested positions.
+	 */
+	boolean calculateBatch() {
+		synchronized (this) {
+			if (!requested) {
+				return false;
 			}
+			long[] tiles = requestedTiles;
+			requestedTiles = batchTiles;
+			batchTiles = tiles;
+			boolean[] rows = requestedRows;
+			requestedRows = batchRows;
+			batchRows = rows;
+			requested = false;
 		}
+
+		int rowsToCalculate = 0;
+		for (int y = 0; y < height; y++) {
+			if (isRowAffected(y)) {
+				rowsToCalculate++;
+			}
+		}
+
+		if (rowsToCalculate >= MIN_PARALLEL_ROWS) {
+			int rowsPerTask = Math.max(MIN_ROWS_PER_TASK, height / (4 * Runtime.getRuntime().availableProcessors()));
+			getPool().invoke(new CalculateRowsTask(0, height, rowsPerTask));
+		} else {
+			calculateRows(0, height);
+		}
+
+		for (int y = 0; y < height; y++) {
+			if (isRowAffected(y)) {
+				applyRow(y);
+			}
+		}
+		for (int y = 0; y < height; y++) {
+			if (batchRows[y]) {
+				Arrays.fill(batchTiles, y * wordsPerRow, (y + 1) * wordsPerRow, 0);
+				batchRows[y] = false;
+			}
+		}
+		return true;
 	}
 
-	private void calculateForPosition(ShortPoint2D position) {
-		short x = position.x;
-		short y = position.y;
+	/**
+	 * @return true if the row or one of its neighbor rows contains a requested position.
+	 */
+	private boolean isRowAffected(int y) {
+		return batchRows[y] || (y > 0 && batchRows[y - 1]) || (y + 1 < height && batchRows[y + 1]);
+	}
 
-		byte player = grid.getPlayerIdAt(x, y);
-		boolean isBorder = false;
+	private void calculateRows(int fromY, int toY) {
+		for (int y = fromY; y < toY; y++) {
+			if (isRowAffected(y)) {
+				calculateRow(y);
+			}
+		}
+	}
 
-		if (!grid.isBlocked(x, y)) { // the position is not a blocked landscape
-			for (EDirection currDir : EDirection.VALUES) {
-				int currNeighborX = currDir.getNextTileX(x);
-				int currNeighborY = currDir.getNextTileY(y);
+	/**
+	 * Marks the requested positions of the row and the rows above and below together with their left and right neighbors as to be calculated and
+	 * calculates their borders. Only the words of this row are written, so different rows can be calculated concurrently.
+	 */
+	private void calculateRow(int y) {
+		int rowStart = y * wordsPerRow;
 
-				if (!grid.isInBounds(currNeighborX, currNeighborY)) {
-					continue;
-				}
-				if (grid.isBlocked(currNeighborX, currNeighborY)) {
-					continue; // this neighbor is in the sea => it can never be set.
+		for (int word = 0; word < wordsPerRow; word++) {
+			long requestedBits = 0;
+			for (int neighborY = Math.max(0, y - 1); neighborY <= Math.min(height - 1, y + 1); neighborY++) {
+				if (batchRows[neighborY]) {
+					int neighborRowStart = neighborY * wordsPerRow;
+					long bits = batchTiles[neighborRowStart + word];
+					requestedBits |= bits | bits << 1 | bits >>> 1;
+					if (word > 0) {
+						requestedBits |= batchTiles[neighborRowStart + word - 1] >>> 63;
+					}
+					if (word + 1 < wordsPerRow) {
+						requestedBits |= batchTiles[neighborRowStart + word + 1] << 63;
+					}
 				}
+			}
 
-				byte neighborPlayer = grid.getPlayerIdAt(currNeighborX, currNeighborY);
-				boolean neighborIsBorder = false;
+			int wordStartX = word << 6;
+			if (width - wordStartX < 64) {
+				requestedBits &= (1L << (width - wordStartX)) - 1;
+			}
 
-				if (neighborPlayer != player) {
-					isBorder = true;
+			long borderBits = 0;
+			for (long bits = requestedBits; bits != 0; bits &= bits - 1) {
+				int bit = Long.numberOfTrailingZeros(bits);
+				if (isBorder(wordStartX + bit, y)) {
+					borderBits |= 1L << bit;
 				}
+			}
 
-				if (neighborPlayer >= 0) { // this position is occupied by a player
-					for (EDirection currNeighborDir : EDirection.VALUES) {
-						int nextX = currNeighborDir.getNextTileX(currNeighborX);
-						int nextY = currNeighborDir.getNextTileY(currNeighborY);
-
-						if (grid.isInBounds(nextX, nextY) && grid.getPlayerIdAt(nextX, nextY) != neighborPlayer
-								&& !grid.isBlocked(nextX, nextY)) {
-							neighborIsBorder = true;
-							break;
-						}
-					}
-				} // else the position is not occupied -> don't display a border here
+			calculatedTiles[rowStart + word] = requestedBits;
+			borderTiles[rowStart + word] = borderBits;
+		}
+	}
 
-				grid.setBorderAt(currNeighborX, currNeighborY, neighborIsBorder);
+	private void applyRow(int y) {
+		int rowStart = y * wordsPerRow;
+		for (int word = 0; word < wordsPerRow; word++) {
+			long calculated = calculatedTiles[rowStart + word];
+			long borders = borderTiles[rowStart + word];
+			for (long bits = calculated; bits != 0; bits &= bits - 1) {
+				int bit = Long.numberOfTrailingZeros(bits);
+				grid.setBorderAt((word << 6) + bit, y, (borders & 1L << bit) != 0);
 			}
 		}
+	}
 
-		grid.setBorderAt(x, y, isBorder && player >= 0);
+	/**
+	 * A position is a border if it is occupied by a player and one of its neighbors that isn't blocked belongs to somebody else.
+	 */
+	private boolean isBorder(int x, int y) {
+		if (grid.isBlocked(x, y)) {
+			return false;
+		}
+
+		byte player = grid.getPlayerIdAt(x, y);
+		if (player < 0) {
+			return false;
+		}
+
+		for (EDirection direction : EDirection.VALUES) {
+			int neighborX = direction.getNextTileX(x);
+			int neighborY = direction.getNextTileY(y);
+
+			if (grid.isInBounds(neighborX, neighborY) && grid.getPlayerIdAt(neighborX, neighborY) != player && !grid.isBlocked(neighborX, neighborY)) {
+				return true;
+			}
+		}
+		return false;
 	}
 
 	public void checkPosition(ShortPoint2D position) {
-		this.positionsQueue.offer(position);
+		checkPosition(position.x, position.y);
 	}
 
-	public void checkArea(int x, int y, short width, short height) {
-		int endX = x + width;
-		int endY = y + height;
+	public synchronized void checkPosition(int x, int y) {
+		if (x < 0 || x >= width || y < 0 || y >= height) {
+			return;
+		}
+		requestedTiles[y * wordsPerRow + (x >>> 6)] |= 1L << x;
+		requestedRows[y] = true;
+		request();
+	}
 
-		for (; y < endY; y += 2) {
-			for (int currX = x; currX < endX; currX += 2) {
-				this.positionsQueue.offer(new ShortPoint2D(currX, y));
+	public synchronized void checkArea(int x, int y, int width, int height) {
+		int startX = Math.max(0, x);
+		int endX = Math.min(this.width, x + width);
+		int endY = Math.min(this.height, y + height);
+		if (startX >= endX) {
+			return;
+		}
+
+		for (int currY = Math.max(0, y); currY < endY; currY++) {
+			int rowStart = currY * wordsPerRow;
+			for (int word = startX >>> 6; word <= (endX - 1) >>> 6; word++) {
+				int wordStartX = word << 6;
+				long bits = -1L;
+				if (startX > wordStartX) {
+					bits &= -1L << (startX - wordStartX);
+				}
+				if (endX - wordStartX < 64) {
+					bits &= (1L << (endX - wordStartX)) - 1;
+				}
+				requestedTiles[rowStart + word] |= bits;
 			}
+			requestedRows[currY] = true;
+			request();
+		}
+	}
+
+	/**
+	 * Requests the recalculation of all positions set in the given mask.
+	 * 
+	 * @param positions
+	 *            The positions to be checked, indexed with x + y * width.
+	 */
+	public synchronized void checkPositions(BitSet positions) {
+		for (int index = positions.nextSetBit(0); index >= 0 && index < width * height; index = positions.nextSetBit(index + 1)) {
+			int x = index % width;
+			int y = index / width;
+			requestedTiles[y * wordsPerRow + (x >>> 6)] |= 1L << x;
+			requestedRows[y] = true;
+			request();
+		}
+	}
+
+	private void request() {
+		if (!requested) {
+			requested = true;
+			notifyAll();
 		}
 	}
 
@@ -132,4 +311,34 @@ public class BordersThread implements Runnable {
 		bordersThread.start();
 	}
 
+	private static synchronized ForkJoinPool getPool() {
+		if (pool == null) {
+			pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+		}
+		return pool;
+	}
+
+	private class CalculateRowsTask extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+
+		private final int fromY;
+		private final int toY;
+		private final int rowsPerTask;
+
+		CalculateRowsTask(int fromY, int toY, int rowsPerTask) {
+			this.fromY = fromY;
+			this.toY = toY;
+			this.rowsPerTask = rowsPerTask;
+		}
+
+		@Override
+		protected void compute() {
+			if (toY - fromY <= rowsPerTask) {
+				calculateRows(fromY, toY);
+			} else {
+				int middle = (fromY + toY) >>> 1;
+				invokeAll(new CalculateRowsTask(fromY, middle, rowsPerTask), new CalculateRowsTask(middle, toY, rowsPerTask));
+			}
+		}
+	}
 }
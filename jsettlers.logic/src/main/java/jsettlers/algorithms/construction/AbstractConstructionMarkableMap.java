@@ -26,6 +26,26 @@ import java.util.Set;
  * @author Andreas Eberle
  */
 public abstract class AbstractConstructionMarkableMap {
+	private volatile ConstructionMarksThread constructionMarksThread;
+
+	void setConstructionMarksThread(ConstructionMarksThread constructionMarksThread) {
+		this.constructionMarksThread = constructionMarksThread;
+	}
+
+	/**
+	 * Informs the construction marks calculation that the blocked, protected, player, landscape or height state of the given position has changed.
+	 * 
+	 * @param x
+	 *            x coordinate
+	 * @param y
+	 *            y coordinate
+	 */
+	public final void positionChanged(int x, int y) {
+		ConstructionMarksThread thread = constructionMarksThread;
+		if (thread != null) {
+			thread.invalidate(x, y);
+		}
+	}
 
 	/**
 	 * Sets or removes a construction mark
@@ -14,6 +14,8 @@
  *******************************************************************************/
 package jsettlers.algorithms.construction;
 
+import java.util.BitSet;
+
 import jsettlers.algorithms.AlgorithmConstants;
 import jsettlers.common.buildings.BuildingVariant;
 import jsettlers.common.logging.MilliStopWatch;
@@ -24,6 +26,9 @@ import jsettlers.network.client.interfaces.IPausingSupplier;
 /**
  * Thread to calculate the markings for the user if he want's to construct a new building.<br>
  * This is a singleton class.
+ * <p />
+ * The map reports changed positions with {@link #invalidate(int, int)}. On a refresh, only the marks of positions affected by these changes and of
+ * positions that have been scrolled into the screen are calculated.
  *
  * @author Andreas Eberle
  *
@@ -39,12 +44,21 @@ public final class ConstructionMarksThread implements Runnable {
 	/**
 	 * area of tiles to be checked.
 	 */
-	private MapRectangle mapArea = null;
-	private BuildingVariant building = null;
+	private volatile MapRectangle mapArea = null;
+	private volatile BuildingVariant building = null;
+
+	private final short mapWidth;
+	private BitSet changedPositions;
+	private BitSet processedPositions;
+	private long nextFullRefresh;
 
 	public ConstructionMarksThread(AbstractConstructionMarkableMap map, IPausingSupplier pausingSupplier, byte player) {
 		this.algorithm = new NewConstructionMarksAlgorithm(map, player);
 		this.pausingSupplier = pausingSupplier;
+		this.mapWidth = map.getWidth();
+		this.changedPositions = new BitSet(map.getWidth() * map.getHeight());
+		this.processedPositions = new BitSet(map.getWidth() * map.getHeight());
+		map.setConstructionMarksThread(this);
 
 		thread = new Thread(this, "ConstructionMarksThread");
 		thread.setDaemon(true);
@@ -67,8 +81,10 @@ public final class ConstructionMarksThread implements Runnable {
 						watch.restart();
 
 						BuildingVariant building = this.building;
+						MapRectangle mapArea = this.mapArea;
 						if (building != null && mapArea != null) { // if the task has already been canceled
-							algorithm.calculateConstructMarks(mapArea, building);
+							invalidateChangedPositions();
+							algorithm.updateConstructMarks(mapArea, building);
 						}
 
 						watch.stop("calculation of construction marks");
@@ -86,12 +102,51 @@ public final class ConstructionMarksThread implements Runnable {
 		}
 	}
 
+	private void invalidateChangedPositions() {
+		BitSet changed;
+		boolean fullRefresh;
+		synchronized (this) {
+			changed = changedPositions;
+			changedPositions = processedPositions;
+			processedPositions = changed;
+
+			long now = System.currentTimeMillis();
+			fullRefresh = now >= nextFullRefresh;
+			if (fullRefresh) {
+				nextFullRefresh = now + AlgorithmConstants.CONSTRUCT_MARKS_FULL_REFRESH_TIME;
+			}
+		}
+
+		if (fullRefresh) {
+			algorithm.invalidateAll();
+		} else {
+			for (int index = changed.nextSetBit(0); index >= 0; index = changed.nextSetBit(index + 1)) {
+				algorithm.invalidate(index % mapWidth, index / mapWidth);
+			}
+		}
+		changed.clear();
+	}
+
+	/**
+	 * Informs the thread that something influencing if a building can be placed around the given position has changed.
+	 */
+	public void invalidate(int x, int y) {
+		if (building != null) {
+			synchronized (this) {
+				changedPositions.set(x + y * mapWidth);
+			}
+		}
+	}
+
 	public synchronized void setScreen(MapRectangle mapArea) {
 		this.mapArea = mapArea;
 		this.notifyAll();
 	}
 
 	public synchronized void setBuilding(BuildingVariant buildingVariant) {
+		if (buildingVariant != building) {
+			nextFullRefresh = 0;
+		}
 		this.building = buildingVariant;
 		this.notifyAll();
 	}
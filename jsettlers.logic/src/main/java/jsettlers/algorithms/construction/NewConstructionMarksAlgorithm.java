@@ -14,6 +14,9 @@
  *******************************************************************************/
 package jsettlers.algorithms.construction;
 
+import java.util.BitSet;
+
+import jsettlers.common.buildings.BuildingAreaBitSet;
 import jsettlers.common.buildings.BuildingVariant;
 import jsettlers.common.map.shapes.IMapArea;
 import jsettlers.common.map.shapes.MapRectangle;
@@ -21,23 +24,51 @@ import jsettlers.common.position.RelativePoint;
 
 /**
  * Algorithm to calculate the construction marks for the user.
+ * <p />
+ * The marks are calculated incrementally: A position is only calculated when it enters the screen or when it has been invalidated by a change of
+ * the map since its last calculation. The cached marks are discarded when another building is selected.
  *
  * @author Andreas Eberle
  *
  */
 public final class NewConstructionMarksAlgorithm {
+	/**
+	 * Additional distance of positions influencing a building that are outside of its building area, like its border.
+	 */
+	private static final int AREA_MARGIN = 2;
+
 	private final AbstractConstructionMarkableMap map;
 	private final byte playerId;
+	private final BitSet calculatedPositions;
 
 	private MapRectangle lastArea = null;
+	private BuildingVariant lastBuildingVariant = null;
+	private int calculatedMarks = 0;
 
 	public NewConstructionMarksAlgorithm(AbstractConstructionMarkableMap map, byte player) {
 		this.map = map;
 		this.playerId = player;
+		this.calculatedPositions = new BitSet(map.getWidth() * map.getHeight());
 	}
 
+	/**
+	 * Calculates the marks of all positions of the given area.
+	 */
 	public void calculateConstructMarks(final MapRectangle mapArea, BuildingVariant buildingVariant) {
-		if (lastArea != null) {
+		invalidateAll();
+		updateConstructMarks(mapArea, buildingVariant);
+	}
+
+	/**
+	 * Updates the marks of the given area. Only the positions that haven't been calculated for the given building yet or that have been invalidated
+	 * since their last calculation are calculated.
+	 */
+	public void updateConstructMarks(final MapRectangle mapArea, BuildingVariant buildingVariant) {
+		if (buildingVariant != lastBuildingVariant) {
+			invalidateAll();
+			lastBuildingVariant = buildingVariant;
+		}
+		if (lastArea != null && lastArea != mapArea) {
 			removeConstructionMarks(lastArea, mapArea);
 		}
 
@@ -46,21 +77,27 @@ public final class NewConstructionMarksAlgorithm {
 
 		final short height = mapArea.getHeight();
 		final short width = mapArea.getWidth();
+		final short mapWidth = map.getWidth();
 
 		for(short line = 0; line < height; line++) {
 			short y = (short) mapArea.getLineY(line);
+			if (y < 0 || y >= map.getHeight()) {
+				continue;
+			}
 
-			short minX = (short) mapArea.getLineStartX(line);
-
-			for(short tile = 0; tile < width; tile++) {
-				short x = (short) (minX + tile);
+			int minX = Math.max(0, mapArea.getLineStartX(line));
+			int maxX = Math.min(mapWidth, mapArea.getLineStartX(line) + width);
+			int lineStart = y * mapWidth;
 
+			for (int x = calculatedPositions.nextClearBit(lineStart + minX) - lineStart; x < maxX; x = calculatedPositions.nextClearBit(lineStart + x
+					+ 1) - lineStart) {
 				if(map.canConstructAt(x, y, buildingVariant.getType(), playerId)) {
 					map.setConstructMarking(x, y, true, binaryConstructionMarkValues, buildingArea);
 				} else {
 					map.setConstructMarking(x, y, false, false, null);
 				}
-
+				calculatedPositions.set(lineStart + x);
+				calculatedMarks++;
 			}
 		}
 
@@ -68,6 +105,42 @@ public final class NewConstructionMarksAlgorithm {
 		lastArea = mapArea;
 	}
 
+	/**
+	 * Invalidates the marks of all positions whose building area or border contains the given position.
+	 */
+	public void invalidate(int x, int y) {
+		if (lastBuildingVariant == null) {
+			return;
+		}
+
+		BuildingAreaBitSet area = lastBuildingVariant.getBuildingAreaBitSet();
+		int mapWidth = map.getWidth();
+		int fromX = Math.max(0, x - area.maxX - AREA_MARGIN);
+		int toX = Math.min(mapWidth, x - area.minX + AREA_MARGIN + 1);
+		int fromY = Math.max(0, y - area.maxY - AREA_MARGIN);
+		int toY = Math.min(map.getHeight(), y - area.minY + AREA_MARGIN + 1);
+
+		if (fromX < toX) {
+			for (int currY = fromY; currY < toY; currY++) {
+				calculatedPositions.clear(currY * mapWidth + fromX, currY * mapWidth + toX);
+			}
+		}
+	}
+
+	/**
+	 * Invalidates the marks of all positions.
+	 */
+	public void invalidateAll() {
+		calculatedPositions.clear();
+	}
+
+	/**
+	 * @return The number of marks calculated since the creation of this algorithm.
+	 */
+	public int getCalculatedMarks() {
+		return calculatedMarks;
+	}
+
 	/**
 	 * Removes all construction marks on the screen.
 	 */
@@ -78,6 +151,8 @@ public final class NewConstructionMarksAlgorithm {
 					.forEach((x, y) -> map.setConstructMarking(x, y, false, false, null));
 			lastArea = null;
 		}
+		invalidateAll();
+		lastBuildingVariant = null;
 	}
 
 	/**
@@ -89,9 +164,13 @@ public final class NewConstructionMarksAlgorithm {
 	 *            The area of marks that should be skipped.
 	 */
 	private void removeConstructionMarks(IMapArea area, IMapArea notIn) {
+		final short mapWidth = map.getWidth();
 		area.stream()
 				.filterBounds(map.getWidth(), map.getHeight())
 				.filter((x, y) -> !notIn.contains(x, y))
-				.forEach((x, y) -> map.setConstructMarking(x, y, false, false, null));
+				.forEach((x, y) -> {
+					map.setConstructMarking(x, y, false, false, null);
+					calculatedPositions.clear(x + y * mapWidth);
+				});
 	}
 }
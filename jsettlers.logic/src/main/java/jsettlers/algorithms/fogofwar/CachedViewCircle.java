@@ -29,6 +29,10 @@ public final class CachedViewCircle {
 	final short[] y;
 	final byte[] refIndex;
 	final int size;
+	/**
+	 * The bounding box of the circle relative to its center.
+	 */
+	final int minX, maxX, minY, maxY;
 
 	public CachedViewCircle(int radius) {
 		radius += FogOfWar.PADDING / 2; // radius+0.5p
@@ -43,12 +47,17 @@ public final class CachedViewCircle {
 		MapCircleIterator iter = circle.iterator();
 		final float squaredViewDistance = radius * radius;
 		int i = 0;
+		int minX = 0, maxX = 0, minY = 0, maxY = 0;
 
 		while (iter.hasNext()) {
 			int y = iter.nextY();
 			int x = iter.nextX();
 			this.x[i] = (short) x;
 			this.y[i] = (short) y;
+			minX = Math.min(minX, x);
+			maxX = Math.max(maxX, x);
+			minY = Math.min(minY, y);
+			maxY = Math.max(maxY, y);
 
 			double squaredDistance = MapCircle.getSquaredDistance(x, y);
 			if (squaredDistance >= squaredViewDistance) {
@@ -57,6 +66,11 @@ public final class CachedViewCircle {
 
 			i++;
 		}
+
+		this.minX = minX;
+		this.maxX = maxX;
+		this.minY = minY;
+		this.maxY = maxY;
 	}
 
 	private int countElements(MapCircle circle) {
@@ -69,40 +83,4 @@ public final class CachedViewCircle {
 
 		return counter;
 	}
-
-	public CachedViewCircleIterator iterator(int xOffset, int yOffset) {
-		return new CachedViewCircleIterator(xOffset, yOffset);
-	}
-
-	public final class CachedViewCircleIterator implements FogOfWar.ViewAreaIterator {
-		private final int xOffset;
-		private final int yOffset;
-
-		private int idx;
-
-		public CachedViewCircleIterator(int xOffset, int yOffset) {
-			this.xOffset = xOffset;
-			this.yOffset = yOffset;
-		}
-
-		@Override
-		public boolean hasNext() {
-			return ++idx < size;
-		}
-
-		@Override
-		public int getCurrX() {
-			return x[idx] + xOffset;
-		}
-
-		@Override
-		public int getCurrY() {
-			return y[idx] + yOffset;
-		}
-
-		@Override
-		public byte getRefIndex() {
-			return refIndex[idx];
-		}
-	}
 }
@@ -0,0 +1,100 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.algorithms.fogofwar;
+
+import java.util.Locale;
+
+/**
+ * Statistics about the cycles of the {@link FogOfWar.FoWRefThread}. They show how far the visible area lags behind the units.
+ */
+public class FoWRefMetrics {
+	private long cycles;
+	private long tasks;
+	private long coalescedTasks;
+	private long processingNanos;
+
+	private int lastQueueDepth;
+	private int maxQueueDepth;
+	private long lastLagNanos;
+	private long maxLagNanos;
+
+	/**
+	 * Records a cycle of the reference thread.
+	 *
+	 * @param queueDepth
+	 *            The number of tasks taken from the queue.
+	 * @param coalesced
+	 *            The number of tasks that have been dropped because they were superseded by another task of the same movable.
+	 * @param lagNanos
+	 *            The age of the oldest task of the cycle when the cycle was finished.
+	 * @param nanos
+	 *            The time it took to draw the circles of the cycle.
+	 */
+	public synchronized void cycleProcessed(int queueDepth, int coalesced, long lagNanos, long nanos) {
+		cycles++;
+		tasks += queueDepth;
+		coalescedTasks += coalesced;
+		processingNanos += nanos;
+
+		lastQueueDepth = queueDepth;
+		maxQueueDepth = Math.max(maxQueueDepth, queueDepth);
+		lastLagNanos = lagNanos;
+		maxLagNanos = Math.max(maxLagNanos, lagNanos);
+	}
+
+	public synchronized long getCycles() {
+		return cycles;
+	}
+
+	public synchronized long getTasks() {
+		return tasks;
+	}
+
+	public synchronized long getCoalescedTasks() {
+		return coalescedTasks;
+	}
+
+	/**
+	 * @return The number of tasks taken from the queue in the last cycle.
+	 */
+	public synchronized int getLastQueueDepth() {
+		return lastQueueDepth;
+	}
+
+	public synchronized int getMaxQueueDepth() {
+		return maxQueueDepth;
+	}
+
+	/**
+	 * @return The age of the oldest task of the last cycle when its circles had been drawn.
+	 */
+	public synchronized float getLastLagMillis() {
+		return lastLagNanos / 1e6f;
+	}
+
+	public synchronized float getMaxLagMillis() {
+		return maxLagNanos / 1e6f;
+	}
+
+	public synchronized float getAverageProcessingMillis() {
+		return cycles == 0 ? 0 : processingNanos / 1e6f / cycles;
+	}
+
+	@Override
+	public synchronized String toString() {
+		return String.format(Locale.ENGLISH, "cycles: %d   queue depth: %d (max %d)   coalesced: %d   lag: %.1fms (max %.1fms)   processing: %.2fms",
+				cycles, lastQueueDepth, maxQueueDepth, coalescedTasks, getLastLagMillis(), getMaxLagMillis(), getAverageProcessingMillis());
+	}
+}
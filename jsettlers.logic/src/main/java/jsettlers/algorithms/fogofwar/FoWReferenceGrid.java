@@ -0,0 +1,103 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.algorithms.fogofwar;
+
+import java.io.Serializable;
+
+import jsettlers.common.CommonConstants;
+
+/**
+ * Counts the view circles referencing the tiles of a map.
+ * <p />
+ * The tiles at the border of a view circle are referenced with a band index from 0 (inside of the view distance) to {@link FogOfWar#PADDING}
+ * (outermost tile). For every tile and band there is one counter. The counters of all tiles are stored in one flat row-major array, so there is
+ * no object per tile and adding or removing a reference doesn't allocate anything. An additional bit mask per tile marks the bands with a
+ * positive counter, so the sight defined by the references can be computed without looking at the counters.
+ */
+final class FoWReferenceGrid implements Serializable {
+	private static final long serialVersionUID = -3406318014376462046L;
+
+	static final int BANDS = FogOfWar.PADDING + 1;
+	private static final int SIGHT_PER_BAND = 10;
+
+	private final short[] counters;
+	private final short[] bandMasks;
+
+	/**
+	 * @param size
+	 *            The number of tiles of the map.
+	 */
+	FoWReferenceGrid(int size) {
+		counters = new short[size * BANDS];
+		bandMasks = new short[size];
+	}
+
+	/**
+	 * @param index
+	 *            The index of the tile (x + y * width).
+	 * @param band
+	 *            The band of the view circle the tile is in.
+	 */
+	void addReference(int index, int band) {
+		int counterIndex = index * BANDS + band;
+		int counter = ++counters[counterIndex];
+		updateMask(index, band, counter);
+	}
+
+	/**
+	 * @param index
+	 *            The index of the tile (x + y * width).
+	 * @param band
+	 *            The band of the view circle the tile was in.
+	 */
+	void removeReference(int index, int band) {
+		int counterIndex = index * BANDS + band;
+		int counter = --counters[counterIndex];
+		updateMask(index, band, counter);
+	}
+
+	private void updateMask(int index, int band, int counter) {
+		int bit = 1 << band;
+		if (counter > 0) {
+			bandMasks[index] |= bit;
+		} else {
+			bandMasks[index] &= ~bit;
+		}
+	}
+
+	/**
+	 * @param index
+	 *            The index of the tile (x + y * width).
+	 * @return The sight defined by the innermost band referencing the tile or 0 if the tile isn't referenced.
+	 */
+	byte getReferencedSight(int index) {
+		int mask = bandMasks[index];
+		if (mask == 0) {
+			return 0;
+		}
+		return (byte) (CommonConstants.FOG_OF_WAR_VISIBLE - SIGHT_PER_BAND * Integer.numberOfTrailingZeros(mask));
+	}
+
+	/**
+	 * @param index
+	 *            The index of the tile (x + y * width).
+	 * @param band
+	 *            The band to be read.
+	 * @return The number of references of the given band.
+	 */
+	int getReferences(int index, int band) {
+		return counters[index * BANDS + band];
+	}
+}
@@ -0,0 +1,103 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.algorithms.fogofwar;
+
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Splits the map into square regions of {@link #REGION_SIZE} tiles with one lock per region.
+ * <p />
+ * A view circle locks all regions its bounding box touches, so circles in different regions can be drawn at the same time and only circles at
+ * the edges of a region have to wait for each other. As the region width is a multiple of 64, the words of the {@link FoWUpdateMask} are never
+ * shared between regions. Operations on the whole map, like moving the update mask to the dim thread, lock the map exclusively.
+ */
+final class FoWRegionLocks {
+	static final int REGION_BITS = 6;
+	static final int REGION_SIZE = 1 << REGION_BITS;
+
+	private final int width;
+	private final int height;
+	private final int regionsX;
+	private final int regionsY;
+	private final ReentrantLock[] regionLocks;
+	private final ReentrantReadWriteLock mapLock = new ReentrantReadWriteLock();
+
+	FoWRegionLocks(int width, int height) {
+		this.width = width;
+		this.height = height;
+		this.regionsX = (width + REGION_SIZE - 1) >>> REGION_BITS;
+		this.regionsY = (height + REGION_SIZE - 1) >>> REGION_BITS;
+		this.regionLocks = new ReentrantLock[regionsX * regionsY];
+		for (int i = 0; i < regionLocks.length; i++) {
+			regionLocks[i] = new ReentrantLock();
+		}
+	}
+
+	int getNumberOfRegions() {
+		return regionLocks.length;
+	}
+
+	/**
+	 * @return The index of the region containing the given tile. Positions outside of the map are clamped to the map.
+	 */
+	int getRegion(int x, int y) {
+		int regionX = clamp(x, width) >>> REGION_BITS;
+		int regionY = clamp(y, height) >>> REGION_BITS;
+		return regionX + regionY * regionsX;
+	}
+
+	/**
+	 * Locks all regions touched by the given area. The regions are always locked in the order of their index, so two areas can't deadlock.
+	 */
+	void lockArea(int minX, int minY, int maxX, int maxY) {
+		mapLock.readLock().lock();
+
+		int toRegionX = clamp(maxX, width) >>> REGION_BITS;
+		int toRegionY = clamp(maxY, height) >>> REGION_BITS;
+		for (int regionY = clamp(minY, height) >>> REGION_BITS; regionY <= toRegionY; regionY++) {
+			for (int regionX = clamp(minX, width) >>> REGION_BITS; regionX <= toRegionX; regionX++) {
+				regionLocks[regionX + regionY * regionsX].lock();
+			}
+		}
+	}
+
+	void unlockArea(int minX, int minY, int maxX, int maxY) {
+		int toRegionX = clamp(maxX, width) >>> REGION_BITS;
+		int toRegionY = clamp(maxY, height) >>> REGION_BITS;
+		for (int regionY = clamp(minY, height) >>> REGION_BITS; regionY <= toRegionY; regionY++) {
+			for (int regionX = clamp(minX, width) >>> REGION_BITS; regionX <= toRegionX; regionX++) {
+				regionLocks[regionX + regionY * regionsX].unlock();
+			}
+		}
+
+		mapLock.readLock().unlock();
+	}
+
+	/**
+	 * Waits until no area is locked and keeps other threads from locking areas until {@link #unlockMap()} is called.
+	 */
+	void lockMap() {
+		mapLock.writeLock().lock();
+	}
+
+	void unlockMap() {
+		mapLock.writeLock().unlock();
+	}
+
+	private static int clamp(int value, int size) {
+		return Math.max(0, Math.min(size - 1, value));
+	}
+}
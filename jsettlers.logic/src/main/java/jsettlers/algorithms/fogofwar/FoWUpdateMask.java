@@ -0,0 +1,99 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.algorithms.fogofwar;
+
+import java.util.Arrays;
+
+/**
+ * Marks the tiles whose sight has to be updated by the {@link FogOfWar.FowDimThread}.
+ * <p />
+ * Every row of the map starts with a new word of the bit mask and has an additional dirty flag. So the dim pass only looks at rows containing
+ * marked tiles and different rows can be processed by different threads without sharing a word.
+ */
+final class FoWUpdateMask {
+	private final int height;
+	private final int wordsPerRow;
+	private final long[] words;
+	private final boolean[] dirtyRows;
+
+	FoWUpdateMask(int width, int height) {
+		this.height = height;
+		this.wordsPerRow = (width + 63) >>> 6;
+		this.words = new long[wordsPerRow * height];
+		this.dirtyRows = new boolean[height];
+	}
+
+	void set(int x, int y) {
+		words[y * wordsPerRow + (x >>> 6)] |= 1L << x;
+		dirtyRows[y] = true;
+	}
+
+	boolean get(int x, int y) {
+		return (words[y * wordsPerRow + (x >>> 6)] & 1L << x) != 0;
+	}
+
+	boolean isRowDirty(int y) {
+		return dirtyRows[y];
+	}
+
+	int getWordsPerRow() {
+		return wordsPerRow;
+	}
+
+	/**
+	 * @return The bits of the tiles x = 64 * word to 64 * word + 63 of row y.
+	 */
+	long getWord(int y, int word) {
+		return words[y * wordsPerRow + word];
+	}
+
+	/**
+	 * Replaces the bits of a word. The dirty flag of the row has to be updated with {@link #setRowDirty(int, boolean)} afterwards.
+	 */
+	void setWord(int y, int word, long bits) {
+		words[y * wordsPerRow + word] = bits;
+	}
+
+	void setRowDirty(int y, boolean dirty) {
+		dirtyRows[y] = dirty;
+	}
+
+	int countDirtyRows() {
+		int count = 0;
+		for (int y = 0; y < height; y++) {
+			if (dirtyRows[y]) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Adds all marked tiles to the given mask and clears this mask. Only the dirty rows are touched.
+	 */
+	void moveTo(FoWUpdateMask target) {
+		for (int y = 0; y < height; y++) {
+			if (dirtyRows[y]) {
+				int rowStart = y * wordsPerRow;
+				for (int i = rowStart; i < rowStart + wordsPerRow; i++) {
+					target.words[i] |= words[i];
+				}
+				Arrays.fill(words, rowStart, rowStart + wordsPerRow, 0);
+				dirtyRows[y] = false;
+				target.dirtyRows[y] = true;
+			}
+		}
+	}
+}
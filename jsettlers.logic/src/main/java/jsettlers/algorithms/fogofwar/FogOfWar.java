@@ -16,11 +16,18 @@ package jsettlers.algorithms.fogofwar;
 
 import java.io.ObjectInputStream;
 import java.io.Serializable;
-import java.util.BitSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 import jsettlers.common.CommonConstants;
 import jsettlers.common.landscape.ELandscapeType;
@@ -39,6 +46,8 @@ import jsettlers.logic.movable.MovableManager;
 
 /**
  * This class holds the fog of war for a given map and team.
+ * <p />
+ * All per tile data is stored in flat row-major arrays indexed with x + y * width.
  * 
  * @author Andreas Eberle
  */
@@ -50,18 +59,21 @@ public final class FogOfWar implements Serializable {
 	public static final byte MAX_VIEW_DISTANCE = 65;
 	public static final int PADDING = 10;
 
+	private static final byte NOT_HIDDEN = -1;
+
 	public final byte team;
 
 	public final short width;
 	public final short height;
-	public final byte[][] sight;
-	public final ELandscapeType[][] hiddenLandscape;
-	public final byte[][] hiddenHeight;
-	public final IMapObject[][] hiddenMapObjects;
-	public final short[][][] visibleRefs;
-	public final HashMap<Byte, LinkedList<Object>>[][] namedRefs;
+	private final byte[] sight;
+	private final byte[] hiddenLandscape;
+	private final byte[] hiddenHeight;
+	private final IMapObject[] hiddenMapObjects;
+	private final FoWReferenceGrid visibleRefs;
+	private final HashMap<Byte, LinkedList<Object>>[] namedRefs;
 	public transient FowDimThread dimThread;
 	public transient FoWRefThread refThread;
+	private transient FoWRegionLocks regionLocks;
 	private final LandscapeGrid landscapeGrid;
 	private final ObjectsGrid objectsGrid;
 
@@ -74,20 +86,21 @@ public final class FogOfWar implements Serializable {
 		this.width = root.getWidth();
 		this.height = root.getHeight();
 		this.team = teamId;
-		this.sight = new byte[width][height];
-		this.hiddenLandscape = new ELandscapeType[width][height];
-		this.hiddenHeight = new byte[width][height];
-		this.hiddenMapObjects = new IMapObject[width][height];
-		this.visibleRefs = new short[width][height][0];
+		int size = width * height;
+		this.sight = new byte[size];
+		this.hiddenLandscape = new byte[size];
+		this.hiddenHeight = new byte[size];
+		this.hiddenMapObjects = new IMapObject[size];
+		this.visibleRefs = new FoWReferenceGrid(size);
 		this.landscapeGrid = root.getLandscapeGrid();
 		this.objectsGrid = root.getObjectsGrid();
 
+		Arrays.fill(hiddenLandscape, NOT_HIDDEN);
+
 		if(CommonConstants.FOG_OF_WAR_DEBUG_REFERENCES) {
-			this.namedRefs = new HashMap[width][height];
-			for (HashMap<Byte, LinkedList<Object>>[] a : namedRefs) {
-				for (int i = 0; i < a.length; i++) {
-					a[i] = new HashMap<>();
-				}
+			this.namedRefs = new HashMap[size];
+			for (int i = 0; i < size; i++) {
+				namedRefs[i] = new HashMap<>();
 			}
 		} else {
 			namedRefs = null;
@@ -128,6 +141,7 @@ public final class FogOfWar implements Serializable {
 				e.printStackTrace();
 			}
 		}
+		regionLocks = new FoWRegionLocks(width, height);
 		refThread = new FoWRefThread();
 		dimThread = new FowDimThread();
 		circleDrawer = new CircleDrawer();
@@ -137,21 +151,32 @@ public final class FogOfWar implements Serializable {
 	}
 
 	public boolean isHidden(int x, int y) {
-		return enabled && hiddenLandscape[x][y] != null;
+		return enabled && hiddenLandscape[x + y * width] != NOT_HIDDEN;
 	}
 
 	public ELandscapeType getLandscapeTypeAt(int x, int y) {
-		return hiddenLandscape[x][y];
+		byte landscape = hiddenLandscape[x + y * width];
+		return landscape == NOT_HIDDEN ? null : ELandscapeType.VALUES[landscape];
+	}
+
+	public byte getHiddenHeightAt(int x, int y) {
+		return hiddenHeight[x + y * width];
+	}
+
+	public IMapObject getHiddenMapObjectsAt(int x, int y) {
+		return hiddenMapObjects[x + y * width];
 	}
 
 	public static class BuildingFoWTask implements FoWTask {
 		ShortPoint2D at;
 		short from;
 		short to;
+		final long queuedAt = System.nanoTime();
 	}
 
 	public static class ShowHideFoWTask implements FoWTask {
 		boolean addRef;
+		final long queuedAt = System.nanoTime();
 	}
 
 	public static class WaitFoWTask implements FoWTask {
@@ -168,13 +193,30 @@ public final class FogOfWar implements Serializable {
 	 * @return The status from 0 to visible.
 	 */
 	public final byte getVisibleStatus(int x, int y) {
-		return enabled ? sight[x][y] : CommonConstants.FOG_OF_WAR_VISIBLE;
+		return enabled ? sight[x + y * width] : CommonConstants.FOG_OF_WAR_VISIBLE;
+	}
+
+	/**
+	 * @return The sight defined by the view circles currently referencing the given tile.
+	 */
+	byte getReferencedSight(int x, int y) {
+		return visibleRefs.getReferencedSight(x + y * width);
 	}
 
-	public byte[][] getVisibleStatusArray() {
+	/**
+	 * @return The visible status of all tiles, indexed with x + y * width.
+	 */
+	public byte[] getVisibleStatusArray() {
 		return sight;
 	}
 
+	/**
+	 * @return The statistics of the reference updates, showing how far the visible area lags behind the units.
+	 */
+	public FoWRefMetrics getReferenceUpdateMetrics() {
+		return refThread.getMetrics();
+	}
+
 	public final void toggleEnabled() {
 		setEnabled(!enabled);
 	}
@@ -205,12 +247,28 @@ public final class FogOfWar implements Serializable {
 	public static final int CIRCLE_DIM = 8;
 
 	public class FoWRefThread extends FoWThread {
+		private static final int MIN_PARALLEL_TASKS = 64;
+
 		public final ConcurrentLinkedQueue<FoWTask> nextTasks = new ConcurrentLinkedQueue<>();
+		private final FoWRefMetrics metrics = new FoWRefMetrics();
+
+		private final List<List<FoWTask>> regionTasks;
+		private final int[] activeRegions;
+		private int activeRegionCount;
+		private int pendingTasks;
+		private final Set<FoWTask> cycleTasks = Collections.newSetFromMap(new IdentityHashMap<>());
+		private long lastCycleEnd = System.nanoTime();
 
 		FoWRefThread() {
-			super("FOW-reference-updater");
+			super("FOW-reference-updater", CommonConstants.FOG_OF_WAR_REF_UPDATE_WORKERS);
 			framerate = CommonConstants.FOG_OF_WAR_REF_UPDATE_FRAMERATE;
 			nextTasks.add(new WaitFoWTask());
+
+			regionTasks = new ArrayList<>(regionLocks.getNumberOfRegions());
+			for (int i = 0; i < regionLocks.getNumberOfRegions(); i++) {
+				regionTasks.add(new ArrayList<>());
+			}
+			activeRegions = new int[regionTasks.size()];
 		}
 
 		@Override
@@ -219,20 +277,124 @@ public final class FogOfWar implements Serializable {
 			Building.initFow(team);
 		}
 
+		/**
+		 * Takes all tasks queued before the {@link WaitFoWTask} and sorts them into the queues of the regions they are in. The regions are then
+		 * drawn in parallel. A movable queued more than once is only drawn once, as its latest position supersedes all older ones.
+		 */
 		@Override
 		public void taskProcessor() {
-			if (enabled) {
-				while(true) {
-					FoWTask task = nextTasks.poll();
-					if(task == null) return;
+			if (!enabled) {
+				return;
+			}
+
+			long start = System.nanoTime();
+			long oldestQueuedAt = lastCycleEnd;
+			int queueDepth = 0;
+			int coalesced = 0;
+			FoWTask waitTask = null;
+
+			FoWTask task;
+			while ((task = nextTasks.poll()) != null) {
+				if (task instanceof WaitFoWTask) {
+					waitTask = task;
+					break;
+				}
 
-					if(!runTask(task)) {
-						nextTasks.add(task);
+				queueDepth++;
+				if (task instanceof ShowHideFoWTask) {
+					drawRegions();
+					oldestQueuedAt = Math.min(oldestQueuedAt, ((ShowHideFoWTask) task).queuedAt);
+					runTask(task);
+				} else if (!cycleTasks.add(task)) {
+					coalesced++;
+				} else {
+					if (task instanceof BuildingFoWTask) {
+						oldestQueuedAt = Math.min(oldestQueuedAt, ((BuildingFoWTask) task).queuedAt);
 					}
+					addToRegion(task);
+				}
+			}
+
+			drawRegions();
+			cycleTasks.clear();
+			if (waitTask != null) {
+				nextTasks.add(waitTask);
+			}
+
+			long end = System.nanoTime();
+			metrics.cycleProcessed(queueDepth, coalesced, end - oldestQueuedAt, end - start);
+			lastCycleEnd = end;
+		}
 
-					if(task instanceof WaitFoWTask) return;
+		/**
+		 * @return The statistics about the queue depth and the lag of the reference updates.
+		 */
+		public FoWRefMetrics getMetrics() {
+			return metrics;
+		}
+
+		private void addToRegion(FoWTask task) {
+			ShortPoint2D position = null;
+			if (task instanceof BuildingFoWTask) {
+				position = ((BuildingFoWTask) task).at;
+			} else if (task instanceof MovableFoWTask) {
+				MovableFoWTask movable = (MovableFoWTask) task;
+				position = movable.getFoWPosition();
+				if (position == null) {
+					position = movable.getOldFoWPosition();
 				}
 			}
+
+			int region = position == null ? 0 : regionLocks.getRegion(position.x, position.y);
+			if (regionTasks.get(region).isEmpty()) {
+				activeRegions[activeRegionCount++] = region;
+			}
+			regionTasks.get(region).add(task);
+			pendingTasks++;
+		}
+
+		/**
+		 * Draws the tasks of all regions and queues the tasks that have to be drawn again in the next cycle.
+		 */
+		private void drawRegions() {
+			if (activeRegionCount == 0) {
+				return;
+			}
+
+			if (workers > 1 && activeRegionCount > 1 && pendingTasks >= MIN_PARALLEL_TASKS) {
+				getPool().invoke(new DrawRegionsTask(0, activeRegionCount));
+			} else {
+				for (int i = 0; i < activeRegionCount; i++) {
+					drawRegion(activeRegions[i]);
+				}
+			}
+
+			for (int i = 0; i < activeRegionCount; i++) {
+				List<FoWTask> tasks = regionTasks.get(activeRegions[i]);
+				nextTasks.addAll(tasks);
+				tasks.clear();
+			}
+			activeRegionCount = 0;
+			pendingTasks = 0;
+		}
+
+		/**
+		 * Draws the tasks of a region one after the other. Only the tasks to be drawn again stay in the queue of the region.
+		 */
+		private void drawRegion(int region) {
+			List<FoWTask> tasks = regionTasks.get(region);
+			int remaining = 0;
+			for (int i = 0; i < tasks.size(); i++) {
+				FoWTask task = tasks.get(i);
+				try {
+					if (!runTask(task)) {
+						tasks.set(remaining++, task);
+					}
+				} catch (Throwable t) {
+					t.printStackTrace();
+				}
+			}
+			tasks.subList(remaining, tasks.size()).clear();
 		}
 
 		boolean runTask(FoWTask task) {
@@ -244,7 +406,7 @@ public final class FogOfWar implements Serializable {
 				return true;
 			} else if(task instanceof ShowHideFoWTask) {
 				ShowHideFoWTask shFOW = (ShowHideFoWTask) task;
-				circleDrawer.draw(new ShowHideMapIterator(), shFOW.addRef?CIRCLE_ADD|CIRCLE_DIM : CIRCLE_REMOVE|CIRCLE_DIM, this);
+				circleDrawer.drawMap(shFOW.addRef?CIRCLE_ADD|CIRCLE_DIM : CIRCLE_REMOVE|CIRCLE_DIM, this);
 				return true;
 			} else if(task instanceof MovableFoWTask) {
 				MovableFoWTask mFOW = (MovableFoWTask) task;
@@ -270,6 +432,28 @@ public final class FogOfWar implements Serializable {
 				return false;
 			}
 		}
+
+		private class DrawRegionsTask extends RecursiveAction {
+			private static final long serialVersionUID = 1L;
+
+			private final int from;
+			private final int to;
+
+			DrawRegionsTask(int from, int to) {
+				this.from = from;
+				this.to = to;
+			}
+
+			@Override
+			protected void compute() {
+				if (to - from == 1) {
+					drawRegion(activeRegions[from]);
+				} else {
+					int middle = (from + to) >>> 1;
+					invokeAll(new DrawRegionsTask(from, middle), new DrawRegionsTask(middle, to));
+				}
+			}
+		}
 	}
 
 	public boolean isEnabled() {
@@ -277,22 +461,30 @@ public final class FogOfWar implements Serializable {
 	}
 
 	public class FowDimThread extends FoWThread {
+		private static final int MIN_PARALLEL_ROWS = 64;
+		private static final int MIN_ROWS_PER_TASK = 16;
+
+		final FoWUpdateMask nextUpdate;
+		final FoWUpdateMask update;
+		private final int[] changedFrom;
+		private final int[] changedTo;
+
 		FowDimThread() {
-			super("FOW-dimmer");
-			size = width*height;
-			nextUpdate = new BitSet(size);
-			update = new BitSet(size);
+			super("FOW-dimmer", CommonConstants.FOG_OF_WAR_DIM_WORKERS);
+			nextUpdate = new FoWUpdateMask(width, height);
+			update = new FoWUpdateMask(width, height);
+			changedFrom = new int[height];
+			changedTo = new int[height];
+			Arrays.fill(changedFrom, width);
 		}
 
-		public final BitSet nextUpdate;
-		public final BitSet update;
-		private final int size;
-
 		@Override
 		public void taskProcessor() {
-			synchronized (nextUpdate) {
-				update.or(nextUpdate);
-				nextUpdate.clear();
+			regionLocks.lockMap();
+			try {
+				nextUpdate.moveTo(update);
+			} finally {
+				regionLocks.unlockMap();
 			}
 
 			double sync_factor = fc.getTime();
@@ -302,88 +494,141 @@ public final class FogOfWar implements Serializable {
 				dim = (byte) Math.round(sync_factor * CommonConstants.FOG_OF_WAR_DIM * MatchConstants.clock().getGameSpeed());
 			}
 
+			if (workers > 1 && update.countDirtyRows() >= MIN_PARALLEL_ROWS) {
+				int rowsPerTask = Math.max(MIN_ROWS_PER_TASK, height / (workers * 4));
+				getPool().invoke(new DimRowsTask(0, height, rowsPerTask, dim));
+			} else {
+				dimRows(0, height, dim);
+			}
+			notifyChangedRows();
 
-			int last = 0;
-			do {
-				int first = update.nextSetBit(last);
-				if (first == -1) break;
-
-				last = update.nextClearBit(first);
-				if (last == -1) last = size;
-
-				int beginX = first % width;
-				int beginY = (first - beginX) / width;
-
-				int endX = last % width;
-				int endY = (last - endX) / width;
-
-				for (int y = beginY; y <= endY; y++) {
-					int firstUpdate = -1;
-					int lastUpdate = -1;
+			if(MatchConstants.clock() != null) {
+				framerate = (int) (CommonConstants.FOG_OF_WAR_DIM_FRAMERATE * MatchConstants.clock().getGameSpeed());
 
-					int x = y == beginY ? beginX : 0;
-					int x2 = y == endY ? endX : width;
-					for(; x < x2; x++) {
-						final byte refSight = refSight(x, y);
-						final byte dimTo = targetSight(x, y, refSight);
-						final byte oldSight = sight[x][y];
+				if(framerate > CommonConstants.FOG_OF_WAR_DIM_MAX_FRAMERATE) {
+					framerate = CommonConstants.FOG_OF_WAR_DIM_MAX_FRAMERATE;
+				}
+			} else {
+				framerate = CommonConstants.FOG_OF_WAR_DIM_NO_CLOCK_FRAMERATE;
+			}
+		}
 
-						final byte newSight = dim(sight[x][y], dimTo, dim);
+		/**
+		 * Dims the marked tiles of the rows fromY (inclusive) to toY (exclusive). Different row ranges may be dimmed concurrently.
+		 */
+		private void dimRows(int fromY, int toY, byte dim) {
+			for (int y = fromY; y < toY; y++) {
+				if (update.isRowDirty(y)) {
+					dimRow(y, dim);
+				}
+			}
+		}
 
-						if(oldSight <= CommonConstants.FOG_OF_WAR_EXPLORED && newSight > CommonConstants.FOG_OF_WAR_EXPLORED) {
-							clearHidden(x, y);
-						} else if((oldSight > CommonConstants.FOG_OF_WAR_EXPLORED && newSight <= CommonConstants.FOG_OF_WAR_EXPLORED) ||
-								(oldSight <= CommonConstants.FOG_OF_WAR_EXPLORED && refSight < oldSight)) {
-							recordHidden(x, y);
+		private void dimRow(int y, byte dim) {
+			final int rowStart = y * width;
+			final int wordsPerRow = update.getWordsPerRow();
+			int from = changedFrom[y];
+			int to = changedTo[y];
+			boolean dirty = false;
+
+			for (int word = 0; word < wordsPerRow; word++) {
+				final long marked = update.getWord(y, word);
+				long bits = marked;
+				long settled = 0;
+
+				while (bits != 0) {
+					final int bit = Long.numberOfTrailingZeros(bits);
+					bits &= bits - 1;
+
+					final int x = (word << 6) + bit;
+					final int index = rowStart + x;
+					final byte refSight = visibleRefs.getReferencedSight(index);
+					final byte oldSight = sight[index];
+					final byte dimTo = targetSight(oldSight, refSight);
+					final byte newSight = dim(oldSight, dimTo, dim);
+
+					if (oldSight <= CommonConstants.FOG_OF_WAR_EXPLORED) {
+						if (newSight > CommonConstants.FOG_OF_WAR_EXPLORED) {
+							clearHidden(index);
+						} else if (refSight < oldSight) {
+							recordHidden(index, x, y);
 						}
+					} else if (newSight <= CommonConstants.FOG_OF_WAR_EXPLORED) {
+						recordHidden(index, x, y);
+					}
 
-						sight[x][y] = newSight;
-
-						if(dimTo != oldSight) {
-							if(lastUpdate + 1 != x) {
-								if(firstUpdate != -1) update(y, firstUpdate, lastUpdate);
-								firstUpdate = lastUpdate = x;
-							} else {
-								if(firstUpdate == -1) firstUpdate = x;
-								lastUpdate = x;
-							}
+					sight[index] = newSight;
 
-							if(sight[x][y] == dimTo) update.clear(y * width + x);
-						} else {
-							update.set(y * width + x, false);
-						}
+					if (dimTo != oldSight) {
+						from = Math.min(from, x);
+						to = Math.max(to, x + 1);
 					}
-					if (firstUpdate != -1) {
-						update(y, firstUpdate, lastUpdate);
+					if (newSight == dimTo) {
+						settled |= 1L << bit;
 					}
 				}
-			} while (last < size);
-			if(MatchConstants.clock() != null) {
-				framerate = (int) (CommonConstants.FOG_OF_WAR_DIM_FRAMERATE * MatchConstants.clock().getGameSpeed());
 
-				if(framerate > CommonConstants.FOG_OF_WAR_DIM_MAX_FRAMERATE) {
-					framerate = CommonConstants.FOG_OF_WAR_DIM_MAX_FRAMERATE;
+				final long remaining = marked & ~settled;
+				update.setWord(y, word, remaining);
+				dirty |= remaining != 0;
+			}
+
+			update.setRowDirty(y, dirty);
+			changedFrom[y] = from;
+			changedTo[y] = to;
+		}
+
+		/**
+		 * Sends one notification for the changed part of every row. This is done by this thread after all workers are done, so the background
+		 * listener is never called concurrently.
+		 */
+		private void notifyChangedRows() {
+			for (int y = 0; y < height; y++) {
+				if (changedFrom[y] < changedTo[y]) {
+					backgroundListener.backgroundLineChangedAt(changedFrom[y], y, changedTo[y] - changedFrom[y]);
+					changedFrom[y] = width;
+					changedTo[y] = 0;
 				}
-			} else {
-				framerate = CommonConstants.FOG_OF_WAR_DIM_NO_CLOCK_FRAMERATE;
 			}
 		}
 
-		private void update(int y, int from, int to) {
-			backgroundListener.backgroundLineChangedAt(from, y, to-from);
+		private class DimRowsTask extends RecursiveAction {
+			private static final long serialVersionUID = 1L;
+
+			private final int fromY;
+			private final int toY;
+			private final int rowsPerTask;
+			private final byte dim;
+
+			DimRowsTask(int fromY, int toY, int rowsPerTask, byte dim) {
+				this.fromY = fromY;
+				this.toY = toY;
+				this.rowsPerTask = rowsPerTask;
+				this.dim = dim;
+			}
+
+			@Override
+			protected void compute() {
+				if (toY - fromY <= rowsPerTask) {
+					dimRows(fromY, toY, dim);
+				} else {
+					int middle = (fromY + toY) >>> 1;
+					invokeAll(new DimRowsTask(fromY, middle, rowsPerTask, dim), new DimRowsTask(middle, toY, rowsPerTask, dim));
+				}
+			}
 		}
 	}
 
-	private void clearHidden(int x, int y) {
-		hiddenLandscape[x][y] = null;
-		hiddenHeight[x][y] = -1;
-		hiddenMapObjects[x][y] = null;
+	void clearHidden(int index) {
+		hiddenLandscape[index] = NOT_HIDDEN;
+		hiddenHeight[index] = -1;
+		hiddenMapObjects[index] = null;
 	}
 
-	private void recordHidden(int x, int y) {
-		hiddenLandscape[x][y] = landscapeGrid.getLandscapeTypeAt(x, y);
-		hiddenHeight[x][y] = landscapeGrid.getHeightAt(x, y);
-		hiddenMapObjects[x][y] = recordMapObjects(objectsGrid.getObjectsAt(x, y));
+	void recordHidden(int index, int x, int y) {
+		hiddenLandscape[index] = (byte) landscapeGrid.getLandscapeTypeAt(x, y).ordinal();
+		hiddenHeight[index] = landscapeGrid.getHeightAt(x, y);
+		hiddenMapObjects[index] = recordMapObjects(objectsGrid.getObjectsAt(x, y));
 	}
 
 	private IMapObject recordMapObjects(AbstractHexMapObject objects) {
@@ -410,19 +655,11 @@ public final class FogOfWar implements Serializable {
 	}
 
 
-	private static byte dim(byte value, byte dimTo, byte dim) {
-		byte dV = (byte) (value-dimTo);
-		if(dV < 0) dV = (byte) -dV;
-
-		if(dV < dim) return dimTo;
-		if(value < dimTo) return (byte) (value+dim);
-		else return (byte) (value-dim);
+	static byte dim(byte value, byte dimTo, byte dim) {
+		return (byte) (value < dimTo ? Math.min(value + dim, dimTo) : Math.max(value - dim, dimTo));
 	}
 
-	final byte targetSight(int x, int y, byte refValue) {
-
-		byte currentValue = sight[x][y];
-
+	static byte targetSight(byte currentValue, byte refValue) {
 		if(currentValue >= CommonConstants.FOG_OF_WAR_EXPLORED && refValue < CommonConstants.FOG_OF_WAR_EXPLORED) {
 			return CommonConstants.FOG_OF_WAR_EXPLORED;
 		}
@@ -434,27 +671,16 @@ public final class FogOfWar implements Serializable {
 		return refValue;
 	}
 
-	final byte refSight(int x, int y) {
-		short[] refs = instance.visibleRefs[x][y];
-		if(refs.length == 0) return 0;
-
-		byte value = CommonConstants.FOG_OF_WAR_VISIBLE;
-
-		for(int i = 0;i != refs.length;i++) {
-			if(refs[i] > 0) break;
-			value -= 10;
-		}
-
-		return value;
-	}
-
 	public abstract class FoWThread extends Thread {
 		public int framerate;
 
 		final FramerateComputer fc = new FramerateComputer();
+		int workers;
+		private ForkJoinPool pool;
 
-		FoWThread(String name) {
+		FoWThread(String name, int workers) {
 			super(name);
+			this.workers = workers;
 		}
 
 		@Override
@@ -475,69 +701,38 @@ public final class FogOfWar implements Serializable {
 
 		public abstract void taskProcessor();
 
-		public long start;
-	}
-
-	public void cancel() {
-		canceled = true;
-	}
-
-	public int maxIndex(int x, int y) {
-		short[] array = instance.visibleRefs[x][y];
-		int lastEntry = array.length-1;
-
-		if(array.length == 0) return 0;
-
-		for(int i = lastEntry;i >= 0;i--) {
-			if(array[i] > 0) return i+1;
-		}
-		return 0;
-	}
-
-	public interface ViewAreaIterator {
-		boolean hasNext();
-		int getCurrX();
-		int getCurrY();
-
-		byte getRefIndex();
-	}
-
-	public final class ShowHideMapIterator implements ViewAreaIterator {
-		private int x = 0;
-		private int y = 0;
-
-		public ShowHideMapIterator() {
+		/**
+		 * Sets the number of threads the work of this thread is split across. With one worker, everything is done by this thread.
+		 */
+		void setWorkers(int workers) {
+			this.workers = Math.max(1, workers);
 		}
 
-		@Override
-		public boolean hasNext() {
-			x++;
-
-			if(x == width) {
-				x = 0;
-				y++;
+		synchronized ForkJoinPool getPool() {
+			if (pool == null) {
+				pool = new ForkJoinPool(workers);
 			}
-			return y != height;
+			return pool;
 		}
 
-		@Override
-		public int getCurrX() {
-			return x;
+		synchronized void shutdownWorkers() {
+			if (pool != null) {
+				pool.shutdown();
+				pool = null;
+			}
 		}
 
-		@Override
-		public int getCurrY() {
-			return y;
-		}
+		public long start;
+	}
 
-		@Override
-		public byte getRefIndex() {
-			return 0;
-		}
+	public void cancel() {
+		canceled = true;
+		refThread.shutdownWorkers();
+		dimThread.shutdownWorkers();
 	}
 
-	private LinkedList<Object> getNamedRefList(int x, int y, byte index) {
-		return instance.namedRefs[x][y].computeIfAbsent(index, i -> new LinkedList<>());
+	private LinkedList<Object> getNamedRefList(int index, byte band) {
+		return namedRefs[index].computeIfAbsent(band, i -> new LinkedList<>());
 	}
 
 	final class CircleDrawer {
@@ -549,51 +744,66 @@ public final class FogOfWar implements Serializable {
 		 */
 		final void drawCircleToBuffer(ShortPoint2D at, int viewDistance, int state, Object reference) {
 			CachedViewCircle circle = getCachedCircle(viewDistance);
-			CachedViewCircle.CachedViewCircleIterator iterator = circle.iterator(at.x, at.y);
-			draw(iterator, state, reference);
-		}
+			final short[] circleX = circle.x;
+			final short[] circleY = circle.y;
+			final byte[] circleBands = circle.refIndex;
 
-		final void draw(ViewAreaIterator iterator, int state, Object reference) {
-			while (iterator.hasNext()) {
-				final int x = iterator.getCurrX();
-				final int y = iterator.getCurrY();
+			final FoWUpdateMask nextUpdate = dimThread.nextUpdate;
+			final int minX = at.x + circle.minX;
+			final int minY = at.y + circle.minY;
+			final int maxX = at.x + circle.maxX;
+			final int maxY = at.y + circle.maxY;
 
-				if (x >= 0 && x < width && y > 0 && y < height) {
-					byte tmpIndex = iterator.getRefIndex();
-
-					if((state&CIRCLE_ADD) > 0) {
-						if(instance.visibleRefs[x][y].length <= tmpIndex) { // enlarge ref index array
-							short[] tmpRef = instance.visibleRefs[x][y];
-							instance.visibleRefs[x][y] = new short[tmpIndex+1];
-							System.arraycopy(tmpRef, 0, instance.visibleRefs[x][y], 0, tmpRef.length);
-						}
+			regionLocks.lockArea(minX, minY, maxX, maxY);
+			try {
+				for (int i = 0; i < circle.size; i++) {
+					final int x = circleX[i] + at.x;
+					final int y = circleY[i] + at.y;
 
-						if(CommonConstants.FOG_OF_WAR_DEBUG_REFERENCES) {
-							getNamedRefList(x, y, tmpIndex).add(reference);
-						}
-						instance.visibleRefs[x][y][tmpIndex]++;
+					if (x >= 0 && x < width && y > 0 && y < height) {
+						drawTile(x, y, circleBands[i], state, reference, nextUpdate);
 					}
-					if((state&CIRCLE_REMOVE) > 0) {
-						if(CommonConstants.FOG_OF_WAR_DEBUG_REFERENCES &&
-								!getNamedRefList(x, y, tmpIndex).removeLastOccurrence(reference)) {
-							System.err.println("Fog of war reference error on " + reference);
-						}
-						instance.visibleRefs[x][y][tmpIndex]--;
-						if(instance.visibleRefs[x][y][tmpIndex] == 0 && instance.visibleRefs[x][y].length == tmpIndex+1) { // minimize ref index array size
-							int newLength = maxIndex(x, y);
+				}
+			} finally {
+				regionLocks.unlockArea(minX, minY, maxX, maxY);
+			}
+		}
 
-							short[] tmpRef = instance.visibleRefs[x][y];
-							instance.visibleRefs[x][y] = new short[newLength];
-							System.arraycopy(tmpRef, 0, instance.visibleRefs[x][y], 0, newLength);
-						}
+		/**
+		 * Adds or removes a reference of the innermost band to every tile of the map.
+		 */
+		final void drawMap(int state, Object reference) {
+			final FoWUpdateMask nextUpdate = dimThread.nextUpdate;
+			regionLocks.lockMap();
+			try {
+				for (int y = 1; y < height; y++) {
+					for (int x = 0; x < width; x++) {
+						drawTile(x, y, (byte) 0, state, reference, nextUpdate);
 					}
+				}
+			} finally {
+				regionLocks.unlockMap();
+			}
+		}
 
-					if((state&CIRCLE_DIM) > 0 && sight[x][y] != refSight(x, y)) {
-						synchronized (instance.dimThread.nextUpdate) {
-							instance.dimThread.nextUpdate.set(y*width+x);
-						}
-					}
+		private void drawTile(int x, int y, byte band, int state, Object reference, FoWUpdateMask nextUpdate) {
+			final int index = x + y * width;
+			if((state&CIRCLE_ADD) > 0) {
+				if(CommonConstants.FOG_OF_WAR_DEBUG_REFERENCES) {
+					getNamedRefList(index, band).add(reference);
+				}
+				visibleRefs.addReference(index, band);
+			}
+			if((state&CIRCLE_REMOVE) > 0) {
+				if(CommonConstants.FOG_OF_WAR_DEBUG_REFERENCES &&
+						!getNamedRefList(index, band).removeLastOccurrence(reference)) {
+					System.err.println("Fog of war reference error on " + reference);
 				}
+				visibleRefs.removeReference(index, band);
+			}
+
+			if((state&CIRCLE_DIM) > 0 && sight[index] != visibleRefs.getReferencedSight(index)) {
+				nextUpdate.set(x, y);
 			}
 		}
 
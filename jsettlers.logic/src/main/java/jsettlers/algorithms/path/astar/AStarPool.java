@@ -0,0 +1,196 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.algorithms.path.astar;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import jsettlers.algorithms.path.IPathCalculatable;
+import jsettlers.algorithms.path.Path;
+import jsettlers.common.position.ShortPoint2D;
+
+/**
+ * A pool of {@link BucketQueueAStar} workspaces for one map.
+ * <p />
+ * Every A* search needs working arrays of the size of the map. Instead of sharing one A* for all callers, the pool lends a workspace to each
+ * caller, so path searches can run on multiple threads at the same time. A borrowed workspace is confined to the borrowing thread until it is
+ * given back with {@link #release(BucketQueueAStar)}. Workspaces are created on demand and reused afterwards.
+ * <p />
+ * The {@link #findPath} methods of this class borrow a workspace for a single search, so the pool can be used wherever an {@link AbstractAStar}
+ * is expected.
+ */
+public final class AStarPool extends AbstractAStar {
+	private static final int MIN_REQUESTS_PER_TASK = 8;
+
+	private final IAStarPathMap map;
+	private final short width;
+	private final short height;
+
+	private final ArrayDeque<BucketQueueAStar> freeWorkspaces = new ArrayDeque<>();
+	private int createdWorkspaces = 0;
+
+	public AStarPool(IAStarPathMap map, short width, short height) {
+		this.map = map;
+		this.width = width;
+		this.height = height;
+	}
+
+	/**
+	 * Borrows a workspace from the pool. The workspace must only be used by the calling thread and has to be given back with
+	 * {@link #release(BucketQueueAStar)}.
+	 *
+	 * @return A workspace that is not used by anybody else.
+	 */
+	public BucketQueueAStar borrow() {
+		synchronized (freeWorkspaces) {
+			BucketQueueAStar workspace = freeWorkspaces.pollFirst();
+			if (workspace != null) {
+				return workspace;
+			}
+			createdWorkspaces++;
+		}
+		return new BucketQueueAStar(map, width, height);
+	}
+
+	/**
+	 * Gives a workspace borrowed with {@link #borrow()} back to the pool.
+	 *
+	 * @param workspace
+	 *            The workspace that is no longer used by the caller.
+	 */
+	public void release(BucketQueueAStar workspace) {
+		synchronized (freeWorkspaces) {
+			freeWorkspaces.addFirst(workspace); // reuse the most recently used workspace, its arrays are most likely still cached
+		}
+	}
+
+	/**
+	 * @return The number of workspaces created by this pool.
+	 */
+	public int getCreatedWorkspaces() {
+		synchronized (freeWorkspaces) {
+			return createdWorkspaces;
+		}
+	}
+
+	@Override
+	public Path findPath(IPathCalculatable requester, short sx, short sy, short tx, short ty) {
+		BucketQueueAStar workspace = borrow();
+		try {
+			return workspace.findPath(requester, sx, sy, tx, ty);
+		} finally {
+			release(workspace);
+		}
+	}
+
+	@Override
+	public Path findPath(IPathCalculatable requester, ShortPoint2D target) {
+		ShortPoint2D pos = requester.getPosition();
+		return findPath(requester, pos.x, pos.y, target.x, target.y);
+	}
+
+	@Override
+	public Path findPath(IPathCalculatable requester, ShortPoint2D target, ShortPoint2D start) {
+		return findPath(requester, start.x, start.y, target.x, target.y);
+	}
+
+	/**
+	 * Calculates the paths for all given requests in parallel.
+	 * <p />
+	 * The result of a search only depends on its request and the map, so the result is the same as calling {@link #findPath} for every request one
+	 * after the other. The map must not be changed until this method returns.
+	 *
+	 * @param requests
+	 *            The requests to be calculated.
+	 * @return An array with the path of every request at the index of the request. If no path was found for a request, its entry is
+	 *         <code>null</code>.
+	 */
+	public Path[] findPaths(PathRequest[] requests) {
+		Path[] paths = new Path[requests.length];
+		if (requests.length <= MIN_REQUESTS_PER_TASK) {
+			new FindPathsTask(requests, paths, 0, requests.length).compute();
+		} else {
+			ForkJoinPool.commonPool().invoke(new FindPathsTask(requests, paths, 0, requests.length));
+		}
+		return paths;
+	}
+
+	/**
+	 * A single request for {@link AStarPool#findPaths(PathRequest[])}.
+	 */
+	public static final class PathRequest {
+		private final IPathCalculatable requester;
+		private final ShortPoint2D start;
+		private final ShortPoint2D target;
+
+		public PathRequest(IPathCalculatable requester, ShortPoint2D start, ShortPoint2D target) {
+			this.requester = requester;
+			this.start = start;
+			this.target = target;
+		}
+
+		public PathRequest(IPathCalculatable requester, ShortPoint2D target) {
+			this(requester, requester.getPosition(), target);
+		}
+
+		public IPathCalculatable getRequester() {
+			return requester;
+		}
+
+		public ShortPoint2D getStart() {
+			return start;
+		}
+
+		public ShortPoint2D getTarget() {
+			return target;
+		}
+	}
+
+	private class FindPathsTask extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+
+		private final PathRequest[] requests;
+		private final Path[] paths;
+		private final int from;
+		private final int to;
+
+		FindPathsTask(PathRequest[] requests, Path[] paths, int from, int to) {
+			this.requests = requests;
+			this.paths = paths;
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected void compute() {
+			if (to - from > MIN_REQUESTS_PER_TASK) {
+				int middle = (from + to) >>> 1;
+				invokeAll(new FindPathsTask(requests, paths, from, middle), new FindPathsTask(requests, paths, middle, to));
+				return;
+			}
+
+			BucketQueueAStar workspace = borrow();
+			try {
+				for (int i = from; i < to; i++) {
+					PathRequest request = requests[i];
+					paths[i] = workspace.findPath(request.requester, request.target, request.start);
+				}
+			} finally {
+				release(workspace);
+			}
+		}
+	}
+}
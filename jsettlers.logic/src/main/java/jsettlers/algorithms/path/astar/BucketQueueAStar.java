@@ -26,6 +26,9 @@ import jsettlers.common.position.ShortPoint2D;
 
 /**
  * AStar algorithm to find paths from A to B on a hex grid
+ * <p />
+ * An instance keeps its working arrays between searches and must only be used by one thread at a time. Use an {@link AStarPool} to share A*
+ * instances between threads.
  *
  * @author Andreas Eberle
  *
@@ -47,6 +50,9 @@ public final class BucketQueueAStar extends AbstractAStar {
 
 	private final AbstractBucketQueue open;
 
+	private final int[] touchedIndices;
+	private int         touchedCount = 0;
+
 	public BucketQueueAStar(IAStarPathMap map, short width, short height) {
 		this.map = map;
 		this.width = width;
@@ -59,6 +65,7 @@ public final class BucketQueueAStar extends AbstractAStar {
 		this.costs = new float[width * height];
 
 		this.depthParentHeap = new int[width * height * 2];
+		this.touchedIndices = new int[width * height];
 	}
 
 	@Override
@@ -85,8 +92,7 @@ public final class BucketQueueAStar extends AbstractAStar {
 
 		final int targetFlatIdx = getFlatIdx(tx, ty);
 
-		closedBitSet.clear();
-		openBitSet.clear();
+		clearTouched();
 
 		open.clear();
 		boolean found = false;
@@ -133,7 +139,7 @@ public final class BucketQueueAStar extends AbstractAStar {
 							costs[flatNeighborIdx] = newCosts;
 							depthParentHeap[getDepthIdx(flatNeighborIdx)] = depthParentHeap[getDepthIdx(currFlatIdx)] + 1;
 							depthParentHeap[getParentIdx(flatNeighborIdx)] = currFlatIdx;
-							openBitSet.set(flatNeighborIdx);
+							setOpen(flatNeighborIdx);
 							open.insert(flatNeighborIdx, newCosts + getHeuristicCost(neighborX, neighborY, tx, ty));
 
 							map.markAsOpen(neighborX, neighborY);
@@ -182,7 +188,30 @@ public final class BucketQueueAStar extends AbstractAStar {
 		costs[flatIdx] = 0;
 
 		open.insert(flatIdx, getHeuristicCost(sx, sy, tx, ty));
+		setOpen(flatIdx);
+	}
+
+	private void setOpen(int flatIdx) {
 		openBitSet.set(flatIdx);
+		touchedIndices[touchedCount++] = flatIdx;
+	}
+
+	/**
+	 * Resets the open and closed state of the positions opened by the last search. Every closed position has been opened before, so only the
+	 * touched positions need to be cleared. If the last search touched a large part of the map, clearing the whole bit sets is faster.
+	 */
+	private void clearTouched() {
+		if (touchedCount > touchedIndices.length / 64) {
+			openBitSet.clear();
+			closedBitSet.clear();
+		} else {
+			for (int i = 0; i < touchedCount; i++) {
+				int flatIdx = touchedIndices[i];
+				openBitSet.clear(flatIdx);
+				closedBitSet.clear(flatIdx);
+			}
+		}
+		touchedCount = 0;
 	}
 
 	private boolean isValidPosition(IPathCalculatable requester, int fromX, int fromY, int toX, int toY, boolean startBlocked) {
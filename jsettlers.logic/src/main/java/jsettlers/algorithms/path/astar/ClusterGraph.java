@@ -0,0 +1,457 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.algorithms.path.astar;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.PriorityQueue;
+
+import jsettlers.algorithms.path.IPathCalculatable;
+import jsettlers.common.movable.EDirection;
+import jsettlers.common.position.ShortPoint2D;
+
+/**
+ * The abstract graph of the {@link HierarchicalAStar} for one kind of path requester.
+ * <p />
+ * The map is split into square clusters. Between two neighboring clusters, every connected run of passable positions along their border is an
+ * entrance. Each entrance has a node on both sides of the border. Inside of a cluster, the distances between all its nodes are precomputed with a
+ * breadth first search that doesn't leave the cluster.
+ * <p />
+ * Clusters are built when they are needed first and dropped when the map changes in or next to them.
+ */
+final class ClusterGraph {
+	static final int CLUSTER_BITS = 5;
+	static final int CLUSTER_SIZE = 1 << CLUSTER_BITS;
+
+	private static final byte[] xDeltaArray = EDirection.getXDeltaArray();
+	private static final byte[] yDeltaArray = EDirection.getYDeltaArray();
+	private static final int UNREACHABLE = -1;
+
+	private final IAStarPathMap map;
+	private final IPathCalculatable requester;
+	private final short width;
+	private final short height;
+	private final int clustersX;
+	private final int clustersY;
+
+	private final Cluster[] clusters;
+
+	private final int[] bfsQueue = new int[CLUSTER_SIZE * CLUSTER_SIZE];
+	private final int[] bfsDistances = new int[CLUSTER_SIZE * CLUSTER_SIZE];
+	private final int[] bfsVisitIds = new int[CLUSTER_SIZE * CLUSTER_SIZE];
+	private int bfsVisitId = 0;
+
+	private int[] entranceTiles = new int[16];
+	private int entranceCount;
+
+	ClusterGraph(IAStarPathMap map, IPathCalculatable requester, short width, short height) {
+		this.map = map;
+		this.requester = requester;
+		this.width = width;
+		this.height = height;
+		this.clustersX = (width + CLUSTER_SIZE - 1) >> CLUSTER_BITS;
+		this.clustersY = (height + CLUSTER_SIZE - 1) >> CLUSTER_BITS;
+		this.clusters = new Cluster[clustersX * clustersY];
+	}
+
+	/**
+	 * Drops all clusters that use the given position, so they are rebuilt with the current state of the map.
+	 */
+	void invalidate(int x, int y) {
+		clusters[getClusterIdx(x, y)] = null;
+
+		// the position can be part of an entrance of the neighbor clusters
+		for (int i = 0; i < EDirection.NUMBER_OF_DIRECTIONS; i++) {
+			int neighborX = x + xDeltaArray[i];
+			int neighborY = y + yDeltaArray[i];
+			if (isInBounds(neighborX, neighborY)) {
+				clusters[getClusterIdx(neighborX, neighborY)] = null;
+			}
+		}
+	}
+
+	int getClusterIdx(int x, int y) {
+		return (y >> CLUSTER_BITS) * clustersX + (x >> CLUSTER_BITS);
+	}
+
+	/**
+	 * Searches a path on the abstract graph.
+	 *
+	 * @return The positions (as flat index) the path has to pass from the start to the target, or <code>null</code> if the target can't be
+	 *         reached. The first entry is the start, the last entry is the target.
+	 */
+	int[] findWaypoints(int sx, int sy, int tx, int ty) {
+		int startClusterIdx = getClusterIdx(sx, sy);
+		int targetClusterIdx = getClusterIdx(tx, ty);
+
+		Cluster targetCluster = getCluster(targetClusterIdx);
+		int[] targetDistances = getDistancesToNodes(targetCluster, getFlatIdx(tx, ty));
+		Cluster startCluster = getCluster(startClusterIdx);
+		int[] startDistances = getDistancesToNodes(startCluster, getFlatIdx(sx, sy));
+
+		PriorityQueue<SearchNode> open = new PriorityQueue<>();
+		HashMap<Long, SearchNode> nodes = new HashMap<>();
+		int sequence = 0;
+
+		for (int i = 0; i < startCluster.nodeTiles.length; i++) {
+			if (startDistances[i] != UNREACHABLE) {
+				SearchNode node = new SearchNode(startClusterIdx, i, startDistances[i], null);
+				node.rank = node.costs + getHeuristicCosts(startCluster.nodeTiles[i], tx, ty);
+				node.sequence = sequence++;
+				nodes.put(node.getKey(), node);
+				open.add(node);
+			}
+		}
+
+		while (!open.isEmpty()) {
+			SearchNode current = open.poll();
+			if (current.closed) {
+				continue;
+			}
+			current.closed = true;
+
+			if (current.clusterIdx < 0) { // the target has been reached
+				return getWaypoints(current, sx, sy, tx, ty);
+			}
+
+			Cluster cluster = getCluster(current.clusterIdx);
+			int tile = cluster.nodeTiles[current.nodeIdx];
+
+			if (current.clusterIdx == targetClusterIdx && targetDistances[current.nodeIdx] != UNREACHABLE) {
+				SearchNode target = new SearchNode(-1, 0, current.costs + targetDistances[current.nodeIdx], current);
+				target.rank = target.costs;
+				target.sequence = sequence++;
+				open.add(target);
+			}
+
+			// step over the entrance
+			int partnerTile = cluster.partnerTiles[current.nodeIdx];
+			int partnerClusterIdx = getClusterIdx(partnerTile % width, partnerTile / width);
+			Cluster partnerCluster = getCluster(partnerClusterIdx);
+			int partnerNodeIdx = partnerCluster.getNodeIdx(partnerTile, tile);
+			if (partnerNodeIdx >= 0) {
+				sequence = relax(open, nodes, current, partnerClusterIdx, partnerNodeIdx, partnerTile, current.costs + 1, tx, ty, sequence);
+			}
+
+			// move inside of the cluster
+			int nodesInCluster = cluster.nodeTiles.length;
+			for (int i = 0; i < nodesInCluster; i++) {
+				int distance = cluster.distances[current.nodeIdx * nodesInCluster + i];
+				if (i != current.nodeIdx && distance != UNREACHABLE) {
+					sequence = relax(open, nodes, current, current.clusterIdx, i, cluster.nodeTiles[i], current.costs + distance, tx, ty, sequence);
+				}
+			}
+		}
+
+		return null;
+	}
+
+	private int relax(PriorityQueue<SearchNode> open, HashMap<Long, SearchNode> nodes, SearchNode parent, int clusterIdx, int nodeIdx, int tile,
+			int costs, int tx, int ty, int sequence) {
+		long key = getKey(clusterIdx, nodeIdx);
+		SearchNode node = nodes.get(key);
+		if (node != null && (node.closed || node.costs <= costs)) {
+			return sequence;
+		}
+
+		if (node != null) {
+			node.closed = true; // the old entry in the queue becomes invalid
+		}
+		node = new SearchNode(clusterIdx, nodeIdx, costs, parent);
+		node.rank = costs + getHeuristicCosts(tile, tx, ty);
+		node.sequence = sequence;
+		nodes.put(key, node);
+		open.add(node);
+		return sequence + 1;
+	}
+
+	private int[] getWaypoints(SearchNode target, int sx, int sy, int tx, int ty) {
+		int length = 2;
+		for (SearchNode node = target.parent; node != null; node = node.parent) {
+			length++;
+		}
+
+		int[] waypoints = new int[length];
+		waypoints[0] = getFlatIdx(sx, sy);
+		waypoints[length - 1] = getFlatIdx(tx, ty);
+		int idx = length - 2;
+		for (SearchNode node = target.parent; node != null; node = node.parent) {
+			waypoints[idx--] = getCluster(node.clusterIdx).nodeTiles[node.nodeIdx];
+		}
+		return waypoints;
+	}
+
+	private int getHeuristicCosts(int tile, int tx, int ty) {
+		return ShortPoint2D.getOnGridDist(tile % width - tx, tile / width - ty);
+	}
+
+	private Cluster getCluster(int clusterIdx) {
+		Cluster cluster = clusters[clusterIdx];
+		if (cluster == null) {
+			cluster = buildCluster(clusterIdx % clustersX, clusterIdx / clustersX);
+			clusters[clusterIdx] = cluster;
+		}
+		return cluster;
+	}
+
+	private Cluster buildCluster(int cx, int cy) {
+		entranceCount = 0;
+
+		if (cx + 1 < clustersX) {
+			addVerticalBorderEntrances(cx, cy, false);
+		}
+		if (cy + 1 < clustersY) {
+			addHorizontalBorderEntrances(cx, cy, false);
+		}
+		if (cx + 1 < clustersX && cy + 1 < clustersY) {
+			addCornerEntrance(cx, cy, false);
+		}
+		if (cx > 0) {
+			addVerticalBorderEntrances(cx - 1, cy, true);
+		}
+		if (cy > 0) {
+			addHorizontalBorderEntrances(cx, cy - 1, true);
+		}
+		if (cx > 0 && cy > 0) {
+			addCornerEntrance(cx - 1, cy - 1, true);
+		}
+
+		int nodes = entranceCount;
+		Cluster cluster = new Cluster(cx, cy, nodes);
+		for (int i = 0; i < nodes; i++) {
+			cluster.nodeTiles[i] = entranceTiles[2 * i];
+			cluster.partnerTiles[i] = entranceTiles[2 * i + 1];
+		}
+
+		for (int i = 0; i < nodes; i++) {
+			int[] distances = getDistancesToNodes(cluster, cluster.nodeTiles[i]);
+			System.arraycopy(distances, 0, cluster.distances, i * nodes, nodes);
+		}
+		return cluster;
+	}
+
+	/**
+	 * Adds the entrances on the border between the cluster (cx|cy) and the cluster east of it.
+	 *
+	 * @param eastSide
+	 *            if true, the nodes are added for the eastern cluster, otherwise for the western cluster.
+	 */
+	private void addVerticalBorderEntrances(int cx, int cy, boolean eastSide) {
+		int westX = ((cx + 1) << CLUSTER_BITS) - 1;
+		int eastX = westX + 1;
+		int minY = cy << CLUSTER_BITS;
+		int maxY = Math.min(height, (cy + 1) << CLUSTER_BITS) - 1;
+
+		int runStart = -1;
+		for (int y = minY; y <= maxY + 1; y++) {
+			boolean passable = y <= maxY && isPassable(westX, y) && isPassable(eastX, y);
+			if (passable && runStart < 0) {
+				runStart = y;
+			} else if (!passable && runStart >= 0) {
+				int middle = (runStart + y - 1) / 2;
+				addEntrance(westX, middle, eastX, middle, eastSide);
+				runStart = -1;
+			}
+		}
+
+		// diagonal steps that aren't connected to one of the runs
+		for (int y = minY; y < maxY; y++) {
+			if (isPassable(westX, y) && isPassable(eastX, y + 1) && !isPassable(eastX, y) && !isPassable(westX, y + 1)) {
+				addEntrance(westX, y, eastX, y + 1, eastSide);
+			}
+		}
+	}
+
+	/**
+	 * Adds the entrances on the border between the cluster (cx|cy) and the cluster south of it.
+	 *
+	 * @param southSide
+	 *            if true, the nodes are added for the southern cluster, otherwise for the northern cluster.
+	 */
+	private void addHorizontalBorderEntrances(int cx, int cy, boolean southSide) {
+		int northY = ((cy + 1) << CLUSTER_BITS) - 1;
+		int southY = northY + 1;
+		int minX = cx << CLUSTER_BITS;
+		int maxX = Math.min(width, (cx + 1) << CLUSTER_BITS) - 1;
+
+		int runStart = -1;
+		for (int x = minX; x <= maxX + 1; x++) {
+			boolean passable = x <= maxX && isPassable(x, northY) && isPassable(x, southY);
+			if (passable && runStart < 0) {
+				runStart = x;
+			} else if (!passable && runStart >= 0) {
+				int middle = (runStart + x - 1) / 2;
+				addEntrance(middle, northY, middle, southY, southSide);
+				runStart = -1;
+			}
+		}
+
+		// diagonal steps that aren't connected to one of the runs
+		for (int x = minX; x < maxX; x++) {
+			if (isPassable(x, northY) && isPassable(x + 1, southY) && !isPassable(x, southY) && !isPassable(x + 1, northY)) {
+				addEntrance(x, northY, x + 1, southY, southSide);
+			}
+		}
+	}
+
+	/**
+	 * Adds the entrance of the diagonal step from the cluster (cx|cy) to the cluster (cx+1|cy+1).
+	 */
+	private void addCornerEntrance(int cx, int cy, boolean lowerSide) {
+		int x = ((cx + 1) << CLUSTER_BITS) - 1;
+		int y = ((cy + 1) << CLUSTER_BITS) - 1;
+		if (isPassable(x, y) && isPassable(x + 1, y + 1)) {
+			addEntrance(x, y, x + 1, y + 1, lowerSide);
+		}
+	}
+
+	private void addEntrance(int fromX, int fromY, int toX, int toY, boolean toSide) {
+		int from = getFlatIdx(fromX, fromY);
+		int to = getFlatIdx(toX, toY);
+
+		if (2 * entranceCount + 2 > entranceTiles.length) {
+			entranceTiles = Arrays.copyOf(entranceTiles, entranceTiles.length * 2);
+		}
+		entranceTiles[2 * entranceCount] = toSide ? to : from;
+		entranceTiles[2 * entranceCount + 1] = toSide ? from : to;
+		entranceCount++;
+	}
+
+	/**
+	 * Runs a breadth first search inside of the cluster.
+	 *
+	 * @return The number of steps needed from the given start position to every node of the cluster or {@link #UNREACHABLE}.
+	 */
+	private int[] getDistancesToNodes(Cluster cluster, int startTile) {
+		int minX = cluster.cx << CLUSTER_BITS;
+		int minY = cluster.cy << CLUSTER_BITS;
+		int maxX = Math.min(width, minX + CLUSTER_SIZE);
+		int maxY = Math.min(height, minY + CLUSTER_SIZE);
+
+		if (bfsVisitId == Integer.MAX_VALUE) {
+			Arrays.fill(bfsVisitIds, 0);
+			bfsVisitId = 0;
+		}
+		int visitId = ++bfsVisitId;
+
+		int queueStart = 0;
+		int queueEnd = 0;
+		int startLocalIdx = getLocalIdx(startTile % width - minX, startTile / width - minY);
+		bfsQueue[queueEnd++] = startLocalIdx;
+		bfsVisitIds[startLocalIdx] = visitId;
+		bfsDistances[startLocalIdx] = 0;
+
+		while (queueStart < queueEnd) {
+			int localIdx = bfsQueue[queueStart++];
+			int x = minX + (localIdx & (CLUSTER_SIZE - 1));
+			int y = minY + (localIdx >> CLUSTER_BITS);
+
+			for (int i = 0; i < EDirection.NUMBER_OF_DIRECTIONS; i++) {
+				int neighborX = x + xDeltaArray[i];
+				int neighborY = y + yDeltaArray[i];
+				if (minX <= neighborX && neighborX < maxX && minY <= neighborY && neighborY < maxY) {
+					int neighborLocalIdx = getLocalIdx(neighborX - minX, neighborY - minY);
+					if (bfsVisitIds[neighborLocalIdx] != visitId && isPassable(neighborX, neighborY)) {
+						bfsVisitIds[neighborLocalIdx] = visitId;
+						bfsDistances[neighborLocalIdx] = bfsDistances[localIdx] + 1;
+						bfsQueue[queueEnd++] = neighborLocalIdx;
+					}
+				}
+			}
+		}
+
+		int[] distances = new int[cluster.nodeTiles.length];
+		for (int i = 0; i < distances.length; i++) {
+			int tile = cluster.nodeTiles[i];
+			int localIdx = getLocalIdx(tile % width - minX, tile / width - minY);
+			distances[i] = bfsVisitIds[localIdx] == visitId ? bfsDistances[localIdx] : UNREACHABLE;
+		}
+		return distances;
+	}
+
+	private static int getLocalIdx(int localX, int localY) {
+		return localY << CLUSTER_BITS | localX;
+	}
+
+	private boolean isPassable(int x, int y) {
+		return !map.isBlocked(requester, x, y);
+	}
+
+	private boolean isInBounds(int x, int y) {
+		return 0 <= x && x < width && 0 <= y && y < height;
+	}
+
+	private int getFlatIdx(int x, int y) {
+		return y * width + x;
+	}
+
+	private static long getKey(int clusterIdx, int nodeIdx) {
+		return ((long) clusterIdx) << 32 | nodeIdx;
+	}
+
+	private static final class Cluster {
+		final int cx;
+		final int cy;
+		final int[] nodeTiles;
+		final int[] partnerTiles;
+		final int[] distances;
+
+		Cluster(int cx, int cy, int nodes) {
+			this.cx = cx;
+			this.cy = cy;
+			this.nodeTiles = new int[nodes];
+			this.partnerTiles = new int[nodes];
+			this.distances = new int[nodes * nodes];
+		}
+
+		int getNodeIdx(int tile, int partnerTile) {
+			for (int i = 0; i < nodeTiles.length; i++) {
+				if (nodeTiles[i] == tile && partnerTiles[i] == partnerTile) {
+					return i;
+				}
+			}
+			return -1;
+		}
+	}
+
+	private static final class SearchNode implements Comparable<SearchNode> {
+		final int clusterIdx;
+		final int nodeIdx;
+		final int costs;
+		final SearchNode parent;
+		int rank;
+		int sequence;
+		boolean closed;
+
+		SearchNode(int clusterIdx, int nodeIdx, int costs, SearchNode parent) {
+			this.clusterIdx = clusterIdx;
+			this.nodeIdx = nodeIdx;
+			this.costs = costs;
+			this.parent = parent;
+		}
+
+		long getKey() {
+			return ClusterGraph.getKey(clusterIdx, nodeIdx);
+		}
+
+		@Override
+		public int compareTo(SearchNode other) {
+			if (rank != other.rank) {
+				return Integer.compare(rank, other.rank);
+			}
+			return Integer.compare(sequence, other.sequence); // keeps the search deterministic
+		}
+	}
+}
@@ -0,0 +1,203 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.algorithms.path.astar;
+
+import java.util.HashMap;
+
+import jsettlers.algorithms.path.IPathCalculatable;
+import jsettlers.algorithms.path.Path;
+import jsettlers.common.player.IPlayer;
+import jsettlers.common.position.ShortPoint2D;
+
+/**
+ * Hierarchical path finding (HPA*) on top of an exact A*.
+ * <p />
+ * Long paths are first searched on a {@link ClusterGraph} of cluster entrances. The resulting waypoints are then connected with the exact A*, so
+ * every step of the path is checked with the current state of the map. Paths shorter than {@link #MIN_HIERARCHICAL_DISTANCE} and paths of
+ * requesters standing on blocked positions are calculated with the exact A* only.
+ * <p />
+ * As the blocked positions depend on the requester, there is one cluster graph for ships, one for requesters that can walk on every ground and
+ * one for each player whose ground is needed. {@link #invalidate(int, int)} has to be called for every position whose blocked state, player or
+ * landscape changes.
+ * <p />
+ * The found paths are not always the shortest ones, but their length is close to it.
+ */
+public final class HierarchicalAStar extends AbstractAStar {
+	static final int MIN_HIERARCHICAL_DISTANCE = 2 * ClusterGraph.CLUSTER_SIZE;
+
+	private static final int SHIP_GRAPH = -2;
+	private static final int ALL_GROUNDS_GRAPH = -1;
+
+	private final IAStarPathMap map;
+	private final AbstractAStar exactAStar;
+	private final short width;
+	private final short height;
+
+	private final HashMap<Integer, ClusterGraph> graphs = new HashMap<>();
+
+	public HierarchicalAStar(IAStarPathMap map, AbstractAStar exactAStar, short width, short height) {
+		this.map = map;
+		this.exactAStar = exactAStar;
+		this.width = width;
+		this.height = height;
+	}
+
+	@Override
+	public Path findPath(IPathCalculatable requester, ShortPoint2D target) {
+		ShortPoint2D pos = requester.getPosition();
+		return findPath(requester, pos.x, pos.y, target.x, target.y);
+	}
+
+	@Override
+	public Path findPath(IPathCalculatable requester, ShortPoint2D target, ShortPoint2D start) {
+		return findPath(requester, start.x, start.y, target.x, target.y);
+	}
+
+	@Override
+	public Path findPath(IPathCalculatable requester, short sx, short sy, short tx, short ty) {
+		if (ShortPoint2D.getOnGridDist(tx - sx, ty - sy) < MIN_HIERARCHICAL_DISTANCE || !isInBounds(sx, sy) || !isInBounds(tx, ty)
+				|| map.isBlocked(requester, sx, sy)) {
+			return exactAStar.findPath(requester, sx, sy, tx, ty);
+		} else if (map.isBlocked(requester, tx, ty) || !map.isReachable(sx, sy, tx, ty, requester.isShip())) {
+			return null; // target can not be reached
+		}
+
+		int[] waypoints;
+		synchronized (graphs) {
+			ClusterGraph graph = getGraph(requester);
+			if (graph.getClusterIdx(sx, sy) == graph.getClusterIdx(tx, ty)) {
+				return exactAStar.findPath(requester, sx, sy, tx, ty);
+			}
+			waypoints = graph.findWaypoints(sx, sy, tx, ty);
+		}
+
+		if (waypoints == null) {
+			return null;
+		}
+		return refinePath(requester, waypoints, sx, sy, tx, ty);
+	}
+
+	/**
+	 * Connects the waypoints with the exact A*.
+	 */
+	private Path refinePath(IPathCalculatable requester, int[] waypoints, short sx, short sy, short tx, short ty) {
+		Path[] segments = new Path[waypoints.length - 1];
+		int length = 0;
+
+		for (int i = 0; i < segments.length; i++) {
+			int from = waypoints[i];
+			int to = waypoints[i + 1];
+			if (from == to) {
+				continue;
+			}
+
+			Path segment = exactAStar.findPath(requester, (short) (from % width), (short) (from / width), (short) (to % width), (short) (to / width));
+			if (segment == null) { // the map changed without invalidating the graph
+				return exactAStar.findPath(requester, sx, sy, tx, ty);
+			}
+			segments[i] = segment;
+			length += segment.getLength();
+		}
+
+		Path path = new Path(length);
+		int idx = 0;
+		for (Path segment : segments) {
+			if (segment != null) {
+				while (segment.hasNextStep()) {
+					path.insertAt(idx++, segment.nextX(), segment.nextY());
+					segment.goToNextStep();
+				}
+			}
+		}
+		return path;
+	}
+
+	/**
+	 * Drops the cached cluster information at the given position. This needs to be called whenever the blocked state, the player or the landscape
+	 * of a position changes.
+	 *
+	 * @param x
+	 *            x coordinate of the changed position
+	 * @param y
+	 *            y coordinate of the changed position
+	 */
+	public void invalidate(int x, int y) {
+		synchronized (graphs) {
+			for (ClusterGraph graph : graphs.values()) {
+				graph.invalidate(x, y);
+			}
+		}
+	}
+
+	private ClusterGraph getGraph(IPathCalculatable requester) {
+		int graphKey;
+		if (requester.isShip()) {
+			graphKey = SHIP_GRAPH;
+		} else if (requester.needsPlayersGround()) {
+			graphKey = requester.getPlayer().getPlayerId();
+		} else {
+			graphKey = ALL_GROUNDS_GRAPH;
+		}
+
+		ClusterGraph graph = graphs.get(graphKey);
+		if (graph == null) {
+			graph = new ClusterGraph(map, new GraphRequester(requester), width, height);
+			graphs.put(graphKey, graph);
+		}
+		return graph;
+	}
+
+	private boolean isInBounds(int x, int y) {
+		return 0 <= x && x < width && 0 <= y && y < height;
+	}
+
+	/**
+	 * Requester used to check the blocked positions while building the clusters. It has the same properties as the requester the graph was created
+	 * for, but doesn't reference it.
+	 */
+	private static final class GraphRequester implements IPathCalculatable {
+		private static final long serialVersionUID = 1L;
+
+		private final IPlayer player;
+		private final boolean needsPlayersGround;
+		private final boolean ship;
+
+		GraphRequester(IPathCalculatable requester) {
+			this.player = requester.getPlayer();
+			this.needsPlayersGround = requester.needsPlayersGround();
+			this.ship = requester.isShip();
+		}
+
+		@Override
+		public IPlayer getPlayer() {
+			return player;
+		}
+
+		@Override
+		public ShortPoint2D getPosition() {
+			return null;
+		}
+
+		@Override
+		public boolean needsPlayersGround() {
+			return needsPlayersGround;
+		}
+
+		@Override
+		public boolean isShip() {
+			return ship;
+		}
+	}
+}
@@ -15,6 +15,7 @@
 package jsettlers.algorithms.path.dijkstra;
 
 import java.io.Serializable;
+import java.util.Arrays;
 import java.util.EnumSet;
 import java.util.Set;
 
@@ -24,10 +25,16 @@ import jsettlers.algorithms.path.Path;
 import jsettlers.algorithms.path.astar.AbstractAStar;
 import jsettlers.common.map.shapes.MapCircle;
 import jsettlers.common.material.ESearchType;
+import jsettlers.common.movable.EDirection;
 import jsettlers.common.position.ShortPoint2D;
 
 /**
  * this class implements a strict dijkstra algorithm
+ * <p />
+ * The candidates are checked ring by ring around the center. To find out if a candidate can be reached by the requester, a single flood fill is
+ * expanded from the requester's position on demand, so a search only costs O(visited positions) no matter how many candidates can not be reached.
+ * The A* is only run for the first candidate and for the reachable candidate that is finally returned. Therefore the found target and path are the
+ * same as if the A* was run for every candidate.
  * 
  * @author Andreas Eberle
  * 
@@ -37,15 +44,30 @@ public final class DijkstraAlgorithm {
 	private static final byte[] directionIncreaseY = { 0, 1, 1, 0, -1, -1 };
 	private static final float MAX_RADIUS_MULTIPLIER = 1f / MapCircle.Y_SCALE;
 
+	private static final byte[] xDeltaArray = EDirection.getXDeltaArray();
+	private static final byte[] yDeltaArray = EDirection.getYDeltaArray();
+
 	private final IDijkstraPathMap map;
 	private final short height, width;
 	private final AbstractAStar aStar;
 
+	private final int[] visitedSearchIds;
+	private final int[] floodQueue;
+	private int searchId = 0;
+	private int floodQueueStart;
+	private int floodQueueEnd;
+	private boolean floodStarted;
+	private boolean startBlocked;
+	private IPathCalculatable floodRequester;
+
 	public DijkstraAlgorithm(IDijkstraPathMap map, AbstractAStar aStar, short width, short height) {
 		this.map = map;
 		this.aStar = aStar;
 		this.width = width;
 		this.height = height;
+
+		this.visitedSearchIds = new int[width * height];
+		this.floodQueue = new int[width * height];
 	}
 
 	public final Path find(final IPathCalculatable requester, final short cX, final short cY, final short minRadius, final short maxRadius,
@@ -54,6 +76,8 @@ public final class DijkstraAlgorithm {
 			throw new InvalidStartPositionException("dijkstra center position is not in bounds!", cX, cY);
 		}
 
+		startSearch(requester);
+
 		// check center position (special case for minRadius <= 0
 		if (minRadius <= 0) {
 			map.setDijkstraSearched(cX, cY);
@@ -88,12 +112,88 @@ public final class DijkstraAlgorithm {
 		return null;
 	}
 
+	private void startSearch(IPathCalculatable requester) {
+		floodRequester = requester;
+		floodStarted = false;
+	}
+
 	private final Path findPathTo(IPathCalculatable requester, short tx, short ty) {
 		ShortPoint2D pos = requester.getPosition();
-		return aStar.findPath(requester, pos.x, pos.y, tx, ty);
+		if (floodStarted && !isPathPossible(pos.x, pos.y, tx, ty)) {
+			return null;
+		}
+
+		Path path = aStar.findPath(requester, pos.x, pos.y, tx, ty);
+		if (path == null && !floodStarted) {
+			startFlood(pos.x, pos.y);
+		}
+		return path;
+	}
+
+	/**
+	 * Checks if the A* can find a path from the start to the given target. The start has to be the position the flood fill was started at.
+	 */
+	private boolean isPathPossible(short sx, short sy, short tx, short ty) {
+		if (!isInBounds(tx, ty) || (sx == tx && sy == ty)
+				|| map.isBlocked(floodRequester, tx, ty) || !map.isReachable(sx, sy, tx, ty, floodRequester.isShip())) {
+			return false; // the A* doesn't search for these targets
+		}
+
+		int targetIdx = getFlatIdx(tx, ty);
+		while (visitedSearchIds[targetIdx] != searchId && floodQueueStart < floodQueueEnd) {
+			expandFlood();
+		}
+		return visitedSearchIds[targetIdx] == searchId;
+	}
+
+	private void startFlood(short sx, short sy) {
+		if (searchId == Integer.MAX_VALUE) {
+			Arrays.fill(visitedSearchIds, 0);
+			searchId = 0;
+		}
+		searchId++;
+
+		floodStarted = true;
+		startBlocked = map.isBlocked(floodRequester, sx, sy);
+		floodQueueStart = 0;
+		floodQueueEnd = 0;
+		visit(getFlatIdx(sx, sy));
+	}
+
+	/**
+	 * Takes the next position from the flood queue and visits all neighbors the A* would step onto from this position.
+	 */
+	private void expandFlood() {
+		int flatIdx = floodQueue[floodQueueStart++];
+		int x = flatIdx % width;
+		int y = flatIdx / width;
+		boolean blocked = map.isBlocked(floodRequester, x, y);
+
+		for (int i = 0; i < EDirection.NUMBER_OF_DIRECTIONS; i++) {
+			int neighborX = x + xDeltaArray[i];
+			int neighborY = y + yDeltaArray[i];
+
+			if (isInBounds(neighborX, neighborY)) {
+				int neighborIdx = getFlatIdx(neighborX, neighborY);
+				if (visitedSearchIds[neighborIdx] != searchId
+						// same rule as the A*: blocked positions can only be used to leave the blocked area the start is in
+						&& (!map.isBlocked(floodRequester, neighborX, neighborY) || (startBlocked && blocked))) {
+					visit(neighborIdx);
+				}
+			}
+		}
+	}
+
+	private void visit(int flatIdx) {
+		visitedSearchIds[flatIdx] = searchId;
+		floodQueue[floodQueueEnd++] = flatIdx;
+	}
+
+	private int getFlatIdx(int x, int y) {
+		return y * width + x;
 	}
 
-	private final boolean isInBounds(short x, short y) {
+	private final boolean isInBounds(int x, int y) {
 		return 0 <= x && x < width && 0 <= y && y < height;
 	}
 
@@ -146,6 +246,7 @@ public final class DijkstraAlgorithm {
 		}
 
 		MapCircle circle = new MapCircle(request.cX, request.cY, request.maxRadius * MAX_RADIUS_MULTIPLIER);
+		startSearch(request.requester);
 
 		short radiusSteps = request.getRadiusSteps();
 		short radius = 1;
@@ -26,4 +26,16 @@ public interface IDijkstraPathMap {
 	boolean fitsSearchType(int x, int y, Set<ESearchType> types, IPathCalculatable requester);
 
 	void setDijkstraSearched(int x, int y);
+
+	/**
+	 * Must return the same result as {@link jsettlers.algorithms.path.astar.IAStarPathMap#isBlocked(IPathCalculatable, int, int)} of the map used by
+	 * the A* of the {@link DijkstraAlgorithm}.
+	 */
+	boolean isBlocked(IPathCalculatable requester, int x, int y);
+
+	/**
+	 * Must return the same result as {@link jsettlers.algorithms.path.astar.IAStarPathMap#isReachable(int, int, int, int, boolean)} of the map used
+	 * by the A* of the {@link DijkstraAlgorithm}.
+	 */
+	boolean isReachable(int x1, int y1, int x2, int y2, boolean ship);
 }
@@ -0,0 +1,199 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.algorithms.path.flowfield;
+
+import java.util.Arrays;
+
+import jsettlers.algorithms.path.IPathCalculatable;
+import jsettlers.algorithms.path.Path;
+import jsettlers.algorithms.path.astar.IAStarPathMap;
+import jsettlers.common.movable.EDirection;
+import jsettlers.common.position.ShortPoint2D;
+
+/**
+ * The walking distances of all positions in a square region around a target, calculated by a breadth first search starting at the target. All
+ * movables of a group move order can follow the same field towards the target, so the group only needs one search instead of one A* search per
+ * movable.
+ * <p />
+ * The region only depends on the target, so a field is the same whether it has been cached or calculated again. Positions outside of the region and
+ * positions not connected to the target inside of the region have no distance.
+ */
+public final class FlowField {
+	public static final int RADIUS = 128;
+
+	private static final short UNREACHED = -1;
+	private static final byte[] X_DELTAS = EDirection.getXDeltaArray();
+	private static final byte[] Y_DELTAS = EDirection.getYDeltaArray();
+
+	private final ShortPoint2D target;
+	private final int requesterKey;
+	private final int minX;
+	private final int minY;
+	private final int width;
+	private final int height;
+	private final short[] distances;
+
+	/**
+	 * Calculates the field of the given target for the given requester.
+	 *
+	 * @param map
+	 *            The map used to check which positions are blocked for the requester.
+	 * @param requester
+	 *            The requester. All requesters with the same {@link #getRequesterKey(IPathCalculatable)} can use the same field.
+	 * @param target
+	 *            The target of the field.
+	 * @param mapWidth
+	 *            The width of the map.
+	 * @param mapHeight
+	 *            The height of the map.
+	 */
+	public FlowField(IAStarPathMap map, IPathCalculatable requester, ShortPoint2D target, short mapWidth, short mapHeight) {
+		this.target = target;
+		this.requesterKey = getRequesterKey(requester);
+		this.minX = Math.max(0, target.x - RADIUS);
+		this.minY = Math.max(0, target.y - RADIUS);
+		this.width = Math.min(mapWidth - 1, target.x + RADIUS) - minX + 1;
+		this.height = Math.min(mapHeight - 1, target.y + RADIUS) - minY + 1;
+		this.distances = new short[width * height];
+
+		Arrays.fill(distances, UNREACHED);
+		if (!map.isBlocked(requester, target.x, target.y)) {
+			calculateDistances(map, requester);
+		}
+	}
+
+	private void calculateDistances(IAStarPathMap map, IPathCalculatable requester) {
+		int[] queue = new int[distances.length];
+		int head = 0;
+		int tail = 0;
+
+		int targetIndex = getIndex(target.x, target.y);
+		distances[targetIndex] = 0;
+		queue[tail++] = targetIndex;
+
+		while (head < tail) {
+			int index = queue[head++];
+			int x = minX + index % width;
+			int y = minY + index / width;
+			short neighborDistance = (short) (distances[index] + 1);
+
+			for (int direction = 0; direction < EDirection.NUMBER_OF_DIRECTIONS; direction++) {
+				int neighborX = x + X_DELTAS[direction];
+				int neighborY = y + Y_DELTAS[direction];
+
+				if (isInRegion(neighborX, neighborY)) {
+					int neighborIndex = getIndex(neighborX, neighborY);
+					if (distances[neighborIndex] == UNREACHED && !map.isBlocked(requester, neighborX, neighborY)) {
+						distances[neighborIndex] = neighborDistance;
+						queue[tail++] = neighborIndex;
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Follows the field from the start position towards the target until the destination is at most approachDistance steps away or the start is as
+	 * close to the target as the destination.
+	 *
+	 * @param start
+	 *            The position to start at.
+	 * @param destination
+	 *            The destination of the movable. This is a position close to the target of the field.
+	 * @param approachDistance
+	 *            The distance to the destination at which the path ends.
+	 * @return The path without the start position or <code>null</code> if the start position has no distance or no step is needed.
+	 */
+	public Path findPathTowards(ShortPoint2D start, ShortPoint2D destination, int approachDistance) {
+		if (!isInRegion(start.x, start.y) || distances[getIndex(start.x, start.y)] == UNREACHED) {
+			return null;
+		}
+
+		int endDistance = destination.getOnGridDistTo(target);
+		int length = followField(start, destination, approachDistance, endDistance, null);
+		if (length == 0) {
+			return null;
+		}
+
+		Path path = new Path(length);
+		followField(start, destination, approachDistance, endDistance, path);
+		return path;
+	}
+
+	private int followField(ShortPoint2D start, ShortPoint2D destination, int approachDistance, int endDistance, Path path) {
+		int x = start.x;
+		int y = start.y;
+		int steps = 0;
+
+		while (destination.getOnGridDistTo(x, y) > approachDistance && distances[getIndex(x, y)] > endDistance) {
+			short nextDistance = (short) (distances[getIndex(x, y)] - 1);
+
+			for (int direction = 0; direction < EDirection.NUMBER_OF_DIRECTIONS; direction++) {
+				int nextX = x + X_DELTAS[direction];
+				int nextY = y + Y_DELTAS[direction];
+				if (isInRegion(nextX, nextY) && distances[getIndex(nextX, nextY)] == nextDistance) {
+					x = nextX;
+					y = nextY;
+					break;
+				}
+			}
+
+			if (path != null) {
+				path.insertAt(steps, (short) x, (short) y);
+			}
+			steps++;
+		}
+		return steps;
+	}
+
+	/**
+	 * @param x
+	 *            x coordinate
+	 * @param y
+	 *            y coordinate
+	 * @return The number of steps from the given position to the target or -1 if the target can't be reached inside of the region.
+	 */
+	public int getDistance(int x, int y) {
+		return isInRegion(x, y) ? distances[getIndex(x, y)] : UNREACHED;
+	}
+
+	/**
+	 * @param x
+	 *            x coordinate
+	 * @param y
+	 *            y coordinate
+	 * @return true if the position is inside of the region of this field. Changes of blocked positions inside of the region invalidate the field.
+	 */
+	public boolean isInRegion(int x, int y) {
+		return x >= minX && x < minX + width && y >= minY && y < minY + height;
+	}
+
+	public boolean matches(ShortPoint2D target, int requesterKey) {
+		return this.requesterKey == requesterKey && this.target.equals(target);
+	}
+
+	private int getIndex(int x, int y) {
+		return (y - minY) * width + (x - minX);
+	}
+
+	/**
+	 * @param requester
+	 *            A path requester that isn't a ship.
+	 * @return The key of all requesters that are blocked at the same positions as the given one.
+	 */
+	public static int getRequesterKey(IPathCalculatable requester) {
+		return requester.needsPlayersGround() ? requester.getPlayer().getPlayerId() : -1;
+	}
+}
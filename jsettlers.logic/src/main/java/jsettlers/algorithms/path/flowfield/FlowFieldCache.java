@@ -0,0 +1,88 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.algorithms.path.flowfield;
+
+import java.util.Iterator;
+import java.util.LinkedList;
+
+import jsettlers.algorithms.path.IPathCalculatable;
+import jsettlers.algorithms.path.astar.IAStarPathMap;
+import jsettlers.common.position.ShortPoint2D;
+
+/**
+ * Keeps the most recently used {@link FlowField}s, so repeated group move orders to the same target don't need to calculate the field again.
+ * <p />
+ * A field is removed as soon as a position inside of its region changes, so a cached field always equals a newly calculated one.
+ */
+public final class FlowFieldCache {
+	private static final int CAPACITY = 8;
+
+	private final IAStarPathMap map;
+	private final short width;
+	private final short height;
+	private final LinkedList<FlowField> fields = new LinkedList<>(); // the most recently used field is the first one
+
+	public FlowFieldCache(IAStarPathMap map, short width, short height) {
+		this.map = map;
+		this.width = width;
+		this.height = height;
+	}
+
+	/**
+	 * @param requester
+	 *            The requester that wants to follow the field. This must not be a ship.
+	 * @param target
+	 *            The target of the field.
+	 * @return The cached field or a new one, if there is no cached field for the target and the requester.
+	 */
+	public FlowField get(IPathCalculatable requester, ShortPoint2D target) {
+		int requesterKey = FlowField.getRequesterKey(requester);
+		for (Iterator<FlowField> iterator = fields.iterator(); iterator.hasNext();) {
+			FlowField field = iterator.next();
+			if (field.matches(target, requesterKey)) {
+				iterator.remove();
+				fields.addFirst(field);
+				return field;
+			}
+		}
+
+		FlowField field = new FlowField(map, requester, target, width, height);
+		fields.addFirst(field);
+		if (fields.size() > CAPACITY) {
+			fields.removeLast();
+		}
+		return field;
+	}
+
+	/**
+	 * Removes all fields that contain the given position.
+	 *
+	 * @param x
+	 *            x coordinate of the changed position
+	 * @param y
+	 *            y coordinate of the changed position
+	 */
+	public void invalidate(int x, int y) {
+		for (Iterator<FlowField> iterator = fields.iterator(); iterator.hasNext();) {
+			if (iterator.next().isInRegion(x, y)) {
+				iterator.remove();
+			}
+		}
+	}
+
+	public int size() {
+		return fields.size();
+	}
+}
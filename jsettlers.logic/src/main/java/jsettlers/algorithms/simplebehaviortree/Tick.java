@@ -3,22 +3,40 @@ package jsettlers.algorithms.simplebehaviortree;
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
-import java.util.HashSet;
 import java.util.Map;
-import java.util.Set;
 import java.util.TreeMap;
 
+/**
+ * The state of one target in a shared behaviour tree.
+ * <p>
+ * The nodes of a {@link Root} are numbered from 0 to {@link Root#getChildrenCount()} - 1, so the state is stored in arrays indexed by the node id:
+ * one bit per node for the open nodes and one slot per node for its property. Properties of the int nodes (sequences, selectors, sleeps...) are
+ * stored in an int array, so ticking the tree doesn't allocate.
+ * <p>
+ * The serialized form is a map of all properties that have been set, followed by the ids of the open nodes.
+ */
 public class Tick<T> {
 
 	public final Root<T> root;
 	public final T       target;
 
-	private final Set<Node<T>> openNodes = new HashSet<>();
-	private final Map<Integer, Object> properties = new TreeMap<>();
+	private final long[]   openNodes;
+	private final long[]   setProperties;
+	private final long[]   intProperties;
+	private final int[]    intValues;
+	private final Object[] objectValues;
 
 	public Tick(T target, Root<T> root) {
 		this.root = root;
 		this.target = target;
+
+		int nodes = root.getChildrenCount();
+		int words = (nodes + 63) >>> 6;
+		openNodes = new long[words];
+		setProperties = new long[words];
+		intProperties = new long[words];
+		intValues = new int[nodes];
+		objectValues = new Object[nodes];
 	}
 
 	public NodeStatus tick() {
@@ -30,35 +48,70 @@ public class Tick<T> {
 	}
 
 	public boolean isOpen(Node<T> node) {
-		return openNodes.contains(node);
+		return isSet(openNodes, node.getId());
 	}
 
 	public void visitNode(Node<T> node) {
-		openNodes.add(node);
+		int id = node.getId();
+		openNodes[id >>> 6] |= 1L << id;
 	}
 
 	public void tickNode(Node<T> node) {
 	}
 
 	public void leaveNode(Node<T> node) {
-		openNodes.remove(node);
+		int id = node.getId();
+		openNodes[id >>> 6] &= ~(1L << id);
 	}
 
 	public <I> I getProperty(int id) {
-		return (I) properties.get(id);
+		return (I) objectValues[id];
 	}
 
 	public void setProperty(int id, Object value) {
-		properties.put(id, value);
+		objectValues[id] = value;
+		setProperties[id >>> 6] |= 1L << id;
+		intProperties[id >>> 6] &= ~(1L << id);
+	}
+
+	public int getIntProperty(int id) {
+		return intValues[id];
+	}
+
+	public void setIntProperty(int id, int value) {
+		intValues[id] = value;
+		objectValues[id] = null;
+		setProperties[id >>> 6] |= 1L << id;
+		intProperties[id >>> 6] |= 1L << id;
+	}
+
+	private static boolean isSet(long[] bits, int id) {
+		return (bits[id >>> 6] & (1L << id)) != 0;
+	}
+
+	private Object getSerializedProperty(int id) {
+		return isSet(intProperties, id) ? Integer.valueOf(intValues[id]) : objectValues[id];
 	}
 
 	public void serialize(ObjectOutputStream oos) throws IOException {
+		Map<Integer, Object> properties = new TreeMap<>();
+		for (int id = 0; id < objectValues.length; id++) {
+			if (isSet(setProperties, id)) {
+				properties.put(id, getSerializedProperty(id));
+			}
+		}
 		oos.writeObject(properties);
 
-		oos.writeInt(openNodes.size());
+		int openNodeCount = 0;
+		for (long word : openNodes) {
+			openNodeCount += Long.bitCount(word);
+		}
+		oos.writeInt(openNodeCount);
 
-		for(int openNode : openNodes.stream().map(Node::getId).sorted().toArray(Integer[]::new)) {
-			oos.writeInt(openNode);
+		for (int id = 0; id < objectValues.length; id++) {
+			if (isSet(openNodes, id)) {
+				oos.writeInt(id);
+			}
 		}
 	}
 
@@ -66,14 +119,22 @@ public class Tick<T> {
 			throws IOException, ClassNotFoundException {
 		Tick<T> out = new Tick<>(target, root);
 
-		out.properties.putAll((Map<Integer, Object>) ois.readObject());
+		Map<Integer, Object> properties = (Map<Integer, Object>) ois.readObject();
+		for (Map.Entry<Integer, Object> property : properties.entrySet()) {
+			if (property.getValue() instanceof Integer) {
+				out.setIntProperty(property.getKey(), (Integer) property.getValue());
+			} else {
+				out.setProperty(property.getKey(), property.getValue());
+			}
+		}
+
 		int openNodeCount = ois.readInt();
 		for(int i = 0; i < openNodeCount; i++) {
 			Node<T> openNode = root.findNode(ois.readInt());
 
 			if(openNode == null) throw new Error("Unknown open node!");
 
-			out.openNodes.add(openNode);
+			out.visitNode(openNode);
 		}
 
 		return out;
@@ -31,7 +31,7 @@ public class DynamicGuardSelector<T> extends Composite<T> {
 	@Override
 	protected NodeStatus onTick(Tick<T> tick) {
 		Node<T> runningChild = null;
-		int runningChildIndex = tick.getProperty(getId());
+		int runningChildIndex = tick.getIntProperty(getId());
 		if(runningChildIndex != -1) {
 			runningChild = children.get(runningChildIndex);
 		}
@@ -50,7 +50,7 @@ public class DynamicGuardSelector<T> extends Composite<T> {
 
 				switch (returnStatus) {
 					case RUNNING:
-						tick.setProperty(getId(), i);
+						tick.setIntProperty(getId(), i);
 						return RUNNING;
 					case SUCCESS:
 						return SUCCESS;
@@ -66,12 +66,12 @@ public class DynamicGuardSelector<T> extends Composite<T> {
 
 	@Override
 	protected void onOpen(Tick<T> tick) {
-		tick.setProperty(getId(), -1);
+		tick.setIntProperty(getId(), -1);
 	}
 
 	@Override
 	protected void onClose(Tick<T> tick) {
-		int runningChild = tick.getProperty(getId());
+		int runningChild = tick.getIntProperty(getId());
 		if(runningChild != -1) children.get(runningChild).close(tick);
 	}
 }
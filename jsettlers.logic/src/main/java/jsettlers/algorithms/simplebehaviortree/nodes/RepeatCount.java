@@ -19,12 +19,12 @@ public class RepeatCount<T> extends Decorator<T> {
 
 	@Override
 	protected void onOpen(Tick<T> tick) {
-		tick.setProperty(getId(), iterationsSupplier.apply(tick.target));
+		tick.setIntProperty(getId(), iterationsSupplier.apply(tick.target));
 	}
 
 	@Override
 	protected NodeStatus onTick(Tick<T> tick) {
-		int iterations = tick.getProperty(getId());
+		int iterations = tick.getIntProperty(getId());
 
 		// zero iterations -> do nothing and return SUCCESS
 		for(int i = iterations; i > 0; i--) {
@@ -32,7 +32,7 @@ public class RepeatCount<T> extends Decorator<T> {
 			switch (newStatus) {
 				// try again next time
 				case RUNNING:
-					tick.setProperty(getId(), i);
+					tick.setIntProperty(getId(), i);
 					// stop on failure
 				case FAILURE:
 					return newStatus;
@@ -14,7 +14,7 @@ public class Selector<T> extends Composite<T> {
 
 	@Override
 	protected NodeStatus onTick(Tick<T> tick) {
-		int index = tick.getProperty(getId());
+		int index = tick.getIntProperty(getId());
 
 		for (; index < children.size(); index++) {
 			NodeStatus status = children.get(index).execute(tick);
@@ -22,7 +22,7 @@ public class Selector<T> extends Composite<T> {
 			if(status == NodeStatus.SUCCESS) {
 				return NodeStatus.SUCCESS;
 			} else if(status == NodeStatus.RUNNING) {
-				tick.setProperty(getId(), index);
+				tick.setIntProperty(getId(), index);
 				return NodeStatus.RUNNING;
 			}
 		}
@@ -31,11 +31,11 @@ public class Selector<T> extends Composite<T> {
 
 	@Override
 	protected void onOpen(Tick<T> tick) {
-		tick.setProperty(getId(), 0);
+		tick.setIntProperty(getId(), 0);
 	}
 
 	@Override
 	protected void onClose(Tick<T> tick) {
-		children.get(tick.getProperty(getId())).close(tick);
+		children.get(tick.getIntProperty(getId())).close(tick);
 	}
 }
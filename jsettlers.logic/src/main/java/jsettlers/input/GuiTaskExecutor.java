@@ -23,9 +23,12 @@ import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
+import jsettlers.algorithms.path.Path;
 import jsettlers.common.CommonConstants;
 import jsettlers.common.action.EMoveToType;
 import jsettlers.common.buildings.IBuilding;
+import jsettlers.common.logging.ETickCategory;
+import jsettlers.common.logging.TickProfiler;
 import jsettlers.common.map.shapes.HexGridArea;
 import jsettlers.common.movable.EMovableType;
 import jsettlers.common.position.ShortPoint2D;
@@ -59,6 +62,7 @@ import jsettlers.logic.buildings.military.occupying.OccupyingBuilding;
 import jsettlers.logic.buildings.others.StockBuilding;
 import jsettlers.logic.buildings.trading.TradingBuilding;
 import jsettlers.logic.buildings.workers.DockyardBuilding;
+import jsettlers.logic.constants.MatchConstants;
 import jsettlers.logic.map.grid.partition.manager.settings.MaterialProductionSettings;
 import jsettlers.logic.movable.Movable;
 import jsettlers.logic.movable.MovableManager;
@@ -74,13 +78,15 @@ import jsettlers.network.synchronic.timer.ITaskExecutor;
 /**
  * @author Andreas Eberle
  */
-class GuiTaskExecutor implements ITaskExecutor {
+public class GuiTaskExecutor implements ITaskExecutor {
+	private static final int MIN_GROUP_SIZE_FOR_SHARED_PATHS = 4;
+
 	private static GuiTaskExecutor           instance = null;
 	private final  IGuiInputGrid             grid;
 	private final  ITaskExecutorGuiInterface guiInterface;
 	private final  byte                      playerId;
 
-	GuiTaskExecutor(IGuiInputGrid grid, ITaskExecutorGuiInterface guiInterface, byte playerId) {
+	public GuiTaskExecutor(IGuiInputGrid grid, ITaskExecutorGuiInterface guiInterface, byte playerId) {
 		this.grid = grid;
 		this.guiInterface = guiInterface;
 		this.playerId = playerId;
@@ -92,6 +98,21 @@ class GuiTaskExecutor implements ITaskExecutor {
 
 	@Override
 	public void executeTask(TaskPacket iTask) {
+		TickProfiler profiler = MatchConstants.tickProfiler();
+		if (profiler == null) {
+			executeGuiTask(iTask);
+			return;
+		}
+
+		long start = System.nanoTime();
+		try {
+			executeGuiTask(iTask);
+		} finally {
+			profiler.addSince(ETickCategory.TASKS, start);
+		}
+	}
+
+	private void executeGuiTask(TaskPacket iTask) {
 		if (!(iTask instanceof SimpleGuiTask)) {
 			return;
 		}
@@ -385,7 +406,13 @@ class GuiTaskExecutor implements ITaskExecutor {
 		((IMageMovable)priest).moveToCast(castSpellGuiTask.getAt(), castSpellGuiTask.getSpell());
 	}
 
+	/**
+	 * Sends the movables to the free positions around the target. The paths of a bigger group are calculated here with one shared search towards
+	 * the target, instead of one search per movable.
+	 */
 	private void sendManyMovables(ShortPoint2D targetPosition, List<ILogicMovable> movables, EMoveToType moveToType) {
+		boolean sharePaths = movables.size() >= MIN_GROUP_SIZE_FOR_SHARED_PATHS && moveToType != EMoveToType.PATROL;
+
 		for (int radius = 0, ringsWithoutSuccessCtr = 0; ringsWithoutSuccessCtr <= Math.max(5, 15 - radius + ringsWithoutSuccessCtr) && !movables.isEmpty(); radius++) {
 			MutableInt numberOfSendMovables = new MutableInt(0);
 
@@ -397,7 +424,12 @@ class GuiTaskExecutor implements ITaskExecutor {
 					Optional<ILogicMovable> movableOptional = removeMovableThatCanMoveTo(movables, x, y);
 
 					movableOptional.ifPresent(movable -> {
-						movable.moveTo(new ShortPoint2D(x, y), moveToType);
+						ShortPoint2D destination = new ShortPoint2D(x, y);
+						Path path = null;
+						if (sharePaths && movable instanceof IAttackableHumanMovable) {
+							path = grid.calculateGroupPath(movable, targetPosition, destination);
+						}
+						movable.moveTo(destination, moveToType, path);
 						numberOfSendMovables.value++;
 					});
 				});
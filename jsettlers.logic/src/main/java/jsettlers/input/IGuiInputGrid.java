@@ -17,6 +17,8 @@ package jsettlers.input;
 import java.io.IOException;
 
 import jsettlers.algorithms.construction.AbstractConstructionMarkableMap;
+import jsettlers.algorithms.path.IPathCalculatable;
+import jsettlers.algorithms.path.Path;
 import jsettlers.common.buildings.EBuildingType;
 import jsettlers.common.buildings.IBuilding;
 import jsettlers.common.material.EMaterialType;
@@ -127,6 +129,20 @@ public interface IGuiInputGrid {
 
 	boolean isBlocked(int x, int y);
 
+	/**
+	 * Calculates the path of a movable that is sent to the given destination together with a group of other movables. The movables of a group
+	 * share the search towards the target of the group.
+	 *
+	 * @param requester
+	 *            The movable.
+	 * @param groupTarget
+	 *            The target the group has been sent to.
+	 * @param destination
+	 *            The destination of the movable close to the target of the group.
+	 * @return The path or <code>null</code> if the movable should calculate its path on its own.
+	 */
+	Path calculateGroupPath(IPathCalculatable requester, ShortPoint2D groupTarget, ShortPoint2D destination);
+
 	Player getPlayerAt(int x, int y);
 
 	Player getPlayer(byte playerId);
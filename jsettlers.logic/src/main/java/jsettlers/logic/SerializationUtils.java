@@ -1,14 +1,24 @@
 package jsettlers.logic;
 
+import java.io.DataInput;
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
+import java.io.OutputStream;
 import java.lang.reflect.Array;
+import java.nio.ByteBuffer;
+import java.nio.LongBuffer;
+import java.nio.ShortBuffer;
+import java.util.BitSet;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.TreeMap;
 
+import jsettlers.logic.map.loading.savegame.SavegameObjectInputStream;
+import jsettlers.logic.map.loading.savegame.SavegameObjectOutputStream;
+
 public class SerializationUtils {
+	private static final int BLOCK_CHUNK_SIZE = 64 * 1024; // primitive blocks are converted and written in chunks of this size
 
 	public static <T> void writeSparseArray(ObjectOutputStream oos, T[] data) throws IOException {
 		oos.writeInt(data.length);
@@ -44,4 +54,165 @@ public class SerializationUtils {
 		}
 		return data;
 	}
+
+	/**
+	 * Writes the given array as one raw block of bytes instead of serializing every element on its own. A {@link SavegameObjectOutputStream} only
+	 * keeps a copy of the array, which is written behind the format header of the savegame.
+	 */
+	public static void writeBlock(ObjectOutputStream oos, byte[] data) throws IOException {
+		if (oos instanceof SavegameObjectOutputStream) {
+			((SavegameObjectOutputStream) oos).addBlock(data.clone());
+			return;
+		}
+
+		oos.writeInt(data.length);
+		oos.write(data);
+	}
+
+	public static byte[] readByteBlock(ObjectInputStream ois) throws IOException {
+		if (ois instanceof SavegameObjectInputStream) {
+			return ((SavegameObjectInputStream) ois).nextBlock(byte[].class);
+		}
+
+		byte[] data = new byte[ois.readInt()];
+		ois.readFully(data);
+		return data;
+	}
+
+	/**
+	 * Writes the given arrays of equal length as raw blocks without their lengths, e.g. the columns of a two dimensional grid.
+	 */
+	public static void writeBlocks(ObjectOutputStream oos, byte[][] data) throws IOException {
+		for (byte[] column : data) {
+			if (oos instanceof SavegameObjectOutputStream) {
+				((SavegameObjectOutputStream) oos).addBlock(column.clone());
+			} else {
+				oos.write(column);
+			}
+		}
+	}
+
+	/**
+	 * Reads the arrays written by {@link #writeBlocks(ObjectOutputStream, byte[][])} into the given arrays, which must have the written lengths.
+	 */
+	public static void readBlocks(ObjectInputStream ois, byte[][] data) throws IOException {
+		for (int i = 0; i < data.length; i++) {
+			if (ois instanceof SavegameObjectInputStream) {
+				byte[] column = ((SavegameObjectInputStream) ois).nextBlock(byte[].class);
+				if (column.length != data[i].length) {
+					throw new IOException("Block of length " + column.length + " doesn't fit an array of length " + data[i].length + ".");
+				}
+				data[i] = column;
+			} else {
+				ois.readFully(data[i]);
+			}
+		}
+	}
+
+	/**
+	 * Writes the given array as raw big endian block. The values are converted in chunks, so no copy of the whole array is needed.
+	 */
+	public static void writeBlock(ObjectOutputStream oos, short[] data) throws IOException {
+		if (oos instanceof SavegameObjectOutputStream) {
+			((SavegameObjectOutputStream) oos).addBlock(data.clone());
+			return;
+		}
+
+		oos.writeInt(data.length);
+		writeValues(oos, data);
+	}
+
+	public static short[] readShortBlock(ObjectInputStream ois) throws IOException {
+		if (ois instanceof SavegameObjectInputStream) {
+			return ((SavegameObjectInputStream) ois).nextBlock(short[].class);
+		}
+
+		short[] data = new short[ois.readInt()];
+		readValues(ois, data);
+		return data;
+	}
+
+	/**
+	 * Writes the words of the given {@link BitSet} as raw big endian block.
+	 */
+	public static void writeBlock(ObjectOutputStream oos, BitSet bits) throws IOException {
+		long[] data = bits.toLongArray();
+		if (oos instanceof SavegameObjectOutputStream) {
+			((SavegameObjectOutputStream) oos).addBlock(data);
+			return;
+		}
+
+		oos.writeInt(data.length);
+		writeValues(oos, data);
+	}
+
+	public static BitSet readBitSetBlock(ObjectInputStream ois) throws IOException {
+		if (ois instanceof SavegameObjectInputStream) {
+			return BitSet.valueOf(((SavegameObjectInputStream) ois).nextBlock(long[].class));
+		}
+
+		long[] data = new long[ois.readInt()];
+		readValues(ois, data);
+		return BitSet.valueOf(data);
+	}
+
+	/**
+	 * Writes the given values in big endian byte order.
+	 */
+	public static void writeValues(OutputStream out, short[] data) throws IOException {
+		ByteBuffer chunk = ByteBuffer.allocate(Math.min(BLOCK_CHUNK_SIZE, data.length * Short.BYTES));
+		ShortBuffer values = chunk.asShortBuffer();
+		for (int offset = 0; offset < data.length;) {
+			int count = Math.min(values.capacity(), data.length - offset);
+			values.clear();
+			values.put(data, offset, count);
+			out.write(chunk.array(), 0, count * Short.BYTES);
+			offset += count;
+		}
+	}
+
+	/**
+	 * Fills the given array with values written by {@link #writeValues(OutputStream, short[])}.
+	 */
+	public static void readValues(DataInput in, short[] data) throws IOException {
+		ByteBuffer chunk = ByteBuffer.allocate(Math.min(BLOCK_CHUNK_SIZE, data.length * Short.BYTES));
+		ShortBuffer values = chunk.asShortBuffer();
+		for (int offset = 0; offset < data.length;) {
+			int count = Math.min(values.capacity(), data.length - offset);
+			in.readFully(chunk.array(), 0, count * Short.BYTES);
+			values.clear();
+			values.get(data, offset, count);
+			offset += count;
+		}
+	}
+
+	/**
+	 * Writes the given values in big endian byte order.
+	 */
+	public static void writeValues(OutputStream out, long[] data) throws IOException {
+		ByteBuffer chunk = ByteBuffer.allocate(Math.min(BLOCK_CHUNK_SIZE, data.length * Long.BYTES));
+		LongBuffer values = chunk.asLongBuffer();
+		for (int offset = 0; offset < data.length;) {
+			int count = Math.min(values.capacity(), data.length - offset);
+			values.clear();
+			values.put(data, offset, count);
+			out.write(chunk.array(), 0, count * Long.BYTES);
+			offset += count;
+		}
+	}
+
+	/**
+	 * Fills the given array with values written by {@link #writeValues(OutputStream, long[])}.
+	 */
+	public static void readValues(DataInput in, long[] data) throws IOException {
+		ByteBuffer chunk = ByteBuffer.allocate(Math.min(BLOCK_CHUNK_SIZE, data.length * Long.BYTES));
+		LongBuffer values = chunk.asLongBuffer();
+		for (int offset = 0; offset < data.length;) {
+			int count = Math.min(values.capacity(), data.length - offset);
+			in.readFully(chunk.array(), 0, count * Long.BYTES);
+			values.clear();
+			values.get(data, offset, count);
+			offset += count;
+		}
+	}
 }
@@ -33,6 +33,7 @@ import jsettlers.common.buildings.IBuildingMaterial;
 import jsettlers.common.buildings.RelativeDirectionPoint;
 import jsettlers.common.buildings.stacks.ConstructionStack;
 import jsettlers.common.buildings.stacks.RelativeStack;
+import jsettlers.common.logging.ETickCategory;
 import jsettlers.common.map.shapes.FreeMapArea;
 import jsettlers.common.mapobject.EMapObjectType;
 import jsettlers.common.material.EPriority;
@@ -525,6 +526,11 @@ public abstract class Building extends AbstractHexMapObject implements IConstruc
 		this.selected = false;
 	}
 
+	@Override
+	public ETickCategory getTickCategory() {
+		return ETickCategory.BUILDINGS;
+	}
+
 	private void placeReusableMaterials() {
 		int posIdx = 0;
 		FreeMapArea buildingArea = getBuildingArea();
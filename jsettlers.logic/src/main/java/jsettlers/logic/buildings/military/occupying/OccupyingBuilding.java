@@ -49,6 +49,8 @@ import jsettlers.logic.buildings.Building;
 import jsettlers.logic.buildings.IBuildingsGrid;
 import jsettlers.logic.constants.Constants;
 import jsettlers.logic.constants.MatchConstants;
+import jsettlers.logic.eventlog.EGameEvent;
+import jsettlers.logic.eventlog.GameEventLog;
 import jsettlers.logic.map.grid.movable.MovableGrid;
 import jsettlers.logic.movable.interfaces.AbstractMovableGrid;
 import jsettlers.logic.movable.interfaces.IAttackable;
@@ -130,6 +132,7 @@ public class OccupyingBuilding extends Building implements IBuilding.IOccupied,
 		resetSoldierSearch();
 
 		super.setPlayer(newPlayer);
+		GameEventLog.log(EGameEvent.CONQUERED, newPlayer, getBuildingVariant().getType(), super.pos);
 
 		if (occupiedArea) { // free the area if it had been occupied.
 			super.grid.changePlayerOfTower(super.pos, newPlayer, getGroundArea());
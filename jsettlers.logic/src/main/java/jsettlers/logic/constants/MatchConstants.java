@@ -17,8 +17,12 @@ package jsettlers.logic.constants;
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
+import java.util.concurrent.TimeUnit;
 
-import jsettlers.logic.movable.civilian.BuildingWorkerMovable;
+import jsettlers.common.logging.TickProfiler;
+import jsettlers.logic.eventlog.GameEventLog;
+import jsettlers.logic.player.InitialGameState;
+import jsettlers.logic.timer.RescheduleTimer;
 import jsettlers.network.client.interfaces.IGameClock;
 
 /**
@@ -39,7 +43,19 @@ public final class MatchConstants {
 
 	public static boolean ENABLE_FOG_OF_WAR_DISABLING = false;
 
-	public static final boolean ENABLE_PRODUCTION_LOG = false;
+	/**
+	 * NOTE: this value has only an effect if it's changed before a game is started! <br>
+	 * if true, the events of the game are written to a {@link GameEventLog}. The log can also be started and stopped while the game is running.
+	 */
+	public static boolean ENABLE_EVENT_LOG = false;
+
+	/**
+	 * if true, the preparation of timerables supporting it is done in parallel at the beginning of every tick. See
+	 * {@link jsettlers.logic.timer.IParallelScheduledTimerable}. <br>
+	 * A prepared result is only used if it's the same as the result of a serial execution. Therefore the players of a match and the replays of it
+	 * can use different settings.
+	 */
+	public static boolean ENABLE_PARALLEL_TICK = false;
 
 	/**
 	 * NOTE: this value has only an effect if it's changed before the MainGrid is created! IT MUSTN'T BE CHANGED AFTER A MAIN GRID HAS BEEN CREATED <br>
@@ -48,20 +64,49 @@ public final class MatchConstants {
 	 */
 	public static boolean ENABLE_DEBUG_COLORS = true;
 
+	/**
+	 * NOTE: this value has only an effect if it's changed before {@link #init(IGameClock, InitialGameState)} is called! <br>
+	 * if true, the time of every tick is measured per {@link jsettlers.common.logging.ETickCategory} by a {@link TickProfiler}.
+	 */
+	public static boolean ENABLE_TICK_PROFILER = false;
+
 	private MatchConstants() {
 	}
 
 	private static IGameClock clock;
 	private static ExtendedRandom gameRandom;
 	private static ExtendedRandom aiRandom;
+	private static TickProfiler tickProfiler;
+	private static boolean hierarchicalPathfinding;
+	private static boolean groupFlowFields = true;
 
 	public static void init(IGameClock clock, long randomSeed) {
+		init(clock, randomSeed, false, true, ENABLE_TICK_PROFILER);
+	}
+
+	/**
+	 * Initializes the constants of a match with the random seed and the pathfinding settings recorded in its {@link InitialGameState}.
+	 */
+	public static void init(IGameClock clock, InitialGameState initialGameState) {
+		init(clock, initialGameState, ENABLE_TICK_PROFILER);
+	}
+
+	/**
+	 * @param tickProfiler
+	 *            if true, the ticks of the match are measured by a {@link TickProfiler}. The other init methods use {@link #ENABLE_TICK_PROFILER}.
+	 */
+	public static void init(IGameClock clock, InitialGameState initialGameState, boolean tickProfiler) {
+		init(clock, initialGameState.getRandomSeed(), initialGameState.isHierarchicalPathfinding(), initialGameState.isGroupFlowFields(), tickProfiler);
+	}
+
+	private static void init(IGameClock clock, long randomSeed, boolean hierarchicalPathfinding, boolean groupFlowFields, boolean tickProfiler) {
 		clearState();
+		MatchConstants.hierarchicalPathfinding = hierarchicalPathfinding;
+		MatchConstants.groupFlowFields = groupFlowFields;
 		MatchConstants.clock = clock;
 		MatchConstants.gameRandom = new ExtendedRandom(randomSeed);
 		MatchConstants.aiRandom = new ExtendedRandom(randomSeed);
-
-		BuildingWorkerMovable.resetProductionFile();
+		MatchConstants.tickProfiler = tickProfiler ? new TickProfiler(TimeUnit.MILLISECONDS.toNanos(RescheduleTimer.TIME_SLICE)) : null;
 	}
 
 	public static void clearState() {
@@ -71,6 +116,10 @@ public final class MatchConstants {
 		clock = null;
 		gameRandom = null;
 		aiRandom = null;
+		tickProfiler = null;
+		hierarchicalPathfinding = false;
+		groupFlowFields = true;
+		GameEventLog.stop();
 	}
 
 	public static IGameClock clock() {
@@ -85,6 +134,29 @@ public final class MatchConstants {
 		return aiRandom;
 	}
 
+	/**
+	 * @return The profiler of the current game or null if the ticks of the game are not measured.
+	 */
+	public static TickProfiler tickProfiler() {
+		return tickProfiler;
+	}
+
+	/**
+	 * @return true if a MainGrid created for the current match searches long paths with the
+	 *         {@link jsettlers.algorithms.path.astar.HierarchicalAStar}. A loaded MainGrid keeps the setting it has been saved with.
+	 */
+	public static boolean isHierarchicalPathfinding() {
+		return hierarchicalPathfinding;
+	}
+
+	/**
+	 * @return true if a MainGrid created for the current match moves groups along a shared {@link jsettlers.algorithms.path.flowfield.FlowField}.
+	 *         A loaded MainGrid keeps the setting it has been saved with.
+	 */
+	public static boolean isGroupFlowFields() {
+		return groupFlowFields;
+	}
+
 	public static void serialize(ObjectOutputStream oos) throws IOException {
 		oos.writeInt(clock.getTime());
 		oos.writeObject(gameRandom);
@@ -0,0 +1,62 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.logic.eventlog;
+
+import jsettlers.common.buildings.EBuildingType;
+import jsettlers.common.material.EMaterialType;
+import jsettlers.common.movable.EMovableType;
+
+/**
+ * The events recorded by the {@link GameEventLog}. Every event has a subtype, which is the ordinal of a constant of the enum given by
+ * {@link #getSubtypes()}.
+ */
+public enum EGameEvent {
+	/**
+	 * A building worker produced a material. The subtype is the {@link EMaterialType}.
+	 */
+	PRODUCED(EMaterialType.VALUES),
+	/**
+	 * A building worker took a material from a request stack of its building. The subtype is the {@link EMaterialType}.
+	 */
+	CONSUMED(EMaterialType.VALUES),
+	/**
+	 * A new movable has been created. Movables replacing another one, like a bearer becoming a worker, are not counted. The subtype is the
+	 * {@link EMovableType}.
+	 */
+	BORN(EMovableType.VALUES),
+	/**
+	 * A movable has been killed. The subtype is the {@link EMovableType}.
+	 */
+	DIED(EMovableType.VALUES),
+	/**
+	 * A military building has been conquered. The player is the new owner, the subtype is the {@link EBuildingType}.
+	 */
+	CONQUERED(EBuildingType.VALUES);
+
+	public static final EGameEvent[] VALUES = EGameEvent.values();
+
+	private final Enum<?>[] subtypes;
+
+	EGameEvent(Enum<?>[] subtypes) {
+		this.subtypes = subtypes;
+	}
+
+	/**
+	 * @return The constants the subtype of this event is an ordinal of.
+	 */
+	public Enum<?>[] getSubtypes() {
+		return subtypes;
+	}
+}
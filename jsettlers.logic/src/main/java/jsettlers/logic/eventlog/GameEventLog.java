@@ -0,0 +1,209 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.logic.eventlog;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import jsettlers.common.position.ShortPoint2D;
+import jsettlers.logic.constants.MatchConstants;
+import jsettlers.logic.player.Player;
+
+/**
+ * Binary log of the {@link EGameEvent}s of a game.
+ * <p />
+ * Every event is stored as a record of {@link #RECORD_SIZE} bytes in a ring buffer. A daemon thread writes the buffered records to the stream
+ * every {@link #FLUSH_INTERVAL_NANOS} or as soon as half of the buffer is used. The game thread therefore never waits for the disk. If the
+ * writer can't keep up, events are dropped and counted instead of blocking the game.
+ * <p />
+ * The log can be started and stopped at any time with {@link #start(OutputStream)} and {@link #stop()}. While it is stopped, logging an event only
+ * costs a volatile read.
+ * <p />
+ * File format (big endian): the header consists of {@link #MAGIC}, {@link #VERSION}, the number of event types and for every event type its name
+ * and the names of its subtypes. It is followed by the records, each consisting of the game time (int), the event ordinal (byte), the player id
+ * (byte), the subtype ordinal (short) and the x and y coordinate (short each). See {@link GameEventLogReader}.
+ */
+public final class GameEventLog {
+	static final int MAGIC = 0x4A53454C; // "JSEL"
+	static final short VERSION = 1;
+	static final int RECORD_SIZE = 12;
+
+	private static final int DEFAULT_CAPACITY = 1 << 16; // records
+	private static final long FLUSH_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+	private static volatile GameEventLog current;
+
+	private final OutputStream out;
+	private final int capacity;
+	private final byte[] ring;
+	private final ByteBuffer ringBuffer;
+	private final Thread flushThread;
+
+	private volatile long written;
+	private volatile long flushed;
+	private volatile boolean closed;
+	private volatile boolean failed;
+	private long dropped;
+
+	GameEventLog(OutputStream out, int capacity) throws IOException {
+		this.out = out;
+		this.capacity = capacity;
+		this.ring = new byte[capacity * RECORD_SIZE];
+		this.ringBuffer = ByteBuffer.wrap(ring);
+
+		writeHeader(out);
+
+		flushThread = new Thread(this::flushLoop, "GameEventLogFlusher");
+		flushThread.setDaemon(true);
+		flushThread.start();
+	}
+
+	/**
+	 * Starts logging into the given stream. A running log is stopped first.
+	 *
+	 * @param out
+	 *            The stream to write to. It is closed when the log is stopped.
+	 * @throws IOException
+	 *             If the header could not be written.
+	 */
+	public static synchronized void start(OutputStream out) throws IOException {
+		stop();
+		current = new GameEventLog(out, DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Stops logging, writes all buffered events and closes the stream. Does nothing if no log is running.
+	 */
+	public static synchronized void stop() {
+		GameEventLog log = current;
+		if (log != null) {
+			current = null;
+			log.close();
+		}
+	}
+
+	public static boolean isRunning() {
+		return current != null;
+	}
+
+	/**
+	 * Logs an event at the current game time if the log is running.
+	 */
+	public static void log(EGameEvent event, Player player, Enum<?> subtype, ShortPoint2D position) {
+		GameEventLog log = current;
+		if (log != null) {
+			log.append(MatchConstants.clock().getTime(), event, player == null ? -1 : player.getPlayerId(), subtype.ordinal(), position);
+		}
+	}
+
+	synchronized void append(int gameTime, EGameEvent event, byte playerId, int subtype, ShortPoint2D position) {
+		long index = written;
+		if (index - flushed >= capacity || failed) {
+			dropped++;
+			return;
+		}
+
+		int offset = (int) (index % capacity) * RECORD_SIZE;
+		ringBuffer.putInt(offset, gameTime);
+		ring[offset + 4] = (byte) event.ordinal();
+		ring[offset + 5] = playerId;
+		ringBuffer.putShort(offset + 6, (short) subtype);
+		ringBuffer.putShort(offset + 8, position == null ? -1 : position.x);
+		ringBuffer.putShort(offset + 10, position == null ? -1 : position.y);
+		written = index + 1;
+
+		if (index + 1 - flushed == capacity / 2) {
+			LockSupport.unpark(flushThread);
+		}
+	}
+
+	synchronized long getDropped() {
+		return dropped;
+	}
+
+	private static void writeHeader(OutputStream out) throws IOException {
+		DataOutputStream header = new DataOutputStream(out);
+		header.writeInt(MAGIC);
+		header.writeShort(VERSION);
+		header.writeByte(EGameEvent.VALUES.length);
+		for (EGameEvent event : EGameEvent.VALUES) {
+			header.writeUTF(event.name());
+			header.writeShort(event.getSubtypes().length);
+			for (Enum<?> subtype : event.getSubtypes()) {
+				header.writeUTF(subtype.name());
+			}
+		}
+		header.flush();
+	}
+
+	private void flushLoop() {
+		try {
+			while (!closed) {
+				LockSupport.parkNanos(this, FLUSH_INTERVAL_NANOS);
+				flush();
+			}
+			flush();
+		} catch (IOException e) {
+			failed = true;
+			System.err.println("Writing the game event log failed:");
+			e.printStackTrace();
+		} finally {
+			try {
+				out.close();
+			} catch (IOException e) {
+				e.printStackTrace();
+			}
+		}
+	}
+
+	/**
+	 * Writes the records appended since the last flush. Only called by the flush thread.
+	 */
+	private void flush() throws IOException {
+		long end = written;
+		long start = flushed;
+		if (start == end) {
+			return;
+		}
+
+		while (start < end) {
+			int from = (int) (start % capacity);
+			int count = (int) Math.min(end - start, capacity - from);
+			out.write(ring, from * RECORD_SIZE, count * RECORD_SIZE);
+			start += count;
+		}
+		out.flush();
+		flushed = end;
+	}
+
+	void close() {
+		closed = true;
+		LockSupport.unpark(flushThread);
+		try {
+			flushThread.join();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+
+		long droppedEvents = getDropped();
+		if (droppedEvents > 0) {
+			System.err.println("Game event log dropped " + droppedEvents + " events, because they were logged faster than they could be written.");
+		}
+	}
+}
@@ -0,0 +1,115 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.logic.eventlog;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Reads a log written by the {@link GameEventLog} one record at a time, so logs of any length can be analyzed without loading them into memory.
+ * <p />
+ * The names of the events and subtypes are read from the header of the log. Therefore logs stay readable if the enums change.
+ */
+public final class GameEventLogReader implements Closeable {
+	private final DataInputStream in;
+	private final String[] eventNames;
+	private final String[][] subtypeNames;
+	private final byte[] record = new byte[GameEventLog.RECORD_SIZE];
+
+	private int gameTime;
+	private int event;
+	private byte playerId;
+	private int subtype;
+	private short x;
+	private short y;
+
+	public GameEventLogReader(InputStream in) throws IOException {
+		this.in = new DataInputStream(new BufferedInputStream(in));
+
+		if (this.in.readInt() != GameEventLog.MAGIC) {
+			throw new IOException("Not a game event log.");
+		}
+		short version = this.in.readShort();
+		if (version != GameEventLog.VERSION) {
+			throw new IOException("Unsupported game event log version " + version + ".");
+		}
+
+		int numberOfEvents = this.in.readUnsignedByte();
+		eventNames = new String[numberOfEvents];
+		subtypeNames = new String[numberOfEvents][];
+		for (int i = 0; i < numberOfEvents; i++) {
+			eventNames[i] = this.in.readUTF();
+			subtypeNames[i] = new String[this.in.readUnsignedShort()];
+			for (int j = 0; j < subtypeNames[i].length; j++) {
+				subtypeNames[i][j] = this.in.readUTF();
+			}
+		}
+	}
+
+	/**
+	 * Reads the next record.
+	 *
+	 * @return true if a record has been read, false if the end of the log has been reached. An incomplete last record, written by a game that has
+	 *         not been shut down properly, is ignored.
+	 */
+	public boolean next() throws IOException {
+		try {
+			in.readFully(record);
+		} catch (EOFException e) {
+			return false;
+		}
+
+		gameTime = (record[0] & 0xFF) << 24 | (record[1] & 0xFF) << 16 | (record[2] & 0xFF) << 8 | (record[3] & 0xFF);
+		event = record[4] & 0xFF;
+		playerId = record[5];
+		subtype = (record[6] & 0xFF) << 8 | (record[7] & 0xFF);
+		x = (short) ((record[8] & 0xFF) << 8 | (record[9] & 0xFF));
+		y = (short) ((record[10] & 0xFF) << 8 | (record[11] & 0xFF));
+		return true;
+	}
+
+	public int getGameTime() {
+		return gameTime;
+	}
+
+	public String getEventName() {
+		return eventNames[event];
+	}
+
+	public byte getPlayerId() {
+		return playerId;
+	}
+
+	public String getSubtypeName() {
+		return subtypeNames[event][subtype];
+	}
+
+	public short getX() {
+		return x;
+	}
+
+	public short getY() {
+		return y;
+	}
+
+	@Override
+	public void close() throws IOException {
+		in.close();
+	}
+}
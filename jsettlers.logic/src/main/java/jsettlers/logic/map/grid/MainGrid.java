@@ -18,6 +18,7 @@ import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
+import java.util.Arrays;
 import java.util.BitSet;
 import java.util.Date;
 import java.util.Locale;
@@ -34,11 +35,15 @@ import jsettlers.algorithms.path.IPathCalculatable;
 import jsettlers.algorithms.path.Path;
 import jsettlers.algorithms.path.area.IInAreaFinderMap;
 import jsettlers.algorithms.path.area.InAreaFinder;
+import jsettlers.algorithms.path.astar.AStarPool;
+import jsettlers.algorithms.path.astar.AStarPool.PathRequest;
 import jsettlers.algorithms.path.astar.AbstractAStar;
-import jsettlers.algorithms.path.astar.BucketQueueAStar;
+import jsettlers.algorithms.path.astar.HierarchicalAStar;
 import jsettlers.algorithms.path.astar.IAStarPathMap;
 import jsettlers.algorithms.path.dijkstra.DijkstraAlgorithm;
 import jsettlers.algorithms.path.dijkstra.IDijkstraPathMap;
+import jsettlers.algorithms.path.flowfield.FlowField;
+import jsettlers.algorithms.path.flowfield.FlowFieldCache;
 import jsettlers.algorithms.previewimage.PreviewImageCreator;
 import jsettlers.algorithms.traversing.area.IAreaVisitor;
 import jsettlers.common.Color;
@@ -166,6 +171,7 @@ public final class MainGrid implements Serializable {
 	transient         BordersThread                  bordersThread;
 	transient         IGuiInputGrid                  guiInputGrid;
 	private transient IEnclosedBlockedAreaFinderGrid enclosedBlockedAreaFinderGrid;
+	private transient IMapChangedListener[]          mapChangedListeners;
 
 	public MainGrid(String mapId, String mapName, short width, short height, PlayerSetting[] playerSettings) {
 		this.mapId = mapId;
@@ -209,10 +215,21 @@ public final class MainGrid implements Serializable {
 	private void initAdditional() {
 		this.graphicsGrid = new GraphicsGrid();
 		this.constructionMarksGrid = new ConstructionMarksGrid();
-		this.bordersThread = new BordersThread(new BordersThreadGrid());
+		this.bordersThread = new BordersThread(new BordersThreadGrid(), width, height);
 		this.guiInputGrid = new GuiInputGrid();
 
+		this.mapChangedListeners = new IMapChangedListener[0];
+
 		this.partitionsGrid.setPlayerChangedListener(new PlayerChangedListener());
+		this.flagsGrid.setBlockedChangedListener((x, y, blocked) -> {
+			movablePathfinderGrid.invalidatePathfinding(x, y);
+			constructionMarksGrid.positionChanged(x, y);
+			notifyMapChanged(x, y);
+		});
+		this.landscapeGrid.setLandscapeChangedListener((x, y) -> {
+			constructionMarksGrid.positionChanged(x, y);
+			notifyMapChanged(x, y);
+		});
 		this.enclosedBlockedAreaFinderGrid = new EnclosedBlockedAreaFinderGrid();
 	}
 
@@ -377,7 +394,7 @@ public final class MainGrid implements Serializable {
 		PlayerState[] playerStates = calculatePlayerStates(playerId, uiState);
 		MapFileHeader header = generateSaveHeader(playerId);
 		MapList list = MapList.getDefaultList();
-		list.saveMap(playerStates, header, MainGrid.this);
+		list.saveMapInBackground(playerStates, header, MainGrid.this); // the game continues while the snapshot is written
 
 		MatchConstants.clock().setPausing(savedPausingState);
 	}
@@ -446,6 +463,24 @@ public final class MainGrid implements Serializable {
 		return constructionMarksGrid;
 	}
 
+	/**
+	 * Adds a listener that is called for every change of the map that may influence statistics calculated from the map.
+	 *
+	 * @param listener
+	 *            The listener to add.
+	 */
+	public synchronized void addMapChangedListener(IMapChangedListener listener) {
+		IMapChangedListener[] listeners = Arrays.copyOf(mapChangedListeners, mapChangedListeners.length + 1);
+		listeners[mapChangedListeners.length] = listener;
+		mapChangedListeners = listeners;
+	}
+
+	private void notifyMapChanged(int x, int y) {
+		for (IMapChangedListener listener : mapChangedListeners) {
+			listener.mapChangedAt(x, y);
+		}
+	}
+
 	public LandscapeGrid getLandscapeGrid() {
 		return landscapeGrid;
 	}
@@ -511,6 +546,7 @@ public final class MainGrid implements Serializable {
 			}
 		}
 		landscapeGrid.setLandscapeTypeAt(x, y, newType, true);
+		movablePathfinderGrid.invalidatePathfinding(x, y);
 	}
 
 	final void checkPositionThatChangedPlayer(int x, int y) {
@@ -852,7 +888,7 @@ public final class MainGrid implements Serializable {
 
 		@Override
 		public final IMapObject getVisibleMapObjectsAt(int x, int y) {
-			if(fogOfWar.isHidden(x, y)) return fogOfWar.hiddenMapObjects[x][y];
+			if(fogOfWar.isHidden(x, y)) return fogOfWar.getHiddenMapObjectsAt(x, y);
 			return objectsGrid.getObjectsAt(x, y);
 		}
 
@@ -862,7 +898,7 @@ public final class MainGrid implements Serializable {
 
 		@Override
 		public final byte getVisibleHeightAt(int x, int y) {
-			if(fogOfWar.isHidden(x, y)) return fogOfWar.hiddenHeight[x][y];
+			if(fogOfWar.isHidden(x, y)) return fogOfWar.getHiddenHeightAt(x, y);
 			return landscapeGrid.getHeightAt(x, y);
 		}
 
@@ -941,7 +977,7 @@ public final class MainGrid implements Serializable {
 		}
 
 		@Override
-		public byte[][] getVisibleStatusArray() {
+		public byte[] getVisibleStatusArray() {
 			return fogOfWar.getVisibleStatusArray();
 		}
 
@@ -997,7 +1033,12 @@ public final class MainGrid implements Serializable {
 
 		@Override
 		public final boolean removeMapObject(int x, int y, AbstractHexMapObject mapObject) {
-			return objectsGrid.removeMapObject(x, y, mapObject);
+			boolean removed = objectsGrid.removeMapObject(x, y, mapObject);
+			if (removed && mapObject.getObjectType() == EMapObjectType.ATTACKABLE_TOWER) {
+				movableGrid.markChanged(x, y);
+			}
+			notifyMapChanged(x, y);
+			return removed;
 		}
 
 		@Override
@@ -1008,6 +1049,15 @@ public final class MainGrid implements Serializable {
 		@Override
 		public final void addMapObject(int x, int y, AbstractHexMapObject mapObject) {
 			objectsGrid.addMapObjectAt(x, y, mapObject);
+			if (mapObject.getObjectType() == EMapObjectType.ATTACKABLE_TOWER) {
+				movableGrid.markChanged(x, y);
+			}
+			notifyMapChanged(x, y);
+		}
+
+		@Override
+		public final void mapObjectChangedAt(int x, int y) {
+			notifyMapChanged(x, y);
 		}
 
 		@Override
@@ -1232,11 +1282,18 @@ public final class MainGrid implements Serializable {
 
 	final class MovablePathfinderGrid extends AbstractMovableGrid {
 		private static final long serialVersionUID = 4006228724969442802L;
+		private static final int GROUP_PATH_APPROACH_DISTANCE = 8;
 
-		private transient PathfinderGrid    pathfinderGrid;
+		transient         PathfinderGrid    pathfinderGrid; // not private, because it's used by the benchmarks
+		private transient AStarPool         aStarPool;
 		private transient AbstractAStar     aStar;
+		private transient HierarchicalAStar hierarchicalAStar;
 		transient         DijkstraAlgorithm dijkstra; // not private, because it's used by BuildingsGrid
 		private transient InAreaFinder      inAreaFinder;
+		private transient FlowFieldCache    flowFields;
+
+		private final boolean hierarchicalPathfinding;
+		private final boolean groupFlowFields;
 
 		private void readObject(ObjectInputStream ois) throws IOException, ClassNotFoundException {
 			ois.defaultReadObject();
@@ -1254,15 +1311,26 @@ public final class MainGrid implements Serializable {
 		}
 
 		public MovablePathfinderGrid() {
+			hierarchicalPathfinding = MatchConstants.isHierarchicalPathfinding();
+			groupFlowFields = MatchConstants.isGroupFlowFields();
 			initPathfinders(width, height);
 		}
 
 		private void initPathfinders(short width, short height) {
 			pathfinderGrid = new PathfinderGrid();
 
-			aStar = new BucketQueueAStar(pathfinderGrid, width, height);
+			aStarPool = new AStarPool(pathfinderGrid, width, height);
+			if (hierarchicalPathfinding) {
+				hierarchicalAStar = new HierarchicalAStar(pathfinderGrid, aStarPool, width, height);
+				aStar = hierarchicalAStar;
+			} else {
+				aStar = aStarPool;
+			}
 			dijkstra = new DijkstraAlgorithm(pathfinderGrid, aStar, width, height);
 			inAreaFinder = new InAreaFinder(pathfinderGrid, width, height);
+			if (groupFlowFields) {
+				flowFields = new FlowFieldCache(pathfinderGrid, width, height);
+			}
 		}
 
 		@Override
@@ -1493,6 +1561,11 @@ public final class MainGrid implements Serializable {
 			}
 		}
 
+		@Override
+		public void attackableChangedAt(ShortPoint2D position) {
+			movableGrid.markChanged(position.x, position.y);
+		}
+
 		@Override
 		public Path calculatePathTo(IPathCalculatable pathRequester, ShortPoint2D targetPos) {
 			return aStar.findPath(pathRequester, targetPos);
@@ -1503,6 +1576,61 @@ public final class MainGrid implements Serializable {
 			return aStar.findPath(pathRequester, targetPos, startPos);
 		}
 
+		/**
+		 * Calculates the paths of all requests in parallel. The grid must not be changed while the paths are calculated.
+		 *
+		 * @param requests
+		 *            The path requests.
+		 * @return The paths at the indexes of their requests or <code>null</code> if no path has been found.
+		 */
+		public Path[] calculatePaths(PathRequest[] requests) {
+			return aStarPool.findPaths(requests);
+		}
+
+		/**
+		 * Informs the path finding about a changed blocked state, player or landscape at the given position.
+		 */
+		void invalidatePathfinding(int x, int y) {
+			if (hierarchicalAStar != null) {
+				hierarchicalAStar.invalidate(x, y);
+			}
+			if (flowFields != null) {
+				flowFields.invalidate(x, y);
+			}
+		}
+
+		/**
+		 * Calculates the path of a movable that is moved together with a group of other movables. The path follows the {@link FlowField} of the
+		 * group's target, which is shared by all movables of the group, until it gets close to the destination. Only the last part to the destination
+		 * is searched with the A*. Matches recorded without group flow fields always return <code>null</code>.
+		 *
+		 * @param requester
+		 *            The movable.
+		 * @param groupTarget
+		 *            The target the group has been sent to.
+		 * @param destination
+		 *            The destination of this movable close to the group's target.
+		 * @return The path or <code>null</code> if the movable should calculate its path on its own.
+		 */
+		Path calculateGroupPath(IPathCalculatable requester, ShortPoint2D groupTarget, ShortPoint2D destination) {
+			if (flowFields == null || requester.isShip() || requester.getPosition().getOnGridDistTo(destination) <= GROUP_PATH_APPROACH_DISTANCE) {
+				return null;
+			}
+
+			Path fieldPath = flowFields.get(requester, groupTarget).findPathTowards(requester.getPosition(), destination, GROUP_PATH_APPROACH_DISTANCE);
+			if (fieldPath == null) {
+				return null;
+			}
+
+			ShortPoint2D approachPosition = fieldPath.getTargetPosition();
+			if (approachPosition.equals(destination)) {
+				return fieldPath;
+			}
+
+			Path approachPath = aStar.findPath(requester, destination, approachPosition);
+			return approachPath == null ? null : new Path(approachPath, fieldPath);
+		}
+
 		@Override
 		public Path searchDijkstra(IPathCalculatable pathCalculateable, short centerX, short centerY, short radius, ESearchType searchType) {
 			return dijkstra.find(pathCalculateable, centerX, centerY, (short) 0, radius, searchType);
@@ -1586,6 +1714,21 @@ public final class MainGrid implements Serializable {
 			return enemy;
 		}
 
+		@Override
+		public long getEnemySearchStamp() {
+			return movableGrid.getChangeStamp();
+		}
+
+		@Override
+		public boolean isEnemySearchUnchangedSince(long stamp, ShortPoint2D position, IAttackable searchingAttackable, short maxSearchRadius,
+												   boolean includeTowers) {
+			int radius = maxSearchRadius;
+			if (includeTowers && !searchingAttackable.getMovableType().isBowman()) {
+				radius = Math.max(radius, Constants.TOWER_ATTACKABLE_SEARCH_RADIUS);
+			}
+			return movableGrid.isUnchangedSince(stamp, position.x, position.y, radius);
+		}
+
 		private IAttackable searchEnemyInArea(final ShortPoint2D position, final IPlayer searchingPlayer, final short minSearchRadius, final short maxSearchRadius, boolean isBowman, boolean includeTowers) {
 			int minDistance = Integer.MAX_VALUE;
 			IAttackable result = null;
@@ -2231,6 +2374,11 @@ public final class MainGrid implements Serializable {
 			return flagsGrid.isBlocked(x, y);
 		}
 
+		@Override
+		public Path calculateGroupPath(IPathCalculatable requester, ShortPoint2D groupTarget, ShortPoint2D destination) {
+			return movablePathfinderGrid.calculateGroupPath(requester, groupTarget, destination);
+		}
+
 		@Override
 		public Player getPlayerAt(int x, int y) {
 			return partitionsGrid.getPlayerAt(x, y);
@@ -2284,14 +2432,22 @@ public final class MainGrid implements Serializable {
 
 		@Override
 		public void playerChangedAt(int x, int y, byte newPlayerId) {
-			final ShortPoint2D position = new ShortPoint2D(x, y);
-			bordersThread.checkPosition(position);
+			movablePathfinderGrid.invalidatePathfinding(x, y);
+			constructionMarksGrid.positionChanged(x, y);
+			notifyMapChanged(x, y);
+
+			bordersThread.checkPosition(x, y);
 
 			Building building = objectsGrid.getBuildingAt(x, y);
 			if (building != null && building.getPlayer().getPlayerId() != newPlayerId) {
 				building.kill();
 			}
 		}
+
+		@Override
+		public void towerEnforcementChangedAt(int x, int y) {
+			notifyMapChanged(x, y);
+		}
 	}
 
 	/**
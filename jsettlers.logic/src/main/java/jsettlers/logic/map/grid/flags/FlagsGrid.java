@@ -14,10 +14,14 @@
  *******************************************************************************/
 package jsettlers.logic.map.grid.flags;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.util.BitSet;
 
 import jsettlers.algorithms.partitions.IBlockingProvider;
+import jsettlers.logic.SerializationUtils;
 
 /**
  * Grid that's storing the blocked information for fast access.
@@ -30,11 +34,12 @@ public final class FlagsGrid implements Serializable, IBlockingProvider, IProtec
 
 	private final short width;
 
-	private final BitSet blockedGrid;
-	private final BitSet markedGrid;
-	private final BitSet protectedGrid;
+	private transient BitSet blockedGrid; // the bit sets are written as raw blocks
+	private transient BitSet markedGrid;
+	private transient BitSet protectedGrid;
 
 	private IProtectedChangedListener protectedChangedListener = null;
+	private transient IBlockedChangedListener blockedChangedListener = null;
 
 	public FlagsGrid(final short width, final short height) {
 		this.width = width;
@@ -44,6 +49,20 @@ public final class FlagsGrid implements Serializable, IBlockingProvider, IProtec
 		this.markedGrid = new BitSet(width * height);
 	}
 
+	private void writeObject(ObjectOutputStream oos) throws IOException {
+		oos.defaultWriteObject();
+		SerializationUtils.writeBlock(oos, blockedGrid);
+		SerializationUtils.writeBlock(oos, markedGrid);
+		SerializationUtils.writeBlock(oos, protectedGrid);
+	}
+
+	private void readObject(ObjectInputStream ois) throws IOException, ClassNotFoundException {
+		ois.defaultReadObject();
+		blockedGrid = SerializationUtils.readBitSetBlock(ois);
+		markedGrid = SerializationUtils.readBitSetBlock(ois);
+		protectedGrid = SerializationUtils.readBitSetBlock(ois);
+	}
+
 	@Override
 	public boolean isBlocked(int x, int y) {
 		return blockedGrid.get(x + y * width);
@@ -78,6 +97,7 @@ public final class FlagsGrid implements Serializable, IBlockingProvider, IProtec
 	 */
 	public void setBlockedAndProtected(int x, int y, boolean newBlocked, boolean newProtected) {
 		final int idx = x + y * width;
+		boolean oldBlocked = this.blockedGrid.get(idx);
 		boolean oldProtected = this.protectedGrid.get(idx);
 
 		this.blockedGrid.set(idx, newBlocked);
@@ -86,6 +106,9 @@ public final class FlagsGrid implements Serializable, IBlockingProvider, IProtec
 		if (protectedChangedListener != null && oldProtected != newProtected) {
 			this.protectedChangedListener.protectedChanged(x, y, newProtected);
 		}
+		if (blockedChangedListener != null && oldBlocked != newBlocked) {
+			this.blockedChangedListener.blockedChanged(x, y, newBlocked);
+		}
 	}
 
 	public boolean isMarked(int x, int y) {
@@ -118,4 +141,21 @@ public final class FlagsGrid implements Serializable, IBlockingProvider, IProtec
 	public void setProtectedChangedListener(IProtectedChangedListener protectedChangedListener) {
 		this.protectedChangedListener = protectedChangedListener;
 	}
+
+	/**
+	 * Sets the listener informed about changes of the blocked state. The listener is not serialized and has to be set again after loading.
+	 *
+	 * @param blockedChangedListener
+	 *            the listener or null.
+	 */
+	public void setBlockedChangedListener(IBlockedChangedListener blockedChangedListener) {
+		this.blockedChangedListener = blockedChangedListener;
+	}
+
+	/**
+	 * Is informed when a position becomes blocked or unblocked.
+	 */
+	public interface IBlockedChangedListener {
+		void blockedChanged(int x, int y, boolean newBlockedState);
+	}
 }
@@ -21,6 +21,7 @@ import java.io.Serializable;
 import java.util.Iterator;
 import java.util.LinkedList;
 
+import jsettlers.common.logging.ETickCategory;
 import jsettlers.common.map.shapes.FreeMapArea;
 import jsettlers.common.position.ShortPoint2D;
 import jsettlers.logic.timer.IScheduledTimerable;
@@ -95,4 +96,9 @@ final class FlattenedResetter implements IScheduledTimerable, Serializable {
 	public void kill() {
 		// nothing to do here
 	}
+
+	@Override
+	public ETickCategory getTickCategory() {
+		return ETickCategory.LANDSCAPE;
+	}
 }
@@ -16,6 +16,7 @@ package jsettlers.logic.map.grid.landscape;
 
 import java.io.IOException;
 import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.util.Arrays;
 import java.util.BitSet;
@@ -37,6 +38,7 @@ import jsettlers.common.movable.EDirection;
 import jsettlers.common.movable.ESpellType;
 import jsettlers.common.position.RelativePoint;
 import jsettlers.common.position.ShortPoint2D;
+import jsettlers.logic.SerializationUtils;
 import jsettlers.logic.constants.Constants;
 import jsettlers.logic.constants.MatchConstants;
 import jsettlers.logic.map.grid.MainGrid;
@@ -53,12 +55,13 @@ public final class LandscapeGrid implements Serializable, IWalkableGround, IFlat
 
 	private static final int BLOCKED_PARTITION = 0;
 
-	private final byte[][] heightGrid;
-	private final byte[] landscapeGrid;
-	private final byte[] resourceAmount;
-	private final byte[] temporaryFlatened;
-	private final byte[] resourceType;
-	private final short[] blockedPartitions;
+	// the grids are written as raw blocks by writeObject()
+	private transient byte[][] heightGrid;
+	private transient byte[] landscapeGrid;
+	private transient byte[] resourceAmount;
+	private transient byte[] temporaryFlatened;
+	private transient byte[] resourceType;
+	private transient short[] blockedPartitions;
 	private boolean updateBlocked;
 	private final Map<Short, Short> realBlockedPartitions = new TreeMap<>();
 	private short nextLandPartition;
@@ -72,6 +75,7 @@ public final class LandscapeGrid implements Serializable, IWalkableGround, IFlat
 
 	private transient int[] debugColors;
 	private transient IGraphicsBackgroundListener backgroundListener;
+	private transient ILandscapeChangedListener landscapeChangedListener;
 
 	public LandscapeGrid(short width, short height, IProtectedProvider protectedProvider) {
 		this.width = width;
@@ -93,8 +97,28 @@ public final class LandscapeGrid implements Serializable, IWalkableGround, IFlat
 		protectedProvider.setProtectedChangedListener(this);
 	}
 
+	private void writeObject(ObjectOutputStream oos) throws IOException {
+		oos.defaultWriteObject();
+
+		SerializationUtils.writeBlocks(oos, heightGrid);
+		SerializationUtils.writeBlock(oos, landscapeGrid);
+		SerializationUtils.writeBlock(oos, resourceAmount);
+		SerializationUtils.writeBlock(oos, temporaryFlatened);
+		SerializationUtils.writeBlock(oos, resourceType);
+		SerializationUtils.writeBlock(oos, blockedPartitions);
+	}
+
 	private void readObject(ObjectInputStream ois) throws IOException, ClassNotFoundException {
 		ois.defaultReadObject();
+
+		heightGrid = new byte[width][height];
+		SerializationUtils.readBlocks(ois, heightGrid);
+		landscapeGrid = SerializationUtils.readByteBlock(ois);
+		resourceAmount = SerializationUtils.readByteBlock(ois);
+		temporaryFlatened = SerializationUtils.readByteBlock(ois);
+		resourceType = SerializationUtils.readByteBlock(ois);
+		blockedPartitions = SerializationUtils.readShortBlock(ois);
+
 		setBackgroundListener(null);
 
 		initDebugColors();
@@ -205,6 +229,7 @@ public final class LandscapeGrid implements Serializable, IWalkableGround, IFlat
 		updateBlockedPartition(x, y, landscapeType.blockedType());
 
 		backgroundListener.backgroundLineChangedAt(x, y, 1);
+		notifyLandscapeChanged(x, y);
 	}
 
 
@@ -277,6 +302,7 @@ public final class LandscapeGrid implements Serializable, IWalkableGround, IFlat
 	public final void setHeightAt(short x, short y, byte height) {
 		this.heightGrid[x][y] = height;
 		backgroundListener.backgroundLineChangedAt(x, y, 1);
+		notifyLandscapeChanged(x, y);
 	}
 
 	public void flattenAndChangeHeightTowards(int x, int y, byte targetHeight) {
@@ -291,15 +317,34 @@ public final class LandscapeGrid implements Serializable, IWalkableGround, IFlat
 		this.temporaryFlatened[index] = Byte.MAX_VALUE; // cancel the flattening
 
 		backgroundListener.backgroundLineChangedAt(x, y, 1);
+		notifyLandscapeChanged(x, y);
 	}
 
 	public final void setBackgroundListener(IGraphicsBackgroundListener backgroundListener) {
 		this.backgroundListener = Objects.requireNonNullElseGet(backgroundListener, MainGrid.NullBackgroundListener::new);
 	}
 
+	/**
+	 * Sets the listener informed about changes of the landscape type, the height or the protected state. The listener is not serialized and has to
+	 * be set again after loading.
+	 *
+	 * @param landscapeChangedListener
+	 *            the listener or null.
+	 */
+	public final void setLandscapeChangedListener(ILandscapeChangedListener landscapeChangedListener) {
+		this.landscapeChangedListener = landscapeChangedListener;
+	}
+
+	private void notifyLandscapeChanged(int x, int y) {
+		if (landscapeChangedListener != null) {
+			landscapeChangedListener.landscapeChangedAt(x, y);
+		}
+	}
+
 	public final void setResourceAt(short x, short y, EResourceType resourceType, byte amount) {
 		this.resourceType[x + y * width] = resourceType.ordinal;
 		this.resourceAmount[x + y * width] = (byte) Math.min(amount, Constants.MAX_RESOURCE_AMOUNT_PER_POSITION);
+		notifyLandscapeChanged(x, y);
 	}
 
 	/**
@@ -334,6 +379,7 @@ public final class LandscapeGrid implements Serializable, IWalkableGround, IFlat
 		int idx = position.x + position.y * width;
 		if (resourceType[idx] == resource.ordinal && resourceAmount[idx] > 0) {
 			resourceAmount[idx]--;
+			notifyLandscapeChanged(position.x, position.y);
 			return true;
 		} else {
 			return false;
@@ -485,6 +531,7 @@ public final class LandscapeGrid implements Serializable, IWalkableGround, IFlat
 		if (!newProtectedState) {
 			activateUnflattening(x, y);
 		}
+		notifyLandscapeChanged(x, y);
 	}
 
 	public void setPartitionType(short x, short y, EPartitionType type) {
@@ -556,4 +603,11 @@ public final class LandscapeGrid implements Serializable, IWalkableGround, IFlat
 
 		return part1 == part2;
 	}
+
+	/**
+	 * Is informed when the landscape type, the height or the protected state of a position changes.
+	 */
+	public interface ILandscapeChangedListener {
+		void landscapeChangedAt(int x, int y);
+	}
 }
@@ -40,6 +40,7 @@ import jsettlers.logic.movable.interfaces.ILogicMovable;
  */
 public final class MovableGrid implements Serializable {
 	private static final long serialVersionUID = 7003522358013103962L;
+	private static final int CHANGE_REGION_BITS = 4; // 16 x 16 tiles per region
 
 	private transient ILogicMovable[] movableGrid;
 	private final IWalkableGround ground;
@@ -47,11 +48,22 @@ public final class MovableGrid implements Serializable {
 
 	private final short height;
 
+	private transient int changeRegionsWidth;
+	private transient long[] regionChangeStamps;
+	private transient long changeStamp;
+
 	public MovableGrid(short width, short height, IWalkableGround ground) {
 		this.width = width;
 		this.height = height;
 		this.ground = ground;
 		this.movableGrid = new ILogicMovable[width * height];
+		initChangeStamps();
+	}
+
+	private void initChangeStamps() {
+		changeRegionsWidth = (width >> CHANGE_REGION_BITS) + 1;
+		regionChangeStamps = new long[changeRegionsWidth * ((height >> CHANGE_REGION_BITS) + 1)];
+		changeStamp = 0;
 	}
 
 	private void writeObject(ObjectOutputStream oos) throws IOException {
@@ -62,6 +74,7 @@ public final class MovableGrid implements Serializable {
 	private void readObject(ObjectInputStream ois) throws ClassNotFoundException, IOException {
 		ois.defaultReadObject();
 		movableGrid = SerializationUtils.readSparseArray(ois, ILogicMovable.class);
+		initChangeStamps();
 	}
 
 	public final ILogicMovable getMovableAt(int x, int y) {
@@ -76,6 +89,7 @@ public final class MovableGrid implements Serializable {
 		int idx = position.x + position.y * width;
 		if (this.movableGrid[idx] == movable) {
 			this.movableGrid[idx] = null;
+			markChanged(position.x, position.y);
 		}
 	}
 
@@ -92,11 +106,61 @@ public final class MovableGrid implements Serializable {
 		final short y = position.y;
 
 		this.movableGrid[x + y * width] = movable;
+		markChanged(x, y);
 		if (movable != null && movable.getMovableType() == EMovableType.BEARER) {
 			ground.walkOn(x, y);
 		}
 	}
 
+	/**
+	 * Marks the region of the given position as changed. This has to be called for every change that can change the result of an enemy search
+	 * covering the position: movables entering or leaving it, attackable towers added or removed and attackables changing their attackability.
+	 *
+	 * @param x
+	 *            x coordinate of the changed position.
+	 * @param y
+	 *            y coordinate of the changed position.
+	 */
+	public void markChanged(int x, int y) {
+		regionChangeStamps[(x >> CHANGE_REGION_BITS) + (y >> CHANGE_REGION_BITS) * changeRegionsWidth] = ++changeStamp;
+	}
+
+	/**
+	 * @return The stamp of the latest change. See {@link #isUnchangedSince(long, int, int, int)}.
+	 */
+	public long getChangeStamp() {
+		return changeStamp;
+	}
+
+	/**
+	 * Checks if any position within the given radius around the given center has been marked as changed since the given stamp was taken.
+	 *
+	 * @param stamp
+	 *            A stamp returned by {@link #getChangeStamp()}.
+	 * @param centerX
+	 *            x coordinate of the center of the area.
+	 * @param centerY
+	 *            y coordinate of the center of the area.
+	 * @param radius
+	 *            The radius of the area.
+	 * @return true if no position of the area has been changed since the stamp was taken.
+	 */
+	public boolean isUnchangedSince(long stamp, int centerX, int centerY, int radius) {
+		int minRegionX = Math.max(0, centerX - radius) >> CHANGE_REGION_BITS;
+		int maxRegionX = Math.min(width - 1, centerX + radius) >> CHANGE_REGION_BITS;
+		int minRegionY = Math.max(0, centerY - radius) >> CHANGE_REGION_BITS;
+		int maxRegionY = Math.min(height - 1, centerY + radius) >> CHANGE_REGION_BITS;
+
+		for (int regionY = minRegionY; regionY <= maxRegionY; regionY++) {
+			for (int regionX = minRegionX; regionX <= maxRegionX; regionX++) {
+				if (regionChangeStamps[regionX + regionY * changeRegionsWidth] > stamp) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
 	/**
 	 * 
 	 * @param movable
@@ -40,6 +40,11 @@ public interface IMapObjectsManagerGrid extends Serializable, IArrowAttackableGr
 
 	boolean removeMapObject(int x, int y, AbstractHexMapObject mapObject);
 
+	/**
+	 * Called when the state of a map object at the given position changed without the object being added or removed.
+	 */
+	void mapObjectChangedAt(int x, int y);
+
 	short getWidth();
 
 	short getHeight();
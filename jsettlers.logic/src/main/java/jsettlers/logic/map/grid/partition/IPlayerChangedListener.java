@@ -36,4 +36,16 @@ public interface IPlayerChangedListener {
 	 *            The id of the new player.
 	 */
 	void playerChangedAt(int x, int y, byte newPlayerId);
+
+	/**
+	 * This method is called for the positions of the area of a tower that has been added, removed or taken over. Whether such a position is enforced by
+	 * a tower may have changed.
+	 * 
+	 * @param x
+	 *            x coordinate of the position.
+	 * @param y
+	 *            y coordinate of the position.
+	 */
+	default void towerEnforcementChangedAt(int x, int y) {
+	}
 }
\ No newline at end of file
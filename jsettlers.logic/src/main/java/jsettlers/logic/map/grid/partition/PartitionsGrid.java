@@ -15,6 +15,7 @@
 package jsettlers.logic.map.grid.partition;
 
 import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.util.BitSet;
@@ -29,6 +30,7 @@ import jsettlers.algorithms.partitions.PartitionCalculatorAlgorithm;
 import jsettlers.algorithms.traversing.area.AreaTraversingAlgorithm;
 import jsettlers.algorithms.traversing.area.IAreaVisitor;
 import jsettlers.algorithms.traversing.borders.BorderTraversingAlgorithm;
+import jsettlers.common.logging.ETickCategory;
 import jsettlers.common.map.partition.IPartitionData;
 import jsettlers.common.map.shapes.FreeMapArea;
 import jsettlers.common.map.shapes.IMapArea;
@@ -41,6 +43,7 @@ import jsettlers.common.position.ShortPoint2D;
 import jsettlers.common.utils.Tuple;
 import jsettlers.common.utils.coordinates.CoordinateStream;
 import jsettlers.common.utils.mutables.MutableInt;
+import jsettlers.logic.SerializationUtils;
 import jsettlers.logic.map.grid.partition.manager.settings.MaterialProductionSettings;
 import jsettlers.logic.map.grid.partition.PartitionsListingBorderVisitor.BorderPartitionInfo;
 import jsettlers.logic.map.grid.partition.manager.PartitionManager;
@@ -76,8 +79,8 @@ public final class PartitionsGrid implements Serializable, IScheduledTimerable {
 	private final Player[] players;
 	private final IBlockingProvider blockingProvider;
 
-	final short[] partitions;
-	private final byte[] towers;
+	transient short[] partitions; // written as raw block
+	private transient byte[] towers;
 
 	private final short[] blockedPartitionsForPlayers;
 	Partition[] partitionObjects = new Partition[NUMBER_OF_START_PARTITION_OBJECTS];
@@ -135,6 +138,14 @@ public final class PartitionsGrid implements Serializable, IScheduledTimerable {
 		int normalizedPartitions = checkNormalizePartitions(0);
 		System.out.println("Normalized " + normalizedPartitions + " partitions");
 		oos.defaultWriteObject();
+		SerializationUtils.writeBlock(oos, partitions);
+		SerializationUtils.writeBlock(oos, towers);
+	}
+
+	private void readObject(ObjectInputStream ois) throws IOException, ClassNotFoundException {
+		ois.defaultReadObject();
+		partitions = SerializationUtils.readShortBlock(ois);
+		towers = SerializationUtils.readByteBlock(ois);
 	}
 
 	public boolean isDefaultPartition(short partitionId) {
@@ -225,6 +236,7 @@ public final class PartitionsGrid implements Serializable, IScheduledTimerable {
 				influencingArea.getBorders(), (int) influencingArea.getRadius());
 
 		occupyAreaOfTower(tower);
+		notifyTowerEnforcementChanged(tower);
 	}
 
 	/**
@@ -243,6 +255,7 @@ public final class PartitionsGrid implements Serializable, IScheduledTimerable {
 		// reduce the tower counter
 		changeTowerCounter(tower.playerId, tower.area.stream(), -1);
 		checkOtherTowersInArea(tower);
+		notifyTowerEnforcementChanged(tower);
 	}
 
 	/**
@@ -267,6 +280,7 @@ public final class PartitionsGrid implements Serializable, IScheduledTimerable {
 
 		PartitionOccupyingTower newTower = new PartitionOccupyingTower(newPlayerId, tower);
 		occupyAreaOfTower(newTower);
+		notifyTowerEnforcementChanged(newTower);
 		return newTower.area.stream();
 	}
 
@@ -631,6 +645,10 @@ public final class PartitionsGrid implements Serializable, IScheduledTimerable {
 		playerChangedListener.playerChangedAt(x, y, newPlayer);
 	}
 
+	private void notifyTowerEnforcementChanged(PartitionOccupyingTower tower) {
+		tower.area.stream().forEach(playerChangedListener::towerEnforcementChangedAt);
+	}
+
 	short createNewPartition(byte playerId) { // package private for tests
 		checkNormalizePartitions(NUMBER_OF_START_PARTITION_OBJECTS / 2);
 
@@ -762,6 +780,11 @@ public final class PartitionsGrid implements Serializable, IScheduledTimerable {
 		throw new IllegalAccessError("the PartitionsGrid itself can't be killed!");
 	}
 
+	@Override
+	public ETickCategory getTickCategory() {
+		return ETickCategory.PARTITIONS;
+	}
+
 	public IPartitionData getPartitionDataForManagerAt(int x, int y) {
 		return getPartitionAt(x, y).getPartitionData();
 	}
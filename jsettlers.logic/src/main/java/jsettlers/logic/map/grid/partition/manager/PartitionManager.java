@@ -18,6 +18,7 @@ import java.io.Serializable;
 import java.util.Iterator;
 import java.util.LinkedList;
 
+import jsettlers.common.logging.ETickCategory;
 import jsettlers.common.material.EMaterialType;
 import jsettlers.common.movable.EDirection;
 import jsettlers.common.movable.EMovableType;
@@ -219,6 +220,7 @@ public abstract class PartitionManager implements IScheduledTimerable, Serializa
 		if (newHasSamePlayer) {
 			materialsManager.movePositionTo(position, newManager.materialsManager);
 
+			updateJoblessPositions();
 			IManageableBearer bearer = joblessBearer.removeObjectAt(position);
 			if (bearer != null) {
 				newManager.addJobless(bearer);
@@ -244,6 +246,16 @@ public abstract class PartitionManager implements IScheduledTimerable, Serializa
 		removePositionTo(position, this.soldierCreationRequests, newManager.soldierCreationRequests, newHasSamePlayer);
 	}
 
+	/**
+	 * Jobless movables can be pushed around while they are in the lists. Therefore the lists need to be updated before searching them.
+	 */
+	private void updateJoblessPositions() {
+		joblessBearer.updatePositions();
+		joblessBricklayers.updatePositions();
+		joblessDiggers.updatePositions();
+		joblessWorkers.updatePositions();
+	}
+
 	private <T extends ILocatable> void removePositionTo(ShortPoint2D pos, LinkedList<T> fromList, LinkedList<T> toList, boolean newHasSamePlayer) {
 		Iterator<T> iter = fromList.iterator();
 		while (iter.hasNext()) {
@@ -277,6 +289,8 @@ public abstract class PartitionManager implements IScheduledTimerable, Serializa
 			return -1; // unschedule
 		}
 
+		updateJoblessPositions();
+
 		materialsManager.distributeJobs();
 
 		handleDiggerRequest();
@@ -451,6 +465,11 @@ public abstract class PartitionManager implements IScheduledTimerable, Serializa
 		throw new UnsupportedOperationException("CAN'T KILL PARTITION MANAGER!! THIS REALLY SHOULD NOT HAPPEN!");
 	}
 
+	@Override
+	public ETickCategory getTickCategory() {
+		return ETickCategory.PARTITIONS;
+	}
+
 	/**
 	 * FOR TESTS ONLY!
 	 *
@@ -14,11 +14,16 @@
  *******************************************************************************/
 package jsettlers.logic.map.grid.partition.manager.datastructures;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.io.Serializable;
-import java.util.Iterator;
-import java.util.LinkedList;
-
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
+
 import jsettlers.common.position.ILocatable;
 import jsettlers.common.position.ShortPoint2D;
 import jsettlers.common.utils.MathUtils;
@@ -26,6 +31,13 @@ import jsettlers.common.utils.MathUtils;
 /**
  * This is a data structure for storing and retrieving objects at given positions.<br>
  * It is also possible to find the nearest object around a given position.
+ * <p />
+ * The objects are stored in buckets of {@value #BUCKET_SIZE}x{@value #BUCKET_SIZE} positions. Inserting and removing is done in O(1), the search
+ * for the nearest object expands ring by ring around the bucket of the given position. If multiple objects have the same distance, the one that
+ * has been inserted first is returned.
+ * <p />
+ * The objects are stored at the position they had when they were inserted. If the position of the objects can change while they are in this list,
+ * {@link #updatePositions()} has to be called before searching them.
  *
  * @param <T>
  * @author Andreas Eberle
@@ -33,28 +45,183 @@ import jsettlers.common.utils.MathUtils;
 public class PositionableList<T extends ILocatable> implements Serializable {
 	private static final long serialVersionUID = 414099060331344505L;
 
-	protected final LinkedList<T> data;
+	private static final int BUCKET_BITS = 3;
+	private static final int BUCKET_SIZE = 1 << BUCKET_BITS;
+	private static final int MAX_LINEAR_SEARCH_SIZE = 8;
+
+	private transient HashMap<T, Entry<T>> entries;
+	private transient List<List<Bucket<T>>> buckets;
+	private transient Entry<T> first;
+	private transient Entry<T> last;
+	private transient long nextSequence;
 
 	public PositionableList() {
-		data = new LinkedList<>();
+		init();
+	}
+
+	private void init() {
+		entries = new HashMap<>();
+		buckets = new ArrayList<>();
+		first = null;
+		last = null;
+		nextSequence = 0;
+	}
+
+	private void writeObject(ObjectOutputStream oos) throws IOException {
+		oos.defaultWriteObject();
+		oos.writeInt(entries.size());
+		for (Entry<T> entry = first; entry != null; entry = entry.next) {
+			oos.writeObject(entry.object);
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private void readObject(ObjectInputStream ois) throws IOException, ClassNotFoundException {
+		ois.defaultReadObject();
+		init();
+		int size = ois.readInt();
+		List<T> objects = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			objects.add((T) ois.readObject());
+		}
+
+		// the objects might not be completely deserialized yet, so their positions can only be read after the whole graph has been loaded
+		ois.registerValidation(() -> objects.forEach(this::append), 0);
 	}
 
 	public void insert(T object) {
-		if(!data.contains(object)) {
+		if (!entries.containsKey(object)) {
 			// TODO fix double inserts from the root
-			data.add(object);
+			append(object);
 		}
 	}
 
-	public T removeObjectAt(ShortPoint2D position) {
-		Iterator<T> iterator = data.iterator();
-		while (iterator.hasNext()) {
-			T curr = iterator.next();
-			if (curr.getPosition().equals(position)) {
-				iterator.remove();
-				return curr;
+	private void append(T object) {
+		ShortPoint2D position = object.getPosition();
+		Entry<T> entry = new Entry<>(object, position.x, position.y, nextSequence++);
+
+		entry.previous = last;
+		if (last == null) {
+			first = entry;
+		} else {
+			last.next = entry;
+		}
+		last = entry;
+
+		entries.put(object, entry);
+		addToBucket(entry);
+	}
+
+	private void removeEntry(Entry<T> entry) {
+		if (entry.previous == null) {
+			first = entry.next;
+		} else {
+			entry.previous.next = entry.next;
+		}
+		if (entry.next == null) {
+			last = entry.previous;
+		} else {
+			entry.next.previous = entry.previous;
+		}
+
+		entries.remove(entry.object);
+		removeFromBucket(entry);
+	}
+
+	/**
+	 * Adds the entry to the bucket of its position. The entries of a bucket are sorted by their sequence number.
+	 */
+	private void addToBucket(Entry<T> entry) {
+		Bucket<T> bucket = getOrCreateBucket(entry.x >> BUCKET_BITS, entry.y >> BUCKET_BITS);
+
+		Entry<T> previous = bucket.last;
+		while (previous != null && previous.sequence > entry.sequence) {
+			previous = previous.bucketPrevious;
+		}
+
+		Entry<T> next = previous == null ? bucket.first : previous.bucketNext;
+		entry.bucketPrevious = previous;
+		entry.bucketNext = next;
+		if (previous == null) {
+			bucket.first = entry;
+		} else {
+			previous.bucketNext = entry;
+		}
+		if (next == null) {
+			bucket.last = entry;
+		} else {
+			next.bucketPrevious = entry;
+		}
+	}
+
+	private void removeFromBucket(Entry<T> entry) {
+		Bucket<T> bucket = buckets.get(entry.y >> BUCKET_BITS).get(entry.x >> BUCKET_BITS);
+		if (entry.bucketPrevious == null) {
+			bucket.first = entry.bucketNext;
+		} else {
+			entry.bucketPrevious.bucketNext = entry.bucketNext;
+		}
+		if (entry.bucketNext == null) {
+			bucket.last = entry.bucketPrevious;
+		} else {
+			entry.bucketNext.bucketPrevious = entry.bucketPrevious;
+		}
+		entry.bucketPrevious = null;
+		entry.bucketNext = null;
+	}
+
+	private Bucket<T> getOrCreateBucket(int bucketX, int bucketY) {
+		while (bucketY >= buckets.size()) {
+			buckets.add(null);
+		}
+		List<Bucket<T>> row = buckets.get(bucketY);
+		if (row == null) {
+			row = new ArrayList<>(bucketX + 1);
+			buckets.set(bucketY, row);
+		}
+		while (bucketX >= row.size()) {
+			row.add(null);
+		}
+		Bucket<T> bucket = row.get(bucketX);
+		if (bucket == null) {
+			bucket = new Bucket<>();
+			row.set(bucketX, bucket);
+		}
+		return bucket;
+	}
+
+	private Bucket<T> getBucket(int bucketX, int bucketY) {
+		if (bucketY < 0 || bucketY >= buckets.size() || bucketX < 0) {
+			return null;
+		}
+		List<Bucket<T>> row = buckets.get(bucketY);
+		if (row == null || bucketX >= row.size()) {
+			return null;
+		}
+		return row.get(bucketX);
+	}
+
+	/**
+	 * Moves all objects whose position changed since they were inserted to the bucket of their current position.
+	 */
+	public void updatePositions() {
+		for (Entry<T> entry = first; entry != null; entry = entry.next) {
+			ShortPoint2D position = entry.object.getPosition();
+			if (position.x != entry.x || position.y != entry.y) {
+				removeFromBucket(entry);
+				entry.x = position.x;
+				entry.y = position.y;
+				addToBucket(entry);
 			}
 		}
+	}
+
+	public T removeObjectAt(ShortPoint2D position) {
+		Entry<T> entry = getEntryAt(position);
+		if (entry != null) {
+			removeEntry(entry);
+			return entry.object;
+		}
 		return null;
 	}
 
@@ -66,9 +233,17 @@ public class PositionableList<T extends ILocatable> implements Serializable {
 	 * @return Returns the found object at the given position or null if no object has been found.
 	 */
 	public T getObjectAt(ShortPoint2D position) {
-		for (T curr : data) {
-			if (curr.getPosition().equals(position)) {
-				return curr;
+		Entry<T> entry = getEntryAt(position);
+		return entry != null ? entry.object : null;
+	}
+
+	private Entry<T> getEntryAt(ShortPoint2D position) {
+		Bucket<T> bucket = getBucket(position.x >> BUCKET_BITS, position.y >> BUCKET_BITS);
+		if (bucket != null) {
+			for (Entry<T> entry = bucket.first; entry != null; entry = entry.bucketNext) {
+				if (entry.x == position.x && entry.y == position.y) {
+					return entry;
+				}
 			}
 		}
 		return null;
@@ -79,7 +254,7 @@ public class PositionableList<T extends ILocatable> implements Serializable {
 	 * @return Returns any object in this list or null if this list is empty
 	 */
 	public T getAnyObject() {
-		return data.peekFirst();
+		return first != null ? first.object : null;
 	}
 
 	/**
@@ -90,73 +265,253 @@ public class PositionableList<T extends ILocatable> implements Serializable {
 	 * @return accepted object that's nearest to position
 	 */
 	public T removeObjectNextTo(ShortPoint2D position) {
-		T currBest = getObjectCloseTo(position);
+		return removeObjectNextTo(position, null);
+	}
+
+	protected T removeObjectNextTo(ShortPoint2D position, Predicate<T> acceptor) {
+		T currBest = getObjectCloseTo(position, acceptor);
 
 		if (currBest != null) {
-			data.remove(currBest);
+			remove(currBest);
 		}
 
 		return currBest;
 	}
 
 	protected T getObjectCloseTo(ShortPoint2D position) {
-		int bestDistance = Integer.MAX_VALUE;
-		T currBest = null;
+		return getObjectCloseTo(position, null);
+	}
 
-		for (T currEntry : data) {
-			int currDist = MathUtils.squareHypot(position, currEntry.getPosition());
+	/**
+	 * Finds the accepted object with the smallest distance to the given position. Objects with the same distance are ordered by the time they were
+	 * inserted.
+	 *
+	 * @param position
+	 * 		position to be used to find the nearest accepted neighbor around it.
+	 * @param acceptor
+	 * 		if acceptor != null => the result is accepted by the acceptor. <br>
+	 * 		if acceptor == null every entry is accepted.
+	 * @return accepted object that's nearest to position or null
+	 */
+	protected T getObjectCloseTo(ShortPoint2D position, Predicate<T> acceptor) {
+		Closest closest = new Closest(position, acceptor);
 
-			if (bestDistance > currDist) {
-				bestDistance = currDist;
-				currBest = currEntry;
+		if (entries.size() <= MAX_LINEAR_SEARCH_SIZE) {
+			for (Entry<T> entry = first; entry != null;) {
+				Entry<T> next = entry.next;
+				closest.check(entry);
+				entry = next;
 			}
+			return closest.getObject();
 		}
-		return currBest;
+
+		int centerX = position.x >> BUCKET_BITS;
+		int centerY = position.y >> BUCKET_BITS;
+		int maxRadius = Math.max(Math.max(centerY, buckets.size() - centerY), Math.max(centerX, getMaxRowLength() - centerX));
+
+		for (int radius = 0; radius <= maxRadius; radius++) {
+			if (closest.entry != null) {
+				int minDistance = (radius - 1) * BUCKET_SIZE + 1; // minimal distance of a position in this ring to the given position
+				if (radius > 0 && minDistance * minDistance > closest.distance) {
+					break;
+				}
+			}
+
+			if (radius == 0) {
+				checkBucket(closest, centerX, centerY);
+			} else {
+				for (int i = -radius; i < radius; i++) { // walk around the ring, every bucket is only checked once
+					checkBucket(closest, centerX + i, centerY - radius);
+					checkBucket(closest, centerX + radius, centerY + i);
+					checkBucket(closest, centerX - i, centerY + radius);
+					checkBucket(closest, centerX - radius, centerY - i);
+				}
+			}
+		}
+		return closest.getObject();
+	}
+
+	private int getMaxRowLength() {
+		int maxLength = 0;
+		for (List<Bucket<T>> row : buckets) {
+			if (row != null && row.size() > maxLength) {
+				maxLength = row.size();
+			}
+		}
+		return maxLength;
+	}
+
+	private void checkBucket(Closest closest, int bucketX, int bucketY) {
+		Bucket<T> bucket = getBucket(bucketX, bucketY);
+		if (bucket != null) {
+			for (Entry<T> entry = bucket.first; entry != null;) {
+				Entry<T> next = entry.bucketNext;
+				closest.check(entry);
+				entry = next;
+			}
+		}
+	}
+
+	/**
+	 * Subclasses can drop objects that are no longer needed. Such objects are removed when they are found by a search.
+	 *
+	 * @param object
+	 * 		the object to be checked.
+	 * @return true if the object can be removed from this list.
+	 */
+	protected boolean isOutdated(T object) {
+		return false;
+	}
+
+	/**
+	 * Subclasses can exclude objects from the searches for the closest object.
+	 *
+	 * @param object
+	 * 		the object to be checked.
+	 * @return true if the object can be returned by the search.
+	 */
+	protected boolean isSearchable(T object) {
+		return true;
+	}
+
+	/**
+	 * Calls the given consumer for all objects in the order they were inserted. The consumer must not change this list.
+	 */
+	protected void forEachObject(Consumer<T> consumer) {
+		for (Entry<T> entry = first; entry != null; entry = entry.next) {
+			consumer.accept(entry.object);
+		}
+	}
+
+	/**
+	 * Removes outdated objects until the first searchable object is found.
+	 *
+	 * @return true if this list contains a searchable object.
+	 */
+	protected boolean hasSearchable() {
+		for (Entry<T> entry = first; entry != null;) {
+			Entry<T> next = entry.next;
+			if (isOutdated(entry.object)) {
+				removeEntry(entry);
+			} else if (isSearchable(entry.object)) {
+				return true;
+			}
+			entry = next;
+		}
+		return false;
 	}
 
 	@Override
 	public String toString() {
-		return data.toString();
+		List<T> objects = new ArrayList<>(entries.size());
+		forEachObject(objects::add);
+		return objects.toString();
 	}
 
 	public void moveAll(PositionableList<T> otherList) {
-		LinkedList<T> othersData = otherList.data;
-		data.addAll(othersData);
-		othersData.clear();
+		moveAll(otherList, null);
 	}
 
 	public void moveAll(PositionableList<T> otherList, Consumer<T> movedVisitor) {
-		LinkedList<T> othersData = otherList.data;
-		for (T othersDatum : othersData) {
-			movedVisitor.accept(othersDatum);
-			data.add(othersDatum);
+		for (Entry<T> entry = otherList.first; entry != null; entry = entry.next) {
+			if (movedVisitor != null) {
+				movedVisitor.accept(entry.object);
+			}
+			insert(entry.object);
 		}
-		othersData.clear();
+		otherList.init();
 	}
 
 	public void remove(T object) {
-		this.data.remove(object);
+		Entry<T> entry = entries.get(object);
+		if (entry != null) {
+			removeEntry(entry);
+		}
 	}
 
 	public boolean isEmpty() {
-		return data.isEmpty();
+		return entries.isEmpty();
 	}
 
 	public void moveObjectsAtPositionTo(ShortPoint2D position, PositionableList<T> newList, Consumer<T> movedVisitor) {
-		if(data.isEmpty()) return;
-
-		Iterator<T> iterator = data.iterator();
-		while (iterator.hasNext()) {
-			T curr = iterator.next();
-			if (curr.getPosition().equals(position)) {
-				iterator.remove();
-				movedVisitor.accept(curr);
-				newList.data.add(curr);
+		Bucket<T> bucket = getBucket(position.x >> BUCKET_BITS, position.y >> BUCKET_BITS);
+		if (bucket == null) {
+			return;
+		}
+
+		for (Entry<T> entry = bucket.first; entry != null;) {
+			Entry<T> next = entry.bucketNext;
+			if (entry.x == position.x && entry.y == position.y) {
+				removeEntry(entry);
+				movedVisitor.accept(entry.object);
+				newList.insert(entry.object);
 			}
+			entry = next;
 		}
 	}
 
 	public int size() {
-		return data.size();
+		return entries.size();
+	}
+
+	private static final class Entry<T> {
+		final T object;
+		final long sequence;
+		short x;
+		short y;
+
+		Entry<T> previous;
+		Entry<T> next;
+		Entry<T> bucketPrevious;
+		Entry<T> bucketNext;
+
+		Entry(T object, short x, short y, long sequence) {
+			this.object = object;
+			this.x = x;
+			this.y = y;
+			this.sequence = sequence;
+		}
+	}
+
+	private static final class Bucket<T> {
+		Entry<T> first;
+		Entry<T> last;
+	}
+
+	/**
+	 * The current result of a search for the closest object.
+	 */
+	private final class Closest {
+		private final ShortPoint2D position;
+		private final Predicate<T> acceptor;
+
+		Entry<T> entry;
+		int distance = Integer.MAX_VALUE;
+
+		Closest(ShortPoint2D position, Predicate<T> acceptor) {
+			this.position = position;
+			this.acceptor = acceptor;
+		}
+
+		void check(Entry<T> candidate) {
+			T object = candidate.object;
+			if (isOutdated(object)) { // remove old entries no longer needed
+				removeEntry(candidate);
+				return;
+			}
+			if (!isSearchable(object) || (acceptor != null && !acceptor.test(object))) {
+				return;
+			}
+
+			int candidateDistance = MathUtils.squareHypot(position.x - candidate.x, position.y - candidate.y);
+			if (candidateDistance < distance || (candidateDistance == distance && candidate.sequence < entry.sequence)) {
+				distance = candidateDistance;
+				entry = candidate;
+			}
+		}
+
+		T getObject() {
+			return entry != null ? entry.object : null;
+		}
 	}
 }
@@ -17,7 +17,6 @@ package jsettlers.logic.map.grid.partition.manager.datastructures;
 import java.util.function.Predicate;
 import jsettlers.common.position.ILocatable;
 import jsettlers.common.position.ShortPoint2D;
-import jsettlers.common.utils.MathUtils;
 
 /**
  * This is a data structure for storing and retrieving objects at given positions.<br>
@@ -40,32 +39,8 @@ public class PredicatedPositionableList<T extends ILocatable> extends Positionab
 	 * 		if result == null every entry is accepted.
 	 * @return accepted object that's nearest to position
 	 */
+	@Override
 	public T removeObjectNextTo(ShortPoint2D position, Predicate<T> predicate) {
-		T currBest = getObjectCloseTo(position, predicate);
-
-		if (currBest != null) {
-			data.remove(currBest);
-		}
-
-		return currBest;
-	}
-
-	private T getObjectCloseTo(ShortPoint2D position, Predicate<T> acceptor) {
-		int bestDistance = Integer.MAX_VALUE;
-		T currBest = null;
-
-		for (T currEntry : data) {
-			if (acceptor != null && !acceptor.test(currEntry)) {
-				continue;
-			}
-
-			int currDist = MathUtils.squareHypot(position, currEntry.getPosition());
-
-			if (bestDistance > currDist) {
-				bestDistance = currDist;
-				currBest = currEntry;
-			}
-		}
-		return currBest;
+		return super.removeObjectNextTo(position, predicate);
 	}
 }
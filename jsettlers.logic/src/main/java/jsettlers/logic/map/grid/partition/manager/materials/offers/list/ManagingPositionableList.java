@@ -14,11 +14,8 @@
  *******************************************************************************/
 package jsettlers.logic.map.grid.partition.manager.materials.offers.list;
 
-import java.util.Iterator;
-
 import jsettlers.common.position.ILocatable;
 import jsettlers.common.position.ShortPoint2D;
-import jsettlers.common.utils.MathUtils;
 import jsettlers.logic.map.grid.partition.manager.datastructures.PositionableList;
 
 /**
@@ -34,38 +31,20 @@ public class ManagingPositionableList<T extends ILocatable & IListManageable> ex
 
 	@Override
 	protected T getObjectCloseTo(ShortPoint2D position) {
-		int bestDistance = Integer.MAX_VALUE;
-		T currBest = null;
-
-		for (Iterator<T> iterator = data.iterator(); iterator.hasNext(); ) {
-			T currEntry = iterator.next();
-
-			if (currEntry.canBeRemoved()) { // remove old entries no longer needed
-				iterator.remove();
+		return super.getObjectCloseTo(position); // makes the search accessible for the PrioritizedPositionableList
+	}
 
-			} else if (currEntry.isActive()) { // only use the active ones
-				int currDist = MathUtils.squareHypot(position, currEntry.getPosition());
+	@Override
+	protected boolean isOutdated(T object) {
+		return object.canBeRemoved(); // remove old entries no longer needed
+	}
 
-				if (bestDistance > currDist) {
-					bestDistance = currDist;
-					currBest = currEntry;
-				}
-			}
-		}
-		return currBest;
+	@Override
+	protected boolean isSearchable(T object) {
+		return object.isActive(); // only use the active ones
 	}
 
 	public boolean hasNoActive() {
-		for (Iterator<T> iterator = data.iterator(); iterator.hasNext(); ) {
-			T datum = iterator.next();
-
-			if (datum.canBeRemoved()) {
-				iterator.remove();
-
-			} else if (datum.isActive()) {
-				return false;
-			}
-		}
-		return true;
+		return !hasSearchable();
 	}
 }
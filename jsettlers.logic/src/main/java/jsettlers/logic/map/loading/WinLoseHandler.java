@@ -20,6 +20,7 @@ import java.util.Objects;
 import java.util.stream.Stream;
 
 import jsettlers.common.buildings.EBuildingType;
+import jsettlers.common.logging.ETickCategory;
 import jsettlers.common.player.EWinState;
 import jsettlers.logic.map.grid.MainGrid;
 import jsettlers.logic.map.grid.partition.data.BuildingCounts;
@@ -54,6 +55,11 @@ public abstract class WinLoseHandler implements IScheduledTimerable, Serializabl
 	public void kill() {
 	}
 
+	@Override
+	public ETickCategory getTickCategory() {
+		return ETickCategory.WIN_LOSE;
+	}
+
 	public void schedule() {
 		RescheduleTimer.add(this, UPDATE_DELAY);
 	}
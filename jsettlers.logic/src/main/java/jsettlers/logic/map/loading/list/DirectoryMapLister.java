@@ -22,6 +22,9 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.text.SimpleDateFormat;
 import java.util.Date;
 import java.util.Locale;
@@ -139,7 +142,7 @@ public class DirectoryMapLister implements IMapLister {
 		}
 
 		try {
-			OutputStream outputStream = new BufferedOutputStream(new FileOutputStream(file));
+			OutputStream outputStream = new BufferedOutputStream(new AtomicFileOutputStream(file));
 
 			if (CommonConstants.USE_SAVEGAME_COMPRESSION) {
 				System.out.println("Using savegame compression!");
@@ -156,4 +159,74 @@ public class DirectoryMapLister implements IMapLister {
 			throw new IOException(e);
 		}
 	}
+
+	/**
+	 * Writes to a temporary file next to the target and moves it into place when the stream is closed, so a savegame that is interrupted while being
+	 * written never shows up in the map list. If a write failed, the temporary file is deleted instead.
+	 */
+	private static class AtomicFileOutputStream extends OutputStream {
+		private final File target;
+		private final File temporary;
+		private final FileOutputStream out;
+		private boolean failed;
+		private boolean closed;
+
+		AtomicFileOutputStream(File target) throws FileNotFoundException {
+			this.target = target;
+			this.temporary = new File(target.getParentFile(), target.getName() + ".tmp");
+			this.out = new FileOutputStream(temporary);
+		}
+
+		@Override
+		public void write(int b) throws IOException {
+			try {
+				out.write(b);
+			} catch (IOException e) {
+				failed = true;
+				throw e;
+			}
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+			try {
+				out.write(b, off, len);
+			} catch (IOException e) {
+				failed = true;
+				throw e;
+			}
+		}
+
+		@Override
+		public void close() throws IOException {
+			if (closed) {
+				return;
+			}
+			closed = true;
+
+			try {
+				if (!failed) {
+					out.getFD().sync();
+				}
+				out.close();
+			} catch (IOException e) {
+				failed = true;
+				throw e;
+			} finally {
+				if (failed) {
+					out.close();
+					Files.deleteIfExists(temporary.toPath());
+				}
+			}
+			if (failed) {
+				return;
+			}
+
+			try {
+				Files.move(temporary.toPath(), target.toPath(), StandardCopyOption.ATOMIC_MOVE);
+			} catch (AtomicMoveNotSupportedException e) {
+				Files.move(temporary.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			}
+		}
+	}
 }
@@ -17,10 +17,16 @@ package jsettlers.logic.map.loading.list;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.ObjectOutputStream;
 import java.io.OutputStream;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
@@ -28,8 +34,6 @@ import jsettlers.common.CommonConstants;
 import jsettlers.common.logging.MilliStopWatch;
 import jsettlers.common.utils.collections.ChangingList;
 import jsettlers.input.PlayerState;
-import jsettlers.logic.constants.MatchConstants;
-import jsettlers.logic.map.grid.GameSerializer;
 import jsettlers.logic.map.grid.MainGrid;
 import jsettlers.logic.map.loading.MapLoader;
 import jsettlers.logic.map.loading.data.IMapData;
@@ -38,7 +42,7 @@ import jsettlers.logic.map.loading.newmap.FreshMapSerializer;
 import jsettlers.logic.map.loading.newmap.MapFileHeader;
 import jsettlers.logic.map.loading.newmap.MapFileHeader.MapType;
 import jsettlers.logic.map.loading.newmap.RemakeMapLoader;
-import jsettlers.logic.timer.RescheduleTimer;
+import jsettlers.logic.map.loading.savegame.SavegameSnapshot;
 
 /**
  * This is the main map list.
@@ -71,6 +75,8 @@ public class MapList implements IMapListerCallable {
 	private final ChangingList<MapLoader> freshMaps = new ChangingList<>();
 	private final ChangingList<RemakeMapLoader> savedMaps = new ChangingList<>();
 
+	private final ExecutorService savegameWriter = createSavegameWriter();
+
 	private boolean fileListLoaded = false;
 
 	public MapList(Collection<IMapLister> mapDirectories, IMapLister saveDirectory) {
@@ -210,31 +216,96 @@ public class MapList implements IMapListerCallable {
 	}
 
 	/**
-	 * Saves a map to disk. The map logic should be paused while calling this method.
+	 * Saves a map to disk and returns after the savegame has been written. The map logic should be paused while calling this method.
 	 * 
 	 * @param playerStates
 	 * @param grid
 	 * @throws IOException
 	 */
-	public synchronized void saveMap(PlayerState[] playerStates, MapFileHeader header, MainGrid grid) throws IOException {
+	public void saveMap(PlayerState[] playerStates, MapFileHeader header, MainGrid grid) throws IOException {
+		writeSavegame(SavegameSnapshot.capture(playerStates, header, grid));
+	}
+
+	/**
+	 * Captures the game in a {@link SavegameSnapshot} and writes it to disk on a background thread. The map logic needs to be paused while calling
+	 * this method, as the entities of the game are still serialized on the calling thread. The primitive grids are only copied, their conversion,
+	 * the compression and the disk write are done after it returned.
+	 *
+	 * @param playerStates
+	 * @param grid
+	 * @return A {@link Future} that is done when the savegame has been written.
+	 * @throws IOException
+	 */
+	public Future<?> saveMapInBackground(PlayerState[] playerStates, MapFileHeader header, MainGrid grid) throws IOException {
 		MilliStopWatch watch = new MilliStopWatch();
-		OutputStream outStream = saveDirectory.getOutputStream(header);
+		SavegameSnapshot snapshot = SavegameSnapshot.capture(playerStates, header, grid);
+		watch.stop("Capturing savegame snapshot required");
+
+		return savegameWriter.submit(() -> {
+			try {
+				writeSavegame(snapshot);
+			} catch (IOException e) {
+				e.printStackTrace();
+				throw e;
+			}
+			return null;
+		});
+	}
 
-		header.writeTo(outStream);
+	/**
+	 * Waits until all savegames started with {@link #saveMapInBackground(PlayerState[], MapFileHeader, MainGrid)} have been written.
+	 * 
+	 * @throws InterruptedException
+	 */
+	public void awaitBackgroundSaves() throws InterruptedException {
+		try {
+			savegameWriter.submit(() -> {
+			}).get(); // the writer executes the tasks in order
+		} catch (ExecutionException e) {
+			throw new IllegalStateException(e);
+		}
+	}
 
-		ObjectOutputStream oos = new ObjectOutputStream(outStream);
-		MatchConstants.serialize(oos);
-		oos.writeObject(playerStates);
-		GameSerializer gameSerializer = new GameSerializer();
-		gameSerializer.save(grid, oos);
-		RescheduleTimer.saveTo(oos);
+	/**
+	 * Waits until all savegames started with {@link #saveMapInBackground(PlayerState[], MapFileHeader, MainGrid)} have been written, but at most for
+	 * the given time.
+	 * 
+	 * @param timeout
+	 *            The maximum time to wait.
+	 * @param unit
+	 *            The unit of the timeout.
+	 * @return <code>true</code> if all savegames have been written, <code>false</code> if the timeout elapsed before.
+	 * @throws InterruptedException
+	 */
+	public boolean awaitBackgroundSaves(long timeout, TimeUnit unit) throws InterruptedException {
+		try {
+			savegameWriter.submit(() -> {
+			}).get(timeout, unit);
+			return true;
+		} catch (TimeoutException e) {
+			return false;
+		} catch (ExecutionException e) {
+			throw new IllegalStateException(e);
+		}
+	}
 
-		oos.close();
+	private synchronized void writeSavegame(SavegameSnapshot snapshot) throws IOException {
+		MilliStopWatch watch = new MilliStopWatch();
+		try (OutputStream outStream = saveDirectory.getOutputStream(snapshot.getHeader())) {
+			snapshot.writeTo(outStream);
+		}
 		watch.stop("Writing savegame required");
 
 		loadFileList();
 	}
 
+	private static ExecutorService createSavegameWriter() {
+		ThreadPoolExecutor writer = new ThreadPoolExecutor(1, 1, 1, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+				runnable -> new Thread(runnable, "SavegameWriter"));
+		writer.allowCoreThreadTimeOut(true); // the idle thread must not keep the application alive
+		return writer;
+	}
+
 	public ArrayList<MapLoader> getSavedMultiplayerMaps() {
 		// TODO: save multiplayer maps, so that we can load them.
 		return null;
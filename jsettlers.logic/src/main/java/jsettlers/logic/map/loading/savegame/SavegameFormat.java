@@ -0,0 +1,163 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.logic.map.loading.savegame;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import jsettlers.logic.SerializationUtils;
+
+/**
+ * The versioned format of the game state stored in a savegame behind its map file header.
+ * <p>
+ * The format is:
+ * <ul>
+ * <li>4 byte: SAVE</li>
+ * <li>2 Byte (short): Format version.</li>
+ * <li>4 Byte (int): Number of grid blocks, followed by the blocks. Every block consists of its type (1 byte: 1 for byte[], 2 for short[] and 3 for
+ * long[]), its length (4 byte, int) and its values in big endian byte order.</li>
+ * <li>Object stream of the match constants, the player states, the main grid and the reschedule timer. The primitive grids take their data from
+ * the grid blocks in the order they wrote them.</li>
+ * </ul>
+ * Entities like buildings, movables and partitions are still written by the Java serialization of the object stream. They share references that
+ * explicit codecs would have to rebuild, so the format version is increased whenever one of them is moved to its own codec.
+ */
+public final class SavegameFormat {
+	private static final short VERSION_RAW_GRID_BLOCKS = 1;
+	private static final short VERSION_FLAT_FOG_OF_WAR = 2;
+	private static final short VERSION_GRID_BLOCKS_IN_FRONT = 3;
+	private static final short VERSION = VERSION_GRID_BLOCKS_IN_FRONT;
+	private static final short OLDEST_SUPPORTED_VERSION = VERSION_GRID_BLOCKS_IN_FRONT; // older savegames have the grid blocks inside the object stream
+
+	private static final byte BYTE_BLOCK = 1;
+	private static final byte SHORT_BLOCK = 2;
+	private static final byte LONG_BLOCK = 3;
+
+	private static final byte[] START_BYTES = new byte[] { 'S', 'A', 'V', 'E' };
+
+	private SavegameFormat() {
+	}
+
+	/**
+	 * Writes the start bytes and the current format version to the given stream.
+	 *
+	 * @param stream
+	 * 		The stream to write to.
+	 * @throws IOException
+	 */
+	public static void writeTo(OutputStream stream) throws IOException {
+		DataOutputStream out = new DataOutputStream(stream);
+		out.write(START_BYTES);
+		out.writeShort(VERSION);
+		out.flush();
+	}
+
+	/**
+	 * Reads the start bytes and the format version from the given stream.
+	 *
+	 * @param stream
+	 * 		The stream to read from. It has to be positioned behind the map file header.
+	 * @return The format version of the savegame.
+	 * @throws IOException
+	 * 		If the savegame has been written in an older or unknown format.
+	 */
+	public static short readFromStream(InputStream stream) throws IOException {
+		DataInputStream in = new DataInputStream(stream);
+		for (byte b : START_BYTES) {
+			if (in.readByte() != b) {
+				throw new IOException("Savegame has been written in an old format that is not supported any more.");
+			}
+		}
+
+		short version = in.readShort();
+		if (version < OLDEST_SUPPORTED_VERSION || version > VERSION) {
+			throw new IOException("Savegame format version " + version + " is not supported.");
+		}
+		return version;
+	}
+
+	/**
+	 * Writes the grid blocks collected by a {@link SavegameObjectOutputStream}.
+	 *
+	 * @param stream
+	 * 		The stream to write to.
+	 * @param blocks
+	 * 		The byte[], short[] and long[] blocks.
+	 * @throws IOException
+	 */
+	public static void writeBlocks(OutputStream stream, List<Object> blocks) throws IOException {
+		DataOutputStream out = new DataOutputStream(stream);
+		out.writeInt(blocks.size());
+		for (Object block : blocks) {
+			if (block instanceof byte[]) {
+				out.writeByte(BYTE_BLOCK);
+				out.writeInt(((byte[]) block).length);
+				out.write((byte[]) block);
+			} else if (block instanceof short[]) {
+				out.writeByte(SHORT_BLOCK);
+				out.writeInt(((short[]) block).length);
+				SerializationUtils.writeValues(out, (short[]) block);
+			} else {
+				out.writeByte(LONG_BLOCK);
+				out.writeInt(((long[]) block).length);
+				SerializationUtils.writeValues(out, (long[]) block);
+			}
+		}
+		out.flush();
+	}
+
+	/**
+	 * Reads the grid blocks written by {@link #writeBlocks(OutputStream, List)}.
+	 *
+	 * @param stream
+	 * 		The stream to read from. It has to be positioned behind the format version.
+	 * @return The blocks to create a {@link SavegameObjectInputStream} with.
+	 * @throws IOException
+	 */
+	public static List<Object> readBlocks(InputStream stream) throws IOException {
+		DataInputStream in = new DataInputStream(stream);
+		int count = in.readInt();
+		List<Object> blocks = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			byte type = in.readByte();
+			int length = in.readInt();
+			switch (type) {
+			case BYTE_BLOCK:
+				byte[] bytes = new byte[length];
+				in.readFully(bytes);
+				blocks.add(bytes);
+				break;
+			case SHORT_BLOCK:
+				short[] shorts = new short[length];
+				SerializationUtils.readValues(in, shorts);
+				blocks.add(shorts);
+				break;
+			case LONG_BLOCK:
+				long[] longs = new long[length];
+				SerializationUtils.readValues(in, longs);
+				blocks.add(longs);
+				break;
+			default:
+				throw new IOException("Unknown grid block type " + type + ".");
+			}
+		}
+		return blocks;
+	}
+}
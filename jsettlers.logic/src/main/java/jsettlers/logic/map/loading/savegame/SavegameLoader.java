@@ -15,6 +15,7 @@
 package jsettlers.logic.map.loading.savegame;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.ObjectInputStream;
 
 import jsettlers.logic.map.loading.data.IMapData;
@@ -43,7 +44,10 @@ public class SavegameLoader extends RemakeMapLoader {
 
 		@Override
 	public MainGridWithUiSettings loadMainGrid(PlayerSetting[] playerSettings, EMapStartResources startResources) throws MapLoadException {
-		try (ObjectInputStream ois = new ObjectInputStream(super.getMapDataStream())) {
+		try (InputStream stream = super.getMapDataStream()) {
+			SavegameFormat.readFromStream(stream);
+
+			ObjectInputStream ois = new SavegameObjectInputStream(stream, SavegameFormat.readBlocks(stream));
 			MatchConstants.deserialize(ois);
 			PlayerState[] playerStates = (PlayerState[]) ois.readObject();
 			GameSerializer gameSerializer = new GameSerializer();
@@ -0,0 +1,53 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.logic.map.loading.savegame;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Queue;
+
+/**
+ * Reads the object stream of a savegame written from a {@link SavegameSnapshot}. The raw blocks of the primitive grids have already been read in
+ * front of the object stream and are handed out in the order they were added to the {@link SavegameObjectOutputStream}.
+ */
+public final class SavegameObjectInputStream extends ObjectInputStream {
+	private final Queue<Object> blocks;
+
+	public SavegameObjectInputStream(InputStream in, List<Object> blocks) throws IOException {
+		super(in);
+		this.blocks = new ArrayDeque<>(blocks);
+	}
+
+	/**
+	 * @param type
+	 * 		The array type of the expected block.
+	 * @return The next block.
+	 * @throws IOException
+	 * 		If there is no further block or the next block has another type.
+	 */
+	public <T> T nextBlock(Class<T> type) throws IOException {
+		Object block = blocks.poll();
+		if (block == null) {
+			throw new IOException("The savegame contains less grid blocks than the game state needs.");
+		}
+		if (!type.isInstance(block)) {
+			throw new IOException("Expected a grid block of type " + type.getSimpleName() + " but found " + block.getClass().getSimpleName() + ".");
+		}
+		return type.cast(block);
+	}
+}
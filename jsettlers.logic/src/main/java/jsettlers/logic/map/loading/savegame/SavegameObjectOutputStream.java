@@ -0,0 +1,48 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.logic.map.loading.savegame;
+
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import jsettlers.logic.SerializationUtils;
+
+/**
+ * The object stream of a {@link SavegameSnapshot}. The raw blocks of the primitive grids aren't written to it, it only keeps copies of their arrays
+ * in the order of the {@link SerializationUtils} calls. Copying an array is much faster than converting it into the stream, and the copies can be
+ * written by the savegame writer while the game continues.
+ */
+public final class SavegameObjectOutputStream extends ObjectOutputStream {
+	private final List<Object> blocks = new ArrayList<>();
+
+	public SavegameObjectOutputStream(OutputStream out) throws IOException {
+		super(out);
+	}
+
+	/**
+	 * @param block
+	 * 		A copy of a byte[], short[] or long[] array that isn't changed any more.
+	 */
+	public void addBlock(Object block) {
+		blocks.add(block);
+	}
+
+	public List<Object> getBlocks() {
+		return blocks;
+	}
+}
@@ -0,0 +1,95 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.logic.map.loading.savegame;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+import jsettlers.input.PlayerState;
+import jsettlers.logic.constants.MatchConstants;
+import jsettlers.logic.map.grid.GameSerializer;
+import jsettlers.logic.map.grid.MainGrid;
+import jsettlers.logic.map.loading.newmap.MapFileHeader;
+import jsettlers.logic.timer.RescheduleTimer;
+
+/**
+ * An in memory copy of the complete game state, taken between two ticks.
+ * <p />
+ * Capturing the snapshot has to be done while the game is paused. The entities of the game are still serialized while capturing, but the primitive
+ * grids of the {@link jsettlers.logic.map.grid.landscape.LandscapeGrid}, the {@link jsettlers.logic.map.grid.partition.PartitionsGrid} and the
+ * {@link jsettlers.logic.map.grid.flags.FlagsGrid} are only copied by the {@link SavegameObjectOutputStream}. Converting these copies, writing the
+ * savegame to disk and compressing it is done without accessing the game and can therefore be moved to a background thread while the game
+ * continues.
+ */
+public final class SavegameSnapshot {
+	private static int expectedSize = 1024 * 1024;
+
+	private final MapFileHeader header;
+	private final ByteArrayOutputStream data;
+	private final List<Object> blocks;
+
+	private SavegameSnapshot(MapFileHeader header, ByteArrayOutputStream data, List<Object> blocks) {
+		this.header = header;
+		this.data = data;
+		this.blocks = blocks;
+	}
+
+	/**
+	 * Captures the current game state. The game logic must not run while calling this method.
+	 *
+	 * @param playerStates
+	 * 		The states of the players' user interfaces.
+	 * @param header
+	 * 		The header of the savegame.
+	 * @param grid
+	 * 		The grid of the game.
+	 * @return The captured snapshot.
+	 * @throws IOException
+	 */
+	public static SavegameSnapshot capture(PlayerState[] playerStates, MapFileHeader header, MainGrid grid) throws IOException {
+		ByteArrayOutputStream data = new ByteArrayOutputStream(expectedSize);
+
+		SavegameObjectOutputStream oos = new SavegameObjectOutputStream(data);
+		MatchConstants.serialize(oos);
+		oos.writeObject(playerStates);
+		GameSerializer gameSerializer = new GameSerializer();
+		gameSerializer.save(grid, oos);
+		RescheduleTimer.saveTo(oos);
+		oos.close();
+
+		expectedSize = data.size() + data.size() / 8; // the next savegame of this game will most likely have a similar size
+		return new SavegameSnapshot(header, data, oos.getBlocks());
+	}
+
+	public MapFileHeader getHeader() {
+		return header;
+	}
+
+	/**
+	 * Writes the complete savegame, including its headers, to the given stream.
+	 *
+	 * @param stream
+	 * 		The stream to write to.
+	 * @throws IOException
+	 */
+	public void writeTo(OutputStream stream) throws IOException {
+		header.writeTo(stream);
+		SavegameFormat.writeTo(stream);
+		SavegameFormat.writeBlocks(stream, blocks);
+		data.writeTo(stream);
+	}
+}
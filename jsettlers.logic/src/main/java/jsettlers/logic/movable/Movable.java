@@ -40,6 +40,8 @@ import jsettlers.common.position.ShortPoint2D;
 import jsettlers.common.selectable.ESelectionType;
 import jsettlers.logic.constants.Constants;
 import jsettlers.logic.constants.MatchConstants;
+import jsettlers.logic.eventlog.EGameEvent;
+import jsettlers.logic.eventlog.GameEventLog;
 import jsettlers.logic.movable.cargo.CargoShipMovable;
 import jsettlers.logic.movable.cargo.DonkeyMovable;
 import jsettlers.logic.movable.civilian.AlchemistMovable;
@@ -106,6 +108,7 @@ public abstract class Movable implements ILogicMovable, FoWTask {
 	protected ShortPoint2D position;
 
 	protected Path path;
+	protected Path preparedPath;
 
 	protected float         health;
 	private boolean       visible           = true;
@@ -145,6 +148,10 @@ public abstract class Movable implements ILogicMovable, FoWTask {
 		playerControlled = movableType.playerControllable;
 
 		this.id = MovableManager.requestId(this, replace);
+
+		if(replace == null) {
+			GameEventLog.log(EGameEvent.BORN, player, movableType, position);
+		}
 	}
 
 	/**
@@ -157,6 +164,11 @@ public abstract class Movable implements ILogicMovable, FoWTask {
 	public void moveTo(ShortPoint2D targetPosition, EMoveToType moveToType) {
 	}
 
+	@Override
+	public void moveTo(ShortPoint2D targetPosition, EMoveToType moveToType, Path preparedPath) {
+		moveTo(targetPosition, moveToType);
+	}
+
 	private void readObject(ObjectInputStream ois) throws IOException, ClassNotFoundException {
 		ois.defaultReadObject();
 
@@ -232,11 +244,23 @@ public abstract class Movable implements ILogicMovable, FoWTask {
 						EMaterialType material = materialType.apply(mov);
 						mov.grid.takeMaterial(mov.position, material);
 						mov.setMaterial(material);
+						if(fromMap) {
+							mov.materialTaken(material);
+						}
 					})
 				)
 		);
 	}
 
+	/**
+	 * Called after this movable took a material from the map.
+	 *
+	 * @param material
+	 * 		The material that has been taken.
+	 */
+	protected void materialTaken(EMaterialType material) {
+	}
+
 	protected static <T extends Movable> Node<T> goInDirectionIfAllowedAndFreeNode(IEDirectionSupplier<T> direction) {
 		return sequence(
 				condition(mov -> {
@@ -351,7 +375,7 @@ public abstract class Movable implements ILogicMovable, FoWTask {
 	protected static <T extends Movable> Node<T> goToPos(IShortPoint2DSupplier<T> target, IBooleanConditionFunction<T> pathStep) {
 		return sequence(
 				condition(mov -> {
-					mov.path = mov.grid.calculatePathTo(mov, target.apply(mov));
+					mov.path = ((Movable) mov).calculatePathTo(target.apply(mov));
 					return mov.path != null;
 				}),
 				followPath(pathStep)
@@ -359,6 +383,20 @@ public abstract class Movable implements ILogicMovable, FoWTask {
 	}
 
 
+	/**
+	 * Uses the prepared path of the last move order if it leads to the given target and starts next to the current position. Otherwise the path is
+	 * calculated.
+	 */
+	private Path calculatePathTo(ShortPoint2D target) {
+		Path prepared = preparedPath;
+		preparedPath = null;
+
+		if (prepared != null && prepared.getTargetPosition().equals(target) && position.getOnGridDistTo(prepared.getFirstPos()) == 1) {
+			return prepared;
+		}
+		return grid.calculatePathTo(this, target);
+	}
+
 	protected void findWayAroundObstacle() {
 		if (!path.hasOverNextStep()) { // if path has no position left
 			return;
@@ -831,6 +869,8 @@ public abstract class Movable implements ILogicMovable, FoWTask {
 	public final void kill() {
 		if(!isAlive()) return;
 
+		GameEventLog.log(EGameEvent.DIED, player, movableType, position);
+
 		decoupleMovable();
 
 		spawnGhost();
@@ -49,7 +49,7 @@ public class DonkeyMovable extends CargoMovable {
 
 		if(loaded) {
 			setMaterial(EMaterialType.BASKET);
-			attackable = true;
+			setAttackable(true);
 		}
 
 		return loaded;
@@ -70,7 +70,7 @@ public class DonkeyMovable extends CargoMovable {
 		}
 
 		setMaterial(EMaterialType.NO_MATERIAL);
-		attackable = false;
+		setAttackable(false);
 	}
 
 	@Override
@@ -17,7 +17,8 @@ import jsettlers.common.menu.messages.SimpleMessage;
 import jsettlers.common.movable.EDirection;
 import jsettlers.common.movable.EMovableType;
 import jsettlers.common.position.ShortPoint2D;
-import jsettlers.logic.constants.MatchConstants;
+import jsettlers.logic.eventlog.EGameEvent;
+import jsettlers.logic.eventlog.GameEventLog;
 import jsettlers.logic.map.grid.partition.manager.manageables.IManageableWorker;
 import jsettlers.logic.map.grid.partition.manager.manageables.interfaces.IWorkerRequestBuilding;
 import jsettlers.logic.movable.Movable;
@@ -25,9 +26,6 @@ import jsettlers.logic.movable.interfaces.AbstractMovableGrid;
 import jsettlers.logic.movable.interfaces.IBuildingWorkerMovable;
 import jsettlers.logic.player.Player;
 
-import java.io.FileOutputStream;
-import java.io.IOException;
-import java.io.PrintStream;
 import java.util.function.Supplier;
 
 import static jsettlers.algorithms.simplebehaviortree.BehaviorTreeHelper.*;
@@ -44,31 +42,17 @@ public class BuildingWorkerMovable extends CivilianMovable implements IBuildingW
 		super(grid, movableType, position, player, replace);
 	}
 
-	public static void resetProductionFile() {
-		if(!MatchConstants.ENABLE_PRODUCTION_LOG) return;
-
-		if(OUT != null) {
-			OUT.close();
-		}
-
-		try {
-			OUT = new PrintStream(new FileOutputStream("produced" + System.currentTimeMillis() + ".log"));
-		} catch (IOException e) {
-			throw new Error(e);
-		}
-	}
-
-	private static PrintStream OUT;
-
 	protected void produce(EMaterialType material) {
 		if(material == EMaterialType.GOLD) {
 			getPlayer().getEndgameStatistic().incrementAmountOfProducedGold();
 		}
 
-		if(MatchConstants.ENABLE_PRODUCTION_LOG) {
-			OUT.println(MatchConstants.clock().getTime() + "," + material);
-			OUT.flush();
-		}
+		GameEventLog.log(EGameEvent.PRODUCED, getPlayer(), material, position);
+	}
+
+	@Override
+	protected void materialTaken(EMaterialType material) {
+		GameEventLog.log(EGameEvent.CONSUMED, getPlayer(), material, position);
 	}
 
 	protected static <T extends BuildingWorkerMovable> Node<T> dropProduced(IEMaterialTypeSupplier<T> material) {
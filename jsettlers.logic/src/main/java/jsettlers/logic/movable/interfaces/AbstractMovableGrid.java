@@ -59,6 +59,12 @@ public abstract class AbstractMovableGrid extends AbstractStrategyGrid {
 
 	public abstract void notifyAttackers(ShortPoint2D position, IAttackableMovable movable, boolean informFullArea);
 
+	/**
+	 * Has to be called when the attackable at the given position changed in a way that can change the result of an enemy search, e.g. it became
+	 * attackable.
+	 */
+	public abstract void attackableChangedAt(ShortPoint2D position);
+
 	public abstract Path calculatePathTo(IPathCalculatable pathCalculatable, ShortPoint2D targetPos);
 	public abstract Path calculatePathTo(IPathCalculatable pathCalculatable, ShortPoint2D targetPos, ShortPoint2D startPos);
 
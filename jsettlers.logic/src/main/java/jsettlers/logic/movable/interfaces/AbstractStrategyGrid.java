@@ -226,6 +226,22 @@ public abstract class AbstractStrategyGrid implements Serializable {
 	public abstract IAttackable getEnemyInSearchArea(ShortPoint2D centerPos, IAttackable movable, short minSearchRadius, short maxSearchRadius,
 													 boolean includeTowers);
 
+	/**
+	 * @return A stamp of the current state of everything {@link #getEnemyInSearchArea(ShortPoint2D, IAttackable, short, short, boolean)} depends on.
+	 */
+	public abstract long getEnemySearchStamp();
+
+	/**
+	 * Checks if the result of {@link #getEnemyInSearchArea(ShortPoint2D, IAttackable, short, short, boolean)} with the given parameters can have
+	 * changed since the given stamp has been taken.
+	 *
+	 * @param stamp
+	 *            A stamp returned by {@link #getEnemySearchStamp()}.
+	 * @return true if the search would still find the same enemy.
+	 */
+	public abstract boolean isEnemySearchUnchangedSince(long stamp, ShortPoint2D centerPos, IAttackable movable, short maxSearchRadius,
+														boolean includeTowers);
+
 	/**
 	 * Adds an arrow object to the map flying from
 	 *  @param shooterPos
@@ -18,6 +18,8 @@ import java.io.Serializable;
 
 import jsettlers.algorithms.fogofwar.MovableFoWTask;
 import jsettlers.algorithms.path.IPathCalculatable;
+import jsettlers.algorithms.path.Path;
+import jsettlers.common.logging.ETickCategory;
 import jsettlers.common.movable.EEffectType;
 import jsettlers.common.action.EMoveToType;
 import jsettlers.common.movable.IGraphicsMovable;
@@ -37,6 +39,15 @@ public interface ILogicMovable extends IScheduledTimerable, IPathCalculatable, I
 	Player getPlayer();
 
 	void moveTo(ShortPoint2D targetPosition, EMoveToType moveToType);
+
+	/**
+	 * Like {@link #moveTo(ShortPoint2D, EMoveToType)}, but the movable may use the given path instead of searching its own one.
+	 *
+	 * @param preparedPath
+	 *            A path to the target position starting next to the movable or <code>null</code>.
+	 */
+	void moveTo(ShortPoint2D targetPosition, EMoveToType moveToType, Path preparedPath);
+
 	void addEffect(EEffectType effect);
 
 	void setPosition(ShortPoint2D to);
@@ -50,4 +61,9 @@ public interface ILogicMovable extends IScheduledTimerable, IPathCalculatable, I
 	 * 		if false, it should stop working.
 	 */
 	void stopOrStartWorking(boolean stop);
+
+	@Override
+	default ETickCategory getTickCategory() {
+		return ETickCategory.MOVABLES;
+	}
 }
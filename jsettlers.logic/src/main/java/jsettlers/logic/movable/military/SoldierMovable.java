@@ -19,10 +19,11 @@ import jsettlers.logic.movable.Movable;
 import jsettlers.logic.movable.interfaces.AbstractMovableGrid;
 import jsettlers.logic.movable.interfaces.ISoldierMovable;
 import jsettlers.logic.player.Player;
+import jsettlers.logic.timer.IParallelScheduledTimerable;
 
 import static jsettlers.algorithms.simplebehaviortree.BehaviorTreeHelper.*;
 
-public abstract class SoldierMovable extends AttackableHumanMovable implements ISoldierMovable {
+public abstract class SoldierMovable extends AttackableHumanMovable implements ISoldierMovable, IParallelScheduledTimerable {
 
 	private static final long serialVersionUID = 667104393129440108L;
 
@@ -43,6 +44,14 @@ public abstract class SoldierMovable extends AttackableHumanMovable implements I
 	private IAttackable toCloseEnemy;
 	private ShortPoint2D startPoint;
 
+	private transient boolean enemyPrepared;
+	private transient IAttackable preparedEnemy;
+	private transient ShortPoint2D preparedAttackPosition;
+	private transient boolean preparedIncludeTowers;
+	private transient short preparedMinSearchDistance;
+	private transient short preparedMaxSearchDistance;
+	private transient long preparedSearchStamp;
+
 
 	public SoldierMovable(AbstractMovableGrid grid, EMovableType movableType, ShortPoint2D position, Player player, Movable movable) {
 		super(grid, movableType, position, player, movable);
@@ -226,11 +235,60 @@ public abstract class SoldierMovable extends AttackableHumanMovable implements I
 
 	private static Node<SoldierMovable> findEnemy() {
 		return condition(mov -> {
-			mov.enemy = mov.grid.getEnemyInSearchArea(mov.getAttackPosition(), mov, mov.getMinSearchDistance(), mov.getMaxSearchDistance(), !mov.defending);
+			mov.enemy = mov.searchEnemy();
 			return mov.enemy != null;
 		});
 	}
 
+	/**
+	 * Searches the enemy to attack. If the search has already been done in {@link #prepareTimerEvent()} for the same parameters and nothing in
+	 * the search area changed since then, the prepared result is used once. It is the same result the search would find now, so the game
+	 * plays exactly as with a serial tick.
+	 */
+	private IAttackable searchEnemy() {
+		ShortPoint2D attackPosition = getAttackPosition();
+		boolean includeTowers = !defending;
+		short minSearchDistance = getMinSearchDistance();
+		short maxSearchDistance = getMaxSearchDistance();
+
+		if (enemyPrepared) {
+			enemyPrepared = false;
+			if (attackPosition.equals(preparedAttackPosition) && includeTowers == preparedIncludeTowers
+					&& minSearchDistance == preparedMinSearchDistance && maxSearchDistance == preparedMaxSearchDistance
+					&& grid.isEnemySearchUnchangedSince(preparedSearchStamp, attackPosition, this, maxSearchDistance, includeTowers)) {
+				return preparedEnemy;
+			}
+		}
+
+		return grid.getEnemyInSearchArea(attackPosition, this, minSearchDistance, maxSearchDistance, includeTowers);
+	}
+
+	@Override
+	public void prepareTimerEvent() {
+		if (!isAlive() || !(defending || enemyNearby)) {
+			return;
+		}
+
+		preparedSearchStamp = grid.getEnemySearchStamp();
+		preparedAttackPosition = getAttackPosition();
+		preparedIncludeTowers = !defending;
+		preparedMinSearchDistance = getMinSearchDistance();
+		preparedMaxSearchDistance = getMaxSearchDistance();
+		preparedEnemy = grid.getEnemyInSearchArea(preparedAttackPosition, this, preparedMinSearchDistance, preparedMaxSearchDistance,
+				preparedIncludeTowers);
+		enemyPrepared = true;
+	}
+
+	@Override
+	public int timerEvent() {
+		int delay = super.timerEvent();
+
+		enemyPrepared = false;
+		preparedEnemy = null;
+		preparedAttackPosition = null;
+		return delay;
+	}
+
 	private static Node<SoldierMovable> attackEnemy() {
 		return sequence(
 				condition(SoldierMovable::isEnemyValid),
@@ -1,5 +1,6 @@
 package jsettlers.logic.movable.other;
 
+import jsettlers.algorithms.path.Path;
 import jsettlers.algorithms.simplebehaviortree.Root;
 import jsettlers.common.action.EMoveToType;
 import jsettlers.common.movable.EMovableType;
@@ -43,6 +44,15 @@ public class AttackableHumanMovable extends AttackableMovable implements IAttack
 		goingToHealer = false;
 	}
 
+	@Override
+	public void moveTo(ShortPoint2D targetPosition, EMoveToType moveToType, Path preparedPath) {
+		moveTo(targetPosition, moveToType);
+
+		if(playerControlled) {
+			this.preparedPath = preparedPath;
+		}
+	}
+
 	@Override
 	public void stopOrStartWorking(boolean stop) {
 		if(!playerControlled) return;
@@ -40,6 +40,20 @@ public class AttackableMovable extends Movable implements IAttackableMovable {
 		return attackable;
 	}
 
+	protected void setAttackable(boolean attackable) {
+		this.attackable = attackable;
+		attackableChanged();
+	}
+
+	/**
+	 * Has to be called when something changed that enemies check when they search for an attackable.
+	 */
+	protected void attackableChanged() {
+		if (position != null) {
+			grid.attackableChangedAt(position);
+		}
+	}
+
 	@Override
 	public boolean isTower() {
 		return false;
@@ -129,12 +129,14 @@ public class ThiefMovable extends AttackableHumanMovable implements IGraphicsThi
 		super.receiveHit(hitStrength, attackerPos, attackingPlayer);
 
 		uncoveredBy.set(attackingPlayer.getTeamId());
+		attackableChanged();
 	}
 
 	@Override
 	public void heal() {
 		super.heal();
 		uncoveredBy.clear();
+		attackableChanged();
 	}
 
 	@Override
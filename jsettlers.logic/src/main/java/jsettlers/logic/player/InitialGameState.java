@@ -15,8 +15,10 @@ public class InitialGameState implements Cloneable, Serializable {
 	private final PlayerSetting[] playerSettings;
 	private final long randomSeed;
 	private final EMapStartResources startResources;
+	private boolean hierarchicalPathfinding;
+	private boolean groupFlowFields = true;
 
-	private static final byte VERSION = 1;
+	private static final byte VERSION = 3;
 
 	public InitialGameState(byte playerId, PlayerSetting[] playerSettings, long randomSeed, EMapStartResources startResources) {
 		this.playerId = playerId;
@@ -42,6 +44,10 @@ public class InitialGameState implements Cloneable, Serializable {
 			playerSettings[i] = PlayerSetting.readFromStream(dis);
 		}
 
+		if (readVersion >= 2) {
+			hierarchicalPathfinding = dis.readBoolean();
+		}
+		groupFlowFields = readVersion >= 3 && dis.readBoolean();
 	}
 
 	public byte getPlayerId() {
@@ -60,6 +66,27 @@ public class InitialGameState implements Cloneable, Serializable {
 		return startResources;
 	}
 
+	/**
+	 * @return true if long paths are searched with the {@link jsettlers.algorithms.path.astar.HierarchicalAStar}. It finds other paths than the
+	 *         exact A*, so the setting is part of the replay and must be the same for all players of a match. Multiplayer matches always use the
+	 *         exact A*.
+	 */
+	public boolean isHierarchicalPathfinding() {
+		return hierarchicalPathfinding;
+	}
+
+	public void setHierarchicalPathfinding(boolean hierarchicalPathfinding) {
+		this.hierarchicalPathfinding = hierarchicalPathfinding;
+	}
+
+	/**
+	 * @return true if the paths of a group move order follow a shared {@link jsettlers.algorithms.path.flowfield.FlowField}. The paths differ from
+	 *         the ones every movable searches on its own, so replays recorded before version 3 don't use it.
+	 */
+	public boolean isGroupFlowFields() {
+		return groupFlowFields;
+	}
+
 	public PlayerSetting[] getReplayablePlayerSettings() {
 		PlayerSetting[] playerSettings = new PlayerSetting[this.playerSettings.length];
 		for (int i = 0; i < playerSettings.length; i++) {
@@ -79,11 +106,17 @@ public class InitialGameState implements Cloneable, Serializable {
 		for (PlayerSetting playerSetting : playerSettings) {
 			playerSetting.writeTo(dos);
 		}
+
+		dos.writeBoolean(hierarchicalPathfinding);
+		dos.writeBoolean(groupFlowFields);
 	}
 
 	@Override
 	public InitialGameState clone() {
-		return new InitialGameState(playerId, getReplayablePlayerSettings(), randomSeed, startResources);
+		InitialGameState clone = new InitialGameState(playerId, getReplayablePlayerSettings(), randomSeed, startResources);
+		clone.hierarchicalPathfinding = hierarchicalPathfinding;
+		clone.groupFlowFields = groupFlowFields;
+		return clone;
 	}
 
 	@Override
@@ -93,6 +126,8 @@ public class InitialGameState implements Cloneable, Serializable {
 				", playerSettings=" + Arrays.toString(playerSettings) +
 				", randomSeed=" + randomSeed +
 				", startResources=" + startResources +
+				", hierarchicalPathfinding=" + hierarchicalPathfinding +
+				", groupFlowFields=" + groupFlowFields +
 				'}';
 	}
 }
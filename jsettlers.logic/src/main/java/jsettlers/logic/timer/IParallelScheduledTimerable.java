@@ -0,0 +1,41 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.logic.timer;
+
+import jsettlers.common.position.ShortPoint2D;
+
+/**
+ * A {@link IScheduledTimerable} that can do a part of its work in parallel to the other timerables of the same tick.
+ * <p />
+ * If the parallel tick is enabled, {@link #prepareTimerEvent()} is called for all parallel timerables of a tick before any of their
+ * {@link #timerEvent()} methods is called. The preparation of timerables close to each other is done in one batch on the same thread.
+ * <p />
+ * To keep the game deterministic, the preparation may only read the game state and only write to state owned by the timerable itself. All
+ * changes of the game state have to be done in {@link #timerEvent()}, which is still called one after the other in the scheduled order. Therefore
+ * the preparation only sees the state of the game at the beginning of the tick. {@link #timerEvent()} may only use a prepared result if the state
+ * it has been calculated from hasn't been changed by the timerables executed before it, so the game plays exactly as with a serial tick.
+ */
+public interface IParallelScheduledTimerable extends IScheduledTimerable {
+
+	/**
+	 * @return The position used to group the timerable into a batch with other timerables close to it.
+	 */
+	ShortPoint2D getPosition();
+
+	/**
+	 * Prepares the next call of {@link #timerEvent()}. This may be called concurrently to the preparation of other timerables.
+	 */
+	void prepareTimerEvent();
+}
@@ -16,6 +16,8 @@ package jsettlers.logic.timer;
 
 import java.io.Serializable;
 
+import jsettlers.common.logging.ETickCategory;
+
 public interface IScheduledTimerable extends Serializable {
 
 	/**
@@ -28,4 +30,11 @@ public interface IScheduledTimerable extends Serializable {
 	 * this method is called if a ITimerable object crashes during execution of timerEvent() to prevent further damage.
 	 */
 	void kill();
+
+	/**
+	 * @return The category the time of {@link #timerEvent()} is measured in by the {@link jsettlers.common.logging.TickProfiler}.
+	 */
+	default ETickCategory getTickCategory() {
+		return ETickCategory.OTHER;
+	}
 }
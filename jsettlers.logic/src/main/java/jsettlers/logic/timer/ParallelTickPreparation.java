@@ -0,0 +1,159 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.logic.timer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import jsettlers.common.position.ShortPoint2D;
+
+/**
+ * Runs {@link IParallelScheduledTimerable#prepareTimerEvent()} for all parallel timerables of a tick on a fork join pool.
+ * <p />
+ * The timerables are sorted into batches by the map region they are in. Every batch is prepared by a single thread, so timerables close to each
+ * other are handled together. As the preparation must not change the game state, the order the batches are processed in has no influence on the
+ * result.
+ */
+final class ParallelTickPreparation {
+	private static final int REGION_BITS = 5; // 32 x 32 tiles per region
+	private static final int MIN_PARALLEL_TIMERABLES = 32;
+	private static final int MIN_TIMERABLES_PER_TASK = 16;
+
+	private static ForkJoinPool pool;
+
+	private IParallelScheduledTimerable[] timerables = new IParallelScheduledTimerable[64];
+	private long[] sortKeys = new long[64];
+	private int size;
+
+	/**
+	 * Prepares all {@link IParallelScheduledTimerable}s in the given queue and returns after all of them have been prepared.
+	 *
+	 * @param queue
+	 *            The timerables of the tick to be executed next.
+	 */
+	void prepare(TimerableQueue queue) {
+		collect(queue);
+
+		if (size < MIN_PARALLEL_TIMERABLES) {
+			for (int i = 0; i < size; i++) {
+				prepare(timerables[i]);
+			}
+		} else {
+			sortByRegion();
+			getPool().invoke(new PrepareBatchesTask(createBatches(), 0));
+		}
+
+		Arrays.fill(timerables, 0, size, null);
+		size = 0;
+	}
+
+	private void collect(TimerableQueue queue) {
+		size = 0;
+		for (int i = 0; i < queue.size(); i++) {
+			IScheduledTimerable timerable = queue.getTimerable(i);
+			if (timerable instanceof IParallelScheduledTimerable) {
+				if (size == timerables.length) {
+					timerables = Arrays.copyOf(timerables, size * 2);
+					sortKeys = new long[size * 2];
+				}
+				timerables[size++] = (IParallelScheduledTimerable) timerable;
+			}
+		}
+	}
+
+	/**
+	 * Sorts the collected timerables by their region. Timerables of the same region keep their scheduling order.
+	 */
+	private void sortByRegion() {
+		for (int i = 0; i < size; i++) {
+			ShortPoint2D position = timerables[i].getPosition();
+			long region = position == null ? 0 : ((position.x >> REGION_BITS) << 16 | (position.y >> REGION_BITS));
+			sortKeys[i] = region << 32 | i;
+		}
+		Arrays.sort(sortKeys, 0, size);
+
+		IParallelScheduledTimerable[] sorted = new IParallelScheduledTimerable[size];
+		for (int i = 0; i < size; i++) {
+			sorted[i] = timerables[(int) sortKeys[i]];
+		}
+		System.arraycopy(sorted, 0, timerables, 0, size);
+	}
+
+	/**
+	 * Splits the sorted timerables into batches of whole regions. Small neighboring regions are merged into one batch.
+	 */
+	private List<int[]> createBatches() {
+		List<int[]> batches = new ArrayList<>();
+		int batchStart = 0;
+
+		for (int i = 1; i <= size; i++) {
+			boolean regionEnds = i == size || (sortKeys[i] >>> 32) != (sortKeys[i - 1] >>> 32);
+			if (regionEnds && i - batchStart >= MIN_TIMERABLES_PER_TASK || i == size) {
+				batches.add(new int[] { batchStart, i });
+				batchStart = i;
+			}
+		}
+		return batches;
+	}
+
+	private static void prepare(IParallelScheduledTimerable timerable) {
+		try {
+			timerable.prepareTimerEvent();
+		} catch (Throwable t) {
+			System.err.println("RescheduleTimer catched exception during preparation: ");
+			t.printStackTrace();
+		}
+	}
+
+	private static synchronized ForkJoinPool getPool() {
+		if (pool == null) {
+			pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+		}
+		return pool;
+	}
+
+	private class PrepareBatchesTask extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+
+		private final List<int[]> batches;
+		private final int batchIndex;
+
+		PrepareBatchesTask(List<int[]> batches, int batchIndex) {
+			this.batches = batches;
+			this.batchIndex = batchIndex;
+		}
+
+		@Override
+		protected void compute() {
+			PrepareBatchesTask next = null;
+			if (batchIndex + 1 < batches.size()) {
+				next = new PrepareBatchesTask(batches, batchIndex + 1);
+				next.fork();
+			}
+
+			int[] batch = batches.get(batchIndex);
+			for (int i = batch[0]; i < batch[1]; i++) {
+				prepare(timerables[i]);
+			}
+
+			if (next != null) {
+				next.join();
+			}
+		}
+	}
+}
@@ -18,34 +18,116 @@ import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
-import java.util.ArrayDeque;
-import java.util.ArrayList;
-import java.util.Iterator;
+import java.util.Arrays;
 
+import jsettlers.common.logging.ETickCategory;
+import jsettlers.common.logging.TickProfiler;
 import jsettlers.logic.map.loading.MapLoadException;
 import jsettlers.logic.constants.MatchConstants;
 import jsettlers.network.client.interfaces.IGameClock;
 import jsettlers.network.synchronic.timer.INetworkTimerable;
 
+/**
+ * Schedules {@link IScheduledTimerable}s with a hierarchical timing wheel.
+ * <p />
+ * The root wheel has one slot per tick ({@value #TIME_SLICE} ms) and covers the current window of {@value #ROOT_WHEEL_SIZE} ticks. Every outer
+ * wheel has {@value #WHEEL_SIZE} slots that each cover a whole window of the next inner wheel. Timerables scheduled beyond the outermost wheel
+ * are kept in an overflow queue, so there is no upper limit for the delay. Whenever a window of an inner wheel starts, the matching slot of the
+ * outer wheel is cascaded into it.
+ * <p />
+ * Timerables that are due in the same tick are executed in the order they have been scheduled. This keeps the execution order deterministic and
+ * equal to the order of a flat array of slots.
+ */
 public final class RescheduleTimer implements INetworkTimerable, Serializable {
-	private static final long serialVersionUID = -1962430988827211391L;
+	private static final long serialVersionUID = 5402871629731734529L;
 
-	private static final int FUTURE_TIME = 32000;
-	private static final short TIME_SLICE = 25; // ms
-	private static final int TIME_SLOTS = FUTURE_TIME / TIME_SLICE;
+	public static final short TIME_SLICE = 25; // ms
+
+	private static final int ROOT_WHEEL_BITS = 8;
+	private static final int ROOT_WHEEL_SIZE = 1 << ROOT_WHEEL_BITS; // 6.4 s
+	private static final int ROOT_WHEEL_MASK = ROOT_WHEEL_SIZE - 1;
+
+	private static final int WHEEL_BITS = 6;
+	private static final int WHEEL_SIZE = 1 << WHEEL_BITS;
+	private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+	private static final int OUTER_WHEELS = 3; // 6.8 min, 7.3 h, 19.4 days
+	private static final int OVERFLOW_SHIFT = ROOT_WHEEL_BITS + OUTER_WHEELS * WHEEL_BITS;
 
 	private static RescheduleTimer uniIns;
 
-	@SuppressWarnings("unchecked")
-	private final ArrayList<IScheduledTimerable> timerables[] = new ArrayList[TIME_SLOTS];
-	private int currTimeSlot = 0;
+	private int currentTick = 0;
+
+	private transient TimerableQueue[] rootWheel;
+	private transient TimerableQueue[][] outerWheels;
+	private transient TimerableQueue overflow;
+	private transient TimerableQueue overflowSwap;
+	private transient int scheduledCount;
+	private transient ParallelTickPreparation parallelPreparation;
+
+	private transient int peakSlotLoad;
+	private transient int[] slotLoadHistogram;
 
 	protected RescheduleTimer() {
-		for (int i = 0; i < TIME_SLOTS; i++) {
-			timerables[i] = new ArrayList<>();
+		initWheels();
+	}
+
+	private void initWheels() {
+		rootWheel = new TimerableQueue[ROOT_WHEEL_SIZE];
+		for (int i = 0; i < ROOT_WHEEL_SIZE; i++) {
+			rootWheel[i] = new TimerableQueue();
+		}
+
+		outerWheels = new TimerableQueue[OUTER_WHEELS][WHEEL_SIZE];
+		for (TimerableQueue[] wheel : outerWheels) {
+			for (int i = 0; i < WHEEL_SIZE; i++) {
+				wheel[i] = new TimerableQueue();
+			}
+		}
+
+		overflow = new TimerableQueue();
+		overflowSwap = new TimerableQueue();
+		scheduledCount = 0;
+		parallelPreparation = new ParallelTickPreparation();
+
+		peakSlotLoad = 0;
+		slotLoadHistogram = new int[Integer.SIZE];
+	}
+
+	private void writeObject(ObjectOutputStream oos) throws IOException {
+		oos.defaultWriteObject();
+		oos.writeInt(scheduledCount);
+
+		for (TimerableQueue queue : rootWheel) {
+			writeQueue(oos, queue);
+		}
+		for (TimerableQueue[] wheel : outerWheels) {
+			for (TimerableQueue queue : wheel) {
+				writeQueue(oos, queue);
+			}
+		}
+		writeQueue(oos, overflow);
+	}
+
+	private void writeQueue(ObjectOutputStream oos, TimerableQueue queue) throws IOException {
+		for (int i = 0; i < queue.size(); i++) {
+			oos.writeInt(queue.getDueTick(i) - currentTick);
+			oos.writeObject(queue.getTimerable(i));
 		}
 	}
 
+	private void readObject(ObjectInputStream ois) throws IOException, ClassNotFoundException {
+		ois.defaultReadObject();
+		initWheels();
+
+		int count = ois.readInt();
+		for (int i = 0; i < count; i++) {
+			int dueTick = currentTick + ois.readInt();
+			IScheduledTimerable timerable = (IScheduledTimerable) ois.readObject();
+			getQueueFor(dueTick).add(timerable, dueTick);
+		}
+		scheduledCount = count;
+	}
+
 	public static synchronized void stopAndClear() {
 		if (uniIns != null) {
 			if (MatchConstants.clock() != null) {
@@ -74,15 +156,74 @@ public final class RescheduleTimer implements INetworkTimerable, Serializable {
 			return; // don't schedule if requested delay is negative or zero
 		}
 
-		int delaySlots = delay / TIME_SLICE;
-		delaySlots = delaySlots > 0 ? delaySlots : 1; // ensure at least one slot delay
+		int delayTicks = delay / TIME_SLICE;
+		delayTicks = delayTicks > 0 ? delayTicks : 1; // ensure at least one slot delay
+
+		int dueTick = currentTick + delayTicks;
+		getQueueFor(dueTick).add(t, dueTick);
+		scheduledCount++;
+	}
+
+	/**
+	 * Finds the queue a timerable due in the given tick is stored in. The root wheel only holds the ticks of the current window, every outer wheel
+	 * holds the ticks of its current window that are not covered by the inner wheels.
+	 *
+	 * @param dueTick
+	 *            The absolute tick the timerable is due in. Must not be before the current tick.
+	 * @return The queue responsible for the given tick.
+	 */
+	private TimerableQueue getQueueFor(int dueTick) {
+		if ((dueTick >>> ROOT_WHEEL_BITS) == (currentTick >>> ROOT_WHEEL_BITS)) {
+			return rootWheel[dueTick & ROOT_WHEEL_MASK];
+		}
+
+		for (int wheel = 0; wheel < OUTER_WHEELS; wheel++) {
+			int shift = getWheelShift(wheel);
+			if ((dueTick >>> (shift + WHEEL_BITS)) == (currentTick >>> (shift + WHEEL_BITS))) {
+				return outerWheels[wheel][(dueTick >>> shift) & WHEEL_MASK];
+			}
+		}
+
+		return overflow;
+	}
+
+	private static int getWheelShift(int outerWheel) {
+		return ROOT_WHEEL_BITS + outerWheel * WHEEL_BITS;
+	}
+
+	/**
+	 * Moves the timerables of the outer wheel slots that start with the current tick into the inner wheels. The outermost wheels are cascaded first,
+	 * so timerables that have been scheduled earlier stay in front of timerables scheduled later for the same tick.
+	 */
+	private void cascade() {
+		if ((currentTick & ROOT_WHEEL_MASK) != 0) {
+			return;
+		}
+
+		if ((currentTick & ((1 << OVERFLOW_SHIFT) - 1)) == 0 && !overflow.isEmpty()) {
+			TimerableQueue overflowed = overflow;
+			overflow = overflowSwap;
+			overflowSwap = overflowed;
+			redistribute(overflowed);
+		}
 
-		assert delaySlots < TIME_SLOTS : "SCHEDULED TO FAR IN THE FUTURE! " + delay + "ms";
+		for (int wheel = OUTER_WHEELS - 1; wheel >= 0; wheel--) {
+			int shift = getWheelShift(wheel);
+			if ((currentTick & ((1 << shift) - 1)) == 0) {
+				redistribute(outerWheels[wheel][(currentTick >>> shift) & WHEEL_MASK]);
+			}
+		}
+	}
 
-		timerables[(currTimeSlot + delaySlots) % TIME_SLOTS].add(t);
+	private void redistribute(TimerableQueue queue) {
+		for (int i = 0; i < queue.size(); i++) {
+			int dueTick = queue.getDueTick(i);
+			getQueueFor(dueTick).add(queue.getTimerable(i), dueTick);
+		}
+		queue.clear();
 	}
 
-	private static synchronized RescheduleTimer get() {
+	static synchronized RescheduleTimer get() {
 		if (uniIns == null) {
 			uniIns = new RescheduleTimer();
 		}
@@ -91,15 +232,35 @@ public final class RescheduleTimer implements INetworkTimerable, Serializable {
 
 	@Override
 	public void timerEvent() {
-		ArrayList<IScheduledTimerable> queue = timerables[currTimeSlot];
+		cascade();
+
+		TimerableQueue queue = rootWheel[currentTick & ROOT_WHEEL_MASK];
+		int slotLoad = queue.size();
+		TickProfiler profiler = MatchConstants.tickProfiler();
 
-		for (IScheduledTimerable curr : queue) {
+		if (MatchConstants.ENABLE_PARALLEL_TICK && slotLoad > 0) {
+			long start = profiler != null ? System.nanoTime() : 0;
+			parallelPreparation.prepare(queue);
+			if (profiler != null) {
+				profiler.addSince(ETickCategory.PREPARATION, start);
+			}
+		}
+
+		for (int i = 0; i < slotLoad; i++) {
 			if (uniIns != this) { // fast stop when stopAndClear() is called.
 				return;
 			}
 
+			IScheduledTimerable curr = queue.getTimerable(i);
 			try {
-				int delay = curr.timerEvent();
+				int delay;
+				if (profiler != null) {
+					long start = System.nanoTime();
+					delay = curr.timerEvent();
+					profiler.addSince(curr.getTickCategory(), start);
+				} else {
+					delay = curr.timerEvent();
+				}
 				addTimerable(curr, delay);
 			} catch (Throwable t) {
 				System.err.println("RescheduleTimer catched: ");
@@ -114,7 +275,72 @@ public final class RescheduleTimer implements INetworkTimerable, Serializable {
 		}
 
 		queue.clear();
-		currTimeSlot = (currTimeSlot + 1) % TIME_SLOTS;
+		scheduledCount -= slotLoad;
+		recordSlotLoad(slotLoad);
+		currentTick++;
+
+		if (profiler != null) {
+			profiler.endTick(MatchConstants.clock().getTime());
+		}
+	}
+
+	private void recordSlotLoad(int slotLoad) {
+		peakSlotLoad = Math.max(peakSlotLoad, slotLoad);
+		slotLoadHistogram[Integer.SIZE - Integer.numberOfLeadingZeros(slotLoad)]++;
+	}
+
+	/**
+	 * @return The number of timerables currently waiting for their execution.
+	 */
+	public static int getScheduledCount() {
+		return get().scheduledCount;
+	}
+
+	/**
+	 * Counts the timerables due in each of the upcoming ticks.<br>
+	 * The statistics are not synchronized with the game thread, so they are only exact while the game is paused.
+	 *
+	 * @param numberOfTicks
+	 *            Number of upcoming ticks to look at, starting with the next tick to be executed.
+	 * @return An array containing the number of timerables per tick.
+	 */
+	public static int[] getUpcomingSlotLoads(int numberOfTicks) {
+		RescheduleTimer timer = get();
+		int[] loads = new int[numberOfTicks];
+
+		for (int i = 0; i < numberOfTicks; i++) {
+			int dueTick = timer.currentTick + i;
+			TimerableQueue queue = timer.getQueueFor(dueTick);
+
+			if (queue == timer.rootWheel[dueTick & ROOT_WHEEL_MASK]) {
+				loads[i] = queue.size();
+			} else {
+				for (int j = 0; j < queue.size(); j++) {
+					if (queue.getDueTick(j) == dueTick) {
+						loads[i]++;
+					}
+				}
+			}
+		}
+		return loads;
+	}
+
+	/**
+	 * @return The highest number of timerables that have been executed in a single tick since the timer was created or loaded.
+	 */
+	public static int getPeakSlotLoad() {
+		return get().peakSlotLoad;
+	}
+
+	/**
+	 * Gives the distribution of the number of timerables executed per tick. Entry 0 counts the empty ticks, entry i counts the ticks with
+	 * 2<sup>i-1</sup> up to 2<sup>i</sup>-1 timerables.
+	 *
+	 * @return A copy of the histogram.
+	 */
+	public static int[] getSlotLoadHistogram() {
+		int[] histogram = get().slotLoadHistogram;
+		return Arrays.copyOf(histogram, histogram.length);
 	}
 
 	public static void loadFrom(ObjectInputStream ois) throws MapLoadException {
@@ -0,0 +1,67 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.logic.timer;
+
+import java.util.Arrays;
+
+/**
+ * Array backed FIFO queue used as a slot of the {@link RescheduleTimer}'s timing wheels. Every entry stores the {@link IScheduledTimerable} together
+ * with the absolute tick it is due in.
+ * <p />
+ * Clearing the queue keeps the backing arrays, so a slot only allocates while it grows beyond its former peak load.
+ */
+final class TimerableQueue {
+	private static final int INITIAL_CAPACITY = 8;
+
+	private IScheduledTimerable[] timerables = new IScheduledTimerable[INITIAL_CAPACITY];
+	private int[] dueTicks = new int[INITIAL_CAPACITY];
+	private int size = 0;
+
+	void add(IScheduledTimerable timerable, int dueTick) {
+		if (size == timerables.length) {
+			int newCapacity = size * 2;
+			timerables = Arrays.copyOf(timerables, newCapacity);
+			dueTicks = Arrays.copyOf(dueTicks, newCapacity);
+		}
+
+		timerables[size] = timerable;
+		dueTicks[size] = dueTick;
+		size++;
+	}
+
+	IScheduledTimerable getTimerable(int index) {
+		return timerables[index];
+	}
+
+	int getDueTick(int index) {
+		return dueTicks[index];
+	}
+
+	int size() {
+		return size;
+	}
+
+	boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Removes all entries. The references are released, the backing arrays are kept for reuse.
+	 */
+	void clear() {
+		Arrays.fill(timerables, 0, size, null);
+		size = 0;
+	}
+}
@@ -1,5 +1,6 @@
 package jsettlers.logic.trading;
 
+import jsettlers.common.logging.ETickCategory;
 import jsettlers.common.utils.collections.set.ArrayListSet;
 import jsettlers.logic.buildings.ITradeBuilding;
 import jsettlers.logic.map.grid.partition.manager.datastructures.PredicatedPositionableList;
@@ -51,6 +52,8 @@ public class TradeManager implements IScheduledTimerable {
 
 	@Override
 	public int timerEvent() {
+		freeTraders.updatePositions(); // free traders can still be moving
+
 		for(ITradeBuilding tradeBuilding : tradeBuildings) {
 			while(tradeBuilding.needsMoreTraders() && !freeTraders.isEmpty()) {
 				ITrader newTrader = freeTraders.removeObjectNextTo(tradeBuilding.getPickUpPosition(), trader -> trader.canReachPosition(tradeBuilding.getPickUpPosition()));
@@ -67,4 +70,9 @@ public class TradeManager implements IScheduledTimerable {
 	public void kill() {
 		System.err.println("TradeManagers should never be killed!");
 	}
+
+	@Override
+	public ETickCategory getTickCategory() {
+		return ETickCategory.TRADING;
+	}
 }
@@ -14,7 +14,9 @@
  *******************************************************************************/
 package jsettlers.main;
 
+import jsettlers.common.logging.TickProfiler;
 import jsettlers.common.statistics.IGameTimeProvider;
+import jsettlers.logic.constants.MatchConstants;
 import jsettlers.network.client.interfaces.IGameClock;
 
 /**
@@ -45,4 +47,9 @@ public class GameTimeProvider implements IGameTimeProvider {
 	public float getGameSpeed() {
 		return gameClock.getGameSpeed();
 	}
+
+	@Override
+	public TickProfiler getTickProfiler() {
+		return MatchConstants.tickProfiler();
+	}
 }
@@ -31,6 +31,7 @@ import jsettlers.ai.highlevel.AiExecutor;
 import jsettlers.common.CommitInfo;
 import jsettlers.common.CommonConstants;
 import jsettlers.common.logging.MultiplexingOutputStream;
+import jsettlers.common.logging.TickProfiler;
 import jsettlers.common.map.IGraphicsGrid;
 import jsettlers.common.menu.EGameError;
 import jsettlers.common.menu.EProgressState;
@@ -48,6 +49,7 @@ import jsettlers.logic.buildings.Building;
 import jsettlers.logic.buildings.trading.HarborBuilding;
 import jsettlers.logic.buildings.trading.MarketBuilding;
 import jsettlers.logic.constants.MatchConstants;
+import jsettlers.logic.eventlog.GameEventLog;
 import jsettlers.logic.map.grid.MainGrid;
 import jsettlers.logic.map.loading.IGameCreator;
 import jsettlers.logic.map.loading.IGameCreator.MainGridWithUiSettings;
@@ -188,13 +190,14 @@ public class JSettlersGame {
 				updateProgressListener(EProgressState.LOADING, 0.1f);
 
 				clearState();
-				MatchConstants.init(networkConnector.getGameClock(), initialGameState.getRandomSeed());
+				MatchConstants.init(networkConnector.getGameClock(), initialGameState);
 				try {
 					MatchConstants.clock().setReplayLogStream(createReplayFileStream());
 				} catch (IOException e) {
 					// TODO: log that we do not have write access to resources.
 					System.out.println("Cannot write jsettlers.integration.replay file.");
 				}
+				startEventLog();
 
 				updateProgressListener(EProgressState.LOADING_MAP, 0.3f);
 
@@ -247,6 +250,7 @@ public class JSettlersGame {
 				}
 
 				networkConnector.shutdown();
+				dumpTickProfile();
 				mainGrid.stopThreads();
 				connector.shutdown();
 				guiInterface.stop();
@@ -269,6 +273,27 @@ public class JSettlersGame {
 			}
 		}
 
+		private void startEventLog() {
+			if (MatchConstants.ENABLE_EVENT_LOG) {
+				try {
+					GameEventLog.start(ResourceManager.writeUserFile(getLogFile(mapCreator, "_events.log")));
+				} catch (IOException e) {
+					System.out.println("Cannot write event log file.");
+				}
+			}
+		}
+
+		private void dumpTickProfile() {
+			TickProfiler tickProfiler = MatchConstants.tickProfiler();
+			if (tickProfiler != null) {
+				try (PrintStream profileStream = new PrintStream(ResourceManager.writeUserFile(getLogFile(mapCreator, "_tick_profile.log")))) {
+					tickProfiler.dump(profileStream);
+				} catch (IOException e) {
+					e.printStackTrace();
+				}
+			}
+		}
+
 		public AiExecutor getAiExecutor() {
 			return aiExecutor;
 		}
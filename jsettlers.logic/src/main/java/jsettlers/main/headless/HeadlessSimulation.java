@@ -0,0 +1,225 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.main.headless;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.function.Consumer;
+
+import jsettlers.ai.highlevel.AiExecutor;
+import jsettlers.common.menu.UIState;
+import jsettlers.common.player.EWinState;
+import jsettlers.input.GuiTaskExecutor;
+import jsettlers.input.ITaskExecutorGuiInterface;
+import jsettlers.input.PlayerState;
+import jsettlers.logic.constants.MatchConstants;
+import jsettlers.logic.eventlog.GameEventLog;
+import jsettlers.logic.map.grid.MainGrid;
+import jsettlers.logic.map.loading.IGameCreator;
+import jsettlers.logic.map.loading.IGameCreator.MainGridWithUiSettings;
+import jsettlers.logic.map.loading.MapLoadException;
+import jsettlers.logic.player.InitialGameState;
+import jsettlers.logic.player.Player;
+import jsettlers.logic.timer.RescheduleTimer;
+import jsettlers.main.JSettlersGame;
+import jsettlers.main.ReplayStartInformation;
+import jsettlers.main.replay.ReplayUtils.IReplayStreamProvider;
+import jsettlers.network.client.OfflineNetworkConnector;
+import jsettlers.network.synchronic.timer.NetworkTimer;
+
+/**
+ * Runs a game without any user interface as fast as possible.
+ * <p />
+ * In contrast to a {@link JSettlersGame}, the clock is driven by the calling thread instead of a timer thread and neither the borders thread nor
+ * the fog of war threads are started, as they only calculate data needed for drawing the map. The ticks are always measured by a
+ * {@link jsettlers.common.logging.TickProfiler}, so the simulation can be used for load tests and AI tournaments.
+ */
+public class HeadlessSimulation implements ITaskExecutorGuiInterface {
+	private final IGameCreator mapCreator;
+	private final InitialGameState initialGameState;
+	private final DataInputStream replayStream;
+
+	private final NetworkTimer clock = new NetworkTimer(true);
+	private final OfflineNetworkConnector networkConnector = new OfflineNetworkConnector(clock);
+
+	private OutputStream eventLogStream;
+	private MainGrid mainGrid;
+	private UIState uiState;
+	private long peakHeapUsed;
+
+	public HeadlessSimulation(IGameCreator mapCreator, InitialGameState initialGameState) {
+		this(mapCreator, initialGameState, null);
+	}
+
+	private HeadlessSimulation(IGameCreator mapCreator, InitialGameState initialGameState, DataInputStream replayStream) {
+		this.mapCreator = mapCreator;
+		this.initialGameState = initialGameState;
+		this.replayStream = replayStream;
+
+		clock.setVerbose(false);
+	}
+
+	/**
+	 * Creates a simulation replaying the tasks of the given replay.
+	 *
+	 * @param replay
+	 *            The replay to be simulated.
+	 * @return The simulation. {@link #load()} has to be called before it can be run.
+	 * @throws MapLoadException
+	 *             If the replay cannot be read.
+	 */
+	public static HeadlessSimulation fromReplay(IReplayStreamProvider replay) throws MapLoadException {
+		try {
+			DataInputStream replayStream = new DataInputStream(replay.openStream());
+			ReplayStartInformation replayStartInformation = new ReplayStartInformation();
+			replayStartInformation.deserialize(replayStream);
+
+			return new HeadlessSimulation(replay.getMap(replayStartInformation), replayStartInformation.getReplayableGameState(), replayStream);
+		} catch (IOException e) {
+			throw new MapLoadException("Could not deserialize " + replay, e);
+		}
+	}
+
+	/**
+	 * Writes a {@link GameEventLog} of the simulation to the given stream. Has to be called before {@link #load()}.
+	 *
+	 * @param eventLogStream
+	 *            The stream for the log. It is closed when the simulation is stopped.
+	 */
+	public void setEventLogStream(OutputStream eventLogStream) {
+		this.eventLogStream = eventLogStream;
+	}
+
+	/**
+	 * Loads the map and schedules the game logic and the AI players at the clock. The clock is not started.
+	 *
+	 * @throws MapLoadException
+	 *             If the map cannot be loaded.
+	 */
+	public void load() throws MapLoadException {
+		JSettlersGame.clearState();
+		MatchConstants.init(clock, initialGameState, true);
+		if (eventLogStream != null) {
+			try {
+				GameEventLog.start(eventLogStream);
+			} catch (IOException e) {
+				System.err.println("Cannot write event log.");
+				e.printStackTrace();
+			}
+		}
+
+		byte playerId = initialGameState.getPlayerId();
+		MainGridWithUiSettings gridWithUiState = mapCreator.loadMainGrid(initialGameState.getPlayerSettings(), initialGameState.getStartResources());
+		mainGrid = gridWithUiState.getMainGrid();
+		PlayerState playerState = gridWithUiState.getPlayerState(playerId);
+		uiState = playerState.getUiState();
+		mainGrid.initForPlayer(playerId, playerState.getFogOfWar());
+
+		RescheduleTimer.schedule(clock);
+		clock.setTaskExecutor(new GuiTaskExecutor(mainGrid.getGuiInputGrid(), this, playerId));
+
+		if (replayStream != null) {
+			clock.loadReplayLogFromStream(replayStream);
+		}
+
+		AiExecutor aiExecutor = new AiExecutor(initialGameState.getPlayerSettings(), mainGrid, networkConnector.getTaskScheduler());
+		clock.schedule(aiExecutor, (short) 1000);
+	}
+
+	/**
+	 * Runs the game until the target game time is reached.
+	 *
+	 * @param targetGameTime
+	 *            The game time in milliseconds the simulation stops at.
+	 * @param reportInterval
+	 *            The game time in milliseconds between two calls of the progress listener. The heap usage is sampled in the same interval.
+	 * @param stopWhenDecided
+	 *            If true, the simulation stops as soon as a player has won.
+	 * @param progressListener
+	 *            Is informed about the intermediate results. May be null.
+	 * @return The result of the simulation.
+	 */
+	public HeadlessSimulationResult run(int targetGameTime, int reportInterval, boolean stopWhenDecided,
+			Consumer<HeadlessSimulationResult> progressListener) {
+		int startGameTime = clock.getTime();
+		long startNanos = System.nanoTime();
+
+		HeadlessSimulationResult result = createResult(startGameTime, startNanos);
+		while (clock.getTime() < targetGameTime && !(stopWhenDecided && isDecided())) {
+			clock.fastForwardTo(Math.min(targetGameTime, clock.getTime() + reportInterval));
+
+			result = createResult(startGameTime, startNanos);
+			if (progressListener != null) {
+				progressListener.accept(result);
+			}
+		}
+		return result;
+	}
+
+	private HeadlessSimulationResult createResult(int startGameTime, long startNanos) {
+		Runtime runtime = Runtime.getRuntime();
+		long heapUsed = runtime.totalMemory() - runtime.freeMemory();
+		peakHeapUsed = Math.max(peakHeapUsed, heapUsed);
+
+		return new HeadlessSimulationResult(clock.getTime() - startGameTime, System.nanoTime() - startNanos, heapUsed, peakHeapUsed, runtime.maxMemory(),
+				MatchConstants.tickProfiler());
+	}
+
+	/**
+	 * @return true if a player has won the game.
+	 */
+	public boolean isDecided() {
+		for (Player player : mainGrid.getPartitionsGrid().getPlayers()) {
+			if (player != null && player.getWinState() == EWinState.WON) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Stops the clock and clears the static state of the game.
+	 */
+	public void stop() {
+		networkConnector.shutdown();
+		JSettlersGame.clearState();
+
+		if (replayStream != null) {
+			try {
+				replayStream.close();
+			} catch (IOException e) {
+				e.printStackTrace();
+			}
+		}
+	}
+
+	public MainGrid getMainGrid() {
+		return mainGrid;
+	}
+
+	public int getGameTime() {
+		return clock.getTime();
+	}
+
+	@Override
+	public void renewSelection() {
+	}
+
+	@Override
+	public UIState getUIState() {
+		return uiState;
+	}
+}
@@ -0,0 +1,98 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.main.headless;
+
+import java.io.PrintStream;
+import java.util.Locale;
+
+import jsettlers.common.logging.ETickCategory;
+import jsettlers.common.logging.TickProfiler;
+import jsettlers.common.logging.TimeHistogram;
+
+/**
+ * The throughput metrics of a {@link HeadlessSimulation}.
+ * <p />
+ * The {@link TickProfiler} is shared with the simulation, so it shows the current values if the simulation is continued.
+ */
+public class HeadlessSimulationResult {
+	private static final long MEGABYTE = 1024 * 1024;
+
+	private final int gameTime;
+	private final long wallTimeNanos;
+	private final long heapUsed;
+	private final long peakHeapUsed;
+	private final long maxHeap;
+	private final TickProfiler tickProfiler;
+
+	HeadlessSimulationResult(int gameTime, long wallTimeNanos, long heapUsed, long peakHeapUsed, long maxHeap, TickProfiler tickProfiler) {
+		this.gameTime = gameTime;
+		this.wallTimeNanos = wallTimeNanos;
+		this.heapUsed = heapUsed;
+		this.peakHeapUsed = peakHeapUsed;
+		this.maxHeap = maxHeap;
+		this.tickProfiler = tickProfiler;
+	}
+
+	/**
+	 * @return The simulated game time in milliseconds.
+	 */
+	public int getGameTime() {
+		return gameTime;
+	}
+
+	public long getWallTimeNanos() {
+		return wallTimeNanos;
+	}
+
+	/**
+	 * @return The number of game seconds simulated per second of wall time.
+	 */
+	public double getGameSecondsPerWallSecond() {
+		return wallTimeNanos == 0 ? 0 : gameTime * 1e6 / wallTimeNanos;
+	}
+
+	public long getHeapUsed() {
+		return heapUsed;
+	}
+
+	/**
+	 * @return The highest heap usage sampled so far. The heap is only sampled between the report intervals, so short peaks may be missed.
+	 */
+	public long getPeakHeapUsed() {
+		return peakHeapUsed;
+	}
+
+	public long getMaxHeap() {
+		return maxHeap;
+	}
+
+	public TickProfiler getTickProfiler() {
+		return tickProfiler;
+	}
+
+	public void print(PrintStream out) {
+		out.println(String.format(Locale.ENGLISH, "game time: %d s, wall time: %.1f s, game seconds per wall second: %.1f", gameTime / 1000,
+				wallTimeNanos / 1e9, getGameSecondsPerWallSecond()));
+		out.println(String.format(Locale.ENGLISH, "heap used: %d MB, peak: %d MB, max: %d MB", heapUsed / MEGABYTE, peakHeapUsed / MEGABYTE,
+				maxHeap / MEGABYTE));
+		out.println("  " + TickProfiler.formatHistogram("tick", tickProfiler.getTickHistogram(), tickProfiler.getTickHistogram().getCount()));
+		for (ETickCategory category : ETickCategory.VALUES) {
+			TimeHistogram histogram = tickProfiler.getHistogram(category);
+			if (histogram.getCount() > 0) {
+				out.println("  " + TickProfiler.formatHistogram(category.getDisplayName(), histogram, tickProfiler.getCalls(category)));
+			}
+		}
+	}
+}
@@ -117,6 +117,12 @@ public class ReplayUtils {
 	}
 
 	public static MapLoader getNewestSavegame() {
+		try {
+			MapList.getDefaultList().awaitBackgroundSaves();
+		} catch (InterruptedException e) {
+			throw new RuntimeException(e);
+		}
+
 		List<? extends MapLoader> savedMaps = MapList.getDefaultList().getSavedMaps().getItems();
 		if (savedMaps.isEmpty()) {
 			throw new RuntimeException("No saved games found.");
@@ -0,0 +1,142 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.ai.highlevel;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import jsettlers.common.buildings.EBuildingType;
+import jsettlers.common.landscape.ELandscapeType;
+import jsettlers.common.landscape.EResourceType;
+import jsettlers.common.map.shapes.FreeMapArea;
+import jsettlers.common.map.shapes.MapCircle;
+import jsettlers.common.player.ECivilisation;
+import jsettlers.common.position.ShortPoint2D;
+import jsettlers.logic.constants.MatchConstants;
+import jsettlers.logic.map.grid.MainGrid;
+import jsettlers.logic.map.grid.partition.PartitionsGrid;
+import jsettlers.logic.map.loading.MapLoadException;
+import jsettlers.logic.objects.stone.Stone;
+import jsettlers.network.synchronic.timer.NetworkTimer;
+import jsettlers.testutils.map.MapUtils;
+
+/**
+ * Tests that the incrementally updated {@link AiStatistics} equal the statistics of a full scan of the map.
+ */
+public class AiStatisticsTest {
+	private MainGrid grid;
+	private ExecutorService threadPool;
+	private AiStatistics statistics;
+	private int numberOfRegions;
+
+	@Before
+	public void setUp() throws MapLoadException {
+		MatchConstants.init(new NetworkTimer(true), 0);
+		grid = MapUtils.getSpezialSumpf().loadMainGrid(null).getMainGrid();
+		threadPool = Executors.newWorkStealingPool();
+
+		statistics = new AiStatistics(grid, threadPool);
+		statistics.setVerifyUpdates(true);
+		statistics.updateStatistics();
+		numberOfRegions = statistics.getLastUpdatedRegions();
+	}
+
+	@After
+	public void tearDown() {
+		threadPool.shutdown();
+	}
+
+	@Test
+	public void testUnchangedMapIsNotScannedAgain() {
+		assertEquals(((grid.getWidth() + 31) / 32) * ((grid.getHeight() + 31) / 32), numberOfRegions);
+
+		statistics.updateStatistics();
+		assertEquals(0, statistics.getLastUpdatedRegions());
+	}
+
+	@Test
+	public void testChangesAreUpdated() {
+		ShortPoint2D freeLand = findFreeLand();
+
+		grid.getLandscapeGrid().setLandscapeTypeAt(freeLand.x, freeLand.y, ELandscapeType.RIVER1, false);
+		grid.getLandscapeGrid().setResourceAt((short) (freeLand.x + 1), freeLand.y, EResourceType.FISH, (byte) 10);
+		grid.getPartitionsGrid().changePlayerAt(freeLand.x + 20, freeLand.y, (byte) 0);
+		grid.getFlagsGrid().setBlockedAndProtected(freeLand.x + 21, freeLand.y, true);
+		statistics.updateStatistics();
+
+		assertTrue(statistics.getLastUpdatedRegions() > 0);
+		assertTrue(statistics.getLastUpdatedRegions() < numberOfRegions / 4);
+	}
+
+	@Test
+	public void testTowersAreUpdated() {
+		ShortPoint2D freeLand = findFreeLand();
+		PartitionsGrid partitionsGrid = grid.getPartitionsGrid();
+
+		partitionsGrid.addTowerAndOccupyArea((byte) 0, new MapCircle(freeLand, 15), getGroundArea(freeLand));
+		statistics.updateStatistics();
+		assertTrue(statistics.getLastUpdatedRegions() < numberOfRegions / 4);
+
+		partitionsGrid.addTowerAndOccupyArea((byte) 1, new MapCircle(freeLand.x + 25, freeLand.y, 15), getGroundArea(new ShortPoint2D(freeLand.x + 25, freeLand.y)));
+		statistics.updateStatistics();
+
+		partitionsGrid.removeTowerAndFreeOccupiedArea(freeLand);
+		statistics.updateStatistics();
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void testVerificationDetectsUnreportedChanges() {
+		ShortPoint2D freeLand = findFreeLand();
+		grid.getObjectsGrid().addMapObjectAt(freeLand.x, freeLand.y, new Stone(5)); // the objects grid itself doesn't report changes
+
+		statistics.updateStatistics();
+	}
+
+	private static FreeMapArea getGroundArea(ShortPoint2D position) {
+		return new FreeMapArea(position, EBuildingType.TOWER.getVariant(ECivilisation.ROMAN).getProtectedTiles());
+	}
+
+	/**
+	 * @return A position in the middle of land not occupied by any player.
+	 */
+	private ShortPoint2D findFreeLand() {
+		for (int y = 40; y < grid.getHeight() - 40; y += 8) {
+			for (int x = 40; x < grid.getWidth() - 80; x += 8) {
+				if (isFreeLand(x, y)) {
+					return new ShortPoint2D(x, y);
+				}
+			}
+		}
+		throw new AssertionError("No free land found");
+	}
+
+	private boolean isFreeLand(int centerX, int centerY) {
+		for (int y = centerY - 20; y <= centerY + 20; y++) {
+			for (int x = centerX - 20; x <= centerX + 45; x++) {
+				if (grid.getPartitionsGrid().getPlayerIdAt(x, y) != -1) {
+					return false;
+				}
+			}
+		}
+		return !grid.getFlagsGrid().isBlocked(centerX, centerY) && !grid.getFlagsGrid().isBlocked(centerX + 25, centerY);
+	}
+}
@@ -0,0 +1,165 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.algorithms.borders;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.BitSet;
+import java.util.Random;
+
+import org.junit.Test;
+
+import jsettlers.common.movable.EDirection;
+
+/**
+ * Tests the batched border calculation of the {@link BordersThread}.
+ */
+public class BordersThreadTest {
+	private static final int WIDTH = 300;
+	private static final int HEIGHT = 200;
+
+	@Test
+	public void testWholeMapIsCalculatedOnce() {
+		TestGrid grid = new TestGrid(new Random(1));
+		BordersThread bordersThread = new BordersThread(grid, WIDTH, HEIGHT);
+
+		bordersThread.checkArea(0, 0, WIDTH, HEIGHT);
+		bordersThread.checkArea(10, 10, 50, 50); // overlaps the first request
+		assertTrue(bordersThread.calculateBatch());
+		assertFalse(bordersThread.calculateBatch());
+
+		for (int index = 0; index < WIDTH * HEIGHT; index++) {
+			assertEquals(1, grid.calculations[index]);
+		}
+		grid.assertBorders();
+	}
+
+	@Test
+	public void testChangedPositionsAndTheirNeighborsAreCalculated() {
+		TestGrid grid = new TestGrid(new Random(2));
+		BordersThread bordersThread = new BordersThread(grid, WIDTH, HEIGHT);
+		bordersThread.checkArea(0, 0, WIDTH, HEIGHT);
+		bordersThread.calculateBatch();
+
+		Random random = new Random(3);
+		BitSet changed = new BitSet();
+		for (int i = 0; i < 500; i++) {
+			int x = 60 + random.nextInt(70);
+			int y = 50 + random.nextInt(70);
+			grid.players[x + y * WIDTH] = 3;
+			if (i % 2 == 0) {
+				bordersThread.checkPosition(x, y);
+			} else {
+				changed.set(x + y * WIDTH);
+			}
+		}
+		bordersThread.checkPositions(changed);
+
+		grid.resetCalculations();
+		bordersThread.calculateBatch();
+
+		grid.assertBorders();
+		for (int index = 0; index < WIDTH * HEIGHT; index++) {
+			assertTrue(grid.calculations[index] <= 1);
+		}
+		assertEquals(0, grid.calculations[0]);
+	}
+
+	@Test
+	public void testAreaAtTheMapEdges() {
+		TestGrid grid = new TestGrid(new Random(4));
+		BordersThread bordersThread = new BordersThread(grid, WIDTH, HEIGHT);
+
+		bordersThread.checkArea(-5, -5, 70, 10);
+		bordersThread.checkArea(WIDTH - 65, HEIGHT - 1, 100, 100);
+		bordersThread.calculateBatch();
+
+		for (int y = 0; y < HEIGHT; y++) {
+			for (int x = 0; x < WIDTH; x++) {
+				boolean inFirstArea = x <= 65 && y <= 5;
+				boolean inSecondArea = x >= WIDTH - 66 && y >= HEIGHT - 2;
+				assertEquals(inFirstArea || inSecondArea ? 1 : 0, grid.calculations[x + y * WIDTH]);
+			}
+		}
+	}
+
+	private static class TestGrid implements IBordersThreadGrid {
+		private final byte[] players = new byte[WIDTH * HEIGHT];
+		private final boolean[] blocked = new boolean[WIDTH * HEIGHT];
+		private final boolean[] borders = new boolean[WIDTH * HEIGHT];
+		private final int[] calculations = new int[WIDTH * HEIGHT];
+
+		TestGrid(Random random) {
+			for (int y = 0; y < HEIGHT; y++) {
+				for (int x = 0; x < WIDTH; x++) {
+					players[x + y * WIDTH] = (byte) ((x / 37 + y / 23) % 4 - 1);
+					blocked[x + y * WIDTH] = random.nextInt(10) == 0;
+				}
+			}
+		}
+
+		void resetCalculations() {
+			for (int i = 0; i < calculations.length; i++) {
+				calculations[i] = 0;
+			}
+		}
+
+		void assertBorders() {
+			for (int y = 0; y < HEIGHT; y++) {
+				for (int x = 0; x < WIDTH; x++) {
+					assertEquals("border at " + x + "|" + y, isBorder(x, y), borders[x + y * WIDTH]);
+				}
+			}
+		}
+
+		private boolean isBorder(int x, int y) {
+			byte player = getPlayerIdAt(x, y);
+			if (isBlocked(x, y) || player < 0) {
+				return false;
+			}
+			for (EDirection direction : EDirection.VALUES) {
+				int neighborX = direction.getNextTileX(x);
+				int neighborY = direction.getNextTileY(y);
+				if (isInBounds(neighborX, neighborY) && !isBlocked(neighborX, neighborY) && getPlayerIdAt(neighborX, neighborY) != player) {
+					return true;
+				}
+			}
+			return false;
+		}
+
+		@Override
+		public byte getPlayerIdAt(int x, int y) {
+			return players[x + y * WIDTH];
+		}
+
+		@Override
+		public void setBorderAt(int x, int y, boolean isBorder) {
+			borders[x + y * WIDTH] = isBorder;
+			calculations[x + y * WIDTH]++;
+		}
+
+		@Override
+		public boolean isInBounds(int x, int y) {
+			return x >= 0 && x < WIDTH && y >= 0 && y < HEIGHT;
+		}
+
+		@Override
+		public boolean isBlocked(int x, int y) {
+			return blocked[x + y * WIDTH];
+		}
+	}
+}
@@ -0,0 +1,167 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.algorithms.construction;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Set;
+
+import org.junit.Test;
+
+import jsettlers.common.buildings.BuildingVariant;
+import jsettlers.common.buildings.EBuildingType;
+import jsettlers.common.landscape.ELandscapeType;
+import jsettlers.common.map.shapes.MapRectangle;
+import jsettlers.common.player.ECivilisation;
+import jsettlers.common.position.RelativePoint;
+import jsettlers.common.position.ShortPoint2D;
+
+/**
+ * Tests the incremental calculation of the {@link NewConstructionMarksAlgorithm}.
+ */
+public class NewConstructionMarksAlgorithmTest {
+	private static final short WIDTH = 200;
+	private static final short HEIGHT = 150;
+
+	private final TestMap map = new TestMap();
+	private final NewConstructionMarksAlgorithm algorithm = new NewConstructionMarksAlgorithm(map, (byte) 0);
+	private final BuildingVariant lumberjack = EBuildingType.LUMBERJACK.getVariant(ECivilisation.ROMAN);
+
+	@Test
+	public void testUnchangedScreenIsNotCalculatedAgain() {
+		MapRectangle screen = new MapRectangle(10, 10, 50, 40);
+		algorithm.updateConstructMarks(screen, lumberjack);
+		assertEquals(50 * 40, map.checks);
+
+		algorithm.updateConstructMarks(screen, lumberjack);
+		algorithm.updateConstructMarks(new MapRectangle(10, 10, 50, 40), lumberjack);
+		assertEquals(50 * 40, map.checks);
+		map.assertMarks(screen);
+	}
+
+	@Test
+	public void testOnlyExposedStripIsCalculatedWhenScrolling() {
+		MapRectangle screen = new MapRectangle(10, 10, 50, 40);
+		algorithm.updateConstructMarks(screen, lumberjack);
+		map.checks = 0;
+
+		MapRectangle scrolled = new MapRectangle(15, 12, 50, 40);
+		algorithm.updateConstructMarks(scrolled, lumberjack);
+
+		int exposed = 0;
+		for (ShortPoint2D position : scrolled) {
+			if (!screen.contains(position)) {
+				exposed++;
+			}
+		}
+		assertEquals(exposed, map.checks);
+		map.assertMarks(scrolled);
+		assertEquals(-1, map.marks[10 + 10 * WIDTH]); // scrolled out of the screen
+	}
+
+	@Test
+	public void testInvalidatedPositionsAreCalculatedAgain() {
+		MapRectangle screen = new MapRectangle(0, 0, WIDTH, HEIGHT);
+		algorithm.updateConstructMarks(screen, lumberjack);
+		map.checks = 0;
+
+		map.blocked[100 + 80 * WIDTH] = true;
+		algorithm.invalidate(100, 80);
+		algorithm.updateConstructMarks(screen, lumberjack);
+
+		map.assertMarks(screen);
+		assertTrue(map.checks >= lumberjack.getBuildingArea().length);
+		assertTrue(map.checks < 200);
+	}
+
+	@Test
+	public void testOtherBuildingIsCalculatedCompletely() {
+		MapRectangle screen = new MapRectangle(10, 10, 50, 40);
+		algorithm.updateConstructMarks(screen, lumberjack);
+		algorithm.updateConstructMarks(screen, EBuildingType.TOWER.getVariant(ECivilisation.ROMAN));
+		assertEquals(2 * 50 * 40, map.checks);
+	}
+
+	private class TestMap extends AbstractConstructionMarkableMap {
+		private final boolean[] blocked = new boolean[WIDTH * HEIGHT];
+		private final byte[] marks = new byte[WIDTH * HEIGHT];
+		private int checks;
+
+		@Override
+		public void setConstructMarking(int x, int y, boolean set, boolean binaryConstructionMarkValues, RelativePoint[] flattenPositions) {
+			marks[x + y * WIDTH] = (byte) (set ? 1 : -1);
+		}
+
+		@Override
+		public short getWidth() {
+			return WIDTH;
+		}
+
+		@Override
+		public short getHeight() {
+			return HEIGHT;
+		}
+
+		@Override
+		public boolean canUsePositionForConstruction(int x, int y, Set<ELandscapeType> landscapeTypes, short partitionId) {
+			return isInBounds(x, y) && !blocked[x + y * WIDTH];
+		}
+
+		@Override
+		public short getPartitionIdAt(int x, int y) {
+			return 1;
+		}
+
+		@Override
+		public boolean canPlayerConstructOnPartition(byte playerId, short partitionId) {
+			return true;
+		}
+
+		@Override
+		public boolean isInBounds(int x, int y) {
+			return x >= 0 && x < WIDTH && y >= 0 && y < HEIGHT;
+		}
+
+		@Override
+		public boolean canConstructAt(int x, int y, EBuildingType type, byte playerId) {
+			checks++;
+			return canConstruct(x, y);
+		}
+
+		private boolean canConstruct(int x, int y) {
+			for (RelativePoint point : lumberjack.getBuildingArea()) {
+				if (!canUsePositionForConstruction(point.calculateX(x), point.calculateY(y), null, (short) 1)) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		@Override
+		public byte calculateConstructionMarkValue(int mapX, int mapY, RelativePoint[] flattenPositions) {
+			return 0;
+		}
+
+		void assertMarks(MapRectangle area) {
+			for (ShortPoint2D position : area) {
+				if (!isInBounds(position.x, position.y)) {
+					continue;
+				}
+				assertEquals(canConstruct(position.x, position.y) ? 1 : -1, marks[position.x + position.y * WIDTH]);
+			}
+		}
+	}
+}
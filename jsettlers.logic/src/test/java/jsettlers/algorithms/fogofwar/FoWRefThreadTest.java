@@ -0,0 +1,127 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.algorithms.fogofwar;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Random;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import jsettlers.common.CommonConstants;
+import jsettlers.common.position.ShortPoint2D;
+import jsettlers.logic.constants.MatchConstants;
+import jsettlers.logic.map.grid.MainGrid;
+import jsettlers.logic.map.loading.MapLoadException;
+import jsettlers.network.synchronic.timer.NetworkTimer;
+import jsettlers.testutils.map.MapUtils;
+
+/**
+ * Tests the region parallel reference updates of the {@link FogOfWar.FoWRefThread}.
+ */
+public class FoWRefThreadTest {
+	private static final int MOVABLES = 500;
+
+	private static MainGrid grid;
+
+	@BeforeClass
+	public static void loadMap() throws MapLoadException {
+		MatchConstants.init(new NetworkTimer(true), 0);
+		grid = MapUtils.getSpezialSumpf().loadMainGrid(null).getMainGrid();
+	}
+
+	@Test
+	public void testParallelUpdatesEqualSequentialUpdates() {
+		FogOfWar sequential = createFogOfWar(1);
+		FogOfWar parallel = createFogOfWar(4);
+		TestMovableFoWTask[] sequentialMovables = new TestMovableFoWTask[MOVABLES];
+		TestMovableFoWTask[] parallelMovables = new TestMovableFoWTask[MOVABLES];
+
+		Random random = new Random(3);
+		ShortPoint2D[] positions = new ShortPoint2D[MOVABLES];
+		for (int i = 0; i < MOVABLES; i++) {
+			int viewDistance = 5 + random.nextInt(30);
+			positions[i] = new ShortPoint2D(random.nextInt(grid.getWidth()), random.nextInt(grid.getHeight()));
+			sequentialMovables[i] = new TestMovableFoWTask(viewDistance, positions[i]);
+			parallelMovables[i] = new TestMovableFoWTask(viewDistance, positions[i]);
+			sequential.refThread.nextTasks.add(sequentialMovables[i]);
+			parallel.refThread.nextTasks.add(parallelMovables[i]);
+		}
+		sequential.refThread.nextTasks.add(createTowerTask());
+		parallel.refThread.nextTasks.add(createTowerTask());
+		sequential.refThread.nextTasks.add(new FogOfWar.WaitFoWTask());
+		parallel.refThread.nextTasks.add(new FogOfWar.WaitFoWTask());
+
+		for (int cycle = 0; cycle < 20; cycle++) {
+			sequential.refThread.taskProcessor();
+			parallel.refThread.taskProcessor();
+			assertEqualReferences(sequential, parallel);
+
+			for (int i = 0; i < MOVABLES; i++) {
+				ShortPoint2D position = positions[i];
+				positions[i] = new ShortPoint2D(Math.max(0, Math.min(grid.getWidth() - 1, position.x + random.nextInt(11) - 5)),
+						Math.max(0, Math.min(grid.getHeight() - 1, position.y + random.nextInt(11) - 5)));
+				sequentialMovables[i].setPosition(positions[i]);
+				parallelMovables[i].setPosition(positions[i]);
+			}
+		}
+
+		assertEquals(MOVABLES, parallel.refThread.getMetrics().getLastQueueDepth());
+	}
+
+	@Test
+	public void testMovableQueuedTwiceIsDrawnOnce() {
+		FogOfWar fogOfWar = createFogOfWar(1);
+		TestMovableFoWTask movable = new TestMovableFoWTask(10, new ShortPoint2D(200, 200));
+		fogOfWar.refThread.nextTasks.add(movable);
+		fogOfWar.refThread.nextTasks.add(movable);
+		fogOfWar.refThread.nextTasks.add(new FogOfWar.WaitFoWTask());
+
+		fogOfWar.refThread.taskProcessor();
+		assertEquals(1, fogOfWar.refThread.getMetrics().getCoalescedTasks());
+		assertEquals(CommonConstants.FOG_OF_WAR_VISIBLE, fogOfWar.getReferencedSight(200, 200));
+		assertEquals(2, fogOfWar.refThread.nextTasks.size()); // the movable and the wait marker
+
+		movable.kill();
+		fogOfWar.refThread.taskProcessor();
+		assertEquals(0, fogOfWar.getReferencedSight(200, 200));
+		assertEquals(1, fogOfWar.refThread.nextTasks.size());
+	}
+
+	private static FogOfWar createFogOfWar(int workers) {
+		FogOfWar fogOfWar = new FogOfWar(grid, (byte) 0);
+		fogOfWar.enabled = true;
+		fogOfWar.refThread.setWorkers(workers);
+		fogOfWar.refThread.nextTasks.clear(); // the tests add the wait marker after their tasks
+		return fogOfWar;
+	}
+
+	private static FogOfWar.BuildingFoWTask createTowerTask() {
+		FogOfWar.BuildingFoWTask task = new FogOfWar.BuildingFoWTask();
+		task.at = new ShortPoint2D(100, 100);
+		task.from = 0;
+		task.to = 40;
+		return task;
+	}
+
+	private static void assertEqualReferences(FogOfWar expected, FogOfWar actual) {
+		for (int y = 0; y < grid.getHeight(); y++) {
+			for (int x = 0; x < grid.getWidth(); x++) {
+				assertEquals(expected.getReferencedSight(x, y), actual.getReferencedSight(x, y));
+			}
+		}
+	}
+}
@@ -0,0 +1,110 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.algorithms.fogofwar;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import jsettlers.common.CommonConstants;
+
+/**
+ * Test for the class {@link FoWReferenceGrid}.
+ */
+public class FoWReferenceGridTest {
+	private static final int SIZE = 50;
+
+	@Test
+	public void testUnreferencedTileIsBlack() {
+		FoWReferenceGrid grid = new FoWReferenceGrid(SIZE);
+
+		assertEquals(0, grid.getReferencedSight(0));
+
+		grid.addReference(0, 3);
+		grid.removeReference(0, 3);
+		assertEquals(0, grid.getReferencedSight(0));
+	}
+
+	@Test
+	public void testInnermostBandDefinesSight() {
+		FoWReferenceGrid grid = new FoWReferenceGrid(SIZE);
+
+		grid.addReference(7, FoWReferenceGrid.BANDS - 1);
+		assertEquals(CommonConstants.FOG_OF_WAR_VISIBLE - 10 * (FoWReferenceGrid.BANDS - 1), grid.getReferencedSight(7));
+
+		grid.addReference(7, 4);
+		grid.addReference(7, 4);
+		assertEquals(CommonConstants.FOG_OF_WAR_VISIBLE - 40, grid.getReferencedSight(7));
+
+		grid.addReference(7, 0);
+		assertEquals(CommonConstants.FOG_OF_WAR_VISIBLE, grid.getReferencedSight(7));
+
+		grid.removeReference(7, 0);
+		grid.removeReference(7, 4);
+		assertEquals(CommonConstants.FOG_OF_WAR_VISIBLE - 40, grid.getReferencedSight(7));
+		assertEquals(1, grid.getReferences(7, 4));
+
+		assertEquals(0, grid.getReferencedSight(6));
+		assertEquals(0, grid.getReferencedSight(8));
+	}
+
+	@Test
+	public void testRandomReferencesMatchPerTileArrays() {
+		Random random = new Random(42);
+		FoWReferenceGrid grid = new FoWReferenceGrid(SIZE);
+		int[][] expectedCounters = new int[SIZE][FoWReferenceGrid.BANDS];
+
+		for (int i = 0; i < 100000; i++) {
+			int index = random.nextInt(SIZE);
+			int band = random.nextInt(FoWReferenceGrid.BANDS);
+
+			if (expectedCounters[index][band] > 0 && random.nextBoolean()) {
+				grid.removeReference(index, band);
+				expectedCounters[index][band]--;
+			} else {
+				grid.addReference(index, band);
+				expectedCounters[index][band]++;
+			}
+
+			assertEquals(expectedSight(expectedCounters[index]), grid.getReferencedSight(index));
+		}
+
+		for (int index = 0; index < SIZE; index++) {
+			for (int band = 0; band < FoWReferenceGrid.BANDS; band++) {
+				assertEquals(expectedCounters[index][band], grid.getReferences(index, band));
+			}
+		}
+	}
+
+	private static byte expectedSight(int[] counters) {
+		int referencedBands = 0;
+		for (int band = 0; band < counters.length; band++) {
+			if (counters[band] > 0) {
+				referencedBands = band + 1;
+			}
+		}
+		if (referencedBands == 0) {
+			return 0;
+		}
+
+		byte value = CommonConstants.FOG_OF_WAR_VISIBLE;
+		for (int band = 0; band < referencedBands && counters[band] == 0; band++) {
+			value -= 10;
+		}
+		return value;
+	}
+}
@@ -0,0 +1,108 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.algorithms.fogofwar;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import jsettlers.common.map.IGraphicsBackgroundListener;
+import jsettlers.common.position.ShortPoint2D;
+import jsettlers.logic.constants.MatchConstants;
+import jsettlers.logic.map.grid.MainGrid;
+import jsettlers.logic.map.loading.MapLoadException;
+import jsettlers.network.synchronic.timer.NetworkTimer;
+import jsettlers.testutils.map.MapUtils;
+
+/**
+ * Replays the same random walk of {@link MovableFoWTask}s on a big map with one and with several workers of the {@link FogOfWar.FowDimThread} and
+ * checks that the dim passes produce the same sight and notify the same changed tiles.
+ */
+public class FogOfWarDimTest {
+	private static final int MOVABLES = 1500;
+	private static final int MOVES_PER_FRAME = 300;
+	private static final int FRAMES = 40;
+
+	private static MainGrid grid;
+
+	@BeforeClass
+	public static void loadMap() throws MapLoadException {
+		MatchConstants.init(new NetworkTimer(true), 0);
+		grid = MapUtils.getSpezialSumpf().loadMainGrid(null).getMainGrid();
+	}
+
+	@Test
+	public void testSeveralWorkersDimLikeOne() {
+		CountingBackgroundListener singleWorker = new CountingBackgroundListener();
+		byte[] singleWorkerSight = replay(1, singleWorker);
+		CountingBackgroundListener fourWorkers = new CountingBackgroundListener();
+		byte[] fourWorkersSight = replay(4, fourWorkers);
+
+		assertTrue(singleWorker.changedTiles > 0);
+		assertArrayEquals(singleWorkerSight, fourWorkersSight);
+		assertEquals(singleWorker.changedTiles, fourWorkers.changedTiles);
+	}
+
+	private static byte[] replay(int workers, CountingBackgroundListener listener) {
+		FogOfWar fogOfWar = new FogOfWar(grid, (byte) 0);
+		fogOfWar.enabled = true;
+		fogOfWar.dimThread.setWorkers(workers);
+		fogOfWar.setBackgroundListener(listener);
+
+		Random random = new Random(1);
+		TestMovableFoWTask[] movables = new TestMovableFoWTask[MOVABLES];
+		int[] x = new int[MOVABLES];
+		int[] y = new int[MOVABLES];
+		for (int i = 0; i < MOVABLES; i++) {
+			x[i] = random.nextInt(grid.getWidth());
+			y[i] = random.nextInt(grid.getHeight());
+			movables[i] = new TestMovableFoWTask(5 + random.nextInt(16), new ShortPoint2D(x[i], y[i]));
+			fogOfWar.refThread.runTask(movables[i]);
+		}
+
+		for (int frame = 0; frame < FRAMES; frame++) {
+			for (int i = 0; i < MOVES_PER_FRAME; i++) {
+				int movable = random.nextInt(MOVABLES);
+				x[movable] = Math.max(0, Math.min(grid.getWidth() - 1, x[movable] + random.nextInt(3) - 1));
+				y[movable] = Math.max(0, Math.min(grid.getHeight() - 1, y[movable] + random.nextInt(3) - 1));
+				movables[movable].setPosition(new ShortPoint2D(x[movable], y[movable]));
+				fogOfWar.refThread.runTask(movables[movable]);
+			}
+			fogOfWar.dimThread.taskProcessor();
+		}
+		fogOfWar.cancel();
+
+		return Arrays.copyOf(fogOfWar.getVisibleStatusArray(), grid.getWidth() * grid.getHeight());
+	}
+
+	private static class CountingBackgroundListener implements IGraphicsBackgroundListener {
+		private long changedTiles;
+
+		@Override
+		public void backgroundLineChangedAt(int x, int y, int length) {
+			changedTiles += length;
+		}
+
+		@Override
+		public void fogOfWarEnabledStatusChanged(boolean enabled) {
+		}
+	}
+}
@@ -0,0 +1,65 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.algorithms.fogofwar;
+
+import jsettlers.common.position.ShortPoint2D;
+
+/**
+ * A {@link MovableFoWTask} that is moved by the test.
+ */
+class TestMovableFoWTask implements MovableFoWTask {
+	private final int viewDistance;
+	private ShortPoint2D position;
+	private ShortPoint2D oldPosition;
+	private boolean alive = true;
+
+	TestMovableFoWTask(int viewDistance, ShortPoint2D position) {
+		this.viewDistance = viewDistance;
+		this.position = position;
+	}
+
+	void setPosition(ShortPoint2D position) {
+		this.position = position;
+	}
+
+	void kill() {
+		alive = false;
+	}
+
+	@Override
+	public int getViewDistance() {
+		return viewDistance;
+	}
+
+	@Override
+	public ShortPoint2D getFoWPosition() {
+		return position;
+	}
+
+	@Override
+	public ShortPoint2D getOldFoWPosition() {
+		return oldPosition;
+	}
+
+	@Override
+	public void setOldFoWPosition(ShortPoint2D position) {
+		this.oldPosition = position;
+	}
+
+	@Override
+	public boolean continueFoW() {
+		return alive;
+	}
+}
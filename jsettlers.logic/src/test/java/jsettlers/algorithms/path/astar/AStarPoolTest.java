@@ -0,0 +1,120 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.algorithms.path.astar;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import jsettlers.algorithms.path.IPathCalculatable;
+import jsettlers.algorithms.path.Path;
+import jsettlers.algorithms.path.astar.AStarPool.PathRequest;
+import jsettlers.common.player.IPlayer;
+import jsettlers.common.position.ShortPoint2D;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Test for the class {@link AStarPool}.
+ */
+public class AStarPoolTest {
+
+	private static final short WIDTH = 200;
+	private static final short HEIGHT = 200;
+
+	private final DummyEmptyAStarMap map = new DummyEmptyAStarMap(WIDTH, HEIGHT);
+	private final AStarPool pool = new AStarPool(map, WIDTH, HEIGHT);
+
+	public AStarPoolTest() {
+		Random random = new Random(42);
+		for (int i = 0; i < WIDTH * HEIGHT / 5; i++) {
+			map.setBlocked(random.nextInt(WIDTH), random.nextInt(HEIGHT), true);
+		}
+	}
+
+	@Test
+	public void testReusedWorkspaceFindsSamePathsAsNewOne() {
+		Random random = new Random(1);
+		BucketQueueAStar workspace = pool.borrow();
+
+		for (int i = 0; i < 300; i++) {
+			ShortPoint2D start = randomPosition(random);
+			ShortPoint2D target = randomPosition(random);
+
+			Path expected = new BucketQueueAStar(map, WIDTH, HEIGHT).findPath(getPathable(start), target);
+			Path actual = workspace.findPath(getPathable(start), target);
+
+			assertEquals(String.valueOf(expected), String.valueOf(actual));
+		}
+
+		pool.release(workspace);
+		assertEquals(1, pool.getCreatedWorkspaces());
+	}
+
+	@Test
+	public void testBatchResultsEqualSerialResults() {
+		Random random = new Random(2);
+		PathRequest[] requests = new PathRequest[500];
+		for (int i = 0; i < requests.length; i++) {
+			requests[i] = new PathRequest(getPathable(randomPosition(random)), randomPosition(random));
+		}
+
+		Path[] paths = pool.findPaths(requests);
+
+		assertEquals(requests.length, paths.length);
+		for (int i = 0; i < requests.length; i++) {
+			Path expected = pool.findPath(requests[i].getRequester(), requests[i].getTarget());
+			assertEquals(String.valueOf(expected), String.valueOf(paths[i]));
+		}
+	}
+
+	@Test
+	public void testBatchWithUnreachableTarget() {
+		map.setBlocked(10, 10, true);
+
+		Path[] paths = pool.findPaths(new PathRequest[] { new PathRequest(getPathable(new ShortPoint2D(20, 20)), new ShortPoint2D(10, 10)) });
+
+		assertNull(paths[0]);
+	}
+
+	private static ShortPoint2D randomPosition(Random random) {
+		return new ShortPoint2D(random.nextInt(WIDTH), random.nextInt(HEIGHT));
+	}
+
+	private static IPathCalculatable getPathable(final ShortPoint2D position) {
+		return new IPathCalculatable() {
+			@Override
+			public ShortPoint2D getPosition() {
+				return position;
+			}
+
+			@Override
+			public IPlayer getPlayer() {
+				return IPlayer.DEFAULT_DUMMY_PLAYER0;
+			}
+
+			@Override
+			public boolean needsPlayersGround() {
+				return false;
+			}
+
+			@Override
+			public boolean isShip() {
+				return false;
+			}
+		};
+	}
+}
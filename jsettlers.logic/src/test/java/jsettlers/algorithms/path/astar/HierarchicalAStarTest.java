@@ -0,0 +1,143 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.algorithms.path.astar;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import jsettlers.algorithms.path.IPathCalculatable;
+import jsettlers.algorithms.path.Path;
+import jsettlers.common.player.IPlayer;
+import jsettlers.common.position.ShortPoint2D;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test for the class {@link HierarchicalAStar}.
+ */
+public class HierarchicalAStarTest {
+
+	private static final short WIDTH = 250;
+	private static final short HEIGHT = 250;
+
+	private final DummyEmptyAStarMap map = new DummyEmptyAStarMap(WIDTH, HEIGHT);
+	private final BucketQueueAStar exactAStar = new BucketQueueAStar(map, WIDTH, HEIGHT);
+	private final HierarchicalAStar hierarchicalAStar = new HierarchicalAStar(map, exactAStar, WIDTH, HEIGHT);
+
+	@Test
+	public void testFindsPathsIfAndOnlyIfExactAStarFindsThem() {
+		Random random = new Random(5);
+		for (int i = 0; i < WIDTH * HEIGHT * 2 / 5; i++) {
+			map.setBlocked(random.nextInt(WIDTH), random.nextInt(HEIGHT), true);
+		}
+
+		int foundPaths = 0;
+		for (int i = 0; i < 300; i++) {
+			ShortPoint2D start = randomPosition(random);
+			ShortPoint2D target = randomPosition(random);
+
+			Path exactPath = exactAStar.findPath(getPathable(start), target);
+			Path path = hierarchicalAStar.findPath(getPathable(start), target);
+
+			if (exactPath == null) {
+				assertNull(path);
+			} else {
+				assertValidPath(start, target, path);
+				assertTrue(path.getLength() >= exactPath.getLength());
+				foundPaths++;
+			}
+		}
+		assertTrue(foundPaths > 30);
+	}
+
+	@Test
+	public void testPathOnEmptyMapHasShortLength() {
+		ShortPoint2D start = new ShortPoint2D(5, 10);
+		ShortPoint2D target = new ShortPoint2D(240, 200);
+
+		Path path = hierarchicalAStar.findPath(getPathable(start), target);
+
+		assertValidPath(start, target, path);
+		assertTrue(path.getLength() <= start.getOnGridDistTo(target) * 1.2f);
+	}
+
+	@Test
+	public void testInvalidatedClustersAreRebuilt() {
+		ShortPoint2D start = new ShortPoint2D(10, 100);
+		ShortPoint2D target = new ShortPoint2D(200, 100);
+		assertValidPath(start, target, hierarchicalAStar.findPath(getPathable(start), target));
+
+		// build a wall with a single gap through the map
+		for (int y = 0; y < HEIGHT; y++) {
+			if (y != 30) {
+				map.setBlocked(100, y, true);
+				hierarchicalAStar.invalidate(100, y);
+			}
+		}
+		Path path = hierarchicalAStar.findPath(getPathable(start), target);
+		assertValidPath(start, target, path);
+		assertTrue(path.getLength() >= exactAStar.findPath(getPathable(start), target).getLength());
+
+		map.setBlocked(100, 30, true);
+		hierarchicalAStar.invalidate(100, 30);
+		assertNull(hierarchicalAStar.findPath(getPathable(start), target));
+	}
+
+	private void assertValidPath(ShortPoint2D start, ShortPoint2D target, Path path) {
+		assertNotNull(path);
+		boolean startBlocked = map.isBlocked(null, start.x, start.y); // blocked starts may use blocked positions to leave the blocked area
+		ShortPoint2D current = start;
+		while (path.hasNextStep()) {
+			ShortPoint2D next = path.getNextPos();
+			assertEquals(1, current.getOnGridDistTo(next));
+			assertTrue(startBlocked || !map.isBlocked(null, next.x, next.y));
+			current = next;
+			path.goToNextStep();
+		}
+		assertEquals(target, current);
+	}
+
+	private static ShortPoint2D randomPosition(Random random) {
+		return new ShortPoint2D(random.nextInt(WIDTH), random.nextInt(HEIGHT));
+	}
+
+	private static IPathCalculatable getPathable(final ShortPoint2D position) {
+		return new IPathCalculatable() {
+			@Override
+			public ShortPoint2D getPosition() {
+				return position;
+			}
+
+			@Override
+			public IPlayer getPlayer() {
+				return IPlayer.DEFAULT_DUMMY_PLAYER0;
+			}
+
+			@Override
+			public boolean needsPlayersGround() {
+				return false;
+			}
+
+			@Override
+			public boolean isShip() {
+				return false;
+			}
+		};
+	}
+}
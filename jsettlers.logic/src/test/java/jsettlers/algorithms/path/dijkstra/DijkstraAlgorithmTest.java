@@ -0,0 +1,194 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.algorithms.path.dijkstra;
+
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.Test;
+
+import jsettlers.algorithms.path.IPathCalculatable;
+import jsettlers.algorithms.path.Path;
+import jsettlers.algorithms.path.astar.AbstractAStar;
+import jsettlers.algorithms.path.astar.BucketQueueAStar;
+import jsettlers.algorithms.path.astar.DummyEmptyAStarMap;
+import jsettlers.common.material.ESearchType;
+import jsettlers.common.player.IPlayer;
+import jsettlers.common.position.ShortPoint2D;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Test for the class {@link DijkstraAlgorithm}.
+ */
+public class DijkstraAlgorithmTest {
+	private static final short WIDTH = 100;
+	private static final short HEIGHT = 100;
+	private static final byte[] directionIncreaseX = { -1, 0, 1, 1, 0, -1 };
+	private static final byte[] directionIncreaseY = { 0, 1, 1, 0, -1, -1 };
+
+	private final DummyEmptyAStarMap aStarMap = new DummyEmptyAStarMap(WIDTH, HEIGHT);
+	private final boolean[][] candidates = new boolean[WIDTH][HEIGHT];
+	private final CountingAStar aStar = new CountingAStar(new BucketQueueAStar(aStarMap, WIDTH, HEIGHT));
+	private final DijkstraAlgorithm dijkstra = new DijkstraAlgorithm(new CandidatesMap(), aStar, WIDTH, HEIGHT);
+
+	@Test
+	public void testFindsSameTargetAndPathAsAStarForEveryCandidate() {
+		Random random = new Random(3);
+		for (int round = 0; round < 30; round++) {
+			createRandomMap(random);
+
+			short cX = (short) (20 + random.nextInt(WIDTH - 40));
+			short cY = (short) (20 + random.nextInt(HEIGHT - 40));
+			IPathCalculatable requester = getPathable(new ShortPoint2D(cX + random.nextInt(5) - 2, cY + random.nextInt(5) - 2));
+			short maxRadius = (short) (5 + random.nextInt(15));
+
+			Path expected = findWithAStarPerCandidate(requester, cX, cY, maxRadius);
+			Path actual = dijkstra.find(requester, cX, cY, (short) 0, maxRadius, ESearchType.CUTTABLE_TREE);
+
+			assertEquals(String.valueOf(expected), String.valueOf(actual));
+		}
+	}
+
+	@Test
+	public void testUnreachableCandidatesDontRunAStar() {
+		// enclose the requester in a small ring of blocked positions
+		ShortPoint2D center = new ShortPoint2D(50, 50);
+		for (int x = 0; x < WIDTH; x++) {
+			for (int y = 0; y < HEIGHT; y++) {
+				int distance = ShortPoint2D.getOnGridDist(x - center.x, y - center.y);
+				aStarMap.setBlocked(x, y, distance == 3);
+				candidates[x][y] = distance > 3 && x % 2 == 0 && y % 2 == 0;
+			}
+		}
+
+		Path path = dijkstra.find(getPathable(center), center.x, center.y, (short) 0, (short) 30, ESearchType.CUTTABLE_TREE);
+
+		assertEquals(null, path);
+		assertEquals(1, aStar.calls);
+	}
+
+	private void createRandomMap(Random random) {
+		for (int x = 0; x < WIDTH; x++) {
+			for (int y = 0; y < HEIGHT; y++) {
+				aStarMap.setBlocked(x, y, random.nextInt(100) < 35);
+				candidates[x][y] = random.nextInt(100) < 3;
+			}
+		}
+	}
+
+	private Path findWithAStarPerCandidate(IPathCalculatable requester, short cX, short cY, short maxRadius) {
+		ShortPoint2D position = requester.getPosition();
+		if (candidates[cX][cY]) {
+			Path path = aStar.findPath(requester, position.x, position.y, cX, cY);
+			if (path != null) {
+				return path;
+			}
+		}
+
+		for (short radius = 0; radius < maxRadius; radius++) {
+			short x = cX, y = (short) (cY - radius);
+			for (byte direction = 0; direction < 6; direction++) {
+				for (short length = 0; length < radius; length++) {
+					x += directionIncreaseX[direction];
+					y += directionIncreaseY[direction];
+					if (0 <= x && x < WIDTH && 0 <= y && y < HEIGHT && candidates[x][y]) {
+						Path path = aStar.findPath(requester, position.x, position.y, x, y);
+						if (path != null) {
+							return path;
+						}
+					}
+				}
+			}
+		}
+		return null;
+	}
+
+	private static IPathCalculatable getPathable(final ShortPoint2D position) {
+		return new IPathCalculatable() {
+			@Override
+			public ShortPoint2D getPosition() {
+				return position;
+			}
+
+			@Override
+			public IPlayer getPlayer() {
+				return IPlayer.DEFAULT_DUMMY_PLAYER0;
+			}
+
+			@Override
+			public boolean needsPlayersGround() {
+				return false;
+			}
+
+			@Override
+			public boolean isShip() {
+				return false;
+			}
+		};
+	}
+
+	private class CandidatesMap implements IDijkstraPathMap {
+		@Override
+		public boolean fitsSearchType(int x, int y, ESearchType type, IPathCalculatable requester) {
+			return candidates[x][y];
+		}
+
+		@Override
+		public boolean fitsSearchType(int x, int y, Set<ESearchType> types, IPathCalculatable requester) {
+			return candidates[x][y];
+		}
+
+		@Override
+		public void setDijkstraSearched(int x, int y) {
+		}
+
+		@Override
+		public boolean isBlocked(IPathCalculatable requester, int x, int y) {
+			return aStarMap.isBlocked(requester, x, y);
+		}
+
+		@Override
+		public boolean isReachable(int x1, int y1, int x2, int y2, boolean ship) {
+			return aStarMap.isReachable(x1, y1, x2, y2, ship);
+		}
+	}
+
+	private static class CountingAStar extends AbstractAStar {
+		private final AbstractAStar aStar;
+		private int calls = 0;
+
+		CountingAStar(AbstractAStar aStar) {
+			this.aStar = aStar;
+		}
+
+		@Override
+		public Path findPath(IPathCalculatable requester, short sx, short sy, short tx, short ty) {
+			calls++;
+			return aStar.findPath(requester, sx, sy, tx, ty);
+		}
+
+		@Override
+		public Path findPath(IPathCalculatable requester, ShortPoint2D target) {
+			ShortPoint2D pos = requester.getPosition();
+			return findPath(requester, pos.x, pos.y, target.x, target.y);
+		}
+
+		@Override
+		public Path findPath(IPathCalculatable requester, ShortPoint2D target, ShortPoint2D start) {
+			return findPath(requester, start.x, start.y, target.x, target.y);
+		}
+	}
+}
@@ -0,0 +1,132 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.algorithms.path.flowfield;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import jsettlers.algorithms.path.IPathCalculatable;
+import jsettlers.algorithms.path.Path;
+import jsettlers.algorithms.path.astar.BucketQueueAStar;
+import jsettlers.algorithms.path.astar.DummyEmptyAStarMap;
+import jsettlers.common.player.IPlayer;
+import jsettlers.common.position.ShortPoint2D;
+
+/**
+ * Test for the classes {@link FlowField} and {@link FlowFieldCache}.
+ */
+public class FlowFieldTest {
+
+	private static final short WIDTH = 400;
+	private static final short HEIGHT = 400;
+	private static final ShortPoint2D TARGET = new ShortPoint2D(100, 100);
+
+	private final DummyEmptyAStarMap map = createMapWithWall();
+
+	@Test
+	public void testDistancesEqualShortestPaths() {
+		FlowField field = new FlowField(map, getPathable(0, 0), TARGET, WIDTH, HEIGHT);
+		BucketQueueAStar aStar = new BucketQueueAStar(map, WIDTH, HEIGHT);
+
+		for (int x = 70; x < 130; x += 3) {
+			for (int y = 70; y < 130; y += 3) {
+				if (map.isBlocked(null, x, y) || TARGET.equals(new ShortPoint2D(x, y))) {
+					continue;
+				}
+
+				Path path = aStar.findPath(getPathable(x, y), TARGET);
+				assertEquals("distance of " + x + "|" + y, path.getLength(), field.getDistance(x, y));
+			}
+		}
+		assertEquals(-1, field.getDistance(TARGET.x + FlowField.RADIUS + 1, TARGET.y));
+	}
+
+	@Test
+	public void testPathFollowsFieldUntilCloseToDestination() {
+		FlowField field = new FlowField(map, getPathable(0, 0), TARGET, WIDTH, HEIGHT);
+		ShortPoint2D start = new ShortPoint2D(110, 60);
+		ShortPoint2D destination = new ShortPoint2D(102, 101);
+
+		Path path = field.findPathTowards(start, destination, 4);
+
+		ShortPoint2D previous = start;
+		while (path.hasNextStep()) {
+			ShortPoint2D step = path.getNextPos();
+			assertEquals(1, previous.getOnGridDistTo(step));
+			assertFalse(map.isBlocked(null, step.x, step.y));
+			assertEquals(field.getDistance(previous.x, previous.y) - 1, field.getDistance(step.x, step.y));
+			previous = step;
+			path.goToNextStep();
+		}
+		assertTrue(previous.getOnGridDistTo(destination) <= 4 || field.getDistance(previous.x, previous.y) <= destination.getOnGridDistTo(TARGET));
+
+		assertNull(field.findPathTowards(new ShortPoint2D(100, 80), destination, 4)); // blocked start
+		assertNull(field.findPathTowards(new ShortPoint2D(101, 102), destination, 4)); // already close enough
+	}
+
+	@Test
+	public void testCacheInvalidatesFieldsContainingChangedPosition() {
+		FlowFieldCache cache = new FlowFieldCache(map, WIDTH, HEIGHT);
+		IPathCalculatable pathable = getPathable(0, 0);
+
+		FlowField field = cache.get(pathable, TARGET);
+		assertSame(field, cache.get(pathable, TARGET));
+
+		cache.invalidate(TARGET.x + FlowField.RADIUS + 1, TARGET.y);
+		assertSame(field, cache.get(pathable, TARGET));
+
+		cache.invalidate(TARGET.x + FlowField.RADIUS, TARGET.y);
+		assertEquals(0, cache.size());
+		assertNotSame(field, cache.get(pathable, TARGET));
+	}
+
+	private static DummyEmptyAStarMap createMapWithWall() {
+		DummyEmptyAStarMap map = new DummyEmptyAStarMap(WIDTH, HEIGHT);
+		for (int x = 80; x < 120; x++) {
+			map.setBlocked(x, 80, true);
+		}
+		return map;
+	}
+
+	private static IPathCalculatable getPathable(int x, int y) {
+		return new IPathCalculatable() {
+			@Override
+			public ShortPoint2D getPosition() {
+				return new ShortPoint2D(x, y);
+			}
+
+			@Override
+			public IPlayer getPlayer() {
+				return IPlayer.DEFAULT_DUMMY_PLAYER0;
+			}
+
+			@Override
+			public boolean needsPlayersGround() {
+				return false;
+			}
+
+			@Override
+			public boolean isShip() {
+				return false;
+			}
+		};
+	}
+}
@@ -1,5 +1,11 @@
 package jsettlers.algorithms.simplebehaviortree;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
 import org.junit.Test;
 
 import jsettlers.algorithms.simplebehaviortree.nodes.Parallel;
@@ -7,6 +13,7 @@ import jsettlers.common.utils.mutables.MutableInt;
 
 import static jsettlers.algorithms.simplebehaviortree.BehaviorTreeHelper.*;
 import static jsettlers.algorithms.simplebehaviortree.NodeStatus.*;
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 
 public class SimpleBehaviorTreeTest {
@@ -165,6 +172,37 @@ public class SimpleBehaviorTreeTest {
 		testTree(repeatTree, FAILURE);
 	}
 
+	@Test
+	public void testSerializationKeepsState() throws IOException, ClassNotFoundException {
+		Root<TestMovable> tree = new Root<>(
+				sequence(
+						action(TestMovable::actionA),
+						repeatLoop(500, alwaysSucceed()),
+						waitFor(condition(TestMovable::waitFunc)),
+						action(TestMovable::actionB)
+				)
+		);
+
+		TestMovable movable = new TestMovable();
+		Tick<TestMovable> tick = new Tick<>(movable, tree);
+		assertEquals(RUNNING, tick.tick());
+
+		byte[] serialized = serialize(tick);
+		Tick<TestMovable> deserialized = Tick.deserialize(new ObjectInputStream(new ByteArrayInputStream(serialized)), movable, tree);
+		assertArrayEquals(serialized, serialize(deserialized));
+
+		assertEquals(SUCCESS, deserialized.tick());
+		assertEquals(2, movable.i);
+	}
+
+	private static byte[] serialize(Tick<?> tick) throws IOException {
+		ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+		try (ObjectOutputStream oos = new ObjectOutputStream(buffer)) {
+			tick.serialize(oos);
+		}
+		return buffer.toByteArray();
+	}
+
 	private class TestMovable {
 
 		int i = 0;
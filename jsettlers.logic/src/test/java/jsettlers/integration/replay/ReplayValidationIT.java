@@ -73,6 +73,31 @@ public class ReplayValidationIT {
 		MapUtils.compareMapFiles(savegame, replayedSavegame);
 	}
 
+	@Test
+	public void testIfParallelTickIsEqualToSerialTick() throws IOException, MapLoadException, ClassNotFoundException, InterruptedException {
+		final byte playerId = 0;
+
+		final int targetTimeMinutes = 60;
+		MapLoader map = MapUtils.getMountainlake();
+
+		ReplayUtils.PlayMapResult serialPlay = ReplayUtils.playMapToTargetTimes(map, playerId, targetTimeMinutes);
+		assertDirectSavegameReplay(1, serialPlay);
+
+		Thread.sleep(2000L); // make sure the next savegame is saved with a different name
+
+		ReplayUtils.PlayMapResult parallelPlay;
+		MatchConstants.ENABLE_PARALLEL_TICK = true;
+		try {
+			parallelPlay = ReplayUtils.playMapToTargetTimes(map, playerId, targetTimeMinutes);
+		} finally {
+			MatchConstants.ENABLE_PARALLEL_TICK = false;
+		}
+		assertDirectSavegameReplay(1, parallelPlay);
+
+		// compare the savegame of the serial play with the savegame of the parallel play.
+		MapUtils.compareMapFiles(serialPlay.getSavegames()[0], parallelPlay.getSavegames()[0]);
+	}
+
 	@Test
 	public void testIfSavegameOfSavegameEqualsSavegame() throws IOException, MapLoadException, ClassNotFoundException, InterruptedException {
 		final byte playerId = 0;
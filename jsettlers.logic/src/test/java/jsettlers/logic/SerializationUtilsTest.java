@@ -0,0 +1,112 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.logic;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.BitSet;
+import java.util.Random;
+
+import org.junit.Test;
+
+import jsettlers.logic.map.loading.savegame.SavegameFormat;
+import jsettlers.logic.map.loading.savegame.SavegameObjectInputStream;
+import jsettlers.logic.map.loading.savegame.SavegameObjectOutputStream;
+
+/**
+ * Test for the raw block methods of {@link SerializationUtils}.
+ */
+public class SerializationUtilsTest {
+
+	@Test
+	public void testBlocksSurviveRoundTrip() throws IOException {
+		Random random = new Random(3);
+		byte[] bytes = new byte[100003];
+		random.nextBytes(bytes);
+		short[] shorts = new short[70001]; // more than one chunk
+		for (int i = 0; i < shorts.length; i++) {
+			shorts[i] = (short) random.nextInt();
+		}
+		BitSet bits = new BitSet();
+		for (int i = 0; i < 10000; i++) {
+			bits.set(random.nextInt(600000));
+		}
+
+		ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+		try (ObjectOutputStream oos = new ObjectOutputStream(buffer)) {
+			SerializationUtils.writeBlock(oos, bytes);
+			SerializationUtils.writeBlock(oos, shorts);
+			SerializationUtils.writeBlock(oos, new short[0]);
+			SerializationUtils.writeBlock(oos, bits);
+			oos.writeInt(42);
+		}
+
+		try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(buffer.toByteArray()))) {
+			assertArrayEquals(bytes, SerializationUtils.readByteBlock(ois));
+			assertArrayEquals(shorts, SerializationUtils.readShortBlock(ois));
+			assertEquals(0, SerializationUtils.readShortBlock(ois).length);
+			assertEquals(bits, SerializationUtils.readBitSetBlock(ois));
+			assertEquals(42, ois.readInt());
+		}
+	}
+
+	@Test
+	public void testSavegameBlocksAreCopiesWrittenInFront() throws IOException {
+		byte[] bytes = { 1, 2, 3 };
+		byte[][] columns = { { 4, 5 }, { 6, 7 } };
+		short[] shorts = { 8, -9, 10 };
+		BitSet bits = new BitSet();
+		bits.set(11);
+		bits.set(200);
+
+		ByteArrayOutputStream objectStream = new ByteArrayOutputStream();
+		SavegameObjectOutputStream oos = new SavegameObjectOutputStream(objectStream);
+		SerializationUtils.writeBlock(oos, bytes);
+		SerializationUtils.writeBlocks(oos, columns);
+		SerializationUtils.writeBlock(oos, shorts);
+		SerializationUtils.writeBlock(oos, bits);
+		oos.writeInt(42);
+		oos.close();
+
+		bytes[0] = 0; // the game continues after the snapshot has been taken
+		columns[1][0] = 0;
+		shorts[0] = 0;
+		bits.clear(11);
+
+		ByteArrayOutputStream savegame = new ByteArrayOutputStream();
+		SavegameFormat.writeBlocks(savegame, oos.getBlocks());
+		objectStream.writeTo(savegame);
+
+		ByteArrayInputStream in = new ByteArrayInputStream(savegame.toByteArray());
+		try (ObjectInputStream ois = new SavegameObjectInputStream(in, SavegameFormat.readBlocks(in))) {
+			assertArrayEquals(new byte[] { 1, 2, 3 }, SerializationUtils.readByteBlock(ois));
+			byte[][] readColumns = new byte[2][2];
+			SerializationUtils.readBlocks(ois, readColumns);
+			assertArrayEquals(new byte[][] { { 4, 5 }, { 6, 7 } }, readColumns);
+			assertArrayEquals(new short[] { 8, -9, 10 }, SerializationUtils.readShortBlock(ois));
+			BitSet readBits = SerializationUtils.readBitSetBlock(ois);
+			assertEquals(2, readBits.cardinality());
+			assertTrue(readBits.get(11) && readBits.get(200));
+			assertEquals(42, ois.readInt());
+		}
+	}
+}
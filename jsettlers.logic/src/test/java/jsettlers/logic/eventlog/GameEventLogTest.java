@@ -0,0 +1,129 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.logic.eventlog;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.Test;
+
+import jsettlers.common.material.EMaterialType;
+import jsettlers.common.movable.EMovableType;
+import jsettlers.common.position.ShortPoint2D;
+
+/**
+ * Test for the classes {@link GameEventLog} and {@link GameEventLogReader}.
+ */
+public class GameEventLogTest {
+
+	@Test
+	public void testWrittenEventsAreRead() throws IOException {
+		ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+		GameEventLog log = new GameEventLog(buffer, 2048);
+		for (int i = 0; i < 1000; i++) {
+			log.append(i * 100, EGameEvent.PRODUCED, (byte) (i % 3), EMaterialType.VALUES[i % EMaterialType.NUMBER_OF_MATERIALS].ordinal(),
+					new ShortPoint2D(i % 512, i / 512));
+		}
+		log.append(123456, EGameEvent.DIED, (byte) -1, EMovableType.BEARER.ordinal(), null);
+		log.close();
+		assertEquals(0, log.getDropped());
+
+		GameEventLogReader reader = new GameEventLogReader(new ByteArrayInputStream(buffer.toByteArray()));
+		int read = 0;
+		int lastTime = -1;
+		while (reader.next() && reader.getGameTime() != 123456) {
+			assertTrue(reader.getGameTime() > lastTime);
+			lastTime = reader.getGameTime();
+			int i = lastTime / 100;
+			assertEquals("PRODUCED", reader.getEventName());
+			assertEquals(i % 3, reader.getPlayerId());
+			assertEquals(EMaterialType.VALUES[i % EMaterialType.NUMBER_OF_MATERIALS].name(), reader.getSubtypeName());
+			assertEquals(i % 512, reader.getX());
+			assertEquals(i / 512, reader.getY());
+			read++;
+		}
+		assertEquals(1000, read);
+
+		assertEquals("DIED", reader.getEventName());
+		assertEquals(-1, reader.getPlayerId());
+		assertEquals("BEARER", reader.getSubtypeName());
+		assertEquals(-1, reader.getX());
+		assertFalse(reader.next());
+	}
+
+	@Test
+	public void testEventsAreDroppedInsteadOfBlockingIfTheBufferIsFull() throws IOException, InterruptedException {
+		CountDownLatch writeAllowed = new CountDownLatch(1);
+		BlockingOutputStream out = new BlockingOutputStream(writeAllowed);
+		GameEventLog log = new GameEventLog(out, 4);
+		out.blocking = true;
+
+		for (int i = 0; i < 10; i++) {
+			log.append(i, EGameEvent.BORN, (byte) 0, EMovableType.BEARER.ordinal(), new ShortPoint2D(i, i));
+		}
+		assertEquals(6, log.getDropped());
+
+		writeAllowed.countDown();
+		log.close();
+
+		GameEventLogReader reader = new GameEventLogReader(new ByteArrayInputStream(out.toByteArray()));
+		for (int i = 0; i < 4; i++) {
+			assertTrue(reader.next());
+			assertEquals(i, reader.getGameTime());
+		}
+		assertFalse(reader.next());
+	}
+
+	@Test
+	public void testIncompleteLastRecordIsIgnored() throws IOException {
+		ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+		GameEventLog log = new GameEventLog(buffer, 16);
+		log.append(42, EGameEvent.CONSUMED, (byte) 1, EMaterialType.WATER.ordinal(), new ShortPoint2D(1, 2));
+		log.close();
+		buffer.write(new byte[GameEventLog.RECORD_SIZE / 2]);
+
+		GameEventLogReader reader = new GameEventLogReader(new ByteArrayInputStream(buffer.toByteArray()));
+		assertTrue(reader.next());
+		assertEquals("WATER", reader.getSubtypeName());
+		assertFalse(reader.next());
+	}
+
+	private static class BlockingOutputStream extends ByteArrayOutputStream {
+		private final CountDownLatch writeAllowed;
+		private volatile boolean blocking;
+
+		BlockingOutputStream(CountDownLatch writeAllowed) {
+			this.writeAllowed = writeAllowed;
+		}
+
+		@Override
+		public synchronized void write(byte[] bytes, int offset, int length) {
+			if (blocking) {
+				try {
+					writeAllowed.await();
+				} catch (InterruptedException e) {
+					throw new RuntimeException(e);
+				}
+			}
+			super.write(bytes, offset, length);
+		}
+	}
+}
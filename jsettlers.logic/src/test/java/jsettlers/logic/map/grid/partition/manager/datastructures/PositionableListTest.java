@@ -0,0 +1,208 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.logic.map.grid.partition.manager.datastructures;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+import jsettlers.common.position.ILocatable;
+import jsettlers.common.position.ShortPoint2D;
+import jsettlers.common.utils.MathUtils;
+
+/**
+ * Test for the class {@link PositionableList}. The results are compared with a linear search over all objects in the order they were inserted.
+ */
+public class PositionableListTest {
+	private final Random random = new Random(11);
+	private final PositionableList<Locatable> list = new PositionableList<>();
+	private final List<Locatable> expected = new ArrayList<>();
+
+	@Test
+	public void testNearestObjectEqualsLinearSearch() {
+		for (int i = 0; i < 20000; i++) {
+			int operation = random.nextInt(10);
+			if (operation < 4 || expected.isEmpty()) {
+				insert(new Locatable(randomPosition(200)));
+			} else if (operation < 7) {
+				ShortPoint2D position = randomPosition(220);
+				assertSame(removeClosest(position), list.removeObjectNextTo(position));
+			} else if (operation < 8) {
+				Locatable object = expected.remove(random.nextInt(expected.size()));
+				list.remove(object);
+			} else {
+				ShortPoint2D position = expected.get(random.nextInt(expected.size())).position;
+				assertSame(getAt(position), list.getObjectAt(position));
+			}
+			assertEquals(expected.size(), list.size());
+		}
+	}
+
+	@Test
+	public void testEqualDistancesReturnFirstInsertedObject() {
+		Locatable first = new Locatable(new ShortPoint2D(50, 40));
+		Locatable second = new Locatable(new ShortPoint2D(40, 50));
+		Locatable third = new Locatable(new ShortPoint2D(60, 50));
+		for (int i = 0; i < 20; i++) {
+			list.insert(new Locatable(new ShortPoint2D(150 + i, 150)));
+		}
+		list.insert(third);
+		list.insert(first);
+		list.insert(second);
+
+		assertSame(third, list.removeObjectNextTo(new ShortPoint2D(50, 50)));
+		assertSame(first, list.removeObjectNextTo(new ShortPoint2D(50, 50)));
+		assertSame(second, list.removeObjectNextTo(new ShortPoint2D(50, 50)));
+	}
+
+	@Test
+	public void testMovedObjectsAreFoundAfterUpdate() {
+		for (int i = 0; i < 500; i++) {
+			insert(new Locatable(randomPosition(100)));
+		}
+
+		for (int round = 0; round < 50; round++) {
+			for (Locatable object : expected) {
+				if (random.nextInt(4) == 0) {
+					object.position = randomPosition(100);
+				}
+			}
+			list.updatePositions();
+
+			ShortPoint2D position = randomPosition(100);
+			assertSame(removeClosest(position), list.removeObjectNextTo(position));
+		}
+	}
+
+	@Test
+	public void testSerializationKeepsOrder() throws IOException, ClassNotFoundException {
+		for (int i = 0; i < 300; i++) {
+			insert(new Locatable(randomPosition(20)));
+		}
+
+		ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+		ObjectOutputStream oos = new ObjectOutputStream(buffer);
+		oos.writeObject(list);
+		oos.writeObject(expected);
+		oos.close();
+		ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(buffer.toByteArray()));
+		@SuppressWarnings("unchecked")
+		PositionableList<Locatable> loadedList = (PositionableList<Locatable>) ois.readObject();
+		@SuppressWarnings("unchecked")
+		List<Locatable> loadedExpected = (List<Locatable>) ois.readObject();
+
+		expected.clear();
+		expected.addAll(loadedExpected);
+		while (!expected.isEmpty()) {
+			ShortPoint2D position = randomPosition(20);
+			assertSame(removeClosest(position), loadedList.removeObjectNextTo(position));
+		}
+	}
+
+	@Test
+	public void testSerializationWithObjectsReferencingTheList() throws IOException, ClassNotFoundException {
+		PositionableList<OwnedLocatable> ownedList = new PositionableList<>();
+		OwnedLocatable first = new OwnedLocatable(ownedList, new ShortPoint2D(10, 10));
+		OwnedLocatable second = new OwnedLocatable(ownedList, new ShortPoint2D(30, 30));
+		ownedList.insert(first);
+		ownedList.insert(second);
+
+		ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+		ObjectOutputStream oos = new ObjectOutputStream(buffer);
+		oos.writeObject(second); // the list is read while the position of second hasn't been read yet
+		oos.close();
+		ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(buffer.toByteArray()));
+		OwnedLocatable loadedSecond = (OwnedLocatable) ois.readObject();
+
+		assertEquals(2, loadedSecond.list.size());
+		assertSame(loadedSecond, loadedSecond.list.getObjectAt(new ShortPoint2D(30, 30)));
+		assertSame(loadedSecond, loadedSecond.list.removeObjectNextTo(new ShortPoint2D(25, 25)));
+	}
+
+	private void insert(Locatable object) {
+		expected.add(object);
+		list.insert(object);
+	}
+
+	private Locatable removeClosest(ShortPoint2D position) {
+		int bestDistance = Integer.MAX_VALUE;
+		Locatable best = null;
+		for (Locatable object : expected) {
+			int distance = MathUtils.squareHypot(position, object.position);
+			if (distance < bestDistance) {
+				bestDistance = distance;
+				best = object;
+			}
+		}
+		expected.remove(best);
+		return best;
+	}
+
+	private Locatable getAt(ShortPoint2D position) {
+		for (Locatable object : expected) {
+			if (object.position.equals(position)) {
+				return object;
+			}
+		}
+		return null;
+	}
+
+	private ShortPoint2D randomPosition(int size) {
+		return new ShortPoint2D(random.nextInt(size), random.nextInt(size));
+	}
+
+	private static class OwnedLocatable implements ILocatable, Serializable {
+		private static final long serialVersionUID = 1L;
+
+		private final PositionableList<OwnedLocatable> list; // serialized before the position
+		private final ShortPoint2D position;
+
+		OwnedLocatable(PositionableList<OwnedLocatable> list, ShortPoint2D position) {
+			this.list = list;
+			this.position = position;
+		}
+
+		@Override
+		public ShortPoint2D getPosition() {
+			return position;
+		}
+	}
+
+	private static class Locatable implements ILocatable, Serializable {
+		private static final long serialVersionUID = 1L;
+
+		private ShortPoint2D position;
+
+		Locatable(ShortPoint2D position) {
+			this.position = position;
+		}
+
+		@Override
+		public ShortPoint2D getPosition() {
+			return position;
+		}
+	}
+}
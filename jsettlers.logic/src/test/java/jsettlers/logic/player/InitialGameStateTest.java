@@ -0,0 +1,92 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.logic.player;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+import org.junit.Test;
+
+import jsettlers.logic.map.loading.EMapStartResources;
+
+/**
+ * Test for the serialization of the {@link InitialGameState} in the replay header.
+ */
+public class InitialGameStateTest {
+
+	@Test
+	public void testHierarchicalPathfindingIsRecorded() throws IOException {
+		InitialGameState state = new InitialGameState((byte) 1, PlayerSetting.createDefaultSettings((byte) 1, (byte) 3), 4711L, EMapStartResources.LOW_GOODS);
+		state.setHierarchicalPathfinding(true);
+
+		InitialGameState read = new InitialGameState(new DataInputStream(new ByteArrayInputStream(serialize(state))));
+
+		assertEquals(1, read.getPlayerId());
+		assertEquals(3, read.getPlayerSettings().length);
+		assertEquals(4711L, read.getRandomSeed());
+		assertEquals(EMapStartResources.LOW_GOODS, read.getStartResources());
+		assertTrue(read.isHierarchicalPathfinding());
+		assertTrue(read.clone().isHierarchicalPathfinding());
+		assertTrue(read.isGroupFlowFields());
+		assertTrue(read.clone().isGroupFlowFields());
+	}
+
+	@Test
+	public void testVersion1ReplaysUseTheExactAStar() throws IOException {
+		InitialGameState state = new InitialGameState((byte) 0, PlayerSetting.createDefaultSettings((byte) 0, (byte) 2), 42L);
+		byte[] data = serialize(state);
+		data[0] = 1; // version 1 didn't contain the match settings
+		byte[] version1Data = new byte[data.length - 2];
+		System.arraycopy(data, 0, version1Data, 0, version1Data.length);
+
+		InitialGameState read = new InitialGameState(new DataInputStream(new ByteArrayInputStream(version1Data)));
+
+		assertEquals(42L, read.getRandomSeed());
+		assertEquals(2, read.getPlayerSettings().length);
+		assertFalse(read.isHierarchicalPathfinding());
+		assertFalse(read.isGroupFlowFields());
+	}
+
+	@Test
+	public void testVersion2ReplaysMoveGroupsWithoutFlowFields() throws IOException {
+		InitialGameState state = new InitialGameState((byte) 0, PlayerSetting.createDefaultSettings((byte) 0, (byte) 2), 42L);
+		state.setHierarchicalPathfinding(true);
+		byte[] data = serialize(state);
+		data[0] = 2; // version 2 didn't contain the group flow field setting
+		byte[] version2Data = new byte[data.length - 1];
+		System.arraycopy(data, 0, version2Data, 0, version2Data.length);
+
+		InitialGameState read = new InitialGameState(new DataInputStream(new ByteArrayInputStream(version2Data)));
+
+		assertEquals(42L, read.getRandomSeed());
+		assertTrue(read.isHierarchicalPathfinding());
+		assertFalse(read.isGroupFlowFields());
+	}
+
+	private static byte[] serialize(InitialGameState state) throws IOException {
+		ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+		try (DataOutputStream dos = new DataOutputStream(buffer)) {
+			state.serialize(dos);
+		}
+		return buffer.toByteArray();
+	}
+}
@@ -0,0 +1,179 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.logic.timer;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import jsettlers.logic.map.loading.MapLoadException;
+
+/**
+ * Test for the class {@link RescheduleTimer}.
+ */
+public class RescheduleTimerTest {
+	private static final int TIME_SLICE = 25;
+
+	private static final List<String> executions = new ArrayList<>();
+	private static int currentTick;
+
+	@Before
+	public void setUp() {
+		RescheduleTimer.stopAndClear();
+		executions.clear();
+		currentTick = 0;
+	}
+
+	@After
+	public void tearDown() {
+		RescheduleTimer.stopAndClear();
+	}
+
+	@Test
+	public void testExecutionInScheduledTick() {
+		int[] delays = { 1, 24, 25, 26, 6399, 6400, 6425, 31999, 32000, 409600, 36000000 };
+		for (int i = 0; i < delays.length; i++) {
+			RescheduleTimer.add(new LoggingTimerable("t" + i), delays[i]);
+		}
+		assertEquals(delays.length, RescheduleTimer.getScheduledCount());
+
+		runTicks(36000000 / TIME_SLICE + 1);
+
+		List<String> expected = new ArrayList<>();
+		for (int i = 0; i < delays.length; i++) {
+			expected.add("t" + i + "@" + Math.max(1, delays[i] / TIME_SLICE));
+		}
+		assertEquals(expected, executions);
+		assertEquals(0, RescheduleTimer.getScheduledCount());
+	}
+
+	@Test
+	public void testTimerablesOfSameTickAreExecutedInSchedulingOrder() {
+		Random random = new Random(42);
+		List<ExpectedExecution> expected = new ArrayList<>();
+
+		for (int round = 0; round < 20; round++) {
+			for (int i = 0; i < 200; i++) {
+				int delay = random.nextBoolean() ? random.nextInt(40000) : random.nextInt(2000000);
+				String name = round + "-" + i;
+				RescheduleTimer.add(new LoggingTimerable(name), delay);
+				if (delay > 0) {
+					expected.add(new ExpectedExecution(name, currentTick + Math.max(1, delay / TIME_SLICE)));
+				}
+			}
+			runTicks(random.nextInt(20000));
+		}
+		runTicks(2000000 / TIME_SLICE + 1);
+
+		expected.sort((first, second) -> Integer.compare(first.tick, second.tick)); // stable sort keeps the scheduling order
+		List<String> expectedExecutions = new ArrayList<>();
+		for (ExpectedExecution execution : expected) {
+			expectedExecutions.add(execution.name + "@" + execution.tick);
+		}
+		assertEquals(expectedExecutions, executions);
+	}
+
+	@Test
+	public void testSerializationKeepsSchedule() throws IOException, MapLoadException {
+		Random random = new Random(7);
+		for (int i = 0; i < 500; i++) {
+			RescheduleTimer.add(new LoggingTimerable("t" + i), 1 + random.nextInt(1000000));
+		}
+		runTicks(1234);
+		int executedBeforeSaving = executions.size();
+
+		ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+		ObjectOutputStream oos = new ObjectOutputStream(buffer);
+		RescheduleTimer.saveTo(oos);
+		oos.close();
+
+		runTicks(1000000 / TIME_SLICE);
+		assertEquals(500, executions.size());
+		List<String> expected = new ArrayList<>(executions.subList(executedBeforeSaving, executions.size()));
+
+		executions.clear();
+		currentTick = 1234;
+		RescheduleTimer.loadFrom(new ObjectInputStream(new ByteArrayInputStream(buffer.toByteArray())));
+		runTicks(1000000 / TIME_SLICE);
+
+		assertEquals(expected, executions);
+	}
+
+	@Test
+	public void testUpcomingSlotLoads() {
+		RescheduleTimer.add(new LoggingTimerable("a"), 50);
+		RescheduleTimer.add(new LoggingTimerable("b"), 50);
+		RescheduleTimer.add(new LoggingTimerable("c"), 8000);
+		runTicks(1);
+
+		int[] loads = RescheduleTimer.getUpcomingSlotLoads(400);
+		assertEquals(2, loads[1]);
+		assertEquals(1, loads[8000 / TIME_SLICE - 1]);
+
+		runTicks(1);
+		runTicks(1);
+		assertEquals(2, RescheduleTimer.getPeakSlotLoad());
+		assertEquals(1, RescheduleTimer.getSlotLoadHistogram()[2]);
+	}
+
+	private static void runTicks(int ticks) {
+		RescheduleTimer timer = RescheduleTimer.get();
+		for (int i = 0; i < ticks; i++) {
+			timer.timerEvent();
+			currentTick++;
+		}
+	}
+
+	private static class ExpectedExecution {
+		private final String name;
+		private final int tick;
+
+		ExpectedExecution(String name, int tick) {
+			this.name = name;
+			this.tick = tick;
+		}
+	}
+
+	private static class LoggingTimerable implements IScheduledTimerable {
+		private static final long serialVersionUID = 1L;
+
+		private final String name;
+
+		LoggingTimerable(String name) {
+			this.name = name;
+		}
+
+		@Override
+		public int timerEvent() {
+			executions.add(name + "@" + currentTick);
+			return -1;
+		}
+
+		@Override
+		public void kill() {
+		}
+	}
+}
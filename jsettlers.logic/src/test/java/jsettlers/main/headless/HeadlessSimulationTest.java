@@ -0,0 +1,80 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.main.headless;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Test;
+
+import jsettlers.common.ai.EPlayerType;
+import jsettlers.common.logging.ETickCategory;
+import jsettlers.common.logging.TickProfiler;
+import jsettlers.common.player.ECivilisation;
+import jsettlers.logic.map.loading.MapLoadException;
+import jsettlers.logic.player.InitialGameState;
+import jsettlers.logic.player.PlayerSetting;
+import jsettlers.testutils.TestUtils;
+import jsettlers.testutils.map.MapUtils;
+
+/**
+ * Test for the class {@link HeadlessSimulation}.
+ */
+public class HeadlessSimulationTest {
+	private static final int MINUTES = 60 * 1000;
+
+	static {
+		TestUtils.setupTempResourceManager();
+	}
+
+	private HeadlessSimulation simulation;
+
+	@After
+	public void tearDown() {
+		if (simulation != null) {
+			simulation.stop();
+		}
+	}
+
+	@Test
+	public void testRunsToTargetTimeAndMeasuresSubsystems() throws MapLoadException {
+		PlayerSetting[] playerSettings = new PlayerSetting[12];
+		Arrays.fill(playerSettings, new PlayerSetting());
+		playerSettings[0] = new PlayerSetting(EPlayerType.AI_VERY_HARD, ECivilisation.ROMAN, (byte) 0);
+		playerSettings[1] = new PlayerSetting(EPlayerType.AI_EASY, ECivilisation.ROMAN, (byte) 1);
+
+		simulation = new HeadlessSimulation(MapUtils.getSpezialSumpf(), new InitialGameState((byte) 0, playerSettings, 1L));
+		simulation.load();
+
+		List<Integer> reportedGameTimes = new ArrayList<>();
+		HeadlessSimulationResult result = simulation.run(2 * MINUTES, MINUTES / 2, false, progress -> reportedGameTimes.add(progress.getGameTime()));
+
+		assertEquals(2 * MINUTES, simulation.getGameTime());
+		assertEquals(2 * MINUTES, result.getGameTime());
+		assertEquals(Arrays.asList(MINUTES / 2, MINUTES, 3 * MINUTES / 2, 2 * MINUTES), reportedGameTimes);
+		assertTrue(result.getGameSecondsPerWallSecond() > 0);
+		assertTrue(result.getPeakHeapUsed() >= result.getHeapUsed());
+
+		TickProfiler profiler = result.getTickProfiler();
+		assertEquals(2 * MINUTES / 25, profiler.getTickHistogram().getCount());
+		assertTrue("the ai players should have sent tasks", profiler.getCalls(ETickCategory.TASKS) > 0);
+		assertEquals(2 * MINUTES / 1000, profiler.getCalls(ETickCategory.AI));
+	}
+}
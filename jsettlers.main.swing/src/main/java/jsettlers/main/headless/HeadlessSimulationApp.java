@@ -0,0 +1,131 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.main.headless;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.Arrays;
+
+import jsettlers.common.ai.EPlayerType;
+import jsettlers.common.player.ECivilisation;
+import jsettlers.common.resources.ResourceManager;
+import jsettlers.logic.constants.MatchConstants;
+import jsettlers.logic.map.loading.MapLoadException;
+import jsettlers.logic.map.loading.MapLoader;
+import jsettlers.logic.map.loading.list.DirectoryMapLister;
+import jsettlers.logic.map.loading.newmap.MapFileHeader;
+import jsettlers.logic.player.InitialGameState;
+import jsettlers.logic.player.Player;
+import jsettlers.logic.player.PlayerSetting;
+import jsettlers.main.replay.ReplayUtils;
+import jsettlers.main.swing.resources.SwingResourceLoader;
+import jsettlers.main.swing.resources.SwingResourceProvider;
+import jsettlers.main.swing.settings.SettingsManager;
+
+/**
+ * Command line tool running a map or replay with a {@link HeadlessSimulation}. It prints the throughput every game minute and the state of the
+ * players at the end. With <code>--tick-profiler</code>, the whole dump of the {@link jsettlers.common.logging.TickProfiler} is printed as well.
+ * <p />
+ * Usage: <code>--map-file=&lt;FILE&gt; | --replay-file=&lt;FILE&gt; --target-time=&lt;MINUTES&gt; [--random=&lt;SEED&gt;]
+ * [--ai-players=AI_HARD,AI_EASY] [--civ=ROMAN] [--stop-when-decided] [--tick-profiler] [--event-log] [--console-output]</code>
+ */
+public class HeadlessSimulationApp {
+	private static final int REPORT_INTERVAL = 60 * 1000;
+
+	public static void main(String[] args) throws IOException, MapLoadException, SwingResourceLoader.ResourceSetupException {
+		ResourceManager.setProvider(new SwingResourceProvider());
+		SettingsManager.setup(args);
+		SwingResourceLoader.setup();
+
+		SettingsManager settings = SettingsManager.getInstance();
+		MatchConstants.ENABLE_PARALLEL_TICK = settings.isParallelTick();
+		int targetGameTimeMinutes = settings.getTargetTimeMinutes().orElseThrow(() -> new IllegalArgumentException("Please specify target time"));
+
+		PrintStream out = System.out;
+		if (!settings.useConsoleOutput()) { // the game logic and the tasks print a lot, keep the report readable
+			System.setOut(new PrintStream(ResourceManager.writeUserFile("logs/headless_out.log")));
+		}
+
+		HeadlessSimulation simulation = createSimulation(settings);
+		if (settings.isEventLog()) {
+			simulation.setEventLogStream(ResourceManager.writeUserFile("logs/headless_events.log"));
+		}
+		simulation.load();
+
+		HeadlessSimulationResult result = simulation.run(targetGameTimeMinutes * 60 * 1000, REPORT_INTERVAL, settings.isStopWhenDecided(),
+				progress -> out.println(progress.getGameTime() / 1000 + " s simulated, " + Math.round(progress.getGameSecondsPerWallSecond())
+						+ " game seconds per wall second, heap used: " + progress.getHeapUsed() / (1024 * 1024) + " MB"));
+
+		out.println();
+		result.print(out);
+		if (settings.isTickProfiler()) {
+			out.println();
+			result.getTickProfiler().dump(out);
+		}
+		out.println();
+		for (Player player : simulation.getMainGrid().getPartitionsGrid().getPlayers()) {
+			if (player != null) {
+				out.println("player " + player.getPlayerId() + " (" + player.getPlayerType() + ", " + player.getCivilisation() + "): "
+						+ player.getWinState() + ", produced soldiers: " + player.getEndgameStatistic().getAmountOfProducedSoldiers());
+			}
+		}
+
+		simulation.stop();
+		System.exit(0);
+	}
+
+	private static HeadlessSimulation createSimulation(SettingsManager settings) throws MapLoadException, FileNotFoundException {
+		if (settings.getReplayFile().isPresent()) {
+			File replayFile = new File(settings.getReplayFile().get());
+			if (!replayFile.exists()) {
+				throw new FileNotFoundException("Found replayFile parameter, but file can not be found: " + replayFile);
+			}
+			return HeadlessSimulation.fromReplay(new ReplayUtils.ReplayFile(replayFile));
+		}
+
+		String mapFile = settings.getMapFile();
+		if (mapFile == null) {
+			throw new IllegalArgumentException("Map or replay file needs to be specified with --map-file=<FILE> or --replay-file=<FILE>");
+		}
+
+		long randomSeed = settings.getRandom().orElse(0L);
+		MapLoader mapLoader = MapLoader.getLoaderForListedMap(new DirectoryMapLister.ListedMapFile(new File(mapFile)));
+		MapFileHeader header = mapLoader.getFileHeader();
+		if (header.getType() != MapFileHeader.MapType.NORMAL) {
+			InitialGameState initialGameState = new InitialGameState(header.getPlayerId(), header.getPlayerSettings(), randomSeed);
+			initialGameState.setHierarchicalPathfinding(settings.isHierarchicalPathfinding());
+			return new HeadlessSimulation(mapLoader, initialGameState);
+		}
+
+		byte playerId = 0;
+		PlayerSetting[] playerSettings;
+		EPlayerType[] aiPlayers = settings.getAiPlayers().orElse(null);
+		if (aiPlayers != null) {
+			ECivilisation civilisation = settings.getCivilisation().orElse(ECivilisation.ROMAN);
+			playerSettings = new PlayerSetting[mapLoader.getMaxPlayers()];
+			Arrays.fill(playerSettings, new PlayerSetting());
+			for (byte slot = 0; slot < Math.min(aiPlayers.length, playerSettings.length); slot++) {
+				playerSettings[slot] = new PlayerSetting(aiPlayers[slot], civilisation, slot);
+			}
+		} else {
+			playerSettings = PlayerSetting.createDefaultSettings(playerId, (byte) mapLoader.getMaxPlayers());
+		}
+		InitialGameState initialGameState = new InitialGameState(playerId, playerSettings, randomSeed);
+		initialGameState.setHierarchicalPathfinding(settings.isHierarchicalPathfinding());
+		return new HeadlessSimulation(mapLoader, initialGameState);
+	}
+}
@@ -21,6 +21,7 @@ import java.awt.GraphicsEnvironment;
 import java.awt.HeadlessException;
 import java.awt.KeyboardFocusManager;
 import java.awt.event.KeyEvent;
+import java.util.concurrent.TimeUnit;
 
 import javax.swing.JFrame;
 import javax.swing.SwingUtilities;
@@ -42,6 +43,7 @@ import jsettlers.common.menu.IStartingGame;
 import jsettlers.graphics.map.ETextDrawPosition;
 import jsettlers.graphics.map.MapContent;
 import jsettlers.logic.map.loading.MapLoader;
+import jsettlers.logic.map.loading.list.MapList;
 import jsettlers.main.swing.menu.joinpanel.JoinGamePanel;
 import jsettlers.main.swing.menu.mainmenu.MainMenuPanel;
 import jsettlers.main.swing.menu.startinggamemenu.StartingGamePanel;
@@ -53,6 +55,7 @@ import jsettlers.main.swing.settings.SettingsManager;
  */
 public class JSettlersFrame extends JFrame {
 	private static final long serialVersionUID = 2607082717493797224L;
+	private static final long SAVEGAME_WRITE_TIMEOUT_SECONDS = 30;
 
 	private final MainMenuPanel mainPanel;
 	private final EndgameStatsPanel endgameStatsPanel = new EndgameStatsPanel(this);
@@ -141,9 +144,20 @@ public class JSettlersFrame extends JFrame {
 	public void exit() {
 		soundPlayer.close();
 		abortRedrawTimerIfPresent();
+		awaitBackgroundSaves();
 		System.exit(0);
 	}
 
+	private static void awaitBackgroundSaves() {
+		try {
+			if (!MapList.getDefaultList().awaitBackgroundSaves(SAVEGAME_WRITE_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+				System.err.println("Savegame could not be written completely before exiting.");
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
 	public SoundPlayer getSoundPlayer() {
 		return soundPlayer;
 	}
@@ -80,6 +80,9 @@ public class SwingManagedJSettlers {
 		CommonConstants.ACTIVATE_ALL_PLAYERS = SettingsManager.getInstance().isActivateAllPlayers();
 		CommonConstants.ENABLE_CONSOLE_LOGGING = SettingsManager.getInstance().useConsoleOutput();
 		CommonConstants.DISABLE_ORIGINAL_MAPS = SettingsManager.getInstance().areOriginalMapsDisabled();
+		MatchConstants.ENABLE_PARALLEL_TICK = SettingsManager.getInstance().isParallelTick();
+		MatchConstants.ENABLE_TICK_PROFILER = SettingsManager.getInstance().isTickProfiler();
+		MatchConstants.ENABLE_EVENT_LOG = SettingsManager.getInstance().isEventLog();
 		AbstractLabels.setPreferredLocale(SettingsManager.getInstance().getLocale());
 	}
 
@@ -150,10 +153,12 @@ public class SwingManagedJSettlers {
 					PlayerSetting[] playerSettings = PlayerSetting.createDefaultSettings(playerId, (byte) mapLoader.getMaxPlayers());
 
 					InitialGameState initialGameState = new InitialGameState(playerId, playerSettings, randomSeed);
+					initialGameState.setHierarchicalPathfinding(SettingsManager.getInstance().isHierarchicalPathfinding());
 					game = new JSettlersGame(mapLoader, initialGameState).start();
 				} else {
 					MapFileHeader header = mapLoader.getFileHeader();
 					InitialGameState initialGameState = new InitialGameState(header.getPlayerId(), header.getPlayerSettings(), randomSeed);
+					initialGameState.setHierarchicalPathfinding(SettingsManager.getInstance().isHierarchicalPathfinding());
 					game = new JSettlersGame(mapLoader, initialGameState).start();
 				}
 			} else {
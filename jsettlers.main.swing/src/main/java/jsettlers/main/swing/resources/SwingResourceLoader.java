@@ -14,6 +14,7 @@
  *******************************************************************************/
 package jsettlers.main.swing.resources;
 
+import jsettlers.common.resources.ResourceManager;
 import jsettlers.common.resources.SettlersFolderChecker;
 import jsettlers.common.resources.SettlersFolderChecker.SettlersFolderInfo;
 import jsettlers.graphics.image.reader.DatFileUtils;
@@ -54,7 +55,8 @@ public class SwingResourceLoader {
 		}
 
 		// setup image and sound provider
-		ImageProvider.setLookupPath(settlersFolders.gfxFolder, settlersVersionId);
+		File imageCacheDirectory = SettingsManager.getInstance().isImageCache() ? new File(ResourceManager.getResourcesDirectory(), "image-cache") : null;
+		ImageProvider.setLookupPath(settlersFolders.gfxFolder, settlersVersionId, imageCacheDirectory);
 		SoundManager.setLookupPath(settlersFolders.sndFolder);
 		MusicManager.setLookupPath(settlersFolders.musicFolder);
 
@@ -19,12 +19,14 @@ import go.graphics.swing.sound.ISoundSettingsProvider;
 import java.util.Optional;
 import java.util.function.Supplier;
 import jsettlers.common.CommonConstants;
+import jsettlers.common.ai.EPlayerType;
 import jsettlers.common.buildings.EBuildingType;
 import jsettlers.common.player.ECivilisation;
 import jsettlers.common.resources.ResourceManager;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Locale;
@@ -63,11 +65,18 @@ public class SettingsManager implements ISoundSettingsProvider {
 	private static final String SETTING_ACTIVATE_ALL_PLAYERS = "activate-all-players";
 	private static final String SETTING_ENABLE_CONSOLE_LOGGING = "console-output";
 	private static final String SETTING_DISABLE_ORIGINAL_MAPS = "disable-original-maps";
+	private static final String SETTING_PARALLEL_TICK = "parallel-tick";
+	private static final String SETTING_HIERARCHICAL_PATHFINDING = "hierarchical-pathfinding";
+	private static final String SETTING_TICK_PROFILER = "tick-profiler";
+	private static final String SETTING_EVENT_LOG = "event-log";
+	private static final String SETTING_IMAGE_CACHE = "image-cache";
 	private static final String SETTING_MAPFILE = "map-file";
 	private static final String SETTING_RANDOM = "random";
 	private static final String SETTING_REPLAY_FILE = "replay-file";
 	private static final String SETTING_TARGET_TIME = "target-time";
 	private static final String SETTING_MAPS = "maps";
+	private static final String SETTING_AI_PLAYERS = "ai-players";
+	private static final String SETTING_STOP_WHEN_DECIDED = "stop-when-decided";
 
 	private static final String SETTING_BUILDING = "building";
 	private static final String SETTING_CIVILISATION = "civ";
@@ -298,6 +307,26 @@ public class SettingsManager implements ISoundSettingsProvider {
 		return getOptional(SETTING_DISABLE_ORIGINAL_MAPS);
 	}
 
+	public boolean isParallelTick() {
+		return getOptional(SETTING_PARALLEL_TICK);
+	}
+
+	public boolean isHierarchicalPathfinding() {
+		return getOptional(SETTING_HIERARCHICAL_PATHFINDING);
+	}
+
+	public boolean isTickProfiler() {
+		return getOptional(SETTING_TICK_PROFILER);
+	}
+
+	public boolean isEventLog() {
+		return getOptional(SETTING_EVENT_LOG);
+	}
+
+	public boolean isImageCache() {
+		return getOptional(SETTING_IMAGE_CACHE);
+	}
+
 	public Locale getLocale() {
 		return Optional.ofNullable(get(SETTING_LOCALE)).map(localeString -> {
 			String[] localeParts = localeString.split("_");
@@ -326,6 +355,20 @@ public class SettingsManager implements ISoundSettingsProvider {
 		return getAsOptional(SETTING_TARGET_TIME).map(Integer::valueOf);
 	}
 
+	/**
+	 * @return The player types of the players in the order of their slots, given as comma separated list like
+	 *         <code>--ai-players=AI_HARD,AI_EASY</code>.
+	 */
+	public Optional<EPlayerType[]> getAiPlayers() {
+		return getAsOptional(SETTING_AI_PLAYERS).map(s -> Arrays.stream(s.split(","))
+				.map(type -> EPlayerType.valueOf(type.trim().toUpperCase()))
+				.toArray(EPlayerType[]::new));
+	}
+
+	public boolean isStopWhenDecided() {
+		return getOptional(SETTING_STOP_WHEN_DECIDED);
+	}
+
 	public String getAdditionalMapsDirectory() {
 		return get(SETTING_MAPS);
 	}
@@ -34,6 +34,14 @@ public final class NetworkConstants {
 	public static final int RTT_LOGGING_THRESHOLD = 800;
 	public static final int JITTER_LOGGING_THRESHOLD = 200;
 
+	/**
+	 * The version of the protocol between client and server. It is sent by the client when identifying itself and needs to be increased with every
+	 * change the other side can't read.
+	 * <p />
+	 * Version 1 added the {@link ENetworkKey#SYNCHRONOUS_TASK_HEARTBEAT} and is the first version sent.
+	 */
+	public static final int PROTOCOL_VERSION = 1;
+
 	/**
 	 * This class contains constants used by the Server part of network library.
 	 * 
@@ -115,6 +123,7 @@ public final class NetworkConstants {
 		POSITION_CHANGED,
 		TYPE_CHANGED,
 		PLAYER_COUNT_CHANGED,
+		INCOMPATIBLE_PROTOCOL_VERSION,
 		;
 
 		private static final ENetworkMessage[] values = ENetworkMessage.values();
@@ -171,6 +180,8 @@ public final class NetworkConstants {
 		CHANGE_PLAYER_TYPE,
 		CHANGE_POSITION,
 		CHANGE_PLAYER_COUNT,
+
+		SYNCHRONOUS_TASK_HEARTBEAT,
 		;
 
 		private static final ENetworkKey[] values = ENetworkKey.values();
@@ -185,8 +196,12 @@ public final class NetworkConstants {
 		}
 
 		public static ENetworkKey readFrom(DataInputStream dis) throws IOException {
+			return fromOrdinal(dis.readByte());
+		}
+
+		public static ENetworkKey fromOrdinal(byte ordinal) throws IOException {
 			try {
-				return values[dis.readByte()];
+				return values[ordinal];
 			} catch (Exception ex) {
 				throw new IOException(ex);
 			}
@@ -34,6 +34,7 @@ import jsettlers.network.common.packets.BooleanMessagePacket;
 import jsettlers.network.common.packets.ByteTuplePacket;
 import jsettlers.network.common.packets.ChatMessagePacket;
 import jsettlers.network.common.packets.IdPacket;
+import jsettlers.network.common.packets.IdentifyUserPacket;
 import jsettlers.network.common.packets.IntegerMessagePacket;
 import jsettlers.network.common.packets.MapInfoPacket;
 import jsettlers.network.common.packets.MatchInfoPacket;
@@ -109,7 +110,7 @@ public class NetworkClient implements ITaskScheduler, INetworkConnector, INetwor
 		channel.registerListener(new IdentifiedUserListener(this));
 		channel.registerListener(generateDefaultListener(NetworkConstants.ENetworkKey.ARRAY_OF_MATCHES, ArrayOfMatchInfosPacket.class,
 				matchesReceiver));
-		channel.sendPacketAsync(NetworkConstants.ENetworkKey.IDENTIFY_USER, playerInfo);
+		channel.sendPacketAsync(NetworkConstants.ENetworkKey.IDENTIFY_USER, new IdentifyUserPacket(playerInfo));
 	}
 
 	/**
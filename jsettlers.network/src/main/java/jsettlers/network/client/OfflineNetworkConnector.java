@@ -32,9 +32,21 @@ import jsettlers.network.synchronic.timer.NetworkTimer;
  */
 public class OfflineNetworkConnector implements ITaskScheduler, INetworkConnector {
 
-	private final NetworkTimer networkTimer = new NetworkTimer(true);
+	private final NetworkTimer networkTimer;
 	private boolean startFinished;
 
+	public OfflineNetworkConnector() {
+		this(new NetworkTimer(true));
+	}
+
+	/**
+	 * @param networkTimer
+	 *            The clock the tasks are scheduled in. It must not wait for locksteps.
+	 */
+	public OfflineNetworkConnector(NetworkTimer networkTimer) {
+		this.networkTimer = networkTimer;
+	}
+
 	@Override
 	public void scheduleTask(TaskPacket task) {
 		scheduleTaskAt(networkTimer.getTime() / NetworkConstants.Client.LOCKSTEP_PERIOD + 2, task);
@@ -15,14 +15,20 @@
 package jsettlers.network.client.task;
 
 import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
 
 import jsettlers.network.NetworkConstants;
 import jsettlers.network.NetworkConstants.ENetworkKey;
+import jsettlers.network.client.task.packets.LockstepHeartbeatPacket;
 import jsettlers.network.client.task.packets.SyncTasksPacket;
 import jsettlers.network.infrastructure.channel.GenericDeserializer;
+import jsettlers.network.infrastructure.channel.IDeserializingable;
 import jsettlers.network.infrastructure.channel.listeners.PacketChannelListener;
 
 /**
+ * Receives the {@link SyncTasksPacket}s and the {@link LockstepHeartbeatPacket}s of empty locksteps and hands them to the
+ * {@link ISyncTasksPacketScheduler}.
  * 
  * @author Andreas Eberle
  * 
@@ -32,10 +38,17 @@ public class TaskPacketListener extends PacketChannelListener<SyncTasksPacket> {
 	private final ISyncTasksPacketScheduler receiver;
 
 	public TaskPacketListener(ISyncTasksPacketScheduler receiver) {
-		super(NetworkConstants.ENetworkKey.SYNCHRONOUS_TASK, new GenericDeserializer<>(SyncTasksPacket.class));
+		super(createDeserializers());
 		this.receiver = receiver;
 	}
 
+	private static Map<ENetworkKey, IDeserializingable<SyncTasksPacket>> createDeserializers() {
+		Map<ENetworkKey, IDeserializingable<SyncTasksPacket>> deserializers = new EnumMap<>(ENetworkKey.class);
+		deserializers.put(NetworkConstants.ENetworkKey.SYNCHRONOUS_TASK, new GenericDeserializer<>(SyncTasksPacket.class));
+		deserializers.put(NetworkConstants.ENetworkKey.SYNCHRONOUS_TASK_HEARTBEAT, LockstepHeartbeatPacket.SYNC_TASKS_DESERIALIZER);
+		return deserializers;
+	}
+
 	@Override
 	protected void receivePacket(ENetworkKey key, SyncTasksPacket packet) throws IOException {
 		receiver.scheduleSyncTasksPacket(packet);
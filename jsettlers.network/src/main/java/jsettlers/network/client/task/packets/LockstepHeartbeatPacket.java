@@ -0,0 +1,97 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.network.client.task.packets;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Collections;
+
+import jsettlers.network.infrastructure.channel.IDeserializingable;
+import jsettlers.network.infrastructure.channel.packet.Packet;
+
+/**
+ * Unlocks a lockstep that doesn't contain any tasks. This is sent by the server instead of an empty {@link SyncTasksPacket}. As most locksteps are
+ * empty, the lockstep number is written as a variable length integer, which needs two or three bytes for the lockstep numbers of usual games.
+ */
+public class LockstepHeartbeatPacket extends Packet {
+	/**
+	 * Deserializes a {@link LockstepHeartbeatPacket} into the equivalent empty {@link SyncTasksPacket}.
+	 */
+	public static final IDeserializingable<SyncTasksPacket> SYNC_TASKS_DESERIALIZER = (key, dis) -> {
+		LockstepHeartbeatPacket heartbeat = new LockstepHeartbeatPacket();
+		heartbeat.deserialize(dis);
+		return new SyncTasksPacket(heartbeat.lockstepNumber, Collections.emptyList());
+	};
+
+	private int lockstepNumber;
+
+	public LockstepHeartbeatPacket() {
+	}
+
+	public LockstepHeartbeatPacket(int lockstepNumber) {
+		this.lockstepNumber = lockstepNumber;
+	}
+
+	@Override
+	public void serialize(DataOutputStream dos) throws IOException {
+		int value = lockstepNumber;
+		while ((value & ~0x7F) != 0) {
+			dos.writeByte((value & 0x7F) | 0x80);
+			value >>>= 7;
+		}
+		dos.writeByte(value);
+	}
+
+	@Override
+	public void deserialize(DataInputStream dis) throws IOException {
+		int value = 0;
+		for (int shift = 0; shift < 32; shift += 7) {
+			int b = dis.readUnsignedByte();
+			value |= (b & 0x7F) << shift;
+			if ((b & 0x80) == 0) {
+				lockstepNumber = value;
+				return;
+			}
+		}
+		throw new IOException("Invalid variable length integer.");
+	}
+
+	public int getLockstepNumber() {
+		return lockstepNumber;
+	}
+
+	@Override
+	public int hashCode() {
+		return lockstepNumber;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		LockstepHeartbeatPacket other = (LockstepHeartbeatPacket) obj;
+		return lockstepNumber == other.lockstepNumber;
+	}
+
+	@Override
+	public String toString() {
+		return "heartbeat lockstep: " + lockstepNumber;
+	}
+}
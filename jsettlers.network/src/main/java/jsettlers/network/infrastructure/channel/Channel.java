@@ -21,11 +21,13 @@ import java.io.DataOutputStream;
 import java.io.IOException;
 import java.net.Socket;
 import java.net.UnknownHostException;
-import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import jsettlers.network.NetworkConstants;
 import jsettlers.network.NetworkConstants.ENetworkKey;
 import jsettlers.network.infrastructure.channel.packet.Packet;
+import jsettlers.network.infrastructure.channel.packet.SerializedPacket;
 import jsettlers.network.infrastructure.channel.ping.IPingUpdateListener;
 import jsettlers.network.infrastructure.channel.ping.IRoundTripTimeSupplier;
 import jsettlers.network.infrastructure.channel.ping.PingPacket;
@@ -46,6 +48,11 @@ import jsettlers.network.infrastructure.log.SwitchableLogger;
  * 
  */
 public class Channel implements Runnable, IRoundTripTimeSupplier {
+	/**
+	 * Number of bytes every packet is prefixed with: the key and the length of the data.
+	 */
+	public static final int HEADER_SIZE = 1 + 4;
+
 	private final Thread thread;
 
 	private final SwitchableLogger logger;
@@ -56,7 +63,7 @@ public class Channel implements Runnable, IRoundTripTimeSupplier {
 	private final ByteArrayOutputStream byteBufferOutStream = new ByteArrayOutputStream();
 	private final DataOutputStream bufferDataOutStream = new DataOutputStream(byteBufferOutStream);
 
-	private final HashMap<ENetworkKey, IChannelListener> listenerRegistry = new HashMap<>();
+	private final Map<ENetworkKey, IChannelListener> listenerRegistry = new ConcurrentHashMap<>(); // may be read by the selector thread
 
 	private final PingPacketListener pingPacketListener;
 
@@ -92,6 +99,25 @@ public class Channel implements Runnable, IRoundTripTimeSupplier {
 		thread = new Thread(this, "ChannelForSocket_" + socket);
 	}
 
+	/**
+	 * Creates a {@link Channel} without a socket and receiver thread. Subclasses using this constructor provide their own transport by overriding
+	 * {@link #start()}, {@link #sendPacket(ENetworkKey, Packet)}, {@link #close()} and {@link #isClosed()}. Received packets have to be handed to
+	 * {@link #dispatchPacket(ENetworkKey, int, DataInputStream)}.
+	 * 
+	 * @param logger
+	 *            The logger used by the channel.
+	 */
+	protected Channel(Logger logger) {
+		this.logger = new SwitchableLogger(logger);
+		this.socket = null;
+		this.outStream = null;
+		this.inStream = null;
+		this.thread = null;
+
+		pingPacketListener = new PingPacketListener(this.logger, this);
+		registerListener(pingPacketListener);
+	}
+
 	/**
 	 * Starts the message receiving of this {@link Channel}.
 	 * <p />
@@ -117,6 +143,24 @@ public class Channel implements Runnable, IRoundTripTimeSupplier {
 		}
 	}
 
+	/**
+	 * Sends a packet that has already been serialized. This is used to send the same packet to many channels without serializing it for each of
+	 * them.
+	 * 
+	 * @param packet
+	 *            The serialized packet.
+	 */
+	public synchronized void sendPacket(SerializedPacket packet) {
+		if (socket.isClosed())
+			return;
+
+		try {
+			packet.writeTo(outStream);
+			outStream.flush();
+		} catch (IOException e) {
+		}
+	}
+
 	private void sendPacketData(ENetworkKey key, Packet packet) throws IOException {
 		bufferDataOutStream.flush();
 		byteBufferOutStream.reset();
@@ -149,6 +193,13 @@ public class Channel implements Runnable, IRoundTripTimeSupplier {
 		listenerRegistry.remove(key);
 	}
 
+	/**
+	 * @return The listener registered for the given key or null if there is none.
+	 */
+	protected IChannelListener getListener(ENetworkKey key) {
+		return listenerRegistry.get(key);
+	}
+
 	@Override
 	public void run() {
 		while (!socket.isClosed()) {
@@ -157,26 +208,7 @@ public class Channel implements Runnable, IRoundTripTimeSupplier {
 				int length = inStream.readInt();
 
 				DataInputStream bufferIn = readBytesToBuffer(inStream, length);
-
-				IChannelListener listener = listenerRegistry.get(key);
-
-				if (listener != null) {
-					try {
-						listener.receive(key, length, bufferIn);
-						if (bufferIn.available() > 0) {
-							logger.warn("Deserialization did not read all bytes of input: " + key + " " + length + " " + bufferIn.available());
-						}
-					} catch (Exception e) { // ignore exceptions thrown in receive
-						e.printStackTrace();
-					}
-				} else {
-					logger.warn("NO LISTENER FOUND for key: " + key + "   (" + socket + ")");
-
-					if (key != NetworkConstants.ENetworkKey.REJECT_PACKET) { // prevent endless loop
-						sendPacket(NetworkConstants.ENetworkKey.REJECT_PACKET,
-								new RejectPacket(NetworkConstants.ENetworkMessage.NO_LISTENER_FOUND, key));
-					}
-				}
+				dispatchPacket(key, length, bufferIn);
 
 			} catch (Exception e) {
 				try {
@@ -188,10 +220,49 @@ public class Channel implements Runnable, IRoundTripTimeSupplier {
 
 		close(); // release the resources
 
+		notifyChannelClosed();
+		logger.info("Channel listener shut down: " + socket);
+	}
+
+	/**
+	 * Hands a received packet to the listener registered for its key.
+	 * 
+	 * @param key
+	 *            The key of the packet.
+	 * @param length
+	 *            The length of the packet's data.
+	 * @param bufferIn
+	 *            A stream containing exactly the data of the packet.
+	 */
+	protected void dispatchPacket(ENetworkKey key, int length, DataInputStream bufferIn) {
+		IChannelListener listener = listenerRegistry.get(key);
+
+		if (listener != null) {
+			try {
+				listener.receive(key, length, bufferIn);
+				if (bufferIn.available() > 0) {
+					logger.warn("Deserialization did not read all bytes of input: " + key + " " + length + " " + bufferIn.available());
+				}
+			} catch (Exception e) { // ignore exceptions thrown in receive
+				e.printStackTrace();
+			}
+		} else {
+			logger.warn("NO LISTENER FOUND for key: " + key + "   (" + this + ")");
+
+			if (key != NetworkConstants.ENetworkKey.REJECT_PACKET) { // prevent endless loop
+				sendPacket(NetworkConstants.ENetworkKey.REJECT_PACKET,
+						new RejectPacket(NetworkConstants.ENetworkMessage.NO_LISTENER_FOUND, key));
+			}
+		}
+	}
+
+	/**
+	 * Informs the registered {@link IChannelClosedListener} that this channel has been shut down.
+	 */
+	protected void notifyChannelClosed() {
 		if (channelClosedListener != null) {
 			channelClosedListener.channelClosed();
 		}
-		logger.info("Channel listener shut down: " + socket);
 	}
 
 	private DataInputStream readBytesToBuffer(DataInputStream inStream, int length) throws IOException {
@@ -278,4 +349,13 @@ public class Channel implements Runnable, IRoundTripTimeSupplier {
 	public void setLogger(Logger newLogger) {
 		this.logger.setLogger(newLogger);
 	}
+
+	protected Logger getLogger() {
+		return logger;
+	}
+
+	@Override
+	public String toString() {
+		return "Channel(" + socket + ")";
+	}
 }
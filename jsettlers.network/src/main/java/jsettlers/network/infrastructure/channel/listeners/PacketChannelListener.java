@@ -17,6 +17,7 @@ package jsettlers.network.infrastructure.channel.listeners;
 import java.io.DataInputStream;
 import java.io.IOException;
 import java.util.Hashtable;
+import java.util.Map;
 
 import jsettlers.network.NetworkConstants.ENetworkKey;
 import jsettlers.network.infrastructure.channel.Channel;
@@ -51,6 +52,11 @@ public abstract class PacketChannelListener<T extends Packet> implements IChanne
 		}
 	}
 
+	public PacketChannelListener(Map<ENetworkKey, IDeserializingable<T>> deserializers) {
+		this.keys = deserializers.keySet().toArray(new ENetworkKey[0]);
+		this.deserializers.putAll(deserializers);
+	}
+
 	@Override
 	public ENetworkKey[] getKeys() {
 		return keys;
@@ -58,11 +64,33 @@ public abstract class PacketChannelListener<T extends Packet> implements IChanne
 
 	@Override
 	public final void receive(ENetworkKey key, int length, DataInputStream stream) throws IOException, ClassNotFoundException {
+		receiveDeserialized(key, deserialize(key, stream));
+	}
+
+	/**
+	 * Deserializes a received packet. Together with {@link #receiveDeserialized(ENetworkKey, Packet)} this does the same as
+	 * {@link #receive(ENetworkKey, int, DataInputStream)}, but the packet can be deserialized on another thread than the one handling it.
+	 *
+	 * @param key
+	 *            The key of the packet.
+	 * @param stream
+	 *            The {@link DataInputStream} offering the data.
+	 * @return The deserialized packet.
+	 * @throws IOException
+	 *             If an I/O error occurs.
+	 */
+	public final T deserialize(ENetworkKey key, DataInputStream stream) throws IOException {
 		IDeserializingable<T> deserializer = deserializers.get(key);
 		assert deserializer != null;
 
-		T deserializedPacket = deserializer.deserialize(key, stream);
-		receivePacket(key, deserializedPacket);
+		return deserializer.deserialize(key, stream);
+	}
+
+	/**
+	 * Handles a packet deserialized with {@link #deserialize(ENetworkKey, DataInputStream)}.
+	 */
+	public final void receiveDeserialized(ENetworkKey key, T packet) throws IOException {
+		receivePacket(key, packet);
 	}
 
 	protected abstract void receivePacket(ENetworkKey key, T packet) throws IOException;
@@ -0,0 +1,96 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.network.infrastructure.channel.packet;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+
+import jsettlers.network.NetworkConstants.ENetworkKey;
+import jsettlers.network.infrastructure.channel.Channel;
+
+/**
+ * A {@link Packet} that has already been serialized together with its key and length, exactly as it is sent over a {@link Channel}.
+ * <p />
+ * When the same packet is sent to many channels, it is serialized only once. The serialized frame is immutable and can be shared by all channels.
+ * It is kept in a direct buffer, so writing it to a socket channel doesn't copy it into a temporary direct buffer for every receiver.
+ */
+public final class SerializedPacket {
+	private final ENetworkKey key;
+	private final byte[] frame;
+	private final ByteBuffer directFrame;
+
+	/**
+	 * Serializes the given packet.
+	 * 
+	 * @param key
+	 *            The key the packet is sent with.
+	 * @param packet
+	 *            The packet to be serialized.
+	 * @throws IOException
+	 *             If the packet can't be serialized.
+	 */
+	public SerializedPacket(ENetworkKey key, Packet packet) throws IOException {
+		this.key = key;
+
+		ByteArrayOutputStream byteOut = new ByteArrayOutputStream();
+		DataOutputStream out = new DataOutputStream(byteOut);
+		key.writeTo(out);
+		out.writeInt(0); // the length is set after the packet has been serialized
+		packet.serialize(out);
+		out.flush();
+
+		frame = byteOut.toByteArray();
+		ByteBuffer.wrap(frame).putInt(1, frame.length - Channel.HEADER_SIZE);
+
+		ByteBuffer buffer = ByteBuffer.allocateDirect(frame.length);
+		buffer.put(frame);
+		buffer.flip();
+		directFrame = buffer.asReadOnlyBuffer();
+	}
+
+	public ENetworkKey getKey() {
+		return key;
+	}
+
+	/**
+	 * @return The number of bytes of the frame, including key and length.
+	 */
+	public int getFrameSize() {
+		return frame.length;
+	}
+
+	/**
+	 * @return A new read only view on the direct buffer of the frame. The view has its own position, so it can be written independently of other
+	 *         views.
+	 */
+	public ByteBuffer getFrame() {
+		return directFrame.duplicate();
+	}
+
+	/**
+	 * Writes the frame to the given stream.
+	 * 
+	 * @param out
+	 *            The stream to write to.
+	 * @throws IOException
+	 *             If an I/O error occurs.
+	 */
+	public void writeTo(OutputStream out) throws IOException {
+		out.write(frame);
+	}
+}
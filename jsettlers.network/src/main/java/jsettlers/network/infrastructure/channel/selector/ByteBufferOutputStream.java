@@ -0,0 +1,102 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.network.infrastructure.channel.selector;
+
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * An {@link OutputStream} writing into a chain of buffers taken from a {@link ByteBufferPool}. A packet is serialized directly into the buffers that
+ * are handed to the socket afterwards.
+ */
+final class ByteBufferOutputStream extends OutputStream {
+	private final ByteBufferPool pool;
+	private final List<ByteBuffer> buffers = new ArrayList<>(2);
+
+	private ByteBuffer current;
+	private int size;
+
+	ByteBufferOutputStream(ByteBufferPool pool) {
+		this.pool = pool;
+		this.current = pool.acquire();
+		buffers.add(current);
+	}
+
+	@Override
+	public void write(int b) {
+		if (!current.hasRemaining()) {
+			nextBuffer();
+		}
+		current.put((byte) b);
+		size++;
+	}
+
+	@Override
+	public void write(byte[] data, int offset, int length) {
+		size += length;
+		while (length > 0) {
+			if (!current.hasRemaining()) {
+				nextBuffer();
+			}
+			int count = Math.min(length, current.remaining());
+			current.put(data, offset, count);
+			offset += count;
+			length -= count;
+		}
+	}
+
+	private void nextBuffer() {
+		current = pool.acquire();
+		buffers.add(current);
+	}
+
+	/**
+	 * @return The number of bytes written to this stream.
+	 */
+	int size() {
+		return size;
+	}
+
+	/**
+	 * Overwrites an int at the given position. The position must be inside the first buffer.
+	 */
+	void putInt(int position, int value) {
+		buffers.get(0).putInt(position, value);
+	}
+
+	/**
+	 * Finishes writing and flips the buffers for reading.
+	 * 
+	 * @return The buffers containing the written data.
+	 */
+	List<ByteBuffer> finish() {
+		for (ByteBuffer buffer : buffers) {
+			buffer.flip();
+		}
+		return buffers;
+	}
+
+	/**
+	 * Returns all buffers to the pool without handing them on.
+	 */
+	void release() {
+		for (ByteBuffer buffer : buffers) {
+			pool.release(buffer);
+		}
+		buffers.clear();
+	}
+}
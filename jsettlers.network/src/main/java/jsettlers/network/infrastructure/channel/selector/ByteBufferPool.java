@@ -0,0 +1,87 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.network.infrastructure.channel.selector;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A pool of direct {@link ByteBuffer}s of the same size. Allocating direct buffers is expensive, so the buffers used for reading and writing packets
+ * are returned to the pool after they have been used.
+ */
+public final class ByteBufferPool {
+	private final int bufferSize;
+	private final int maxPooledBuffers;
+
+	private final ConcurrentLinkedQueue<ByteBuffer> pooledBuffers = new ConcurrentLinkedQueue<>();
+	private final AtomicInteger pooledCount = new AtomicInteger();
+	private final AtomicInteger allocatedCount = new AtomicInteger();
+
+	/**
+	 * @param bufferSize
+	 *            The capacity of the buffers of this pool.
+	 * @param maxPooledBuffers
+	 *            The maximum number of unused buffers kept by the pool. Further released buffers are left to the garbage collector.
+	 */
+	public ByteBufferPool(int bufferSize, int maxPooledBuffers) {
+		this.bufferSize = bufferSize;
+		this.maxPooledBuffers = maxPooledBuffers;
+	}
+
+	/**
+	 * @return A cleared buffer with a capacity of {@link #getBufferSize()} bytes.
+	 */
+	public ByteBuffer acquire() {
+		ByteBuffer buffer = pooledBuffers.poll();
+		if (buffer == null) {
+			allocatedCount.incrementAndGet();
+			return ByteBuffer.allocateDirect(bufferSize);
+		}
+
+		pooledCount.decrementAndGet();
+		buffer.clear();
+		return buffer;
+	}
+
+	/**
+	 * Returns the given buffer to the pool. The buffer must not be used by the caller afterwards.
+	 * 
+	 * @param buffer
+	 *            A buffer acquired from this pool. Read only buffers and buffers of other sizes are ignored.
+	 */
+	public void release(ByteBuffer buffer) {
+		if (buffer.isReadOnly() || buffer.capacity() != bufferSize) {
+			return;
+		}
+
+		if (pooledCount.incrementAndGet() <= maxPooledBuffers) {
+			pooledBuffers.offer(buffer);
+		} else {
+			pooledCount.decrementAndGet();
+		}
+	}
+
+	public int getBufferSize() {
+		return bufferSize;
+	}
+
+	/**
+	 * @return The number of buffers allocated by this pool since its creation.
+	 */
+	public int getAllocatedCount() {
+		return allocatedCount.get();
+	}
+}
@@ -0,0 +1,415 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.network.infrastructure.channel.selector;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.CancelledKeyException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import jsettlers.network.NetworkConstants.ENetworkKey;
+import jsettlers.network.infrastructure.channel.Channel;
+import jsettlers.network.infrastructure.channel.IChannelListener;
+import jsettlers.network.infrastructure.channel.listeners.PacketChannelListener;
+import jsettlers.network.infrastructure.channel.packet.Packet;
+import jsettlers.network.infrastructure.channel.packet.SerializedPacket;
+import jsettlers.network.infrastructure.log.Logger;
+
+/**
+ * A {@link Channel} driven by the selector thread of a {@link SelectorServer} instead of own reader and sender threads.
+ * <p />
+ * Packets are framed like in {@link Channel}: the key, the length of the data and the data. Sending serializes the packet directly into pooled
+ * buffers and queues them. The selector thread writes all queued buffers of a channel with one gathering write, so packets sent shortly after each
+ * other are coalesced. {@link SerializedPacket}s are queued without copying their shared frame. If a client doesn't read its packets and more than
+ * {@link #MAX_QUEUED_BYTES} are waiting to be sent to it, the channel is closed.
+ * <p />
+ * Received packets are handed to the listeners on the listener threads of the {@link SelectorServer}, so a slow listener doesn't block the other
+ * channels. The packets of one channel are handed to the listeners one after the other in the order they have been received, like the reader
+ * thread of a {@link Channel} does. If all packets received before have been handled and the listener is a {@link PacketChannelListener}, a packet
+ * is deserialized directly from the receive buffer. Otherwise its data is copied out of the receive buffer. Packets longer than
+ * {@link #MAX_PACKET_SIZE} are rejected by closing the channel.
+ */
+public final class SelectorChannel extends Channel {
+	private static final int MAX_BUFFERS_PER_WRITE = 64;
+	static final int MAX_QUEUED_BYTES = 4 * 1024 * 1024;
+	static final int MAX_PACKET_SIZE = 1024 * 1024;
+
+	private final SelectorServer server;
+	private final SocketChannel socketChannel;
+	private final String name;
+
+	private final ArrayDeque<ByteBuffer> writeQueue = new ArrayDeque<>();
+	private int queuedBytes; // guarded by writeQueue
+	private final Queue<Runnable> receivedQueue = new ConcurrentLinkedQueue<>();
+	private final AtomicBoolean dispatching = new AtomicBoolean();
+	private final AtomicBoolean closed = new AtomicBoolean();
+	private volatile boolean started;
+
+	// only accessed by the selector thread
+	private SelectionKey selectionKey;
+	private ByteBuffer readBuffer;
+	private ByteBuffer largePacket;
+	private ENetworkKey largePacketKey;
+	private final ByteBuffer[] gatheringBuffers = new ByteBuffer[MAX_BUFFERS_PER_WRITE];
+
+	SelectorChannel(Logger logger, SelectorServer server, SocketChannel socketChannel) {
+		super(logger);
+		this.server = server;
+		this.socketChannel = socketChannel;
+		this.name = String.valueOf(socketChannel.socket().getRemoteSocketAddress());
+	}
+
+	/**
+	 * Starts receiving packets. All listeners that should get the first packets have to be registered before.
+	 */
+	@Override
+	public void start() {
+		started = true;
+		server.register(this);
+	}
+
+	@Override
+	public boolean isStarted() {
+		return started;
+	}
+
+	@Override
+	public void sendPacket(ENetworkKey key, Packet packet) {
+		if (isClosed()) {
+			return;
+		}
+
+		ByteBufferOutputStream out = new ByteBufferOutputStream(server.getBufferPool());
+		List<ByteBuffer> buffers;
+		try {
+			DataOutputStream dataOut = new DataOutputStream(out);
+			key.writeTo(dataOut);
+			dataOut.writeInt(0); // the length is set after the packet has been serialized
+			packet.serialize(dataOut);
+			dataOut.flush();
+
+			out.putInt(1, out.size() - HEADER_SIZE);
+			buffers = out.finish();
+		} catch (IOException e) {
+			out.release();
+			return;
+		}
+
+		if (enqueue(buffers)) {
+			server.requestWrite(this);
+		} else {
+			for (ByteBuffer buffer : buffers) {
+				server.getBufferPool().release(buffer);
+			}
+		}
+	}
+
+	@Override
+	public void sendPacket(SerializedPacket packet) {
+		if (isClosed()) {
+			return;
+		}
+
+		if (enqueue(Collections.singletonList(packet.getFrame()))) { // the shared frame is read only, so the pool won't take it
+			server.requestWrite(this);
+		}
+	}
+
+	/**
+	 * Adds the buffers of one packet to the write queue, so they are not interleaved with other packets. If the queue would grow above
+	 * {@link #MAX_QUEUED_BYTES}, the client doesn't keep up and the channel is closed instead.
+	 * 
+	 * @return true if the buffers have been queued.
+	 */
+	private boolean enqueue(List<ByteBuffer> buffers) {
+		int size = 0;
+		for (ByteBuffer buffer : buffers) {
+			size += buffer.remaining();
+		}
+
+		synchronized (writeQueue) {
+			if (queuedBytes + size <= MAX_QUEUED_BYTES) {
+				writeQueue.addAll(buffers);
+				queuedBytes += size;
+				return true;
+			}
+		}
+
+		getLogger().warn("Closing " + this + ", more than " + MAX_QUEUED_BYTES + " bytes are waiting to be sent.");
+		close();
+		return false;
+	}
+
+	@Override
+	public void close() {
+		if (closed.compareAndSet(false, true)) {
+			try {
+				socketChannel.close();
+			} catch (IOException e) {
+			}
+			server.requestCleanup(this);
+		}
+	}
+
+	@Override
+	public boolean isClosed() {
+		return closed.get();
+	}
+
+	@Override
+	public String toString() {
+		return "SelectorChannel(" + name + ")";
+	}
+
+	void registered(SelectionKey selectionKey, ByteBuffer readBuffer) {
+		this.selectionKey = selectionKey;
+		this.readBuffer = readBuffer;
+	}
+
+	SocketChannel getSocketChannel() {
+		return socketChannel;
+	}
+
+	/**
+	 * Reads the available data and dispatches all completely received packets. Called by the selector thread.
+	 */
+	void handleRead() throws IOException {
+		if (socketChannel.read(readBuffer) < 0) {
+			throw new IOException("Stream ended.");
+		}
+		readBuffer.flip();
+
+		while (!isClosed()) {
+			if (largePacket != null) {
+				if (!continueLargePacket()) {
+					break;
+				}
+				continue;
+			}
+
+			if (readBuffer.remaining() < HEADER_SIZE) {
+				break;
+			}
+
+			int start = readBuffer.position();
+			ENetworkKey key = ENetworkKey.fromOrdinal(readBuffer.get(start));
+			int length = readBuffer.getInt(start + 1);
+			if (length < 0 || length > MAX_PACKET_SIZE) {
+				throw new IOException("Invalid packet length: " + length);
+			}
+
+			if (HEADER_SIZE + length > readBuffer.capacity()) { // the packet will never fit into the read buffer
+				readBuffer.position(start + HEADER_SIZE);
+				largePacket = ByteBuffer.allocate(length);
+				largePacketKey = key;
+				continue;
+			}
+
+			if (readBuffer.remaining() < HEADER_SIZE + length) {
+				break;
+			}
+
+			int end = start + HEADER_SIZE + length;
+			ByteBuffer packet = readBuffer.duplicate();
+			packet.position(start + HEADER_SIZE);
+			packet.limit(end);
+			readBuffer.position(end);
+
+			IChannelListener listener = getListener(key);
+			if (listener instanceof PacketChannelListener && receivedQueue.isEmpty() && !dispatching.get()) {
+				deserializeAndDispatch(key, (PacketChannelListener<?>) listener, packet);
+			} else {
+				ByteBuffer data = ByteBuffer.allocate(length); // the read buffer is reused before the listeners get the packet
+				data.put(packet);
+				data.flip();
+				dispatchLater(key, data);
+			}
+		}
+
+		readBuffer.compact();
+	}
+
+	private boolean continueLargePacket() {
+		int count = Math.min(largePacket.remaining(), readBuffer.remaining());
+		ByteBuffer part = readBuffer.duplicate();
+		part.limit(part.position() + count);
+		largePacket.put(part);
+		readBuffer.position(readBuffer.position() + count);
+
+		if (largePacket.hasRemaining()) {
+			return false;
+		}
+
+		largePacket.flip();
+		ByteBuffer data = largePacket;
+		ENetworkKey key = largePacketKey;
+		largePacket = null;
+		largePacketKey = null;
+
+		dispatchLater(key, data);
+		return true;
+	}
+
+	/**
+	 * Deserializes a packet on the selector thread and hands it to the listener on a listener thread. This may only be done if all packets
+	 * received before have been handled, because their listeners can register another listener for the key.
+	 */
+	private <T extends Packet> void deserializeAndDispatch(ENetworkKey key, PacketChannelListener<T> listener, ByteBuffer data) {
+		int length = data.remaining();
+		T packet;
+		try {
+			packet = listener.deserialize(key, new DataInputStream(new ByteBufferInputStream(data)));
+		} catch (Exception e) { // ignore exceptions thrown in the deserialization like dispatchPacket() does
+			e.printStackTrace();
+			return;
+		}
+		if (data.hasRemaining()) {
+			getLogger().warn("Deserialization did not read all bytes of input: " + key + " " + length + " " + data.remaining());
+		}
+
+		dispatchLater(() -> {
+			try {
+				listener.receiveDeserialized(key, packet);
+			} catch (Exception e) { // ignore exceptions thrown in receive
+				e.printStackTrace();
+			}
+		});
+	}
+
+	private void dispatchLater(ENetworkKey key, ByteBuffer data) {
+		dispatchLater(() -> dispatchPacket(key, data.remaining(), new DataInputStream(new ByteBufferInputStream(data))));
+	}
+
+	/**
+	 * Runs the given task on a listener thread after all tasks dispatched before by this channel.
+	 */
+	private void dispatchLater(Runnable task) {
+		receivedQueue.add(task);
+		scheduleDispatching();
+	}
+
+	private void scheduleDispatching() {
+		if (!receivedQueue.isEmpty() && dispatching.compareAndSet(false, true)) {
+			try {
+				server.getListenerExecutor().execute(this::dispatchReceived);
+			} catch (RejectedExecutionException e) { // the server has been shut down
+				dispatching.set(false);
+			}
+		}
+	}
+
+	private void dispatchReceived() {
+		Runnable task;
+		while ((task = receivedQueue.poll()) != null) {
+			task.run();
+		}
+		dispatching.set(false);
+		scheduleDispatching(); // tasks might have been added after the last poll
+	}
+
+	/**
+	 * Writes as many queued buffers as the socket accepts. Called by the selector thread.
+	 */
+	void handleWrite() throws IOException {
+		while (true) {
+			int count;
+			synchronized (writeQueue) {
+				count = 0;
+				for (ByteBuffer buffer : writeQueue) {
+					if (count == MAX_BUFFERS_PER_WRITE) {
+						break;
+					}
+					gatheringBuffers[count++] = buffer;
+				}
+			}
+			if (count == 0) {
+				break;
+			}
+
+			socketChannel.write(gatheringBuffers, 0, count);
+
+			int written = 0;
+			synchronized (writeQueue) {
+				while (written < count && !gatheringBuffers[written].hasRemaining()) {
+					ByteBuffer buffer = writeQueue.poll();
+					queuedBytes -= buffer.limit(); // queued buffers start at position 0
+					server.getBufferPool().release(buffer);
+					written++;
+				}
+			}
+
+			if (written < count) { // the socket's send buffer is full
+				break;
+			}
+		}
+
+		Arrays.fill(gatheringBuffers, null);
+		updateInterest();
+	}
+
+	/**
+	 * Updates the operations the selector waits for. Called by the selector thread.
+	 * 
+	 * @throws CancelledKeyException
+	 *             If the channel has been closed by another thread after the key has been checked.
+	 */
+	void updateInterest() {
+		if (selectionKey == null || !selectionKey.isValid()) {
+			return;
+		}
+
+		boolean hasPendingWrites;
+		synchronized (writeQueue) {
+			hasPendingWrites = !writeQueue.isEmpty();
+		}
+		selectionKey.interestOps(hasPendingWrites ? SelectionKey.OP_READ | SelectionKey.OP_WRITE : SelectionKey.OP_READ);
+	}
+
+	/**
+	 * Releases the buffers of this channel and informs the closed listener. Called by the selector thread after the channel has been closed.
+	 */
+	void cleanup() {
+		if (selectionKey != null) {
+			selectionKey.cancel();
+		}
+
+		ByteBufferPool pool = server.getBufferPool();
+		if (readBuffer != null) {
+			pool.release(readBuffer);
+			readBuffer = null;
+		}
+		synchronized (writeQueue) {
+			for (ByteBuffer buffer : writeQueue) {
+				pool.release(buffer);
+			}
+			writeQueue.clear();
+			queuedBytes = 0;
+		}
+
+		dispatchLater(this::notifyChannelClosed); // after the packets received before
+		getLogger().info("Channel listener shut down: " + this);
+	}
+}
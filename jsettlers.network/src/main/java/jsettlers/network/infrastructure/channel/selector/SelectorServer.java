@@ -0,0 +1,249 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.network.infrastructure.channel.selector;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.channels.CancelledKeyException;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jsettlers.network.infrastructure.channel.Channel;
+import jsettlers.network.infrastructure.log.Logger;
+
+/**
+ * Accepts client connections and drives all their {@link SelectorChannel}s with a single selector thread.
+ * <p />
+ * The blocking {@link Channel} needs a reader thread per connection, the selector server needs one thread for all of them. Other threads only
+ * queue their requests (registrations, writes and closes) and wake the selector up. The received packets are handed to the channel listeners on a
+ * small pool of listener threads, so the selector thread only does the I/O.
+ */
+public final class SelectorServer implements Runnable {
+	private static final int BUFFER_SIZE = 16 * 1024;
+	private static final int MAX_POOLED_BUFFERS = 1024;
+	private static final int LISTENER_THREADS = Math.max(2, Math.min(Runtime.getRuntime().availableProcessors(), 8));
+
+	private final Logger logger;
+	private final IChannelAcceptedListener acceptedListener;
+
+	private final Selector selector;
+	private final ServerSocketChannel serverChannel;
+	private final ByteBufferPool bufferPool = new ByteBufferPool(BUFFER_SIZE, MAX_POOLED_BUFFERS);
+	private final ExecutorService listenerExecutor = Executors.newFixedThreadPool(LISTENER_THREADS, new ListenerThreadFactory());
+
+	private final Queue<SelectorChannel> registrationRequests = new ConcurrentLinkedQueue<>();
+	private final Queue<SelectorChannel> writeRequests = new ConcurrentLinkedQueue<>();
+	private final Queue<SelectorChannel> cleanupRequests = new ConcurrentLinkedQueue<>();
+	private final Set<SelectorChannel> channels = new HashSet<>();
+
+	private volatile boolean running = true;
+
+	/**
+	 * Creates the server and binds it to the given port.
+	 * 
+	 * @param port
+	 *            The port to accept connections on.
+	 * @param logger
+	 *            The logger used by the server and its channels.
+	 * @param acceptedListener
+	 *            Is informed about every accepted channel. It should register the channel's listeners and start it.
+	 * @throws IOException
+	 *             If the port can't be bound.
+	 */
+	public SelectorServer(int port, Logger logger, IChannelAcceptedListener acceptedListener) throws IOException {
+		this.logger = logger;
+		this.acceptedListener = acceptedListener;
+
+		selector = Selector.open();
+		serverChannel = ServerSocketChannel.open();
+		serverChannel.bind(new InetSocketAddress(port));
+		serverChannel.configureBlocking(false);
+		serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+	}
+
+	@Override
+	public void run() {
+		while (running) {
+			try {
+				selector.select();
+
+				processRequests();
+
+				Iterator<SelectionKey> selectedKeys = selector.selectedKeys().iterator();
+				while (selectedKeys.hasNext()) {
+					SelectionKey key = selectedKeys.next();
+					selectedKeys.remove();
+
+					if (key.isValid() && key.isAcceptable()) {
+						accept();
+					} else {
+						handleChannel(key);
+					}
+				}
+			} catch (ClosedSelectorException e) {
+				break;
+			} catch (IOException e) {
+				logger.error(e);
+			}
+		}
+
+		closeAllChannels();
+	}
+
+	private void accept() throws IOException {
+		SocketChannel socketChannel = serverChannel.accept();
+		if (socketChannel == null) {
+			return;
+		}
+
+		socketChannel.configureBlocking(false);
+		socketChannel.socket().setTcpNoDelay(true);
+
+		SelectorChannel channel = new SelectorChannel(logger, this, socketChannel);
+		acceptedListener.accepted(channel);
+	}
+
+	private void handleChannel(SelectionKey key) {
+		SelectorChannel channel = (SelectorChannel) key.attachment();
+		try {
+			if (key.isValid() && key.isReadable()) {
+				channel.handleRead();
+			}
+			if (key.isValid() && key.isWritable()) {
+				channel.handleWrite();
+			}
+		} catch (IOException | CancelledKeyException e) { // the key is cancelled if the channel is closed by another thread meanwhile
+			channel.close();
+		}
+	}
+
+	private void processRequests() {
+		SelectorChannel channel;
+		while ((channel = registrationRequests.poll()) != null) {
+			if (channel.isClosed()) {
+				continue;
+			}
+
+			try {
+				SelectionKey key = channel.getSocketChannel().register(selector, SelectionKey.OP_READ, channel);
+				channel.registered(key, bufferPool.acquire());
+				channels.add(channel);
+				channel.updateInterest(); // packets might have been sent before the channel was started
+			} catch (IOException | CancelledKeyException e) {
+				channel.close();
+			}
+		}
+
+		while ((channel = writeRequests.poll()) != null) {
+			try {
+				channel.updateInterest();
+			} catch (CancelledKeyException e) { // the channel has been closed by another thread
+				channel.close();
+			}
+		}
+
+		while ((channel = cleanupRequests.poll()) != null) {
+			channels.remove(channel);
+			channel.cleanup();
+		}
+	}
+
+	private void closeAllChannels() {
+		for (SelectorChannel channel : new ArrayList<>(channels)) {
+			channel.close();
+		}
+		processRequests();
+		listenerExecutor.shutdown(); // the already dispatched packets and close notifications are still handed to the listeners
+
+		try {
+			selector.close();
+		} catch (IOException e) {
+		}
+	}
+
+	void register(SelectorChannel channel) {
+		registrationRequests.offer(channel);
+		selector.wakeup();
+	}
+
+	void requestWrite(SelectorChannel channel) {
+		writeRequests.offer(channel);
+		selector.wakeup();
+	}
+
+	void requestCleanup(SelectorChannel channel) {
+		cleanupRequests.offer(channel);
+		selector.wakeup();
+	}
+
+	ByteBufferPool getBufferPool() {
+		return bufferPool;
+	}
+
+	Executor getListenerExecutor() {
+		return listenerExecutor;
+	}
+
+	/**
+	 * @return The port the server accepts connections on.
+	 */
+	public int getPort() {
+		return serverChannel.socket().getLocalPort();
+	}
+
+	/**
+	 * Stops accepting connections and closes all channels.
+	 */
+	public void shutdown() {
+		running = false;
+		try {
+			serverChannel.close();
+		} catch (IOException e) {
+		}
+		selector.wakeup();
+	}
+
+	/**
+	 * Listener informed about new connections of a {@link SelectorServer}.
+	 */
+	public interface IChannelAcceptedListener {
+		void accepted(Channel channel);
+	}
+
+	private static class ListenerThreadFactory implements ThreadFactory {
+		private final AtomicInteger count = new AtomicInteger();
+
+		@Override
+		public Thread newThread(Runnable runnable) {
+			Thread thread = new Thread(runnable, "SelectorServer listener " + count.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		}
+	}
+}
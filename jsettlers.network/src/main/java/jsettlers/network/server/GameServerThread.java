@@ -22,6 +22,7 @@ import java.net.SocketException;
 
 import jsettlers.network.NetworkConstants;
 import jsettlers.network.infrastructure.channel.Channel;
+import jsettlers.network.infrastructure.channel.selector.SelectorServer;
 import jsettlers.network.infrastructure.channel.socket.ISocketFactory;
 import jsettlers.network.infrastructure.log.Logger;
 import jsettlers.network.infrastructure.log.LoggerManager;
@@ -32,6 +33,8 @@ import jsettlers.network.server.lan.LanServerBroadcastThread;
 import jsettlers.network.server.lan.SingleLanServerAddressListener;
 
 /**
+ * Accepts the clients of the server. By default all clients are served by a single {@link SelectorServer}. Only if
+ * {@link NetworkConstants#USE_DELAYED_SOCKETS} is set, every client gets a blocking {@link Channel} with the delayed sockets used for testing.
  * 
  * @author Andreas Eberle
  * 
@@ -39,6 +42,7 @@ import jsettlers.network.server.lan.SingleLanServerAddressListener;
 public final class GameServerThread extends Thread {
 
 	private final ServerSocket serverSocket;
+	private final SelectorServer selectorServer;
 	private final ServerManager manager;
 	private final LanServerBroadcastThread lanBroadcastThread;
 	private final Logger logger;
@@ -53,9 +57,16 @@ public final class GameServerThread extends Thread {
 	public GameServerThread(boolean lan, Logger logger) throws IOException {
 		super("GameServer");
 		this.logger = logger;
-		this.serverSocket = new ServerSocket(NetworkConstants.Server.SERVER_PORT);
 		this.manager = new ServerManager(new InMemoryDB());
 
+		if (NetworkConstants.USE_DELAYED_SOCKETS) {
+			this.serverSocket = new ServerSocket(NetworkConstants.Server.SERVER_PORT);
+			this.selectorServer = null;
+		} else {
+			this.serverSocket = null;
+			this.selectorServer = new SelectorServer(NetworkConstants.Server.SERVER_PORT, logger, this::acceptChannel);
+		}
+
 		this.setDaemon(true);
 
 		if (lan) {
@@ -69,15 +80,16 @@ public final class GameServerThread extends Thread {
 	public void run() {
 		logger.log("Server up and running!\n");
 		System.out.println("Server up and running!");
+
+		if (selectorServer != null) {
+			selectorServer.run();
+			return;
+		}
+
 		while (!canceled) {
 			try {
 				Socket clientSocket = serverSocket.accept();
-
-				Channel clientChannel = new Channel(logger, ISocketFactory.DEFAULT_FACTORY.generateSocket(clientSocket));
-				manager.identifyNewChannel(clientChannel);
-				clientChannel.start();
-
-				logger.log("accepted new client (" + ++counter + "): " + clientSocket);
+				acceptChannel(new Channel(logger, ISocketFactory.DEFAULT_FACTORY.generateSocket(clientSocket)));
 			} catch (SocketException e) {
 			} catch (IOException e) {
 				e.printStackTrace();
@@ -85,6 +97,13 @@ public final class GameServerThread extends Thread {
 		}
 	}
 
+	private void acceptChannel(Channel clientChannel) {
+		manager.identifyNewChannel(clientChannel);
+		clientChannel.start();
+
+		logger.log("accepted new client (" + ++counter + "): " + clientChannel);
+	}
+
 	/**
 	 * NOTE: THIS METHOD IS BLOCKING for the given time
 	 * 
@@ -128,9 +147,13 @@ public final class GameServerThread extends Thread {
 
 	public synchronized void shutdown() {
 		canceled = true;
-		try {
-			serverSocket.close();
-		} catch (IOException e) {
+		if (selectorServer != null) {
+			selectorServer.shutdown();
+		} else {
+			try {
+				serverSocket.close();
+			} catch (IOException e) {
+			}
 		}
 
 		if(lanBroadcastThread != null) {
@@ -30,9 +30,11 @@ import jsettlers.network.common.packets.PlayerInfoPacket;
 import jsettlers.network.common.packets.SlotInfoPacket;
 import jsettlers.network.common.packets.TimeSyncPacket;
 import jsettlers.network.infrastructure.channel.packet.Packet;
+import jsettlers.network.infrastructure.channel.packet.SerializedPacket;
 import jsettlers.network.infrastructure.log.Logger;
 import jsettlers.network.infrastructure.log.LoggerManager;
 import jsettlers.network.server.exceptions.NotAllPlayersReadyException;
+import jsettlers.network.server.match.lockstep.LockstepMetrics;
 import jsettlers.network.server.match.lockstep.TaskCollectingListener;
 import jsettlers.network.server.match.lockstep.TaskSendingTimerTask;
 
@@ -54,6 +56,7 @@ public class Match {
 	private final String name;
 	private final long randomSeed;
 	private final Player host;
+	private final LockstepMetrics lockstepMetrics = new LockstepMetrics();
 
 	private EMatchState state = EMatchState.OPENED;
 	private TaskCollectingListener taskCollectingListener;
@@ -175,6 +178,22 @@ public class Match {
 		sendMessage(null, key, packet);
 	}
 
+	/**
+	 * Sends the given serialized packet to all players in the match.
+	 * 
+	 * @param packet
+	 *            The packet to be sent.
+	 * @return The number of players the packet has been sent to.
+	 */
+	public int broadcastMessage(SerializedPacket packet) {
+		synchronized (players) {
+			for (Player curr : players) {
+				curr.sendPacket(packet);
+			}
+			return players.size();
+		}
+	}
+
 	/**
 	 * 
 	 * @param sendingPlayer
@@ -242,7 +261,7 @@ public class Match {
 		state = EMatchState.RUNNING;
 
 		this.taskCollectingListener = new TaskCollectingListener();
-		this.taskSendingTimerTask = new TaskSendingTimerTask(logger, taskCollectingListener, this);
+		this.taskSendingTimerTask = new TaskSendingTimerTask(logger, taskCollectingListener, this, lockstepMetrics);
 		timer.schedule(taskSendingTimerTask, NetworkConstants.Client.LOCKSTEP_PERIOD, NetworkConstants.Client.LOCKSTEP_PERIOD / 2 - 2);
 
 		synchronized (players) {
@@ -271,10 +290,18 @@ public class Match {
 		return logger;
 	}
 
+	/**
+	 * @return The statistics of the locksteps sent in this match.
+	 */
+	public LockstepMetrics getLockstepMetrics() {
+		return lockstepMetrics;
+	}
+
 	private void shutdownMatch() {
 		if (state == EMatchState.RUNNING) {
 			taskSendingTimerTask.cancel();
 			taskSendingTimerTask = null;
+			logger.info("Lockstep metrics: " + lockstepMetrics);
 
 			synchronized (players) {
 				if (players.size() > 0) {
@@ -24,6 +24,7 @@ import jsettlers.network.common.packets.PlayerInfoPacket;
 import jsettlers.network.common.packets.TimeSyncPacket;
 import jsettlers.network.infrastructure.channel.Channel;
 import jsettlers.network.infrastructure.channel.packet.Packet;
+import jsettlers.network.infrastructure.channel.packet.SerializedPacket;
 import jsettlers.network.infrastructure.log.LoggerManager;
 import jsettlers.network.server.exceptions.NotAllPlayersReadyException;
 import jsettlers.network.server.match.lockstep.TaskCollectingListener;
@@ -81,6 +82,10 @@ public class Player {
 		channel.sendPacket(key, packet);
 	}
 
+	public void sendPacket(SerializedPacket packet) {
+		channel.sendPacket(packet);
+	}
+
 	public synchronized boolean isInMatch() {
 		return state == EPlayerState.IN_MATCH || state == EPlayerState.IN_RUNNING_MATCH;
 	}
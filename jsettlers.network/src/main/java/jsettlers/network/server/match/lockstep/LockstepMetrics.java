@@ -0,0 +1,121 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.network.server.match.lockstep;
+
+import java.util.Locale;
+
+/**
+ * Statistics about the locksteps sent to the players of a match. They show how much a match costs the server and can be used to size servers.
+ */
+public class LockstepMetrics {
+	private long locksteps;
+	private long heartbeats;
+	private long tasks;
+	private long bytes;
+	private long sentBytes;
+	private long fanOutNanos;
+
+	private int maxTasksPerLockstep;
+	private int maxBytesPerLockstep;
+	private long maxFanOutNanos;
+
+	/**
+	 * Records a sent lockstep.
+	 * 
+	 * @param numberOfTasks
+	 *            The number of tasks in the lockstep.
+	 * @param frameSize
+	 *            The number of bytes of the serialized lockstep.
+	 * @param receivers
+	 *            The number of players the lockstep was sent to.
+	 * @param nanos
+	 *            The time it took to hand the serialized lockstep to the channels of all receivers.
+	 */
+	public synchronized void lockstepSent(int numberOfTasks, int frameSize, int receivers, long nanos) {
+		locksteps++;
+		if (numberOfTasks == 0) {
+			heartbeats++;
+		}
+		tasks += numberOfTasks;
+		bytes += frameSize;
+		sentBytes += (long) frameSize * receivers;
+		fanOutNanos += nanos;
+
+		maxTasksPerLockstep = Math.max(maxTasksPerLockstep, numberOfTasks);
+		maxBytesPerLockstep = Math.max(maxBytesPerLockstep, frameSize);
+		maxFanOutNanos = Math.max(maxFanOutNanos, nanos);
+	}
+
+	public synchronized long getLocksteps() {
+		return locksteps;
+	}
+
+	/**
+	 * @return The number of locksteps without tasks, which have been sent as heartbeat.
+	 */
+	public synchronized long getHeartbeats() {
+		return heartbeats;
+	}
+
+	public synchronized long getTasks() {
+		return tasks;
+	}
+
+	/**
+	 * @return The number of bytes of all locksteps. Every lockstep is counted once, independent of the number of receivers.
+	 */
+	public synchronized long getBytes() {
+		return bytes;
+	}
+
+	/**
+	 * @return The number of bytes sent to all receivers.
+	 */
+	public synchronized long getSentBytes() {
+		return sentBytes;
+	}
+
+	public synchronized float getAverageTasksPerLockstep() {
+		return locksteps == 0 ? 0 : (float) tasks / locksteps;
+	}
+
+	public synchronized float getAverageBytesPerLockstep() {
+		return locksteps == 0 ? 0 : (float) bytes / locksteps;
+	}
+
+	public synchronized float getAverageFanOutMicros() {
+		return locksteps == 0 ? 0 : fanOutNanos / 1000f / locksteps;
+	}
+
+	public synchronized int getMaxTasksPerLockstep() {
+		return maxTasksPerLockstep;
+	}
+
+	public synchronized int getMaxBytesPerLockstep() {
+		return maxBytesPerLockstep;
+	}
+
+	public synchronized float getMaxFanOutMicros() {
+		return maxFanOutNanos / 1000f;
+	}
+
+	@Override
+	public synchronized String toString() {
+		return String.format(Locale.ENGLISH,
+				"locksteps: %d (heartbeats: %d)   tasks/lockstep: %.2f (max %d)   bytes/lockstep: %.1f (max %d)   fan-out: %.1fus (max %.1fus)",
+				locksteps, heartbeats, getAverageTasksPerLockstep(), maxTasksPerLockstep, getAverageBytesPerLockstep(), maxBytesPerLockstep,
+				getAverageFanOutMicros(), getMaxFanOutMicros());
+	}
+}
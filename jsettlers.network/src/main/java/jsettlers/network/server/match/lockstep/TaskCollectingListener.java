@@ -14,7 +14,8 @@
  *******************************************************************************/
 package jsettlers.network.server.match.lockstep;
 
-import java.util.LinkedList;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import jsettlers.network.NetworkConstants;
@@ -32,7 +33,7 @@ import jsettlers.network.server.packets.ServersideTaskPacket;
  * 
  */
 public class TaskCollectingListener extends PacketChannelListener<ServersideTaskPacket> {
-	private List<ServersideTaskPacket> currTasksList = new LinkedList<>();
+	private List<ServersideTaskPacket> currTasksList = new ArrayList<>();
 
 	public TaskCollectingListener() {
 		super(ENetworkKey.SYNCHRONOUS_TASK, new GenericDeserializer<>(ServersideTaskPacket.class));
@@ -40,16 +41,37 @@ public class TaskCollectingListener extends PacketChannelListener<ServersideTask
 
 	/**
 	 * 
-	 * @return
+	 * @return The tasks received since the last call, in the order they have been received.
 	 */
-	public List<ServersideTaskPacket> getAndResetTasks() {
+	public synchronized List<ServersideTaskPacket> getAndResetTasks() {
+		if (currTasksList.isEmpty()) {
+			return Collections.emptyList(); // most locksteps are empty, keep the list
+		}
+
 		List<ServersideTaskPacket> temp = currTasksList;
-		currTasksList = new LinkedList<>();
+		currTasksList = new ArrayList<>();
 		return temp;
 	}
 
+	/**
+	 * Puts tasks returned by {@link #getAndResetTasks()} back in front of the tasks received since then, so they are returned by the next call.
+	 * 
+	 * @param tasks
+	 *            The tasks that could not be sent.
+	 */
+	public synchronized void requeueTasks(List<ServersideTaskPacket> tasks) {
+		if (tasks.isEmpty()) {
+			return;
+		}
+
+		List<ServersideTaskPacket> requeued = new ArrayList<>(tasks.size() + currTasksList.size());
+		requeued.addAll(tasks);
+		requeued.addAll(currTasksList);
+		currTasksList = requeued;
+	}
+
 	@Override
-	protected void receivePacket(ENetworkKey key, ServersideTaskPacket deserialized) {
+	protected synchronized void receivePacket(ENetworkKey key, ServersideTaskPacket deserialized) {
 		currTasksList.add(deserialized);
 	}
 }
@@ -14,11 +14,14 @@
  *******************************************************************************/
 package jsettlers.network.server.match.lockstep;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.Locale;
 import java.util.TimerTask;
 
 import jsettlers.network.NetworkConstants;
+import jsettlers.network.client.task.packets.LockstepHeartbeatPacket;
+import jsettlers.network.infrastructure.channel.packet.SerializedPacket;
 import jsettlers.network.infrastructure.channel.ping.IPingUpdateListener;
 import jsettlers.network.infrastructure.log.Logger;
 import jsettlers.network.infrastructure.utils.MaximumSlotBuffer;
@@ -27,6 +30,10 @@ import jsettlers.network.server.packets.ServersideSyncTasksPacket;
 import jsettlers.network.server.packets.ServersideTaskPacket;
 
 /**
+ * Sends the tasks collected by the {@link TaskCollectingListener} to all players of a match once per lockstep.
+ * <p />
+ * Every lockstep is serialized once and the same {@link SerializedPacket} is sent to all players. Locksteps without tasks are sent as
+ * {@link LockstepHeartbeatPacket}.
  * 
  * @author Andreas Eberle
  * 
@@ -35,6 +42,7 @@ public class TaskSendingTimerTask extends TimerTask {
 	private final Logger logger;
 	private final TaskCollectingListener taskCollectingListener;
 	private final Match match;
+	private final LockstepMetrics metrics;
 
 	private int lockstepCounter = 0;
 	private int currentLockstepMax = NetworkConstants.Client.LOCKSTEP_DEFAULT_LEAD_STEPS;
@@ -42,10 +50,11 @@ public class TaskSendingTimerTask extends TimerTask {
 	private int minimumLeadTimeMs = NetworkConstants.Client.LOCKSTEP_DEFAULT_LEAD_STEPS * NetworkConstants.Client.LOCKSTEP_PERIOD;
 	private int leadSteps = minimumLeadTimeMs / NetworkConstants.Client.LOCKSTEP_PERIOD;
 
-	public TaskSendingTimerTask(Logger logger, TaskCollectingListener taskCollectingListener, Match match) {
+	public TaskSendingTimerTask(Logger logger, TaskCollectingListener taskCollectingListener, Match match, LockstepMetrics metrics) {
 		this.logger = logger;
 		this.taskCollectingListener = taskCollectingListener;
 		this.match = match;
+		this.metrics = metrics;
 	}
 
 	@Override
@@ -55,8 +64,25 @@ public class TaskSendingTimerTask extends TimerTask {
 		}
 
 		List<ServersideTaskPacket> tasksList = taskCollectingListener.getAndResetTasks();
-		ServersideSyncTasksPacket syncTasksPacket = new ServersideSyncTasksPacket(lockstepCounter++, tasksList);
-		match.broadcastMessage(NetworkConstants.ENetworkKey.SYNCHRONOUS_TASK, syncTasksPacket);
+		int lockstep = lockstepCounter;
+
+		SerializedPacket packet;
+		try {
+			if (tasksList.isEmpty()) {
+				packet = new SerializedPacket(NetworkConstants.ENetworkKey.SYNCHRONOUS_TASK_HEARTBEAT, new LockstepHeartbeatPacket(lockstep));
+			} else {
+				packet = new SerializedPacket(NetworkConstants.ENetworkKey.SYNCHRONOUS_TASK, new ServersideSyncTasksPacket(lockstep, tasksList));
+			}
+		} catch (IOException e) {
+			logger.error(e);
+			taskCollectingListener.requeueTasks(tasksList); // the same lockstep is sent with these tasks on the next run
+			return;
+		}
+		lockstepCounter++;
+
+		long start = System.nanoTime(); // the fan-out doesn't include the serialization
+		int receivers = match.broadcastMessage(packet);
+		metrics.lockstepSent(tasksList.size(), packet.getFrameSize(), receivers, System.nanoTime() - start);
 	}
 
 	public void receivedLockstepAcknowledge(int acknowledgedLockstep) {
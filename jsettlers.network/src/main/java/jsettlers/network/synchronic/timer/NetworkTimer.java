@@ -42,7 +42,7 @@ public final class NetworkTimer extends TimerTask implements INetworkClientClock
 	public static final short TIME_SLICE = 50;
 	private static final Comparator<SyncTasksPacket> tasksByTimeComparator = Comparator.comparingInt(SyncTasksPacket::getLockstepNumber);
 
-	private final Timer timer;
+	private Timer timer;
 	private final Object lockstepLock = new Object();
 
 	private final List<ScheduledTimerable> timerables = new ArrayList<>();
@@ -60,12 +60,12 @@ public final class NetworkTimer extends TimerTask implements INetworkClientClock
 	private float progress = 0.0f;
 
 	private boolean scheduled = false;
+	private boolean verbose = true;
 
 	private ITaskExecutor taskExecutor;
 	private DataOutputStream replayLogStream;
 
 	public NetworkTimer() {
-		this.timer = new Timer("NetworkTimer");
 	}
 
 	public NetworkTimer(boolean disableLockstepWaiting) {
@@ -80,6 +80,7 @@ public final class NetworkTimer extends TimerTask implements INetworkClientClock
 	public synchronized void startExecution() {
 		if (!scheduled) {
 			scheduled = true;
+			timer = new Timer("NetworkTimer");
 			timer.schedule(this, 0, TIME_SLICE);
 		}
 	}
@@ -87,7 +88,9 @@ public final class NetworkTimer extends TimerTask implements INetworkClientClock
 	@Override
 	public void stopExecution() {
 		setPausing(true);
-		timer.cancel();
+		if (timer != null) {
+			timer.cancel();
+		}
 
 		closeReplayLogStreamIfNeeded();
 	}
@@ -129,7 +132,9 @@ public final class NetworkTimer extends TimerTask implements INetworkClientClock
 			while (tasksPacket != null && tasksPacket.getLockstepNumber() <= lockstep) {
 				assert tasksPacket.getLockstepNumber() == lockstep : "FOUND TasksPacket FOR older lockstep!";
 
-				System.out.println("Executing SyncTaskPacket(" + tasksPacket + ") in " + getLockstepText(lockstep));
+				if (verbose) {
+					System.out.println("Executing SyncTaskPacket(" + tasksPacket + ") in " + getLockstepText(lockstep));
+				}
 
 				try {
 					executeTasksPacket(tasksPacket);
@@ -235,7 +240,9 @@ public final class NetworkTimer extends TimerTask implements INetworkClientClock
 	public synchronized void fastForwardTo(int targetGameTime) {
 		this.setPausing(true);
 
-		System.out.println("Playing game forward to game time: " + targetGameTime);
+		if (verbose) {
+			System.out.println("Playing game forward to game time: " + targetGameTime);
+		}
 
 		while (time < targetGameTime) {
 			executeRun();
@@ -280,6 +287,16 @@ public final class NetworkTimer extends TimerTask implements INetworkClientClock
 		this.speedFactor *= factor;
 	}
 
+	/**
+	 * Enables or disables printing every scheduled and executed {@link SyncTasksPacket} to the console. This is enabled by default.
+	 *
+	 * @param verbose
+	 *            true if the packets should be printed.
+	 */
+	public void setVerbose(boolean verbose) {
+		this.verbose = verbose;
+	}
+
 	@Override
 	public void setTaskExecutor(ITaskExecutor taskExecutor) {
 		this.taskExecutor = taskExecutor;
@@ -293,7 +310,9 @@ public final class NetworkTimer extends TimerTask implements INetworkClientClock
 
 		if (!tasksPacket.getTasks().isEmpty()) {
 			synchronized (tasks) {
-				System.out.println("Scheduled SyncTasksPacket(" + tasksPacket + " for " + getLockstepText(tasksPacket.getLockstepNumber()));
+				if (verbose) {
+					System.out.println("Scheduled SyncTasksPacket(" + tasksPacket + " for " + getLockstepText(tasksPacket.getLockstepNumber()));
+				}
 				tasks.addLast(tasksPacket);
 				tasks.sort(tasksByTimeComparator);
 				saveReplayIfNeeded(tasksPacket);
@@ -15,6 +15,7 @@
 package jsettlers.network.client.task;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 import java.io.IOException;
 import java.util.Arrays;
@@ -22,9 +23,11 @@ import java.util.List;
 
 import jsettlers.network.NetworkConstants;
 import jsettlers.network.TestUtils;
+import jsettlers.network.client.task.packets.LockstepHeartbeatPacket;
 import jsettlers.network.client.task.packets.SyncTasksPacket;
 import jsettlers.network.client.task.packets.TaskPacket;
 import jsettlers.network.infrastructure.channel.Channel;
+import jsettlers.network.infrastructure.channel.packet.SerializedPacket;
 
 import org.junit.After;
 import org.junit.Before;
@@ -76,4 +79,21 @@ public class TaskPacketListenerTest {
 		assertEquals(testPacket1, tasks.get(0));
 		assertEquals(testPacket2, tasks.get(1));
 	}
+
+	@Test
+	public void testHeartbeat() throws InterruptedException, IOException {
+		SyncTasksPacketSchedulerMock taskReceiver = new SyncTasksPacketSchedulerMock();
+		c1.registerListener(new TaskPacketListener(taskReceiver));
+
+		for (int lockstep : new int[] { 127, 128, 16384, Integer.MAX_VALUE }) {
+			c2.sendPacket(new SerializedPacket(NetworkConstants.ENetworkKey.SYNCHRONOUS_TASK_HEARTBEAT, new LockstepHeartbeatPacket(lockstep)));
+
+			Thread.sleep(30L);
+			assertEquals(lockstep, taskReceiver.getUnlockedLockstepNumber());
+		}
+		assertTrue(taskReceiver.popBufferedPackets().isEmpty()); // heartbeats don't contain tasks
+
+		assertEquals(Channel.HEADER_SIZE + 2, new SerializedPacket(NetworkConstants.ENetworkKey.SYNCHRONOUS_TASK_HEARTBEAT,
+				new LockstepHeartbeatPacket(10000)).getFrameSize());
+	}
 }
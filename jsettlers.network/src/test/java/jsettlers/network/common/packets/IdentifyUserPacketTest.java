@@ -0,0 +1,60 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.network.common.packets;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+import jsettlers.network.NetworkConstants;
+import jsettlers.network.infrastructure.channel.packet.Packet;
+
+import org.junit.Test;
+
+public class IdentifyUserPacketTest {
+
+	@Test
+	public void testProtocolVersionIsSent() throws IOException {
+		PlayerInfoPacket playerInfo = new PlayerInfoPacket("id", "name", false);
+
+		IdentifyUserPacket read = readIdentifyUser(new IdentifyUserPacket(playerInfo));
+
+		assertEquals(NetworkConstants.PROTOCOL_VERSION, read.getProtocolVersion());
+		assertEquals(playerInfo, read.getPlayerInfo());
+	}
+
+	@Test
+	public void testClientWithoutProtocolVersion() throws IOException {
+		PlayerInfoPacket playerInfo = new PlayerInfoPacket("id", "name", false);
+
+		IdentifyUserPacket read = readIdentifyUser(playerInfo); // clients before the protocol version only sent their player info
+
+		assertEquals(0, read.getProtocolVersion());
+		assertEquals(playerInfo, read.getPlayerInfo());
+	}
+
+	private static IdentifyUserPacket readIdentifyUser(Packet packet) throws IOException {
+		ByteArrayOutputStream byteOut = new ByteArrayOutputStream();
+		packet.serialize(new DataOutputStream(byteOut));
+
+		IdentifyUserPacket read = new IdentifyUserPacket();
+		read.deserialize(new DataInputStream(new ByteArrayInputStream(byteOut.toByteArray())));
+		return read;
+	}
+}
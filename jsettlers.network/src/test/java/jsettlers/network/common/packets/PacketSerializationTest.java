@@ -25,6 +25,7 @@ import jsettlers.network.NetworkConstants;
 import jsettlers.network.NetworkConstants.ENetworkMessage;
 import jsettlers.network.TestUtils;
 import jsettlers.network.client.task.TestTaskPacket;
+import jsettlers.network.client.task.packets.LockstepHeartbeatPacket;
 import jsettlers.network.client.task.packets.SyncTasksPacket;
 import jsettlers.network.client.task.packets.TaskPacket;
 import jsettlers.network.infrastructure.channel.Channel;
@@ -78,6 +79,7 @@ public class PacketSerializationTest {
 		Object[][] data = new Object[][] {
 				{ new EmptyPacket(), EmptyPacket.DEFAULT_DESERIALIZER },
 				{ new PlayerInfoPacket("IDBLA82348-#�l�34r", "NameBKUIH893428())/\"�/", true), d(PlayerInfoPacket.class) },
+				{ new IdentifyUserPacket(new PlayerInfoPacket("IDBLA82348", "Name", false)), d(IdentifyUserPacket.class) },
 				{ new MapInfoPacket("id<30u9Hjdi w3", "Nameo8/(�\"(/!=�", "authorId8unsdkjfn8932", "authorName uHh89023u9h", 6),
 						d(MapInfoPacket.class) },
 				{ createMatchInfoPacket(), d(MatchInfoPacket.class) },
@@ -99,6 +101,7 @@ public class PacketSerializationTest {
 				{ new TestTaskPacket("tesdfk��l9/&%/%&\"\\u8u23jo", 23424, (byte) -2), TaskPacket.DEFAULT_DESERIALIZER },
 				{ new SyncTasksPacket(234, Arrays.asList(new TestTaskPacket("dsfdsdf", 23, (byte) -3),
 						new TestTaskPacket("dsfs��#��dsdf", 4345, (byte) 5))), d(SyncTasksPacket.class) },
+				{ new LockstepHeartbeatPacket(2342343), d(LockstepHeartbeatPacket.class) },
 
 				{ new BooleanMessagePacket(true), d(BooleanMessagePacket.class) },
 				{ new ChatMessagePacket("authorId(, message)U)(Z", "message'**�##\"\\ppoisudf08u("), d(ChatMessagePacket.class) },
@@ -0,0 +1,272 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.network.infrastructure.channel.selector;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.Socket;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import jsettlers.network.NetworkConstants.ENetworkKey;
+import jsettlers.network.infrastructure.channel.Channel;
+import jsettlers.network.infrastructure.channel.TestPacket;
+import jsettlers.network.infrastructure.channel.TestPacketListener;
+import jsettlers.network.infrastructure.channel.listeners.PacketChannelListener;
+import jsettlers.network.infrastructure.channel.packet.SerializedPacket;
+import jsettlers.network.infrastructure.log.ConsoleLogger;
+
+/**
+ * Test for the classes {@link SelectorServer} and {@link SelectorChannel}. A blocking {@link Channel} is connected to the server, which echoes
+ * all test packets.
+ */
+public class SelectorChannelTest {
+	private SelectorServer server;
+	private Thread serverThread;
+	private final List<Channel> serverChannels = new CopyOnWriteArrayList<>();
+	private final List<String> listenerThreads = new CopyOnWriteArrayList<>();
+	private Channel client;
+
+	@Before
+	public void setUp() throws IOException {
+		server = new SelectorServer(0, new ConsoleLogger("SelectorServer"), channel -> {
+			channel.registerListener(new EchoListener(channel));
+			channel.start();
+			serverChannels.add(channel);
+		});
+		serverThread = new Thread(server, "SelectorServer");
+		serverThread.start();
+
+		client = new Channel("localhost", server.getPort());
+		client.start();
+	}
+
+	@After
+	public void tearDown() throws InterruptedException {
+		client.close();
+		server.shutdown();
+		serverThread.join(1000);
+	}
+
+	@Test
+	public void testEcho() throws Exception {
+		TestPacketListener listener = new TestPacketListener(ENetworkKey.TEST_PACKET);
+		client.registerListener(listener);
+
+		TestPacket packet = new TestPacket("dlkfjs", -23423);
+		client.sendPacket(ENetworkKey.TEST_PACKET, packet);
+
+		waitForPackets(listener, 1);
+		assertEquals(packet, listener.packets.get(0));
+	}
+
+	@Test
+	public void testMultiPackets() throws Exception {
+		TestPacketListener listener = new TestPacketListener(ENetworkKey.TEST_PACKET);
+		client.registerListener(listener);
+
+		final int NUMBER_OF_PACKETS = 2000;
+		for (int i = 0; i < NUMBER_OF_PACKETS; i++) {
+			client.sendPacket(ENetworkKey.TEST_PACKET, new TestPacket(i));
+		}
+
+		waitForPackets(listener, NUMBER_OF_PACKETS);
+		for (int i = 0; i < NUMBER_OF_PACKETS; i++) {
+			assertEquals(i, listener.packets.get(i).getTestInt());
+		}
+	}
+
+	@Test
+	public void testPacketsLargerThanBuffers() throws Exception {
+		TestPacketListener listener = new TestPacketListener(ENetworkKey.TEST_PACKET);
+		client.registerListener(listener);
+
+		char[] text = new char[50000];
+		Arrays.fill(text, 'x');
+		TestPacket large = new TestPacket(new String(text), 42);
+		TestPacket small = new TestPacket(43);
+
+		client.sendPacket(ENetworkKey.TEST_PACKET, large);
+		client.sendPacket(ENetworkKey.TEST_PACKET, small);
+		client.sendPacket(ENetworkKey.TEST_PACKET, large);
+
+		waitForPackets(listener, 3);
+		assertEquals(large, listener.packets.get(0));
+		assertEquals(small, listener.packets.get(1));
+		assertEquals(large, listener.packets.get(2));
+	}
+
+	@Test
+	public void testSerializedPacketIsShared() throws Exception {
+		TestPacketListener listener = new TestPacketListener(ENetworkKey.TEST_PACKET);
+		client.registerListener(listener);
+		waitForServerChannel();
+
+		TestPacket packet = new TestPacket("shared", 4711);
+		SerializedPacket serializedPacket = new SerializedPacket(ENetworkKey.TEST_PACKET, packet);
+		for (int i = 0; i < 3; i++) {
+			serverChannels.get(0).sendPacket(serializedPacket);
+		}
+
+		waitForPackets(listener, 3);
+		for (TestPacket received : listener.packets) {
+			assertEquals(packet, received);
+		}
+		assertEquals(0, serializedPacket.getFrame().position());
+		assertTrue(serializedPacket.getFrame().isDirect());
+	}
+
+	@Test
+	public void testListenersRunOffSelectorThread() throws Exception {
+		TestPacketListener listener = new TestPacketListener(ENetworkKey.TEST_PACKET);
+		client.registerListener(listener);
+
+		client.sendPacket(ENetworkKey.TEST_PACKET, new TestPacket(1));
+
+		waitForPackets(listener, 1);
+		assertEquals(1, listenerThreads.size());
+		assertNotEquals(serverThread.getName(), listenerThreads.get(0));
+	}
+
+	@Test
+	public void testClientNotReadingIsDisconnected() throws Exception {
+		waitForServerChannel();
+		try (Socket notReadingClient = new Socket("localhost", server.getPort())) {
+			for (int i = 0; i < 100 && serverChannels.size() < 2; i++) {
+				Thread.sleep(10L);
+			}
+			Channel channel = serverChannels.get(1);
+
+			char[] text = new char[60000];
+			Arrays.fill(text, 'x');
+			SerializedPacket packet = new SerializedPacket(ENetworkKey.TEST_PACKET, new TestPacket(new String(text), 42));
+			for (int i = 0; i < 4 * SelectorChannel.MAX_QUEUED_BYTES / packet.getFrameSize() && !channel.isClosed(); i++) {
+				channel.sendPacket(packet);
+			}
+
+			assertTrue(channel.isClosed());
+			assertFalse(serverChannels.get(0).isClosed());
+		}
+	}
+
+	@Test
+	public void testListenerRegisteredByPreviousPacket() throws Exception {
+		TestPacketListener listener = new TestPacketListener(ENetworkKey.TEST_PACKET);
+		client.registerListener(listener);
+		waitForServerChannel();
+
+		Channel serverChannel = serverChannels.get(0);
+		serverChannel.removeListener(ENetworkKey.TEST_PACKET);
+		serverChannel.registerListener(new PacketChannelListener<TestPacket>(ENetworkKey.CHAT_MESSAGE, TestPacket.DEFAULT_DESERIALIZER) {
+			@Override
+			protected void receivePacket(ENetworkKey key, TestPacket packet) {
+				serverChannel.registerListener(new EchoListener(serverChannel));
+			}
+		});
+
+		client.sendPacket(ENetworkKey.CHAT_MESSAGE, new TestPacket(1));
+		client.sendPacket(ENetworkKey.TEST_PACKET, new TestPacket(2));
+
+		waitForPackets(listener, 1);
+		assertEquals(2, listener.packets.get(0).getTestInt());
+	}
+
+	@Test
+	public void testTooLargePacketClosesChannel() throws Exception {
+		waitForServerChannel();
+		try (Socket hostileClient = new Socket("localhost", server.getPort())) {
+			for (int i = 0; i < 100 && serverChannels.size() < 2; i++) {
+				Thread.sleep(10L);
+			}
+			Channel channel = serverChannels.get(1);
+
+			DataOutputStream out = new DataOutputStream(hostileClient.getOutputStream());
+			ENetworkKey.TEST_PACKET.writeTo(out);
+			out.writeInt(SelectorChannel.MAX_PACKET_SIZE + 1);
+			out.flush();
+
+			for (int i = 0; i < 100 && !channel.isClosed(); i++) {
+				Thread.sleep(10L);
+			}
+			assertTrue(channel.isClosed());
+			assertFalse(serverChannels.get(0).isClosed());
+		}
+	}
+
+	@Test
+	public void testClientClose() throws Exception {
+		final int[] closed = new int[1];
+		waitForServerChannel();
+		serverChannels.get(0).setChannelClosedListener(() -> closed[0]++);
+
+		client.close();
+
+		for (int i = 0; i < 100 && closed[0] == 0; i++) {
+			Thread.sleep(10L);
+		}
+		assertTrue(serverChannels.get(0).isClosed());
+		assertEquals(1, closed[0]);
+	}
+
+	@Test
+	public void testServerClose() throws Exception {
+		waitForServerChannel();
+		serverChannels.get(0).close();
+
+		for (int i = 0; i < 100 && !client.isClosed(); i++) {
+			Thread.sleep(10L);
+		}
+		assertTrue(client.isClosed());
+	}
+
+	private void waitForServerChannel() throws InterruptedException {
+		for (int i = 0; i < 100 && serverChannels.isEmpty(); i++) {
+			Thread.sleep(10L);
+		}
+		assertEquals(1, serverChannels.size());
+	}
+
+	private static void waitForPackets(TestPacketListener listener, int expected) throws InterruptedException {
+		for (int i = 0; i < 500 && listener.packets.size() < expected; i++) {
+			Thread.sleep(10L);
+		}
+		assertEquals(expected, listener.packets.size());
+	}
+
+	private class EchoListener extends PacketChannelListener<TestPacket> {
+		private final Channel channel;
+
+		EchoListener(Channel channel) {
+			super(ENetworkKey.TEST_PACKET, TestPacket.DEFAULT_DESERIALIZER);
+			this.channel = channel;
+		}
+
+		@Override
+		protected void receivePacket(ENetworkKey key, TestPacket packet) {
+			listenerThreads.add(Thread.currentThread().getName());
+			channel.sendPacket(key, packet);
+		}
+	}
+}
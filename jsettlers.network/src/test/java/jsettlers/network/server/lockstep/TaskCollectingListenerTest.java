@@ -91,4 +91,25 @@ public class TaskCollectingListenerTest {
 		assertEquals(testPacket1, packets.get(0)); // check that the packets are correctly received
 		assertEquals(testPacket2, packets.get(1));
 	}
+
+	@Test
+	public void testRequeuedTasksAreReturnedFirst() throws InterruptedException {
+		TaskCollectingListener serverListener = new TaskCollectingListener();
+		server.registerListener(serverListener);
+
+		TestTaskPacket testPacket1 = new TestTaskPacket("first", 1, (byte) 1);
+		client.sendPacket(NetworkConstants.ENetworkKey.SYNCHRONOUS_TASK, testPacket1);
+		Thread.sleep(50L);
+		List<ServersideTaskPacket> notSent = serverListener.getAndResetTasks();
+
+		TestTaskPacket testPacket2 = new TestTaskPacket("second", 2, (byte) 2);
+		client.sendPacket(NetworkConstants.ENetworkKey.SYNCHRONOUS_TASK, testPacket2); // received while the first lockstep failed
+		Thread.sleep(50L);
+		serverListener.requeueTasks(notSent);
+
+		List<ServersideTaskPacket> tasks = serverListener.getAndResetTasks();
+		assertEquals(2, tasks.size());
+		assertEquals(notSent.get(0), tasks.get(0));
+		assertEquals(0, serverListener.getAndResetTasks().size());
+	}
 }
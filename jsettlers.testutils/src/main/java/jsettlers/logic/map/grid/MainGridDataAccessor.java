@@ -14,6 +14,8 @@
  *******************************************************************************/
 package jsettlers.logic.map.grid;
 
+import jsettlers.algorithms.path.astar.IAStarPathMap;
+import jsettlers.algorithms.path.dijkstra.IDijkstraPathMap;
 import jsettlers.logic.map.grid.flags.FlagsGrid;
 import jsettlers.logic.map.grid.landscape.LandscapeGrid;
 import jsettlers.logic.map.grid.partition.PartitionsGrid;
@@ -44,4 +46,12 @@ public class MainGridDataAccessor {
 	public PartitionsGrid getPartitionsGrid() {
 		return grid.partitionsGrid;
 	}
+
+	public IAStarPathMap getAStarPathMap() {
+		return grid.movablePathfinderGrid.pathfinderGrid;
+	}
+
+	public IDijkstraPathMap getDijkstraPathMap() {
+		return grid.movablePathfinderGrid.pathfinderGrid;
+	}
 }
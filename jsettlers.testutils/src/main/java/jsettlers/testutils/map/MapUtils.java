@@ -16,10 +16,13 @@ package jsettlers.testutils.map;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.ObjectInputStream;
+import java.util.List;
+import java.util.Objects;
 
 import jsettlers.common.menu.UIState;
 import jsettlers.logic.constants.ExtendedRandom;
@@ -30,6 +33,7 @@ import jsettlers.logic.map.loading.MapLoader;
 import jsettlers.logic.map.loading.list.MapList;
 import jsettlers.logic.map.loading.newmap.MapFileHeader;
 import jsettlers.logic.map.loading.newmap.RemakeMapLoader;
+import jsettlers.logic.map.loading.savegame.SavegameFormat;
 import jsettlers.main.ReplayStartInformation;
 import jsettlers.main.replay.ReplayUtils;
 import jsettlers.network.synchronic.timer.NetworkTimer;
@@ -51,6 +55,8 @@ public final class MapUtils {
 		try (InputStream expectedStream = RemakeMapLoader.getMapInputStream(expectedSavegame.getListedMap());
 				CountingInputStream actualStream = new CountingInputStream(RemakeMapLoader.getMapInputStream(actualSavegame.getListedMap()))) {
 			MapFileHeader expectedHeader = MapFileHeader.readFromStream(expectedStream);
+			short expectedFormat = SavegameFormat.readFromStream(expectedStream);
+			List<Object> expectedBlocks = SavegameFormat.readBlocks(expectedStream);
 			MatchConstants.init(new NetworkTimer(true), 0L);
 			MatchConstants.deserialize(new ObjectInputStream(expectedStream));
 			int expectedTime = MatchConstants.clock().getTime();
@@ -58,6 +64,8 @@ public final class MapUtils {
 			MatchConstants.clearState();
 
 			MapFileHeader actualHeader = MapFileHeader.readFromStream(actualStream);
+			short actualFormat = SavegameFormat.readFromStream(actualStream);
+			List<Object> actualBlocks = SavegameFormat.readBlocks(actualStream);
 			MatchConstants.init(new NetworkTimer(true), 1L);
 			MatchConstants.deserialize(new ObjectInputStream(actualStream));
 			int actualTime = MatchConstants.clock().getTime();
@@ -65,11 +73,17 @@ public final class MapUtils {
 			MatchConstants.clearState();
 
 			assertEquals("Map ID", expectedHeader.getBaseMapId(), actualHeader.getBaseMapId());
+			assertEquals("Savegame format", expectedFormat, actualFormat);
 			assertEquals("Map time", expectedTime, actualTime);
 			// Test the random behavior a bit to have a high probability of equality. An equals method does not exist for Random.
 			assertEquals("Random number state", expectedRandom.nextLong(), actualRandom.nextLong());
 			assertEquals("Random number state", expectedRandom.nextLong(), actualRandom.nextLong());
 
+			assertEquals("Number of grid blocks", expectedBlocks.size(), actualBlocks.size());
+			for (int i = 0; i < expectedBlocks.size(); i++) {
+				assertTrue("difference in grid block " + i, Objects.deepEquals(expectedBlocks.get(i), actualBlocks.get(i)));
+			}
+
 			int e, a;
 			while (((e = expectedStream.read()) != -1) & ((a = actualStream.read()) != -1)) {
 				assertEquals("difference at (uncompressed) byte " + actualStream.getByteCounter(), e, a);
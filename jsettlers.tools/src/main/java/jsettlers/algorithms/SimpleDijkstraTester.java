@@ -31,6 +31,9 @@ public class SimpleDijkstraTester {
 	private static final short HEIGHT = (short) 200;
 
 	public static void main(String args[]) {
+		DummyEmptyAStarMap aStarMap = new DummyEmptyAStarMap(WIDTH, HEIGHT);
+		aStarMap.setBlocked(120, 100, true);
+
 		IDijkstraPathMap map = new IDijkstraPathMap() {
 			@Override
 			public boolean fitsSearchType(int x, int y, ESearchType type, IPathCalculatable requester) {
@@ -50,9 +53,17 @@ public class SimpleDijkstraTester {
 			@Override
 			public void setDijkstraSearched(int x, int y) {
 			}
+
+			@Override
+			public boolean isBlocked(IPathCalculatable requester, int x, int y) {
+				return aStarMap.isBlocked(requester, x, y);
+			}
+
+			@Override
+			public boolean isReachable(int x1, int y1, int x2, int y2, boolean ship) {
+				return aStarMap.isReachable(x1, y1, x2, y2, ship);
+			}
 		};
-		DummyEmptyAStarMap aStarMap = new DummyEmptyAStarMap(WIDTH, HEIGHT);
-		aStarMap.setBlocked(120, 100, true);
 
 		DijkstraAlgorithm dijkstra = new DijkstraAlgorithm(map, new BucketQueueAStar(aStarMap, WIDTH, HEIGHT), WIDTH, HEIGHT);
 
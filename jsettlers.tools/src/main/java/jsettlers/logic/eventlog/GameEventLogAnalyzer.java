@@ -0,0 +1,81 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.logic.eventlog;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Converts a log of the {@link GameEventLog} into per minute counts of the events. The log is streamed, so only the counts of the current minute
+ * are kept in memory.
+ * <p />
+ * Usage: <code>GameEventLogAnalyzer &lt;event log&gt; [&lt;output csv&gt;]</code><br>
+ * Every line of the output has the format <code>minute,player,event,subtype,count</code>. Without an output file, the CSV is printed to the
+ * console.
+ */
+public class GameEventLogAnalyzer {
+	private static final int MINUTE = 60 * 1000;
+
+	private final PrintStream out;
+	private final Map<String, int[]> countsOfMinute = new TreeMap<>();
+	private int minute = 0;
+
+	private GameEventLogAnalyzer(PrintStream out) {
+		this.out = out;
+	}
+
+	public static void main(String[] args) throws IOException {
+		if (args.length < 1) {
+			System.err.println("Usage: GameEventLogAnalyzer <event log> [<output csv>]");
+			System.exit(1);
+		}
+
+		try (GameEventLogReader reader = new GameEventLogReader(new FileInputStream(args[0]))) {
+			if (args.length > 1) {
+				try (PrintStream out = new PrintStream(args[1])) {
+					new GameEventLogAnalyzer(out).analyze(reader);
+				}
+			} else {
+				new GameEventLogAnalyzer(System.out).analyze(reader);
+			}
+		}
+	}
+
+	private void analyze(GameEventLogReader reader) throws IOException {
+		out.println("minute,player,event,subtype,count");
+
+		while (reader.next()) {
+			int recordMinute = reader.getGameTime() / MINUTE;
+			if (recordMinute != minute) {
+				writeMinute();
+				minute = recordMinute;
+			}
+
+			String key = reader.getPlayerId() + "," + reader.getEventName() + "," + reader.getSubtypeName();
+			countsOfMinute.computeIfAbsent(key, k -> new int[1])[0]++;
+		}
+		writeMinute();
+	}
+
+	private void writeMinute() {
+		for (Map.Entry<String, int[]> entry : countsOfMinute.entrySet()) {
+			out.println(minute + "," + entry.getKey() + "," + entry.getValue()[0]);
+		}
+		countsOfMinute.clear();
+	}
+}
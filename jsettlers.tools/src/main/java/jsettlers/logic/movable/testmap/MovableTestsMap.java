@@ -421,6 +421,16 @@ public class MovableTestsMap implements IGraphicsGrid, IAStarPathMap {
 			return null;
 		}
 
+		@Override
+		public long getEnemySearchStamp() {
+			return 0;
+		}
+
+		@Override
+		public boolean isEnemySearchUnchangedSince(long stamp, ShortPoint2D centerPos, IAttackable movable, short maxSearchRadius, boolean includeTowers) {
+			return true;
+		}
+
 		@Override
 		public void enterPosition(ShortPoint2D position, ILogicMovable movable, boolean informFullArea) {
 			movableMap[position.x][position.y] = movable;
@@ -430,6 +440,10 @@ public class MovableTestsMap implements IGraphicsGrid, IAStarPathMap {
 		public void notifyAttackers(ShortPoint2D position, IAttackableMovable movable, boolean informFullArea) {
 		}
 
+		@Override
+		public void attackableChangedAt(ShortPoint2D position) {
+		}
+
 		@Override
 		public void addSelfDeletingMapObject(ShortPoint2D position, EMapObjectType mapObjectType, float duration, Player player) {
 		}
@@ -1,4 +1,4 @@
 set terminal png size 500,500
 set output ARG1.'.png'
 set datafile separator ','
-plot ARG1.'-'.ARG2.'.log' with lines, ARG1.'-'.ARG3.'.log' with lines, ARG1.'-'.ARG4.'.log' with lines
+plot for [i=2:ARGC] ARG1.'-'.value('ARG'.i).'.log' with lines title value('ARG'.i)
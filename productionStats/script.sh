@@ -1,5 +1,15 @@
 #!/bin/bash
+# Plots the cumulated production of every material over the game time.
+# Usage: script.sh <csv>...
+# Every csv is an output of the GameEventLogAnalyzer and gets its own line in the plots.
 
 for x in CROP IRONORE SPEAR AXE SCYTHE MEAT PLANK WATER SAW NO_MATERIAL FISHINGROD BREAD FISH GOLDORE HAMMER GOLD COAL WINE FLOUR IRON PIG PICK BOW TRUNK STONE BLADE GEMS GUN_POWDER HONEY KEG LIQUOR MEAD RICE SULFUR SWORD; do
-gnuplot -c script.plot $x $1 $2 $3
+names=()
+for csv in "$@"; do
+name=$(basename "$csv" .csv)
+awk -F, -v material=$x '$3 == "PRODUCED" && $4 == material { count[$1] += $5; if ($1 > last) last = $1 }
+	END { for (minute = 0; minute <= last; minute++) { sum += count[minute]; print minute "," sum } }' "$csv" > "$x-$name.log"
+names+=("$name")
+done
+gnuplot -c script.plot $x "${names[@]}"
 done